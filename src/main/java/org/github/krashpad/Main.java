@@ -16,8 +16,14 @@
 package org.github.krashpad;
 
 import static org.github.krashpad.OptionsParser.parseOptions;
+import static org.github.krashpad.util.Constants.OPTION_ARCHIVE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_DEBUGINFO_LONG;
+import static org.github.krashpad.util.Constants.OPTION_EXTRACT_LONG;
 import static org.github.krashpad.util.Constants.OPTION_HELP_LONG;
 import static org.github.krashpad.util.Constants.OPTION_REPORT_CONSOLE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_SPLIT_LONG;
+import static org.github.krashpad.util.Constants.OPTION_TRIAGE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_WATCH_LONG;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -28,19 +34,43 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.github.joa.domain.GarbageCollector;
+import org.github.krashpad.domain.jdk.AddressSpace.Region;
+import org.github.krashpad.domain.jdk.ClassChurn;
+import org.github.krashpad.domain.jdk.CodeCacheSummary;
+import org.github.krashpad.domain.jdk.CodeCacheSummary.CodeHeap;
+import org.github.krashpad.domain.jdk.CompilationStatistics;
 import org.github.krashpad.domain.jdk.ExceptionCounts;
 import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.GlobalFlagIndex.Difference;
+import org.github.krashpad.domain.jdk.HeapRegionsSummary;
+import org.github.krashpad.domain.jdk.HeapRegionsSummary.RegionType;
+import org.github.krashpad.domain.jdk.InternalExceptionStatistics;
+import org.github.krashpad.domain.jdk.InternalExceptionStatistics.HeavyHitter;
+import org.github.krashpad.domain.jdk.MemoryLedger;
 import org.github.krashpad.domain.jdk.NativeMemoryTrackingSummary;
 import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.domain.jdk.ThreadInventory;
+import org.github.krashpad.domain.jdk.Timeline;
+import org.github.krashpad.domain.jdk.VmOperationStatistics;
+import org.github.krashpad.domain.jdk.ZgcPageTableSummary;
+import org.github.krashpad.domain.jdk.ZgcPageTableSummary.PageType;
+import org.github.krashpad.service.FatalErrorLogException;
+import org.github.krashpad.service.FatalErrorLogParser;
 import org.github.krashpad.service.Manager;
+import org.github.krashpad.service.Symbolizer;
+import org.github.krashpad.service.Watcher;
 import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.KrashUtil;
 import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkUtil;
 
@@ -55,6 +85,11 @@ import org.github.krashpad.util.jdk.JdkUtil;
  */
 public class Main {
 
+    /**
+     * The number of internal exception types and heavy hitters to report.
+     */
+    private static final int INTERNAL_EXCEPTIONS = 5;
+
     private static Options options;
 
     /**
@@ -62,12 +97,31 @@ public class Main {
      */
     public static final int REJECT_LIMIT = 1000;
 
+    /**
+     * The number of timeline events leading up to the crash to report.
+     */
+    private static final int TIMELINE_EVENTS = 10;
+
     static {
         // Declare command line options
         options = new Options();
+        options.addOption(Constants.OPTION_ARCHIVE_SHORT, Constants.OPTION_ARCHIVE_LONG, false,
+                "scan a support archive (zip, tar, tar.gz) for fatal error logs and report each, with a crash "
+                        + "fingerprint summary");
+        options.addOption(Constants.OPTION_DEBUGINFO_SHORT, Constants.OPTION_DEBUGINFO_LONG, true,
+                "debuginfo directory to resolve native frames without symbols");
+        options.addOption(Constants.OPTION_EXTRACT_SHORT, Constants.OPTION_EXTRACT_LONG, false,
+                "extract fatal error logs embedded in a console or container log and report each, with a crash "
+                        + "fingerprint summary");
         options.addOption(Constants.OPTION_HELP_SHORT, Constants.OPTION_HELP_LONG, false, "help");
         options.addOption(Constants.OPTION_OUTPUT_SHORT, Constants.OPTION_OUTPUT_LONG, true,
                 "output file name (default " + Constants.OUTPUT_FILE_NAME + ")");
+        options.addOption(Constants.OPTION_SPLIT_SHORT, Constants.OPTION_SPLIT_LONG, false,
+                "split concatenated fatal error logs and report each, with a crash fingerprint summary");
+        options.addOption(Constants.OPTION_TRIAGE_SHORT, Constants.OPTION_TRIAGE_LONG, false,
+                "quick triage (only parse the header, summary, and thread sections)");
+        options.addOption(Constants.OPTION_WATCH_SHORT, Constants.OPTION_WATCH_LONG, false,
+                "watch directory and write a report next to each fatal error log");
     }
 
     public static void createReport(CommandLine cmd) throws IOException {
@@ -83,10 +137,50 @@ public class Main {
         if (logFile.equals(reportFile)) {
             throw new IllegalArgumentException("Fatal error log and report are the same file.");
         }
-        Manager manager = new Manager();
-        FatalErrorLog fel = manager.parse(logFile);
         boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
-        createReport(fel, reportConsole, reportFile, logFile.getName());
+        if (cmd.hasOption(OPTION_ARCHIVE_LONG) || cmd.hasOption(OPTION_EXTRACT_LONG)
+                || cmd.hasOption(OPTION_SPLIT_LONG)) {
+            FatalErrorLogParser parser = new FatalErrorLogParser(getSymbolizer(cmd), cmd.hasOption(OPTION_TRIAGE_LONG),
+                    true);
+            List<FatalErrorLog> fels;
+            List<String> entryNames = null;
+            Map<String, String> skipped = new LinkedHashMap<String, String>();
+            try {
+                if (cmd.hasOption(OPTION_ARCHIVE_LONG)) {
+                    Map<String, FatalErrorLog> archive = parser.parseArchive(logFile.toPath(), skipped);
+                    fels = new ArrayList<FatalErrorLog>(archive.values());
+                    entryNames = new ArrayList<String>(archive.keySet());
+                } else if (cmd.hasOption(OPTION_EXTRACT_LONG)) {
+                    fels = parser.parseEmbedded(logFile.toPath());
+                } else {
+                    fels = parser.parseAll(logFile.toPath());
+                }
+            } catch (FatalErrorLogException e) {
+                System.out.println(e.getMessage());
+                return;
+            }
+            List<File> reportFiles = new ArrayList<File>();
+            for (int i = 0; i < fels.size(); i++) {
+                File felReportFile = getReportFile(reportFile, i + 1);
+                String felName;
+                if (entryNames != null && entryNames.get(i).equals(logFile.getName())) {
+                    // Not an archive (e.g. a single gzipped fatal error log)
+                    felName = logFile.getName();
+                } else if (entryNames != null) {
+                    felName = logFile.getName() + "!/" + entryNames.get(i);
+                } else {
+                    felName = logFile.getName() + " (" + (i + 1) + "/" + fels.size() + ")";
+                }
+                createReport(fels.get(i), false, felReportFile, felName);
+                reportFiles.add(felReportFile);
+            }
+            createSummaryReport(fels, entryNames, skipped, reportFiles, reportConsole, reportFile,
+                    logFile.getName());
+        } else {
+            Manager manager = new Manager(getSymbolizer(cmd));
+            FatalErrorLog fel = manager.parse(logFile, cmd.hasOption(OPTION_TRIAGE_LONG));
+            createReport(fel, reportConsole, reportFile, logFile.getName());
+        }
     }
 
     /**
@@ -101,7 +195,7 @@ public class Main {
      * @param logFileName
      *            The fatal error log that was parsed.
      */
-    private static void createReport(FatalErrorLog fel, boolean reportConsole, File reportFile, String logFileName) {
+    public static void createReport(FatalErrorLog fel, boolean reportConsole, File reportFile, String logFileName) {
         FileWriter fileWriter = null;
         PrintWriter printWriter = null;
         boolean isMemoryLimitedByContainer = fel.getOsMemoryTotal() > 0 && fel.getMemoryTotal() > 0
@@ -194,13 +288,34 @@ public class Main {
                 printWriter.write(hardwareCorrupted + Character.toString(org.github.joa.util.Constants.UNITS)
                         + Constants.LINE_SEPARATOR);
             }
-            if (isMemoryLimitedByContainer) {
+            MemoryLedger memoryLedger = fel.getMemoryLedger();
+            if (isMemoryLimitedByContainer || memoryLedger.isCgroupLimited()) {
                 printWriter.write("========================================" + Constants.LINE_SEPARATOR);
                 printWriter.write("Container:" + Constants.LINE_SEPARATOR);
                 printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
                 if (fel.getActiveProcessorCount() > Integer.MIN_VALUE) {
                     printWriter.write("CPUs: " + fel.getActiveProcessorCount() + Constants.LINE_SEPARATOR);
                 }
+                if (memoryLedger.isCgroupLimited()) {
+                    printWriter.write("Cgroup Memory Limit: "
+                            + JdkUtil.convertSize(memoryLedger.getCgroupMemoryLimit(), 'B',
+                                    org.github.joa.util.Constants.UNITS)
+                            + Character.toString(org.github.joa.util.Constants.UNITS));
+                    if (memoryLedger.getHostMemoryTotal() > 0) {
+                        printPercentage(printWriter, memoryLedger.getCgroupMemoryLimit(),
+                                memoryLedger.getHostMemoryTotal(), "Host Memory");
+                    }
+                    printWriter.write(Constants.LINE_SEPARATOR);
+                    if (memoryLedger.getCgroupMemoryUsage() >= 0) {
+                        printWriter.write("Cgroup Memory Usage: "
+                                + JdkUtil.convertSize(memoryLedger.getCgroupMemoryUsage(), 'B',
+                                        org.github.joa.util.Constants.UNITS)
+                                + Character.toString(org.github.joa.util.Constants.UNITS));
+                        printPercentage(printWriter, memoryLedger.getCgroupMemoryUsage(),
+                                memoryLedger.getCgroupMemoryLimit(), null);
+                        printWriter.write(Constants.LINE_SEPARATOR);
+                    }
+                }
                 if (fel.getMemoryTotal() > 0) {
                     printWriter.write("Memory: "
                             + JdkUtil.convertSize(fel.getMemoryTotal(), 'B', org.github.joa.util.Constants.UNITS)
@@ -473,6 +588,73 @@ public class Main {
                 }
             }
 
+            HeapRegionsSummary heapRegionsSummary = fel.getHeapRegionsSummary();
+            if (heapRegionsSummary.getRegions() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Heap Regions:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write("Regions: " + heapRegionsSummary.getRegions() + " ("
+                        + JdkUtil.convertSize(heapRegionsSummary.getTotalCapacity(), 'B',
+                                org.github.joa.util.Constants.UNITS)
+                        + Character.toString(org.github.joa.util.Constants.UNITS) + ")" + Constants.LINE_SEPARATOR);
+                printWriter.write("Used: "
+                        + JdkUtil.convertSize(heapRegionsSummary.getTotalUsed(), 'B',
+                                org.github.joa.util.Constants.UNITS)
+                        + Character.toString(org.github.joa.util.Constants.UNITS) + Constants.LINE_SEPARATOR);
+                printWriter.write("Longest Free Run: " + heapRegionsSummary.getLongestFreeRunRegions() + " regions ("
+                        + JdkUtil.convertSize(heapRegionsSummary.getLongestFreeRunBytes(), 'B',
+                                org.github.joa.util.Constants.UNITS)
+                        + Character.toString(org.github.joa.util.Constants.UNITS) + ")" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                for (RegionType type : RegionType.values()) {
+                    if (heapRegionsSummary.getCount(type) > 0) {
+                        printWriter.printf("%-28s%6d%12s" + org.github.joa.util.Constants.UNITS,
+                                type.getCode() + " (" + type.getDescription() + ")",
+                                heapRegionsSummary.getCount(type), JdkUtil.convertSize(
+                                        heapRegionsSummary.getUsed(type), 'B', org.github.joa.util.Constants.UNITS));
+                        if (heapRegionsSummary.isLiveReported()) {
+                            printWriter.printf("%12s" + org.github.joa.util.Constants.UNITS + " live",
+                                    JdkUtil.convertSize(heapRegionsSummary.getLive(type), 'B',
+                                            org.github.joa.util.Constants.UNITS));
+                        }
+                        printWriter.write(Constants.LINE_SEPARATOR);
+                    }
+                }
+            }
+
+            ZgcPageTableSummary zgcPageTableSummary = fel.getZgcPageTableSummary();
+            if (zgcPageTableSummary.getPages() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("ZGC Page Table:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write("Pages: " + zgcPageTableSummary.getPages() + " ("
+                        + JdkUtil.convertSize(zgcPageTableSummary.getTotalSize(), 'B',
+                                org.github.joa.util.Constants.UNITS)
+                        + Character.toString(org.github.joa.util.Constants.UNITS) + ")" + Constants.LINE_SEPARATOR);
+                printWriter.write("Used: "
+                        + JdkUtil.convertSize(zgcPageTableSummary.getTotalUsed(), 'B',
+                                org.github.joa.util.Constants.UNITS)
+                        + Character.toString(org.github.joa.util.Constants.UNITS) + Constants.LINE_SEPARATOR);
+                printWriter.printf("Address Range: 0x%016x-0x%016x%n", zgcPageTableSummary.getLowAddress(),
+                        zgcPageTableSummary.getHighAddress());
+                if (zgcPageTableSummary.getOld() > 0 || zgcPageTableSummary.getYoung() > 0) {
+                    printWriter.write("Generations: " + zgcPageTableSummary.getYoung() + " young, "
+                            + zgcPageTableSummary.getOld() + " old" + Constants.LINE_SEPARATOR);
+                }
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                for (PageType type : PageType.values()) {
+                    if (zgcPageTableSummary.getCount(type) > 0) {
+                        printWriter.printf(
+                                "%-8s%8d%12s" + org.github.joa.util.Constants.UNITS
+                                        + " (%d relocatable, %d allocating)%n",
+                                type.getName(), zgcPageTableSummary.getCount(type),
+                                JdkUtil.convertSize(zgcPageTableSummary.getSize(type), 'B',
+                                        org.github.joa.util.Constants.UNITS),
+                                zgcPageTableSummary.getRelocatable(type), zgcPageTableSummary.getAllocating(type));
+                    }
+                }
+            }
+
             printWriter.write("========================================" + Constants.LINE_SEPARATOR);
             printWriter.write("Application:" + Constants.LINE_SEPARATOR);
             printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
@@ -483,6 +665,9 @@ public class Main {
             if (fel.getJvmArgs() != null) {
                 printWriter.write("JVM Args: " + fel.getJvmArgs() + Constants.LINE_SEPARATOR);
             }
+            for (Difference difference : fel.getGlobalFlagIndex().getDifferences(fel.getJvmOptions())) {
+                printWriter.write("Flag override: " + difference + Constants.LINE_SEPARATOR);
+            }
 
             printWriter.write("========================================" + Constants.LINE_SEPARATOR);
             printWriter.write("Threads:" + Constants.LINE_SEPARATOR);
@@ -493,6 +678,142 @@ public class Main {
                 printWriter.write(
                         "VM operation: " + fel.getVmOperation().getVmOperationString() + Constants.LINE_SEPARATOR);
             }
+            ThreadInventory threadInventory = fel.getThreadInventory();
+            if (threadInventory.getThreadCount() > 0) {
+                printWriter.write("Thread count: " + threadInventory.getThreadCount() + Constants.LINE_SEPARATOR);
+                if (threadInventory.getStackReserved() > 0) {
+                    printWriter.write("Thread stack reserved: "
+                            + JdkUtil.convertSize(threadInventory.getStackReserved(), 'B',
+                                    org.github.joa.util.Constants.UNITS)
+                            + Character.toString(org.github.joa.util.Constants.UNITS) + Constants.LINE_SEPARATOR);
+                }
+                printHistogram(printWriter, "Thread kinds", threadInventory.getKinds(), Integer.MAX_VALUE);
+                printHistogram(printWriter, "Thread states", threadInventory.getStates(), Integer.MAX_VALUE);
+                printHistogram(printWriter, "Top thread name prefixes", threadInventory.getNamePrefixes(), 5);
+            }
+
+            ClassChurn classChurn = fel.getClassChurn();
+            if (classChurn.getLoaded() > 0 || classChurn.getUnloaded() > 0 || classChurn.getRedefined() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Classes:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write("# Loaded: " + classChurn.getLoaded() + " (" + classChurn.getGenerated()
+                        + " generated, " + Math.round(classChurn.getLoadedRate() * 10) / 10.0 + "/sec)"
+                        + Constants.LINE_SEPARATOR);
+                printWriter.write("# Unloaded: " + classChurn.getUnloaded() + " ("
+                        + Math.round(classChurn.getUnloadedRate() * 10) / 10.0 + "/sec)" + Constants.LINE_SEPARATOR);
+                printWriter.write("# Redefined: " + classChurn.getRedefined() + " ("
+                        + Math.round(classChurn.getRedefinedRate() * 10) / 10.0 + "/sec)" + Constants.LINE_SEPARATOR);
+                printWriter.write("Net growth: " + classChurn.getNetGrowth() + Constants.LINE_SEPARATOR);
+                if (classChurn.getLoaded() > 0) {
+                    printHistogram(printWriter, "Top class name prefixes", classChurn.getPrefixes(), 5);
+                }
+                if (classChurn.getGenerated() > 0) {
+                    printHistogram(printWriter, "Top generated prefixes", classChurn.getGeneratedPrefixes(), 5);
+                }
+            }
+
+            CodeCacheSummary codeCacheSummary = fel.getCodeCacheSummary();
+            if (codeCacheSummary.getTotal() != null) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Code Cache:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printCodeHeap(printWriter, codeCacheSummary.getTotal());
+                for (CodeHeap codeHeap : codeCacheSummary.getHeaps()) {
+                    printCodeHeap(printWriter, codeHeap);
+                }
+                if (codeCacheSummary.getTotalBlobs() >= 0) {
+                    printWriter.write("# Blobs: " + codeCacheSummary.getTotalBlobs() + " (nmethods: "
+                            + codeCacheSummary.getNmethods() + ", adapters: " + codeCacheSummary.getAdapters() + ")"
+                            + Constants.LINE_SEPARATOR);
+                }
+                if (codeCacheSummary.getCompilation() != null) {
+                    printWriter.write("Compilation: " + codeCacheSummary.getCompilation() + Constants.LINE_SEPARATOR);
+                }
+                if (codeCacheSummary.getFullCount() > 0) {
+                    printWriter.write("Full count: " + codeCacheSummary.getFullCount() + Constants.LINE_SEPARATOR);
+                }
+                for (String flagMismatch : codeCacheSummary.getFlagMismatches()) {
+                    printWriter.write("Flag mismatch: " + flagMismatch + Constants.LINE_SEPARATOR);
+                }
+            }
+
+            CompilationStatistics compilationStatistics = fel.getCompilationStatistics();
+            if (compilationStatistics.getCompilations() > 0 || compilationStatistics.getDeoptimizations() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Compilation:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write("# Compilations: " + compilationStatistics.getCompilations() + " (OSR: "
+                        + compilationStatistics.getOsrCompilations() + ", max/sec: "
+                        + compilationStatistics.getMaxCompilationRate() + ")" + Constants.LINE_SEPARATOR);
+                printWriter.write("# Deoptimizations: " + compilationStatistics.getDeoptimizations()
+                        + " (uncommon traps: " + compilationStatistics.getUncommonTraps() + ", max/sec: "
+                        + compilationStatistics.getMaxDeoptimizationRate() + ")" + Constants.LINE_SEPARATOR);
+                printHistogram(printWriter, "Uncommon trap reasons", compilationStatistics.getReasons(),
+                        Integer.MAX_VALUE);
+                printHistogram(printWriter, "Top methods", compilationStatistics.getTopMethods(5), 5);
+            }
+
+            InternalExceptionStatistics internalExceptionStatistics = fel.getInternalExceptionStatistics();
+            if (internalExceptionStatistics.getTotal() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Internal Exceptions:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write("# Exceptions: " + internalExceptionStatistics.getTotal());
+                if (internalExceptionStatistics.getRate() > 0) {
+                    printWriter.write(" (" + Math.round(internalExceptionStatistics.getRate() * 10) / 10.0 + "/sec)");
+                }
+                printWriter.write(Constants.LINE_SEPARATOR);
+                printHistogram(printWriter, "Exceptions", internalExceptionStatistics.getExceptions(),
+                        INTERNAL_EXCEPTIONS);
+                for (HeavyHitter heavyHitter : internalExceptionStatistics.getHeavyHitters(INTERNAL_EXCEPTIONS)) {
+                    printWriter.write(heavyHitter.getCount() + "x " + heavyHitter.getException());
+                    if (heavyHitter.getLocation() != null) {
+                        printWriter.write(" at " + heavyHitter.getLocation());
+                    }
+                    printWriter.write(" (threads: " + heavyHitter.getThreadCount() + ", first: "
+                            + JdkMath.convertMillisToSecs(heavyHitter.getFirst()) + "s, last: "
+                            + JdkMath.convertMillisToSecs(heavyHitter.getLast()) + "s");
+                    if (heavyHitter.getRate() > 0) {
+                        printWriter.write(", " + Math.round(heavyHitter.getRate() * 10) / 10.0 + "/sec");
+                    }
+                    printWriter.write(")" + Constants.LINE_SEPARATOR);
+                }
+            }
+
+            VmOperationStatistics vmOperationStatistics = fel.getVmOperationStatistics();
+            if (vmOperationStatistics.getPairedCount() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("VM Operations:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                printWriter.write("# Operations: " + vmOperationStatistics.getPairedCount() + Constants.LINE_SEPARATOR);
+                printWriter.write("Duration (ms): p50=" + vmOperationStatistics.getPercentile(50) + " p99="
+                        + vmOperationStatistics.getPercentile(99) + " max=" + vmOperationStatistics.getMax()
+                        + Constants.LINE_SEPARATOR);
+                printWriter.write("Time in VM operations: " + vmOperationStatistics.getTotalDuration() + " ms of "
+                        + vmOperationStatistics.getWindow() + " ms (" + vmOperationStatistics.getWindowPercent()
+                        + "%)" + Constants.LINE_SEPARATOR);
+                printHistogram(printWriter, "Operations", vmOperationStatistics.getCounts(), Integer.MAX_VALUE);
+                if (vmOperationStatistics.getInProgress() != null) {
+                    printWriter.write("In progress at crash: " + vmOperationStatistics.getInProgress()
+                            + Constants.LINE_SEPARATOR);
+                }
+                for (String longOperation : vmOperationStatistics.getLongBeforeCrash()) {
+                    printWriter.write("Long before crash: " + longOperation + Constants.LINE_SEPARATOR);
+                }
+            }
+
+            Timeline timeline = fel.getTimeline();
+            if (timeline.size() > 0) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Timeline (last " + Math.min(TIMELINE_EVENTS, timeline.size()) + " events):"
+                        + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                for (int i = Math.max(0, timeline.size() - TIMELINE_EVENTS); i < timeline.size(); i++) {
+                    printWriter.write(timeline.getEvent(i).getEventType() + ": "
+                            + timeline.getEvent(i).getLogEntry() + Constants.LINE_SEPARATOR);
+                }
+            }
 
             if (!fel.getError().equals("")) {
                 printWriter.write("========================================" + Constants.LINE_SEPARATOR);
@@ -525,6 +846,31 @@ public class Main {
             if (stack.size() > 10) {
                 printWriter.write("..." + Constants.LINE_SEPARATOR);
             }
+
+            // Fault address and registers that point into a known region
+            List<String> addresses = new ArrayList<String>();
+            if (fel.getSigInfo() != null && fel.getSigInfo().getSignalAddress() != null) {
+                Region region = fel.getAddressRegion(fel.getSigInfo().getSignalAddress());
+                addresses.add("si_addr=" + fel.getSigInfo().getSignalAddress()
+                        + (region != null ? ": " + region.getDescription() : ""));
+            }
+            Iterator<Entry<String, String>> iteratorRegisters = fel.getRegisterValues().entrySet().iterator();
+            while (iteratorRegisters.hasNext()) {
+                Entry<String, String> register = iteratorRegisters.next();
+                Region region = fel.getAddressRegion(register.getValue());
+                if (region != null) {
+                    addresses.add(register.getKey() + "=" + register.getValue() + ": " + region.getDescription());
+                }
+            }
+            if (!addresses.isEmpty()) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Addresses:" + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                Iterator<String> iteratorAddresses = addresses.iterator();
+                while (iteratorAddresses.hasNext()) {
+                    printWriter.write(iteratorAddresses.next() + Constants.LINE_SEPARATOR);
+                }
+            }
             printWriter.write("========================================" + Constants.LINE_SEPARATOR);
 
             // Analysis
@@ -640,6 +986,108 @@ public class Main {
         }
     }
 
+    /**
+     * Create the summary report for a file with multiple fatal error logs: the crash fingerprint and report of each
+     * fatal error log, and the number of fatal error logs with each crash fingerprint.
+     * 
+     * @param fels
+     *            The fatal error logs, in file order.
+     * @param entryNames
+     *            The archive entry name of each fatal error log, or null if the file is not an archive.
+     * @param skipped
+     *            The archive entries that were not read (e.g. too large), entry name to reason.
+     * @param reportFiles
+     *            The report file of each fatal error log.
+     * @param reportConsole
+     *            Whether print the summary to the console or to a file.
+     * @param reportFile
+     *            Summary report file.
+     * @param logFileName
+     *            The file that was parsed.
+     */
+    private static void createSummaryReport(List<FatalErrorLog> fels, List<String> entryNames,
+            Map<String, String> skipped, List<File> reportFiles, boolean reportConsole, File reportFile,
+            String logFileName) {
+        PrintWriter printWriter = null;
+        try {
+            if (reportConsole) {
+                printWriter = new PrintWriter(System.out);
+            } else {
+                printWriter = new PrintWriter(new FileWriter(reportFile));
+            }
+            printWriter.write(logFileName + Constants.LINE_SEPARATOR);
+            printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+            printWriter.write("Fatal error logs: " + fels.size() + Constants.LINE_SEPARATOR);
+            printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+            Map<String, Integer> fingerprints = new LinkedHashMap<String, Integer>();
+            for (int i = 0; i < fels.size(); i++) {
+                String fingerprint = fels.get(i).getFingerprint();
+                printWriter.write((i + 1) + ": " + fingerprint + " (" + reportFiles.get(i).getName()
+                        + (entryNames == null ? "" : ", " + entryNames.get(i)) + ")" + Constants.LINE_SEPARATOR);
+                Integer count = fingerprints.get(fingerprint);
+                fingerprints.put(fingerprint, count == null ? 1 : count + 1);
+            }
+            if (!skipped.isEmpty()) {
+                printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+                printWriter.write("Skipped: " + skipped.size() + Constants.LINE_SEPARATOR);
+                printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+                for (Entry<String, String> entry : skipped.entrySet()) {
+                    printWriter.write(entry.getKey() + " (" + entry.getValue() + ")" + Constants.LINE_SEPARATOR);
+                }
+            }
+            printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+            printWriter.write("Crash fingerprints: " + fingerprints.size() + Constants.LINE_SEPARATOR);
+            printWriter.write("----------------------------------------" + Constants.LINE_SEPARATOR);
+            // Most frequent first, then file order
+            for (Entry<String, Integer> entry : KrashUtil.sortByCount(fingerprints).entrySet()) {
+                printWriter.write(entry.getValue() + " x " + entry.getKey() + Constants.LINE_SEPARATOR);
+            }
+            printWriter.write("========================================" + Constants.LINE_SEPARATOR);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (printWriter != null) {
+                printWriter.flush();
+                if (!reportConsole) {
+                    printWriter.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param reportFile
+     *            The report file.
+     * @param number
+     *            The fatal error log number (1 = first).
+     * @return The report file for a fatal error log in a file with multiple concatenated fatal error logs (e.g.
+     *         report-1.txt for report.txt).
+     */
+    private static File getReportFile(File reportFile, int number) {
+        String name = reportFile.getName();
+        int extension = name.lastIndexOf('.');
+        if (extension > 0) {
+            name = name.substring(0, extension) + "-" + number + name.substring(extension);
+        } else {
+            name = name + "-" + number;
+        }
+        return new File(reportFile.getAbsoluteFile().getParentFile(), name);
+    }
+
+    /**
+     * @param cmd
+     *            The command line options.
+     * @return The <code>Symbolizer</code> for the debuginfo directory, or null if no debuginfo directory was given.
+     */
+    private static Symbolizer getSymbolizer(CommandLine cmd) {
+        Symbolizer symbolizer = null;
+        if (cmd.hasOption(OPTION_DEBUGINFO_LONG)) {
+            symbolizer = new Symbolizer(new File(cmd.getOptionValue(OPTION_DEBUGINFO_LONG)),
+                    new File(Constants.SYMBOL_CACHE_DIR));
+        }
+        return symbolizer;
+    }
+
     /**
      * @param args
      *            The argument list includes one or more scope options followed by the name of the fatal error log file
@@ -652,6 +1100,8 @@ public class Main {
             CommandLine cmd = parseOptions(args);
             if (cmd == null || cmd.hasOption(OPTION_HELP_LONG) || cmd.hasOption(OPTION_HELP_LONG)) {
                 usage();
+            } else if (cmd.hasOption(OPTION_WATCH_LONG)) {
+                watch(cmd);
             } else {
                 createReport(cmd);
             }
@@ -661,6 +1111,56 @@ public class Main {
         }
     }
 
+    /**
+     * Output a code heap line "[name]: [used] used ([%]), [max used] max used ([%]) of [size]".
+     * 
+     * @param printWriter
+     *            The PrintWrite.
+     * @param codeHeap
+     *            The code heap.
+     */
+    private static void printCodeHeap(PrintWriter printWriter, CodeHeap codeHeap) {
+        printWriter.write((codeHeap.getName() == null ? "Total" : "'" + codeHeap.getName() + "'") + ": "
+                + JdkUtil.convertSize(codeHeap.getUsed(), 'B', org.github.joa.util.Constants.UNITS)
+                + Character.toString(org.github.joa.util.Constants.UNITS) + " used ("
+                + codeHeap.getUtilizationPercent() + "%), "
+                + JdkUtil.convertSize(codeHeap.getMaxUsed(), 'B', org.github.joa.util.Constants.UNITS)
+                + Character.toString(org.github.joa.util.Constants.UNITS) + " max used ("
+                + codeHeap.getHighWaterPercent() + "%) of "
+                + JdkUtil.convertSize(codeHeap.getSize(), 'B', org.github.joa.util.Constants.UNITS)
+                + Character.toString(org.github.joa.util.Constants.UNITS) + Constants.LINE_SEPARATOR);
+    }
+
+    /**
+     * Output histogram lines "[label]: [key] ([count]), ..." in histogram order.
+     * 
+     * @param printWriter
+     *            The PrintWrite.
+     * @param label
+     *            The histogram label.
+     * @param histogram
+     *            The histogram, sorted by count.
+     * @param limit
+     *            The maximum number of entries to output.
+     */
+    private static void printHistogram(PrintWriter printWriter, String label, Map<String, Integer> histogram,
+            int limit) {
+        StringBuilder line = new StringBuilder(label).append(": ");
+        int entries = 0;
+        for (Entry<String, Integer> entry : histogram.entrySet()) {
+            if (entries == limit) {
+                line.append(", ...");
+                break;
+            }
+            if (entries > 0) {
+                line.append(", ");
+            }
+            line.append(entry.getKey()).append(" (").append(entry.getValue()).append(")");
+            entries++;
+        }
+        printWriter.write(line.toString() + Constants.LINE_SEPARATOR);
+    }
+
     /**
      * Output percentage block " ([part/whole] of [literal])"
      * 
@@ -690,6 +1190,19 @@ public class Main {
         printWriter.write(")");
     }
 
+    /**
+     * Watch a directory for fatal error logs, writing a report next to each one.
+     * 
+     * @param cmd
+     *            The command line options.
+     */
+    public static void watch(CommandLine cmd) {
+        String directoryName = (String) cmd.getArgList().get(cmd.getArgList().size() - 1);
+        Watcher watcher = new Watcher(new File(directoryName), Runtime.getRuntime().availableProcessors(),
+                Watcher.QUEUE_CAPACITY, getSymbolizer(cmd));
+        watcher.run();
+    }
+
     /**
      * Output usage help.
      */
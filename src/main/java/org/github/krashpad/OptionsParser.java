@@ -14,12 +14,24 @@
  *********************************************************************************************************************/
 package org.github.krashpad;
 
+import static org.github.krashpad.util.Constants.OPTION_ARCHIVE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_ARCHIVE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_DEBUGINFO_LONG;
+import static org.github.krashpad.util.Constants.OPTION_DEBUGINFO_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_EXTRACT_LONG;
+import static org.github.krashpad.util.Constants.OPTION_EXTRACT_SHORT;
 import static org.github.krashpad.util.Constants.OPTION_HELP_LONG;
 import static org.github.krashpad.util.Constants.OPTION_HELP_SHORT;
 import static org.github.krashpad.util.Constants.OPTION_OUTPUT_LONG;
 import static org.github.krashpad.util.Constants.OPTION_OUTPUT_SHORT;
 import static org.github.krashpad.util.Constants.OPTION_REPORT_CONSOLE_LONG;
 import static org.github.krashpad.util.Constants.OPTION_REPORT_CONSOLE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_SPLIT_LONG;
+import static org.github.krashpad.util.Constants.OPTION_SPLIT_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_TRIAGE_LONG;
+import static org.github.krashpad.util.Constants.OPTION_TRIAGE_SHORT;
+import static org.github.krashpad.util.Constants.OPTION_WATCH_LONG;
+import static org.github.krashpad.util.Constants.OPTION_WATCH_SHORT;
 import static org.github.krashpad.util.Constants.OUTPUT_FILE_NAME;
 
 import java.io.File;
@@ -40,11 +52,25 @@ public class OptionsParser {
     static {
         // Declare command line options
         options = new Options();
+        options.addOption(OPTION_ARCHIVE_SHORT, OPTION_ARCHIVE_LONG, false,
+                "scan a support archive (zip, tar, tar.gz) for fatal error logs and report each, with a crash "
+                        + "fingerprint summary");
+        options.addOption(OPTION_DEBUGINFO_SHORT, OPTION_DEBUGINFO_LONG, true,
+                "debuginfo directory to resolve native frames without symbols");
+        options.addOption(OPTION_EXTRACT_SHORT, OPTION_EXTRACT_LONG, false,
+                "extract fatal error logs embedded in a console or container log and report each, with a crash "
+                        + "fingerprint summary");
         options.addOption(OPTION_HELP_SHORT, OPTION_HELP_LONG, false, "help");
         options.addOption(OPTION_OUTPUT_SHORT, OPTION_OUTPUT_LONG, true,
                 "output file name (default " + OUTPUT_FILE_NAME + ")");
         options.addOption(OPTION_REPORT_CONSOLE_SHORT, OPTION_REPORT_CONSOLE_LONG, false,
                 "print report to stdout instead of file");
+        options.addOption(OPTION_SPLIT_SHORT, OPTION_SPLIT_LONG, false,
+                "split concatenated fatal error logs and report each, with a crash fingerprint summary");
+        options.addOption(OPTION_TRIAGE_SHORT, OPTION_TRIAGE_LONG, false,
+                "quick triage (only parse the header, summary, and thread sections)");
+        options.addOption(OPTION_WATCH_SHORT, OPTION_WATCH_LONG, false,
+                "watch directory and write a report next to each fatal error log");
     }
 
     /**
@@ -90,6 +116,21 @@ public class OptionsParser {
                 if (!logFile.exists()) {
                     throw new ParseException("Invalid file: '" + logFileName + "'");
                 }
+                // Ensure debuginfo directory exists.
+                if (cmd.hasOption(OPTION_DEBUGINFO_LONG)
+                        && !new File(cmd.getOptionValue(OPTION_DEBUGINFO_LONG)).isDirectory()) {
+                    throw new ParseException(
+                            "Invalid debuginfo directory: '" + cmd.getOptionValue(OPTION_DEBUGINFO_LONG) + "'");
+                }
+                // Ensure file input when scanning an archive, extracting, or splitting.
+                if ((cmd.hasOption(OPTION_ARCHIVE_LONG) || cmd.hasOption(OPTION_EXTRACT_LONG)
+                        || cmd.hasOption(OPTION_SPLIT_LONG)) && !logFile.isFile()) {
+                    throw new ParseException("Invalid file: '" + logFileName + "'");
+                }
+                // Ensure directory input when watching.
+                if (cmd.hasOption(OPTION_WATCH_LONG) && !logFile.isDirectory()) {
+                    throw new ParseException("Invalid directory: '" + logFileName + "'");
+                }
             }
         }
     }
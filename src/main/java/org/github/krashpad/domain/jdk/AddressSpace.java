@@ -0,0 +1,317 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * <p>
+ * Address-to-region index of the crashed JVM process, built once from the heap bounds
+ * ({@link org.github.krashpad.domain.jdk.HeapAddress}), the current thread stack bounds
+ * ({@link org.github.krashpad.domain.jdk.Stack}), the code cache bounds ({@link org.github.krashpad.domain.jdk.CodeCache}),
+ * the polling page ({@link org.github.krashpad.domain.jdk.PollingPage}), and the file backed memory mappings
+ * ({@link org.github.krashpad.domain.jdk.DynamicLibrary}).
+ * </p>
+ * 
+ * <p>
+ * Regions are kept in two tables sorted by start address (parallel primitive arrays): JVM regions and file mappings.
+ * Regions within a table do not overlap, so a lookup is a binary search in each table (O(log n)). JVM regions take
+ * precedence (e.g. the heap is an anonymous mapping, the code cache is reported by the JVM, not the OS).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class AddressSpace {
+
+    /**
+     * Region types.
+     */
+    public enum RegionType {
+        CODE_CACHE, HEAP, MAPPING, POLLING_PAGE, STACK
+    }
+
+    /**
+     * Sorted non-overlapping address ranges.
+     */
+    private static class RangeTable {
+
+        /**
+         * Range end addresses (exclusive).
+         */
+        private long[] ends = new long[16];
+
+        /**
+         * Range names.
+         */
+        private String[] names = new String[16];
+
+        /**
+         * Number of ranges.
+         */
+        private int size = 0;
+
+        /**
+         * Whether the ranges are sorted.
+         */
+        private boolean sorted = true;
+
+        /**
+         * Range start addresses.
+         */
+        private long[] starts = new long[16];
+
+        /**
+         * Range types.
+         */
+        private RegionType[] types = new RegionType[16];
+
+        private void add(RegionType type, String name, long start, long end) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+                names = Arrays.copyOf(names, size * 2);
+            }
+            if (size > 0 && start < starts[size - 1]) {
+                sorted = false;
+            }
+            starts[size] = start;
+            ends[size] = end;
+            types[size] = type;
+            names[size] = name;
+            size++;
+        }
+
+        private Region find(long address) {
+            if (!sorted) {
+                sort();
+            }
+            // Last range starting at or before the address
+            int low = 0;
+            int high = size - 1;
+            int index = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= address) {
+                    index = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            Region region = null;
+            if (index >= 0 && address < ends[index]) {
+                region = new Region(types[index], names[index], starts[index], ends[index]);
+            }
+            return region;
+        }
+
+        private void sort() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            final long[] keys = starts;
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Long.compare(keys[a], keys[b]);
+                }
+            });
+            long[] sortedStarts = new long[size];
+            long[] sortedEnds = new long[size];
+            RegionType[] sortedTypes = new RegionType[size];
+            String[] sortedNames = new String[size];
+            for (int i = 0; i < size; i++) {
+                sortedStarts[i] = starts[order[i]];
+                sortedEnds[i] = ends[order[i]];
+                sortedTypes[i] = types[order[i]];
+                sortedNames[i] = names[order[i]];
+            }
+            starts = sortedStarts;
+            ends = sortedEnds;
+            types = sortedTypes;
+            names = sortedNames;
+            sorted = true;
+        }
+    }
+
+    /**
+     * An address range and what it is.
+     */
+    public static class Region {
+
+        /**
+         * The region end address (exclusive).
+         */
+        private long end;
+
+        /**
+         * The region name (e.g. the code heap name or mapped file path).
+         */
+        private String name;
+
+        /**
+         * The region start address.
+         */
+        private long start;
+
+        /**
+         * The region type.
+         */
+        private RegionType type;
+
+        /**
+         * @param type
+         *            The region type.
+         * @param name
+         *            The region name.
+         * @param start
+         *            The region start address.
+         * @param end
+         *            The region end address (exclusive).
+         */
+        public Region(RegionType type, String name, long start, long end) {
+            this.type = type;
+            this.name = name;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * @return A description of the region for reporting (e.g. "code cache 'profiled nmethods'").
+         */
+        public String getDescription() {
+            StringBuilder description = new StringBuilder();
+            switch (type) {
+            case CODE_CACHE:
+                description.append("code cache");
+                break;
+            case HEAP:
+                description.append("heap");
+                break;
+            case POLLING_PAGE:
+                description.append("polling page");
+                break;
+            case STACK:
+                description.append("stack");
+                break;
+            case MAPPING:
+            default:
+                break;
+            }
+            if (name != null) {
+                if (description.length() > 0) {
+                    description.append(" ");
+                }
+                description.append(name);
+            }
+            return description.toString();
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public RegionType getType() {
+            return type;
+        }
+    }
+
+    /**
+     * File backed memory mappings.
+     */
+    private RangeTable mappings;
+
+    /**
+     * JVM regions (heap, stack, code cache, polling page).
+     */
+    private RangeTable regions;
+
+    /**
+     * Default constructor.
+     */
+    public AddressSpace() {
+        mappings = new RangeTable();
+        regions = new RangeTable();
+    }
+
+    /**
+     * Add a file backed memory mapping.
+     * 
+     * @param name
+     *            The mapped file path.
+     * @param start
+     *            The mapping start address.
+     * @param end
+     *            The mapping end address (exclusive).
+     */
+    public void addMapping(String name, long start, long end) {
+        if (start >= 0 && end > start) {
+            mappings.add(RegionType.MAPPING, name, start, end);
+        }
+    }
+
+    /**
+     * Add a JVM region.
+     * 
+     * @param type
+     *            The region type.
+     * @param name
+     *            The region name, or null.
+     * @param start
+     *            The region start address.
+     * @param end
+     *            The region end address (exclusive).
+     */
+    public void addRegion(RegionType type, String name, long start, long end) {
+        if (start >= 0 && end > start) {
+            regions.add(type, name, start, end);
+        }
+    }
+
+    /**
+     * @param address
+     *            The address.
+     * @return The region containing the address, or null if the address is not in a known region.
+     */
+    public Region getRegion(long address) {
+        Region region = null;
+        if (address >= 0) {
+            region = regions.find(address);
+            if (region == null) {
+                region = mappings.find(address);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * @return The number of regions.
+     */
+    public int size() {
+        return regions.size + mappings.size;
+    }
+}
@@ -0,0 +1,387 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.github.krashpad.util.KrashUtil;
+
+/**
+ * <p>
+ * Class loading, unloading, and redefinition churn from the <code>ClassesLoadedEvent</code>,
+ * <code>ClassesUnloadedEvent</code>, and <code>ClassesRedefinedEvent</code> ring buffers (and class loading reported
+ * under the generic <code>Event</code> ring buffer prior to JDK17): rates, net growth over the window, and the top class
+ * name prefixes, with generated classes (proxies, lambdas, reflection accessors, Groovy/script classes) identified.
+ * Runaway class generation is a common cause of metaspace pressure.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ClassChurn {
+
+    /**
+     * Class name fragments identifying generated classes.
+     */
+    private static final String[] GENERATED = { "$$Lambda", "LambdaForm$", "$Proxy", "$$EnhancerBy", "$$FastClassBy",
+            "$$SpringCGLIB$$", "$HibernateProxy$", "$$_javassist", "$ByteBuddy$", "ByteBuddy$",
+            "GeneratedMethodAccessor", "GeneratedConstructorAccessor", "GeneratedSerializationConstructorAccessor",
+            "$_run_closure", "$_closure" };
+
+    /**
+     * Minimum generated class loads in the window to be considered runaway class generation.
+     */
+    public static final int GENERATED_MIN = 10;
+
+    /**
+     * Minimum percent of class loads that are generated classes to be considered runaway class generation.
+     */
+    public static final int GENERATED_PERCENT = 50;
+
+    /**
+     * Generic event entry for class loading prior to JDK17 (e.g. "Event: 0.558 loading class java/lang/Foo").
+     */
+    private static final String LOADING_CLASS = "loading class ";
+
+    /**
+     * @param histogram
+     *            The histogram.
+     * @param key
+     *            The key to count.
+     */
+    private static void count(Map<String, Integer> histogram, String key) {
+        Integer count = histogram.get(key);
+        histogram.put(key, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Derive the class name prefix used to group generated classes by removing the generated suffix (e.g.
+     * "com.sun.proxy.$Proxy123" -&gt; "com.sun.proxy.$Proxy", "Foo$$Lambda$45/0x0000000800c0b440" -&gt; "Foo$$Lambda",
+     * "Foo$$EnhancerBySpringCGLIB$$5c3b1e2d" -&gt; "Foo$$EnhancerBySpringCGLIB").
+     * 
+     * @param className
+     *            The class name.
+     * @return The class name prefix.
+     */
+    public static String getPrefix(String className) {
+        int end = className.length();
+        // hidden class suffix (e.g. "+0x0000000801591000" or "/0x0000000800c0b440")
+        for (int i = 0; i < className.length(); i++) {
+            char c = className.charAt(i);
+            if (c == '+' || c == '/') {
+                end = i;
+                break;
+            }
+        }
+        // hash suffix (e.g. "$$5c3b1e2d")
+        int hash = className.lastIndexOf("$$", end - 1);
+        if (hash >= 0 && hash + 2 < end) {
+            boolean hex = true;
+            for (int i = hash + 2; i < end && hex; i++) {
+                hex = Character.digit(className.charAt(i), 16) >= 0;
+            }
+            if (hex) {
+                end = hash;
+            }
+        }
+        // sequence number (e.g. "$123" or "123")
+        while (end > 0 && "0123456789$_".indexOf(className.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return end == 0 ? className : className.substring(0, end);
+    }
+
+    /**
+     * @param className
+     *            The class name.
+     * @return true if the class is generated (e.g. a proxy, lambda, reflection accessor, or Groovy/script class),
+     *         false otherwise.
+     */
+    public static boolean isGenerated(String className) {
+        for (int i = 0; i < GENERATED.length; i++) {
+            if (className.contains(GENERATED[i])) {
+                return true;
+            }
+        }
+        // Groovy scripts (e.g. "Script1")
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return simpleName.length() > 6 && simpleName.startsWith("Script")
+                && Character.isDigit(simpleName.charAt(6));
+    }
+
+    /**
+     * Parse the class name from a class event log entry.
+     * 
+     * @param logEntry
+     *            The log entry.
+     * @param marker
+     *            The text preceding the class name (e.g. "Loading class ").
+     * @return The class name in dot notation (e.g. "com.example.MyClass"), or null if the marker is not found.
+     */
+    static String parseClassName(String logEntry, String marker) {
+        int start = logEntry.indexOf(marker);
+        if (start < 0) {
+            return null;
+        }
+        start += marker.length();
+        int end = logEntry.length();
+        int quote = logEntry.indexOf('\'', start);
+        if (quote >= 0) {
+            // "Unloading class 0x0000000801591000 'java/lang/invoke/LambdaForm$DMH+0x0000000801591000'"
+            start = quote + 1;
+            end = logEntry.indexOf('\'', start);
+            if (end < 0) {
+                end = logEntry.length();
+            }
+        } else if (logEntry.endsWith(" done")) {
+            end = end - 5;
+        } else if (logEntry.lastIndexOf(", count=") > start) {
+            end = logEntry.lastIndexOf(", count=");
+        }
+        return logEntry.substring(start, end).replace('/', '.');
+    }
+
+    /**
+     * Generated class loads.
+     */
+    private int generated;
+
+    /**
+     * Generated class load count by class name prefix, sorted by count (largest first).
+     */
+    private Map<String, Integer> generatedPrefixes;
+
+    /**
+     * Class loads.
+     */
+    private int loaded;
+
+    /**
+     * Timestamps of the first and last class load (milliseconds after JVM startup).
+     */
+    private long[] loadedWindow = { Long.MIN_VALUE, Long.MIN_VALUE };
+
+    /**
+     * Class load count by class name prefix, sorted by count (largest first).
+     */
+    private Map<String, Integer> prefixes;
+
+    /**
+     * Class redefinitions.
+     */
+    private int redefined;
+
+    /**
+     * Timestamps of the first and last class redefinition (milliseconds after JVM startup).
+     */
+    private long[] redefinedWindow = { Long.MIN_VALUE, Long.MIN_VALUE };
+
+    /**
+     * Class unloads.
+     */
+    private int unloaded;
+
+    /**
+     * Timestamps of the first and last class unload (milliseconds after JVM startup).
+     */
+    private long[] unloadedWindow = { Long.MIN_VALUE, Long.MIN_VALUE };
+
+    /**
+     * @param classesLoadedEvents
+     *            The <code>ClassesLoadedEvent</code>s (JDK17+).
+     * @param classesUnloadedEvents
+     *            The <code>ClassesUnloadedEvent</code>s.
+     * @param classesRedefinedEvents
+     *            The <code>ClassesRedefinedEvent</code>s.
+     * @param events
+     *            The generic <code>Event</code>s, which report class loading prior to JDK17.
+     */
+    public ClassChurn(List<ClassesLoadedEvent> classesLoadedEvents, List<ClassesUnloadedEvent> classesUnloadedEvents,
+            List<ClassesRedefinedEvent> classesRedefinedEvents, List<Event> events) {
+        Map<String, Integer> unsortedPrefixes = new TreeMap<String, Integer>();
+        Map<String, Integer> unsortedGeneratedPrefixes = new TreeMap<String, Integer>();
+        // A class load is logged when it starts and when it is done. Count the start, or the done if the start was
+        // overwritten in the ring buffer.
+        Set<String> loading = new HashSet<String>();
+        for (ClassesLoadedEvent event : classesLoadedEvents) {
+            String className = event.getClassName();
+            if (className != null && (!event.isDone() ? loading.add(className) : !loading.remove(className))) {
+                load(className, event.getTimestamp(), unsortedPrefixes, unsortedGeneratedPrefixes);
+            }
+        }
+        loading.clear();
+        for (Event event : events) {
+            String logEntry = event.getLogEntry();
+            if (logEntry.indexOf(LOADING_CLASS) > 0) {
+                String className = parseClassName(logEntry, LOADING_CLASS);
+                if (!logEntry.endsWith(" done") ? loading.add(className) : !loading.remove(className)) {
+                    load(className, Timeline.parseTimestamp(logEntry), unsortedPrefixes, unsortedGeneratedPrefixes);
+                }
+            }
+        }
+        for (ClassesUnloadedEvent event : classesUnloadedEvents) {
+            if (event.getClassName() != null) {
+                unloaded++;
+                widen(unloadedWindow, event.getTimestamp());
+            }
+        }
+        for (ClassesRedefinedEvent event : classesRedefinedEvents) {
+            if (event.getClassName() != null) {
+                redefined++;
+                widen(redefinedWindow, event.getTimestamp());
+            }
+        }
+        prefixes = KrashUtil.sortByCount(unsortedPrefixes);
+        generatedPrefixes = KrashUtil.sortByCount(unsortedGeneratedPrefixes);
+    }
+
+    /**
+     * @return The generated class loads.
+     */
+    public int getGenerated() {
+        return generated;
+    }
+
+    /**
+     * @return The percent of class loads that are generated classes.
+     */
+    public int getGeneratedPercent() {
+        return loaded > 0 ? (int) Math.round(generated * 100.0 / loaded) : 0;
+    }
+
+    /**
+     * @return Generated class load count by class name prefix, sorted by count (largest first).
+     */
+    public Map<String, Integer> getGeneratedPrefixes() {
+        return generatedPrefixes;
+    }
+
+    /**
+     * @return The class loads.
+     */
+    public int getLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return The class loads per second over the class loading window, or 0 if undetermined.
+     */
+    public double getLoadedRate() {
+        return getRate(loaded, loadedWindow);
+    }
+
+    /**
+     * @return The class loads minus the class unloads over the window.
+     */
+    public int getNetGrowth() {
+        return loaded - unloaded;
+    }
+
+    /**
+     * @return Class load count by class name prefix, sorted by count (largest first).
+     */
+    public Map<String, Integer> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * @param count
+     *            The event count.
+     * @param window
+     *            The first and last event timestamps.
+     * @return The events per second over the window, or 0 if undetermined.
+     */
+    private double getRate(int count, long[] window) {
+        return window[1] > window[0] ? count * 1000.0 / (window[1] - window[0]) : 0;
+    }
+
+    /**
+     * @return The class redefinitions.
+     */
+    public int getRedefined() {
+        return redefined;
+    }
+
+    /**
+     * @return The class redefinitions per second over the class redefinition window, or 0 if undetermined.
+     */
+    public double getRedefinedRate() {
+        return getRate(redefined, redefinedWindow);
+    }
+
+    /**
+     * @return The class unloads.
+     */
+    public int getUnloaded() {
+        return unloaded;
+    }
+
+    /**
+     * @return The class unloads per second over the class unloading window, or 0 if undetermined.
+     */
+    public double getUnloadedRate() {
+        return getRate(unloaded, unloadedWindow);
+    }
+
+    /**
+     * @return true if generated classes (&gt;= {@link #GENERATED_MIN} and &gt;= {@link #GENERATED_PERCENT}% of class
+     *         loads) dominate class loading and are not being unloaded as fast as loaded, false otherwise.
+     */
+    public boolean isRunawayGeneration() {
+        return generated >= GENERATED_MIN && getGeneratedPercent() >= GENERATED_PERCENT && getNetGrowth() > 0;
+    }
+
+    /**
+     * @param className
+     *            The loaded class name.
+     * @param timestamp
+     *            The load timestamp.
+     * @param unsortedPrefixes
+     *            Class load count by class name prefix.
+     * @param unsortedGeneratedPrefixes
+     *            Generated class load count by class name prefix.
+     */
+    private void load(String className, long timestamp, Map<String, Integer> unsortedPrefixes,
+            Map<String, Integer> unsortedGeneratedPrefixes) {
+        loaded++;
+        widen(loadedWindow, timestamp);
+        String prefix = getPrefix(className);
+        count(unsortedPrefixes, prefix);
+        if (isGenerated(className)) {
+            generated++;
+            count(unsortedGeneratedPrefixes, prefix);
+        }
+    }
+
+    /**
+     * @param window
+     *            The first and last event timestamps.
+     * @param timestamp
+     *            An event timestamp.
+     */
+    private void widen(long[] window, long timestamp) {
+        if (timestamp == Long.MIN_VALUE) {
+            return;
+        }
+        if (window[0] == Long.MIN_VALUE || timestamp < window[0]) {
+            window[0] = timestamp;
+        }
+        window[1] = Math.max(window[1], timestamp);
+    }
+}
@@ -76,6 +76,13 @@ public class ClassesLoadedEvent implements LogEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The loaded class name (e.g. "com.example.MyClass"), or null if not a class loading entry.
+     */
+    public String getClassName() {
+        return ClassChurn.parseClassName(logEntry, "Loading class ");
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.CLASSES_LOADED_EVENT;
@@ -85,6 +92,20 @@ public class ClassesLoadedEvent implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    public long getTimestamp() {
+        return Timeline.parseTimestamp(logEntry);
+    }
+
+    /**
+     * @return true if the entry is the end of the class loading (a "done" entry), false otherwise.
+     */
+    public boolean isDone() {
+        return logEntry.endsWith(" done");
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
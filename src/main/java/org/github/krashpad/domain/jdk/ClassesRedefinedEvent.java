@@ -16,7 +16,6 @@ package org.github.krashpad.domain.jdk;
 
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -26,7 +25,7 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * </p>
  * 
  * <p>
- * Marking bits and Mod Union Table information.
+ * Classes redefined information (e.g. by a JVM TI agent), with the number of times the class has been redefined.
  * </p>
  * 
  * <h2>Example Logging</h2>
@@ -42,7 +41,7 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEvent {
+public class ClassesRedefinedEvent implements LogEvent, HeaderEvent {
 
     /**
      * Regular expression for the header.
@@ -81,6 +80,27 @@ public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEv
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The redefined class name (e.g. "org.jboss.modules.Main"), or null if not a class redefinition entry.
+     */
+    public String getClassName() {
+        return ClassChurn.parseClassName(logEntry, "redefined class name=");
+    }
+
+    /**
+     * @return The number of times the class has been redefined, or 0 if not a class redefinition entry.
+     */
+    public int getCount() {
+        int count = 0;
+        int index = logEntry.lastIndexOf(", count=");
+        if (index >= 0) {
+            for (int i = index + 8; i < logEntry.length() && Character.isDigit(logEntry.charAt(i)); i++) {
+                count = count * 10 + (logEntry.charAt(i) - '0');
+            }
+        }
+        return count;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.CLASSES_REDEFINED_EVENT;
@@ -90,6 +110,13 @@ public class ClassesRedefinedEvent implements LogEvent, ThrowAwayEvent, HeaderEv
         return logEntry;
     }
 
+    /**
+     * @return The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    public long getTimestamp() {
+        return Timeline.parseTimestamp(logEntry);
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -76,6 +76,14 @@ public class ClassesUnloadedEvent implements LogEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The unloaded class name (e.g. "java.lang.invoke.LambdaForm$DMH+0x0000000801591000"), or null if not a
+     *         class unloading entry.
+     */
+    public String getClassName() {
+        return ClassChurn.parseClassName(logEntry, "Unloading class ");
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.CLASSES_UNLOADED_EVENT;
@@ -85,6 +93,13 @@ public class ClassesUnloadedEvent implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    public long getTimestamp() {
+        return Timeline.parseTimestamp(logEntry);
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
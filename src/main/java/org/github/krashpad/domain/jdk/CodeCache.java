@@ -14,9 +14,14 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
+import org.github.krashpad.util.jdk.JdkMath;
+import org.github.krashpad.util.jdk.JdkRegEx;
+import org.github.krashpad.util.jdk.JdkUtil;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
 /**
@@ -78,13 +83,64 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class CodeCache implements LogEvent, ThrowAwayEvent, HeaderEvent {
+public class CodeCache implements LogEvent, HeaderEvent {
 
     /**
      * Regular expression for the header.
      */
     private static final String _REGEX_HEADER = "(CodeCache:)";
 
+    /**
+     * Regular expression for the bounds (start, committed end, reserved end).
+     */
+    private static final String _REGEX_BOUNDS = "^ bounds \\[" + JdkRegEx.ADDRESS + ", " + JdkRegEx.ADDRESS + ", "
+            + JdkRegEx.ADDRESS + "\\]$";
+
+    /**
+     * Regular expression for the segmented code cache heap name.
+     */
+    private static final String _REGEX_CODE_HEAP = "^CodeHeap '([^']+)':.*$";
+
+    /**
+     * Regular expression for the blob counts (JDK21+ comma separated).
+     */
+    private static final String _REGEX_BLOBS = "total_blobs=(\\d+),? nmethods=(\\d+),? adapters=(\\d+)";
+
+    /**
+     * Regular expression for the compilation status (e.g. "enabled", "disabled (not enough contiguous free space
+     * left)").
+     */
+    private static final String _REGEX_COMPILATION = "^ ?[cC]ompilation: ([^,]+)";
+
+    /**
+     * Regular expression for the number of times the code cache was full.
+     */
+    private static final String _REGEX_FULL_COUNT = "full_count=(\\d+)";
+
+    /**
+     * Regular expression for the code cache or code heap sizes (JDK21+ comma separated).
+     */
+    private static final String _REGEX_SIZES = "size=(\\d+)Kb,? used=(\\d+)Kb,? max_used=(\\d+)Kb,? free=(\\d+)Kb";
+
+    /**
+     * Regular expression for the number of times compilation was stopped and restarted.
+     */
+    private static final String _REGEX_STOPPED = "stopped_count=(\\d+), restarted_count=(\\d+)";
+
+    private static Pattern patternBlobs = Pattern.compile(_REGEX_BLOBS);
+
+    private static Pattern patternBounds = Pattern.compile(_REGEX_BOUNDS);
+
+    private static Pattern patternCodeHeap = Pattern.compile(_REGEX_CODE_HEAP);
+
+    private static Pattern patternCompilation = Pattern.compile(_REGEX_COMPILATION);
+
+    private static Pattern patternFullCount = Pattern.compile(_REGEX_FULL_COUNT);
+
+    private static Pattern patternSizes = Pattern.compile(_REGEX_SIZES);
+
+    private static Pattern patternStopped = Pattern.compile(_REGEX_STOPPED);
+
     /**
      * Regular expression defining the logging.
      */
@@ -118,15 +174,163 @@ public class CodeCache implements LogEvent, ThrowAwayEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The number of adapters, or Long.MIN_VALUE if not a blob count line.
+     */
+    public long getAdapters() {
+        return getValue(patternBlobs, 3);
+    }
+
+    /**
+     * @return The bounds end (reserved) address, or Long.MIN_VALUE if not a bounds line.
+     */
+    public long getBoundsEndAddress() {
+        long endAddress = Long.MIN_VALUE;
+        Matcher matcher = patternBounds.matcher(logEntry);
+        if (matcher.find()) {
+            endAddress = JdkMath.convertHexToDecimal(matcher.group(11));
+        }
+        return endAddress;
+    }
+
+    /**
+     * @return The bounds start address, or Long.MIN_VALUE if not a bounds line.
+     */
+    public long getBoundsStartAddress() {
+        long startAddress = Long.MIN_VALUE;
+        Matcher matcher = patternBounds.matcher(logEntry);
+        if (matcher.find()) {
+            startAddress = JdkMath.convertHexToDecimal(matcher.group(1));
+        }
+        return startAddress;
+    }
+
+    /**
+     * @return The segmented code cache heap name (e.g. "profiled nmethods"), or null if not a code heap line.
+     */
+    public String getCodeHeapName() {
+        String codeHeapName = null;
+        Matcher matcher = patternCodeHeap.matcher(logEntry);
+        if (matcher.find()) {
+            codeHeapName = matcher.group(1);
+        }
+        return codeHeapName;
+    }
+
+    /**
+     * @return The compilation status (e.g. "enabled", "disabled (not enough contiguous free space left)"), or null if
+     *         not a compilation line.
+     */
+    public String getCompilation() {
+        String compilation = null;
+        Matcher matcher = patternCompilation.matcher(logEntry);
+        if (matcher.find()) {
+            compilation = matcher.group(1).trim();
+        }
+        return compilation;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.CODE_CACHE;
     }
 
+    /**
+     * @return The free size (bytes), or Long.MIN_VALUE if not a size line.
+     */
+    public long getFree() {
+        return getSize(4);
+    }
+
+    /**
+     * @return The number of times the code cache was full, or Long.MIN_VALUE if not logged on this line.
+     */
+    public long getFullCount() {
+        return getValue(patternFullCount, 1);
+    }
+
     public String getLogEntry() {
         return logEntry;
     }
 
+    /**
+     * @return The high-water mark (bytes), or Long.MIN_VALUE if not a size line.
+     */
+    public long getMaxUsed() {
+        return getSize(3);
+    }
+
+    /**
+     * @return The number of nmethods, or Long.MIN_VALUE if not a blob count line.
+     */
+    public long getNmethods() {
+        return getValue(patternBlobs, 2);
+    }
+
+    /**
+     * @return The number of times compilation was restarted, or Long.MIN_VALUE if not logged on this line.
+     */
+    public long getRestartedCount() {
+        return getValue(patternStopped, 2);
+    }
+
+    /**
+     * @return The code cache or code heap size (bytes), or Long.MIN_VALUE if not a size line.
+     */
+    public long getSize() {
+        return getSize(1);
+    }
+
+    /**
+     * @param group
+     *            The <code>patternSizes</code> group.
+     * @return The size (bytes), or Long.MIN_VALUE if not a size line.
+     */
+    private long getSize(int group) {
+        long size = getValue(patternSizes, group);
+        if (size >= 0) {
+            size = JdkUtil.convertSize(size, 'K', 'B');
+        }
+        return size;
+    }
+
+    /**
+     * @return The number of times compilation was stopped, or Long.MIN_VALUE if not logged on this line.
+     */
+    public long getStoppedCount() {
+        return getValue(patternStopped, 1);
+    }
+
+    /**
+     * @return The total number of blobs, or Long.MIN_VALUE if not a blob count line.
+     */
+    public long getTotalBlobs() {
+        return getValue(patternBlobs, 1);
+    }
+
+    /**
+     * @return The used size (bytes), or Long.MIN_VALUE if not a size line.
+     */
+    public long getUsed() {
+        return getSize(2);
+    }
+
+    /**
+     * @param pattern
+     *            The pattern.
+     * @param group
+     *            The numeric group.
+     * @return The group value, or Long.MIN_VALUE if the pattern does not match.
+     */
+    private long getValue(Pattern pattern, int group) {
+        long value = Long.MIN_VALUE;
+        Matcher matcher = pattern.matcher(logEntry);
+        if (matcher.find()) {
+            value = Long.parseLong(matcher.group(group));
+        }
+        return value;
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -0,0 +1,387 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.github.krashpad.util.jdk.JdkMath;
+import org.github.krashpad.util.jdk.JdkUtil;
+
+/**
+ * <p>
+ * Code cache utilization from the <code>CodeCache</code> section: the size, used, high-water mark, and free space of
+ * each code heap, the blob counts, and the compilation status, cross-checked against the code cache sizing flags.
+ * </p>
+ * 
+ * <p>
+ * When the code cache fills up the JIT compiler is disabled, and new or deoptimized methods run interpreted, often a
+ * silent and large throughput drop before a crash.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CodeCacheSummary {
+
+    /**
+     * One code heap (segmented code cache) or the whole code cache (non-segmented).
+     */
+    public static class CodeHeap {
+
+        /**
+         * The free size (bytes).
+         */
+        private long free;
+
+        /**
+         * The high-water mark (bytes).
+         */
+        private long maxUsed;
+
+        /**
+         * The code heap name (e.g. "profiled nmethods"), or null for a non-segmented code cache.
+         */
+        private String name;
+
+        /**
+         * The size (bytes).
+         */
+        private long size;
+
+        /**
+         * The used size (bytes).
+         */
+        private long used;
+
+        /**
+         * @param name
+         *            The code heap name, or null for a non-segmented code cache.
+         * @param size
+         *            The size (bytes).
+         * @param used
+         *            The used size (bytes).
+         * @param maxUsed
+         *            The high-water mark (bytes).
+         * @param free
+         *            The free size (bytes).
+         */
+        public CodeHeap(String name, long size, long used, long maxUsed, long free) {
+            this.name = name;
+            this.size = size;
+            this.used = used;
+            this.maxUsed = maxUsed;
+            this.free = free;
+        }
+
+        public long getFree() {
+            return free;
+        }
+
+        /**
+         * @return The high-water mark as a percent of the size.
+         */
+        public int getHighWaterPercent() {
+            return JdkMath.calcPercent(maxUsed, size);
+        }
+
+        public long getMaxUsed() {
+            return maxUsed;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getUsed() {
+            return used;
+        }
+
+        /**
+         * @return The used size as a percent of the size.
+         */
+        public int getUtilizationPercent() {
+            return JdkMath.calcPercent(used, size);
+        }
+    }
+
+    /**
+     * The code heap high-water mark percent at or above which the code heap is considered saturated.
+     */
+    public static final int SATURATED_PERCENT = 90;
+
+    /**
+     * The number of adapters, or Long.MIN_VALUE if not logged.
+     */
+    private long adapters = Long.MIN_VALUE;
+
+    /**
+     * The compilation status (e.g. "enabled"), or null if not logged.
+     */
+    private String compilation;
+
+    /**
+     * The code heap sizes that do not agree with the sizing flags.
+     */
+    private List<String> flagMismatches;
+
+    /**
+     * The number of times the code cache was full, or Long.MIN_VALUE if not logged.
+     */
+    private long fullCount = Long.MIN_VALUE;
+
+    /**
+     * The code heaps.
+     */
+    private List<CodeHeap> heaps;
+
+    /**
+     * The number of nmethods, or Long.MIN_VALUE if not logged.
+     */
+    private long nmethods = Long.MIN_VALUE;
+
+    /**
+     * The <code>ReservedCodeCacheSize</code> flag value (bytes), or Long.MIN_VALUE if not logged.
+     */
+    private long reservedCodeCacheSize = Long.MIN_VALUE;
+
+    /**
+     * The number of times compilation was restarted, or Long.MIN_VALUE if not logged.
+     */
+    private long restartedCount = Long.MIN_VALUE;
+
+    /**
+     * The number of times compilation was stopped, or Long.MIN_VALUE if not logged.
+     */
+    private long stoppedCount = Long.MIN_VALUE;
+
+    /**
+     * The total code cache (JDK21+ segmented code cache total, or the non-segmented code cache), or null if not
+     * logged.
+     */
+    private CodeHeap total;
+
+    /**
+     * The total number of blobs, or Long.MIN_VALUE if not logged.
+     */
+    private long totalBlobs = Long.MIN_VALUE;
+
+    /**
+     * @param codeCaches
+     *            The <code>CodeCache</code> events.
+     * @param globalFlags
+     *            The <code>GlobalFlag</code> events.
+     */
+    public CodeCacheSummary(List<CodeCache> codeCaches, List<GlobalFlag> globalFlags) {
+        List<CodeHeap> codeHeaps = new ArrayList<CodeHeap>();
+        Iterator<CodeCache> iterator = codeCaches.iterator();
+        while (iterator.hasNext()) {
+            CodeCache event = iterator.next();
+            if (event.getSize() >= 0) {
+                CodeHeap codeHeap = new CodeHeap(event.getCodeHeapName(), event.getSize(), event.getUsed(),
+                        event.getMaxUsed(), event.getFree());
+                if (codeHeap.getName() != null) {
+                    codeHeaps.add(codeHeap);
+                } else {
+                    total = codeHeap;
+                }
+            }
+            if (event.getTotalBlobs() >= 0) {
+                totalBlobs = event.getTotalBlobs();
+                nmethods = event.getNmethods();
+                adapters = event.getAdapters();
+            }
+            if (event.getCompilation() != null) {
+                compilation = event.getCompilation();
+            }
+            if (event.getStoppedCount() >= 0) {
+                stoppedCount = event.getStoppedCount();
+                restartedCount = event.getRestartedCount();
+            }
+            if (event.getFullCount() >= 0) {
+                fullCount = event.getFullCount();
+            }
+        }
+        if (total == null && codeHeaps.size() == 1) {
+            total = codeHeaps.get(0);
+        } else if (total == null && !codeHeaps.isEmpty()) {
+            long size = 0;
+            long used = 0;
+            long maxUsed = 0;
+            long free = 0;
+            for (CodeHeap codeHeap : codeHeaps) {
+                size += codeHeap.getSize();
+                used += codeHeap.getUsed();
+                maxUsed += codeHeap.getMaxUsed();
+                free += codeHeap.getFree();
+            }
+            // The sum of the code heap high-water marks is an upper bound of the code cache high-water mark
+            total = new CodeHeap(null, size, used, maxUsed, free);
+        }
+        heaps = Collections.unmodifiableList(codeHeaps);
+        crossCheck(globalFlags);
+    }
+
+    /**
+     * Compare the logged sizes to the code cache sizing flags. Logged sizes are page aligned, so differences less than
+     * 1% are ignored.
+     * 
+     * @param globalFlags
+     *            The <code>GlobalFlag</code> events.
+     */
+    private void crossCheck(List<GlobalFlag> globalFlags) {
+        List<String> mismatches = new ArrayList<String>();
+        Iterator<GlobalFlag> iterator = globalFlags.iterator();
+        while (iterator.hasNext()) {
+            GlobalFlag globalFlag = iterator.next();
+            if (globalFlag.isHeader() || globalFlag.getFlag() == null || globalFlag.getValue() == null
+                    || !globalFlag.getValue().matches("\\d+")) {
+                continue;
+            }
+            CodeHeap codeHeap = null;
+            if (globalFlag.getFlag().equals("ReservedCodeCacheSize")) {
+                reservedCodeCacheSize = Long.parseLong(globalFlag.getValue());
+                codeHeap = total;
+            } else if (globalFlag.getFlag().equals("NonProfiledCodeHeapSize")) {
+                codeHeap = getHeap("non-profiled nmethods");
+            } else if (globalFlag.getFlag().equals("ProfiledCodeHeapSize")) {
+                codeHeap = getHeap("profiled nmethods");
+            } else if (globalFlag.getFlag().equals("NonNMethodCodeHeapSize")) {
+                codeHeap = getHeap("non-nmethods");
+            } else {
+                continue;
+            }
+            long flagSize = Long.parseLong(globalFlag.getValue());
+            if (codeHeap != null && flagSize > 0 && Math.abs(codeHeap.getSize() - flagSize) * 100 > flagSize) {
+                mismatches.add((codeHeap.getName() == null ? "CodeCache" : "'" + codeHeap.getName() + "'") + " size="
+                        + JdkUtil.convertSize(codeHeap.getSize(), 'B', 'K') + "K " + globalFlag.getFlag() + "="
+                        + JdkUtil.convertSize(flagSize, 'B', 'K') + "K");
+            }
+        }
+        flagMismatches = Collections.unmodifiableList(mismatches);
+    }
+
+    public long getAdapters() {
+        return adapters;
+    }
+
+    public String getCompilation() {
+        return compilation;
+    }
+
+    /**
+     * @return The code heap or code cache sizes that differ from the corresponding sizing flag by 1% or more (e.g.
+     *         "'profiled nmethods' size=128220K ProfiledCodeHeapSize=65536K").
+     */
+    public List<String> getFlagMismatches() {
+        return flagMismatches;
+    }
+
+    public long getFullCount() {
+        return fullCount;
+    }
+
+    /**
+     * @param name
+     *            The code heap name (e.g. "profiled nmethods").
+     * @return The code heap, or null if not logged.
+     */
+    public CodeHeap getHeap(String name) {
+        CodeHeap codeHeap = null;
+        for (CodeHeap heap : heaps) {
+            if (name.equals(heap.getName())) {
+                codeHeap = heap;
+                break;
+            }
+        }
+        return codeHeap;
+    }
+
+    /**
+     * @return The segmented code cache heaps, or an empty list for a non-segmented code cache.
+     */
+    public List<CodeHeap> getHeaps() {
+        return heaps;
+    }
+
+    public long getNmethods() {
+        return nmethods;
+    }
+
+    public long getReservedCodeCacheSize() {
+        return reservedCodeCacheSize;
+    }
+
+    public long getRestartedCount() {
+        return restartedCount;
+    }
+
+    /**
+     * @return The code heaps (or the non-segmented code cache) with a high-water mark at or above
+     *         {@link #SATURATED_PERCENT} of the size.
+     */
+    public List<CodeHeap> getSaturated() {
+        List<CodeHeap> saturated = new ArrayList<CodeHeap>();
+        if (heaps.isEmpty()) {
+            if (total != null && total.getHighWaterPercent() >= SATURATED_PERCENT) {
+                saturated.add(total);
+            }
+        } else {
+            for (CodeHeap codeHeap : heaps) {
+                if (codeHeap.getHighWaterPercent() >= SATURATED_PERCENT) {
+                    saturated.add(codeHeap);
+                }
+            }
+        }
+        return saturated;
+    }
+
+    public long getStoppedCount() {
+        return stoppedCount;
+    }
+
+    /**
+     * @return The total code cache, or null if not logged.
+     */
+    public CodeHeap getTotal() {
+        return total;
+    }
+
+    public long getTotalBlobs() {
+        return totalBlobs;
+    }
+
+    /**
+     * @return true if JIT compilation was disabled because the code cache was full, false otherwise (e.g. enabled,
+     *         not logged, or disabled because running in interpreter mode).
+     */
+    public boolean isCompilationDisabled() {
+        return compilation != null && compilation.startsWith("disabled") && !compilation.contains("interpreter");
+    }
+
+    /**
+     * @return true if the code cache was full at some point (compilation disabled, the full count or stopped count is
+     *         greater than 0), false otherwise.
+     */
+    public boolean isFull() {
+        return isCompilationDisabled() || fullCount > 0 || stoppedCount > 0;
+    }
+}
@@ -14,8 +14,12 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -36,6 +40,12 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * Event: 6606.129 Thread 0x00007ff0ec201800 20997   !   4       org.eclipse.emf.ecore.xmi.impl.StringSegment::add (297 bytes)
  * </pre>
  * 
+ * <p>
+ * A compile task line has the compile id, the attributes ("%" on-stack replacement, "s" synchronized, "!" has
+ * exception handlers, "b" blocking, "n" native), the tier (0-4, absent when not tiered), the method, and the bytecode
+ * size. An nmethod line is the compiled code being installed.
+ * </p>
+ * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
@@ -46,6 +56,20 @@ public class CompilationEvent implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Compilation events \\(\\d{1,} events\\):";
 
+    /**
+     * Regular expression for an nmethod being installed (group 2 = compile id).
+     */
+    private static final Pattern PATTERN_NMETHOD = Pattern
+            .compile("^Event: " + JdkRegEx.TIMESTAMP + " Thread 0x[0-9a-f]{1,} nmethod (\\d{1,})");
+
+    /**
+     * Regular expression for a compile task (group 1 = timestamp, group 2 = compile id, group 3 = attributes and
+     * tier, group 4 = method, group 7 = size).
+     */
+    private static final Pattern PATTERN_TASK = Pattern.compile("^Event: " + JdkRegEx.TIMESTAMP
+            + " Thread 0x[0-9a-f]{1,}[ ]{1,}(\\d{1,})([ %sbn!0-4]*?)[ ]{1,}(\\S+)( @ \\d{1,})? \\(((\\d{1,}) bytes|"
+            + "native)\\)");
+
     /**
      * Regular expression defining the logging.
      */
@@ -63,11 +87,51 @@ public class CompilationEvent implements LogEvent, HeaderEvent {
         return logLine.matches(REGEX);
     }
 
+    /**
+     * Compile id, or -1 if not a compile task or nmethod line.
+     */
+    private int compileId = -1;
+
     /**
      * The log entry for the event.
      */
     private String logEntry;
 
+    /**
+     * Compiled method (e.g. "org.eclipse.emf.ecore.xmi.impl.StringSegment::add"), or null if not a compile task.
+     */
+    private String method;
+
+    /**
+     * Whether the line is an nmethod being installed.
+     */
+    private boolean nmethod;
+
+    /**
+     * Whether the compile task is an on-stack replacement (OSR) compilation.
+     */
+    private boolean osr;
+
+    /**
+     * Whether the log entry has been parsed into fields.
+     */
+    private boolean parsed;
+
+    /**
+     * Method bytecode size (bytes), or -1 if unknown (e.g. native).
+     */
+    private int size = -1;
+
+    /**
+     * Compilation tier (0-4), or -1 if unknown (e.g. not tiered).
+     */
+    private int tier = -1;
+
+    /**
+     * The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    private long timestamp = Long.MIN_VALUE;
+
     /**
      * Create event from log entry.
      * 
@@ -78,6 +142,14 @@ public class CompilationEvent implements LogEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The compile id, or -1 if not a compile task or nmethod line.
+     */
+    public int getCompileId() {
+        parse();
+        return compileId;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.COMPILATION_EVENT;
@@ -87,6 +159,38 @@ public class CompilationEvent implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The compiled method, or null if not a compile task.
+     */
+    public String getMethod() {
+        parse();
+        return method;
+    }
+
+    /**
+     * @return The method bytecode size (bytes), or -1 if unknown.
+     */
+    public int getSize() {
+        parse();
+        return size;
+    }
+
+    /**
+     * @return The compilation tier (0-4), or -1 if unknown.
+     */
+    public int getTier() {
+        parse();
+        return tier;
+    }
+
+    /**
+     * @return The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    public long getTimestamp() {
+        parse();
+        return timestamp;
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -95,4 +199,62 @@ public class CompilationEvent implements LogEvent, HeaderEvent {
         }
         return isHeader;
     }
+
+    /**
+     * @return true if the line is an nmethod being installed, false otherwise.
+     */
+    public boolean isNmethod() {
+        parse();
+        return nmethod;
+    }
+
+    /**
+     * @return true if the compile task is an on-stack replacement (OSR) compilation, false otherwise.
+     */
+    public boolean isOsr() {
+        parse();
+        return osr;
+    }
+
+    /**
+     * @return true if the line is a compile task, false otherwise.
+     */
+    public boolean isTask() {
+        parse();
+        return method != null;
+    }
+
+    /**
+     * Parse the log entry into fields once, on first use.
+     */
+    private synchronized void parse() {
+        if (parsed) {
+            return;
+        }
+        parsed = true;
+        Matcher matcher = PATTERN_TASK.matcher(logEntry);
+        if (matcher.find()) {
+            timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+            compileId = Integer.parseInt(matcher.group(2));
+            String attributes = matcher.group(3);
+            osr = attributes.indexOf('%') >= 0;
+            for (int i = attributes.length() - 1; i >= 0; i--) {
+                if (Character.isDigit(attributes.charAt(i))) {
+                    tier = attributes.charAt(i) - '0';
+                    break;
+                }
+            }
+            method = matcher.group(4);
+            if (matcher.group(7) != null) {
+                size = Integer.parseInt(matcher.group(7));
+            }
+            return;
+        }
+        matcher = PATTERN_NMETHOD.matcher(logEntry);
+        if (matcher.find()) {
+            timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+            compileId = Integer.parseInt(matcher.group(2));
+            nmethod = true;
+        }
+    }
 }
@@ -0,0 +1,300 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.github.krashpad.util.KrashUtil;
+
+/**
+ * <p>
+ * Statistics for the <code>CompilationEvent</code> and <code>DeoptimizationEvent</code> ring buffers, computed in one
+ * pass over each: compilation and deoptimization counts, the highest rate in a sliding window, uncommon trap reasons,
+ * the methods compiled or deoptimized the most, and methods stuck in a deoptimization loop or recompilation thrash.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CompilationStatistics {
+
+    /**
+     * Index of the compilation count in the per-method counts.
+     */
+    private static final int COMPILATIONS = 0;
+
+    /**
+     * Index of the deoptimization count in the per-method counts.
+     */
+    private static final int DEOPTIMIZATIONS = 1;
+
+    /**
+     * Index of the highest compilation count at a single tier in the per-method counts.
+     */
+    private static final int RECOMPILATIONS = 2;
+
+    /**
+     * Number of times a method compiled at the same tier, or deoptimized, in the ring buffer to be considered
+     * thrashing.
+     */
+    public static final int THRASH = 4;
+
+    /**
+     * Sliding window (milliseconds) for the highest compilation and deoptimization rates.
+     */
+    public static final long WINDOW = 1000;
+
+    /**
+     * @param timestamps
+     *            Event timestamps (milliseconds).
+     * @param count
+     *            The number of timestamps.
+     * @return The highest number of events in any {@link #WINDOW}.
+     */
+    private static int getMaxInWindow(long[] timestamps, int count) {
+        long[] sorted = Arrays.copyOf(timestamps, count);
+        Arrays.sort(sorted);
+        int max = 0;
+        int start = 0;
+        for (int end = 0; end < sorted.length; end++) {
+            while (sorted[end] - sorted[start] >= WINDOW) {
+                start++;
+            }
+            max = Math.max(max, end - start + 1);
+        }
+        return max;
+    }
+
+    /**
+     * Compile task count.
+     */
+    private int compilations;
+
+    /**
+     * Deoptimization event count.
+     */
+    private int deoptimizations;
+
+    /**
+     * Highest compile task count in any {@link #WINDOW}.
+     */
+    private int maxCompilationRate;
+
+    /**
+     * Highest deoptimization event count in any {@link #WINDOW}.
+     */
+    private int maxDeoptimizationRate;
+
+    /**
+     * Compilation, deoptimization, and highest single tier compilation counts by method.
+     */
+    private Map<String, int[]> methods;
+
+    /**
+     * On-stack replacement (OSR) compile task count.
+     */
+    private int osrCompilations;
+
+    /**
+     * Uncommon trap count by reason, sorted by count (largest first).
+     */
+    private Map<String, Integer> reasons;
+
+    /**
+     * Compile task count by tier (0-4).
+     */
+    private int[] tiers;
+
+    /**
+     * Uncommon trap count.
+     */
+    private int uncommonTraps;
+
+    /**
+     * @param compilationEvents
+     *            The <code>CompilationEvent</code>s.
+     * @param deoptimizationEvents
+     *            The <code>DeoptimizationEvent</code>s.
+     */
+    public CompilationStatistics(List<CompilationEvent> compilationEvents,
+            List<DeoptimizationEvent> deoptimizationEvents) {
+        methods = new HashMap<String, int[]>();
+        tiers = new int[5];
+        Map<String, Integer> methodTiers = new HashMap<String, Integer>();
+        long[] timestamps = new long[compilationEvents.size()];
+        Iterator<CompilationEvent> iteratorCompilation = compilationEvents.iterator();
+        while (iteratorCompilation.hasNext()) {
+            CompilationEvent event = iteratorCompilation.next();
+            if (!event.isTask()) {
+                continue;
+            }
+            timestamps[compilations++] = event.getTimestamp();
+            if (event.isOsr()) {
+                osrCompilations++;
+            }
+            if (event.getTier() >= 0 && event.getTier() < tiers.length) {
+                tiers[event.getTier()]++;
+            }
+            int[] counts = getCounts(event.getMethod());
+            counts[COMPILATIONS]++;
+            String methodTier = event.getMethod() + (event.isOsr() ? "%" : " ") + event.getTier();
+            Integer tierCount = methodTiers.get(methodTier);
+            tierCount = tierCount == null ? 1 : tierCount + 1;
+            methodTiers.put(methodTier, tierCount);
+            counts[RECOMPILATIONS] = Math.max(counts[RECOMPILATIONS], tierCount);
+        }
+        maxCompilationRate = getMaxInWindow(timestamps, compilations);
+        Map<String, Integer> unsortedReasons = new TreeMap<String, Integer>();
+        timestamps = new long[deoptimizationEvents.size()];
+        Iterator<DeoptimizationEvent> iteratorDeoptimization = deoptimizationEvents.iterator();
+        while (iteratorDeoptimization.hasNext()) {
+            DeoptimizationEvent event = iteratorDeoptimization.next();
+            if (event.getTimestamp() == Long.MIN_VALUE) {
+                continue;
+            }
+            timestamps[deoptimizations++] = event.getTimestamp();
+            if (event.isUncommonTrap()) {
+                uncommonTraps++;
+                Integer count = unsortedReasons.get(event.getReason());
+                unsortedReasons.put(event.getReason(), count == null ? 1 : count + 1);
+                getCounts(event.getMethod())[DEOPTIMIZATIONS]++;
+            }
+        }
+        maxDeoptimizationRate = getMaxInWindow(timestamps, deoptimizations);
+        reasons = KrashUtil.sortByCount(unsortedReasons);
+    }
+
+    /**
+     * @return The compile task count.
+     */
+    public int getCompilations() {
+        return compilations;
+    }
+
+    /**
+     * @param method
+     *            The method.
+     * @return The compilation, deoptimization, and highest single tier compilation counts for the method.
+     */
+    private int[] getCounts(String method) {
+        int[] counts = methods.get(method);
+        if (counts == null) {
+            counts = new int[3];
+            methods.put(method, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * @return The deoptimization event count.
+     */
+    public int getDeoptimizations() {
+        return deoptimizations;
+    }
+
+    /**
+     * @return The highest compile task count in any {@link #WINDOW}.
+     */
+    public int getMaxCompilationRate() {
+        return maxCompilationRate;
+    }
+
+    /**
+     * @return The highest deoptimization event count in any {@link #WINDOW}.
+     */
+    public int getMaxDeoptimizationRate() {
+        return maxDeoptimizationRate;
+    }
+
+    /**
+     * @return The on-stack replacement (OSR) compile task count.
+     */
+    public int getOsrCompilations() {
+        return osrCompilations;
+    }
+
+    /**
+     * @return Uncommon trap count by reason, sorted by count (largest first).
+     */
+    public Map<String, Integer> getReasons() {
+        return reasons;
+    }
+
+    /**
+     * @return Methods in a deoptimization loop (deoptimized &gt;= {@link #THRASH} times) or recompilation thrash
+     *         (compiled &gt;= {@link #THRASH} times at the same tier), with their counts, most active first.
+     */
+    public List<String> getThrashMethods() {
+        Map<String, Integer> activity = new TreeMap<String, Integer>();
+        for (Entry<String, int[]> entry : methods.entrySet()) {
+            int[] counts = entry.getValue();
+            if (counts[DEOPTIMIZATIONS] >= THRASH || counts[RECOMPILATIONS] >= THRASH) {
+                activity.put(entry.getKey(), counts[COMPILATIONS] + counts[DEOPTIMIZATIONS]);
+            }
+        }
+        List<String> thrashMethods = new ArrayList<String>();
+        for (String method : KrashUtil.sortByCount(activity).keySet()) {
+            int[] counts = methods.get(method);
+            thrashMethods.add(method + " (compiled " + counts[COMPILATIONS] + "x, deoptimized "
+                    + counts[DEOPTIMIZATIONS] + "x)");
+        }
+        return thrashMethods;
+    }
+
+    /**
+     * @param tier
+     *            The compilation tier (0-4).
+     * @return The compile task count at the tier.
+     */
+    public int getTierCompilations(int tier) {
+        return tier >= 0 && tier < tiers.length ? tiers[tier] : 0;
+    }
+
+    /**
+     * @param limit
+     *            The maximum number of methods.
+     * @return The methods compiled and deoptimized the most, with the combined count, most active first.
+     */
+    public Map<String, Integer> getTopMethods(int limit) {
+        Map<String, Integer> activity = new TreeMap<String, Integer>();
+        for (Entry<String, int[]> entry : methods.entrySet()) {
+            activity.put(entry.getKey(), entry.getValue()[COMPILATIONS] + entry.getValue()[DEOPTIMIZATIONS]);
+        }
+        Map<String, Integer> top = new LinkedHashMap<String, Integer>();
+        for (Entry<String, Integer> entry : KrashUtil.sortByCount(activity).entrySet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(top);
+    }
+
+    /**
+     * @return The uncommon trap count.
+     */
+    public int getUncommonTraps() {
+        return uncommonTraps;
+    }
+}
@@ -14,8 +14,12 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -35,6 +39,8 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * <pre>
  * Deoptimization events (250 events):
  * Event: 5688.682 Thread 0x00007ff0ec053800 Uncommon trap: reason=unstable_if action=reinterpret pc=0x00007ff0dd93860c method=org.eclipse.swt.custom.StyledTextRenderer.disposeTextLayout(Lorg/eclipse/swt/graphics/TextLayout;)V @ 39
+ * Event: 6671.856 Thread 0x00007ff0ec053800 DEOPT PACKING pc=0x00007ff0dd93860c sp=0x00007ff0f61be9c0
+ * Event: 6671.856 Thread 0x00007ff0ec053800 DEOPT UNPACKING pc=0x00007ff0dd04547a sp=0x00007ff0f61be890 mode 2
  * </pre>
  * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
@@ -47,6 +53,19 @@ public class DeoptimizationEvent implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Deoptimization events \\(\\d{1,} events\\):";
 
+    /**
+     * Regular expression for the event timestamp and the program counter (group 1 = timestamp, group 5 = pc).
+     */
+    private static final Pattern PATTERN_PC = Pattern.compile("^Event: " + JdkRegEx.TIMESTAMP
+            + " Thread 0x[0-9a-f]{1,} (DEOPT (UN)?PACKING|Uncommon trap:).*? (fr\\.)?pc=0x([0-9a-f]{1,})");
+
+    /**
+     * Regular expression for the uncommon trap reason, action, method, and bytecode index. Long entries are truncated
+     * in the ring buffer, so the bytecode index can be missing.
+     */
+    private static final Pattern PATTERN_UNCOMMON_TRAP = Pattern
+            .compile("Uncommon trap: reason=(\\S+) action=(\\S+) pc=0x[0-9a-f]{1,} method=(\\S+)( @ (\\d{1,}))?");
+
     /**
      * Regular expression defining the logging.
      */
@@ -65,11 +84,47 @@ public class DeoptimizationEvent implements LogEvent, HeaderEvent {
         return logLine.matches(REGEX);
     }
 
+    /**
+     * Uncommon trap action (e.g. "reinterpret", "make_not_entrant"), or null if not an uncommon trap.
+     */
+    private String action;
+
+    /**
+     * Uncommon trap bytecode index, or -1 if not an uncommon trap.
+     */
+    private int bci = -1;
+
     /**
      * The log entry for the event.
      */
     private String logEntry;
 
+    /**
+     * Deoptimized method in compilation event form (e.g. "java.lang.Class::reflectionData"), or null if not an
+     * uncommon trap.
+     */
+    private String method;
+
+    /**
+     * Whether the log entry has been parsed into fields.
+     */
+    private boolean parsed;
+
+    /**
+     * Program counter, or 0 if unknown.
+     */
+    private long pc;
+
+    /**
+     * Uncommon trap reason (e.g. "unstable_if", "class_check"), or null if not an uncommon trap.
+     */
+    private String reason;
+
+    /**
+     * The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    private long timestamp = Long.MIN_VALUE;
+
     /**
      * Create event from log entry.
      * 
@@ -80,6 +135,22 @@ public class DeoptimizationEvent implements LogEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The uncommon trap action, or null if not an uncommon trap.
+     */
+    public String getAction() {
+        parse();
+        return action;
+    }
+
+    /**
+     * @return The uncommon trap bytecode index, or -1 if not an uncommon trap.
+     */
+    public int getBci() {
+        parse();
+        return bci;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.DEOPTIMIZATION_EVENT;
@@ -89,6 +160,38 @@ public class DeoptimizationEvent implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The deoptimized method in compilation event form, or null if not an uncommon trap.
+     */
+    public String getMethod() {
+        parse();
+        return method;
+    }
+
+    /**
+     * @return The program counter, or 0 if unknown.
+     */
+    public long getPc() {
+        parse();
+        return pc;
+    }
+
+    /**
+     * @return The uncommon trap reason, or null if not an uncommon trap.
+     */
+    public String getReason() {
+        parse();
+        return reason;
+    }
+
+    /**
+     * @return The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    public long getTimestamp() {
+        parse();
+        return timestamp;
+    }
+
     public boolean isErrorOccurredDuringErrorReporting() {
         return logEntry.startsWith("[error occurred during error reporting");
     }
@@ -101,4 +204,42 @@ public class DeoptimizationEvent implements LogEvent, HeaderEvent {
         }
         return isHeader;
     }
+
+    /**
+     * @return true if the event is an uncommon trap, false otherwise.
+     */
+    public boolean isUncommonTrap() {
+        parse();
+        return reason != null;
+    }
+
+    /**
+     * Parse the log entry into fields once, on first use.
+     */
+    private synchronized void parse() {
+        if (parsed) {
+            return;
+        }
+        parsed = true;
+        Matcher matcher = PATTERN_PC.matcher(logEntry);
+        if (!matcher.find()) {
+            return;
+        }
+        timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+        pc = Long.parseUnsignedLong(matcher.group(5), 16);
+        matcher = PATTERN_UNCOMMON_TRAP.matcher(logEntry);
+        if (matcher.find()) {
+            reason = matcher.group(1);
+            action = matcher.group(2);
+            if (matcher.group(5) != null) {
+                bci = Integer.parseInt(matcher.group(5));
+            }
+            // "java.lang.Class.reflectionData()Ljava/lang/Class$ReflectionData;" -> "java.lang.Class::reflectionData"
+            String signature = matcher.group(3);
+            int parameters = signature.indexOf('(');
+            String name = parameters >= 0 ? signature.substring(0, parameters) : signature;
+            int separator = name.lastIndexOf('.');
+            method = separator > 0 ? name.substring(0, separator) + "::" + name.substring(separator + 1) : name;
+        }
+    }
 }
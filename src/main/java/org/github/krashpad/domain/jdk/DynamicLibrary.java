@@ -21,6 +21,7 @@ import org.github.krashpad.domain.BlankLine;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.Constants.Device;
+import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -98,6 +99,12 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
 
     private static Pattern pattern = Pattern.compile(DynamicLibrary.REGEX);
 
+    /**
+     * Regular expression for the mapping memory region.
+     */
+    private static Pattern patternMemoryRegion = Pattern
+            .compile("^(0x)?([0-9a-f]{8,16})[ ]{0,1}-[ ]{0,1}(0x)?([0-9a-f]{8,16}) ");
+
     /**
      * Regular expression defining the logging.
      */
@@ -171,6 +178,18 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
         return device;
     }
 
+    /**
+     * @return The mapping end address (exclusive), or Long.MIN_VALUE if not a memory region mapping.
+     */
+    public long getEndAddress() {
+        long endAddress = Long.MIN_VALUE;
+        Matcher matcher = patternMemoryRegion.matcher(logEntry);
+        if (matcher.find()) {
+            endAddress = JdkMath.convertHexToDecimal(matcher.group(4));
+        }
+        return endAddress;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.DYNAMIC_LIBRARY;
@@ -184,6 +203,18 @@ public class DynamicLibrary implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The mapping start address, or Long.MIN_VALUE if not a memory region mapping.
+     */
+    public long getStartAddress() {
+        long startAddress = Long.MIN_VALUE;
+        Matcher matcher = patternMemoryRegion.matcher(logEntry);
+        if (matcher.find()) {
+            startAddress = JdkMath.convertHexToDecimal(matcher.group(2));
+        }
+        return startAddress;
+    }
+
     public boolean isError() {
         boolean isError = false;
         if (this.logEntry != null) {
@@ -24,10 +24,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -40,12 +44,19 @@ import org.github.joa.domain.BuiltBy;
 import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.JvmContext;
 import org.github.joa.domain.Os;
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.AddressSpace.Region;
+import org.github.krashpad.domain.jdk.AddressSpace.RegionType;
+import org.github.krashpad.domain.jdk.CodeCacheSummary.CodeHeap;
 import org.github.krashpad.util.Constants.CpuArch;
 import org.github.krashpad.util.Constants.Device;
 import org.github.krashpad.util.Constants.OsVendor;
 import org.github.krashpad.util.Constants.OsVersion;
 import org.github.krashpad.util.KrashUtil;
+import org.github.krashpad.util.NativeLibraryCatalog.Category;
 import org.github.krashpad.util.jdk.Analysis;
+import org.github.krashpad.util.jdk.CrashSignatureIndex;
+import org.github.krashpad.util.jdk.CrashSignatureIndex.Signature;
 import org.github.krashpad.util.jdk.Jdk11;
 import org.github.krashpad.util.jdk.Jdk17;
 import org.github.krashpad.util.jdk.Jdk21;
@@ -90,6 +101,11 @@ public class FatalErrorLog {
         return list.stream().map(function).filter(Objects::nonNull);
     }
 
+    /**
+     * Address-to-region index, built on first use.
+     */
+    private AddressSpace addressSpace;
+
     /**
      * Analysis.
      */
@@ -100,11 +116,46 @@ public class FatalErrorLog {
      */
     private BarrierSet barrierSet;
 
+    /**
+     * Class loading, unloading, and redefinition churn.
+     */
+    private ClassChurn classChurn;
+
+    /**
+     * Class events already included in {@link #classChurn}.
+     */
+    private int classChurnEvents;
+
+    /**
+     * Classes loaded information.
+     */
+    private List<ClassesLoadedEvent> classesLoadedEvents;
+
+    /**
+     * Classes redefined information.
+     */
+    private List<ClassesRedefinedEvent> classesRedefinedEvents;
+
     /**
      * Classes unloaded information.
      */
     private List<ClassesUnloadedEvent> classesUnloadedEvents;
 
+    /**
+     * Code cache information.
+     */
+    private List<CodeCache> codeCaches;
+
+    /**
+     * Code cache utilization.
+     */
+    private CodeCacheSummary codeCacheSummary;
+
+    /**
+     * Code cache and global flag events already included in {@link #codeCacheSummary}.
+     */
+    private int codeCacheSummaryEvents;
+
     /**
      * Command line information.
      */
@@ -115,6 +166,16 @@ public class FatalErrorLog {
      */
     private List<CompilationEvent> compilationEvents;
 
+    /**
+     * Compilation and deoptimization statistics.
+     */
+    private CompilationStatistics compilationStatistics;
+
+    /**
+     * Compilation and deoptimization events already included in {@link #compilationStatistics}.
+     */
+    private int compilationStatisticsEvents;
+
     /**
      * Class information
      */
@@ -188,6 +249,11 @@ public class FatalErrorLog {
      */
     private List<ExceptionCounts> exceptionCounts;
 
+    /**
+     * Whether the fatal error log is frozen (immutable). See {@link #freeze()}.
+     */
+    private volatile boolean frozen = false;
+
     /**
      * Garbage collection events.
      */
@@ -213,6 +279,16 @@ public class FatalErrorLog {
      */
     private List<GlobalFlag> globalFlags;
 
+    /**
+     * Global flags indexed by flag name.
+     */
+    private GlobalFlagIndex globalFlagIndex;
+
+    /**
+     * Global flag events already included in {@link #globalFlagIndex}.
+     */
+    private int globalFlagIndexEvents;
+
     /**
      * Header.
      */
@@ -223,6 +299,11 @@ public class FatalErrorLog {
      */
     private HeapAddress heapAddress;
 
+    /**
+     * Heap regions summary.
+     */
+    private HeapRegionsSummary heapRegionsSummary;
+
     /**
      * Heap information.
      */
@@ -238,11 +319,31 @@ public class FatalErrorLog {
      */
     private List<InternalExceptionEvent> internalExceptionEvents;
 
+    /**
+     * Internal exception heavy hitter summary.
+     */
+    private InternalExceptionStatistics internalExceptionStatistics;
+
+    /**
+     * Internal exception events already included in {@link #internalExceptionStatistics}.
+     */
+    private int internalExceptionStatisticsEvents;
+
     /**
      * Statistics information.
      */
     private List<InternalStatistic> internalStatistics;
 
+    /**
+     * Mapped jars indexed by artifact.
+     */
+    private JarInventory jarInventory;
+
+    /**
+     * Dynamic library events already included in {@link #jarInventory}.
+     */
+    private int jarInventoryEvents;
+
     /**
      * JvmOptions object.
      */
@@ -273,6 +374,17 @@ public class FatalErrorLog {
      */
     private List<Memory> memories;
 
+    /**
+     * Observed JVM, OS, and container memory.
+     */
+    private MemoryLedger memoryLedger;
+
+    /**
+     * Heap, meminfo, gc precious log, process memory, container, and memory events already included in
+     * {@link #memoryLedger}.
+     */
+    private int memoryLedgerEvents;
+
     /**
      * Native libraries.
      */
@@ -288,6 +400,22 @@ public class FatalErrorLog {
      */
     private List<NativeMemoryTracking> nativeMemoryTrackings;
 
+    /**
+     * Native memory tracking events already parsed into {@link #nativeMemoryTrackingSummaries}.
+     */
+    private int nativeMemoryTrackingsParsed;
+
+    /**
+     * Native memory tracking categories, sorted by committed memory, parsed once from
+     * {@link #nativeMemoryTrackings}.
+     */
+    private List<NativeMemoryTrackingSummary> nativeMemoryTrackingSummaries;
+
+    /**
+     * Native memory tracking total, parsed once from {@link #nativeMemoryTrackings}.
+     */
+    private NativeMemoryTrackingSummary nativeMemoryTrackingTotal;
+
     /**
      * OS information.
      */
@@ -303,6 +431,11 @@ public class FatalErrorLog {
      */
     private List<PidMax> pidMaxes;
 
+    /**
+     * Polling page information.
+     */
+    private PollingPage pollingPage;
+
     /**
      * Process memory information.
      */
@@ -313,6 +446,11 @@ public class FatalErrorLog {
      */
     private List<RegisterToMemoryMapping> registerToMemoryMappings;
 
+    /**
+     * Register information.
+     */
+    private List<Register> registers;
+
     /**
      * rlimit information.
      */
@@ -338,6 +476,16 @@ public class FatalErrorLog {
      */
     private List<StackSlotToMemoryMapping> stackSlotToMemoryMappings;
 
+    /**
+     * Thread inventory, built once from {@link #threads}.
+     */
+    private ThreadInventory threadInventory;
+
+    /**
+     * Thread events already included in {@link #threadInventory}.
+     */
+    private int threadInventoryThreads;
+
     /**
      * Thread information.
      */
@@ -358,6 +506,16 @@ public class FatalErrorLog {
      */
     private TimeElapsedTime timeElapsedTime;
 
+    /**
+     * Timeline merged from the event logs.
+     */
+    private Timeline timeline;
+
+    /**
+     * Event log entries already merged into {@link #timeline}.
+     */
+    private int timelineEvents;
+
     /**
      * Timeout.
      */
@@ -373,6 +531,11 @@ public class FatalErrorLog {
      */
     private List<TransparentHugepageDefrag> transparentHugepageDefrags;
 
+    /**
+     * Whether the fatal error log was parsed in triage mode (only the sections through the current thread).
+     */
+    private boolean triage = false;
+
     /**
      * Transparent Huge Pages (THP) enabled (/sys/kernel/mm/transparent_hugepage/enabled) information.
      */
@@ -418,11 +581,26 @@ public class FatalErrorLog {
      */
     private List<VmOperationEvent> vmOperationEvents;
 
+    /**
+     * VM operation statistics.
+     */
+    private VmOperationStatistics vmOperationStatistics;
+
+    /**
+     * VM operation events already included in {@link #vmOperationStatistics}.
+     */
+    private int vmOperationStatisticsEvents;
+
     /**
      * VM state information.
      */
     private VmState vmState;
 
+    /**
+     * ZGC page table summary.
+     */
+    private ZgcPageTableSummary zgcPageTableSummary;
+
     /**
      * ZGC phase switch information.
      */
@@ -433,7 +611,10 @@ public class FatalErrorLog {
      */
     public FatalErrorLog() {
         analysis = new ArrayList<Analysis>();
+        classesLoadedEvents = new ArrayList<ClassesLoadedEvent>();
+        classesRedefinedEvents = new ArrayList<ClassesRedefinedEvent>();
         classesUnloadedEvents = new ArrayList<ClassesUnloadedEvent>();
+        codeCaches = new ArrayList<CodeCache>();
         compilationEvents = new ArrayList<CompilationEvent>();
         containerInfos = new ArrayList<ContainerInfo>();
         cpuInfos = new ArrayList<CpuInfo>();
@@ -448,6 +629,7 @@ public class FatalErrorLog {
         gcPreciousLogs = new ArrayList<GcPreciousLog>();
         globalFlags = new ArrayList<GlobalFlag>();
         headers = new ArrayList<Header>();
+        heapRegionsSummary = new HeapRegionsSummary();
         heaps = new ArrayList<Heap>();
         internalExceptionEvents = new ArrayList<InternalExceptionEvent>();
         internalStatistics = new ArrayList<InternalStatistic>();
@@ -462,6 +644,7 @@ public class FatalErrorLog {
         pidMaxes = new ArrayList<PidMax>();
         processMemories = new ArrayList<ProcessMemory>();
         registerToMemoryMappings = new ArrayList<RegisterToMemoryMapping>();
+        registers = new ArrayList<Register>();
         releaseFiles = new ArrayList<ReleaseFile>();
         stacks = new ArrayList<Stack>();
         stackSlotToMemoryMappings = new ArrayList<StackSlotToMemoryMapping>();
@@ -475,6 +658,7 @@ public class FatalErrorLog {
         virtualizationInfos = new ArrayList<VirtualizationInfo>();
         vmArguments = new ArrayList<VmArguments>();
         vmOperationEvents = new ArrayList<VmOperationEvent>();
+        zgcPageTableSummary = new ZgcPageTableSummary();
         zgcPhaseSwitchEvents = new ArrayList<ZgcPhaseSwitchEvent>();
     }
 
@@ -485,6 +669,7 @@ public class FatalErrorLog {
      *            The <code>Analysis</code> to add.
      */
     public void addAnalysis(Analysis key) {
+        checkNotFrozen();
         analysis.add(key);
     }
 
@@ -495,6 +680,7 @@ public class FatalErrorLog {
      *            The <code>org.github.joa.util.Analysis</code> to add.
      */
     public void addAnalysis(org.github.joa.util.Analysis key) {
+        checkNotFrozen();
         if (jvmOptions == null) {
             // Create JvmOptions for analysis
             JvmContext context = new JvmContext(null);
@@ -504,10 +690,21 @@ public class FatalErrorLog {
         jvmOptions.addAnalysis(key);
     }
 
+    /**
+     * @throws UnsupportedOperationException
+     *             if the fatal error log is frozen.
+     */
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen fatal error log cannot be modified.");
+        }
+    }
+
     /**
      * Do analysis.
      */
     public void doAnalysis() {
+        checkNotFrozen();
         doHydrate();
         String opts = getJvmArgs();
         if (opts != null) {
@@ -523,7 +720,8 @@ public class FatalErrorLog {
             if (jvmOptions.getOptions().size() == 0) {
                 analysis.add(0, Analysis.INFO_OPTS_NONE);
             }
-        } else {
+        } else if (!triage) {
+            // Triage does not read the process section with the jvm_args
             analysis.add(0, Analysis.INFO_OPTS_UNKNOWN);
         }
         // Check if the crash is due to crashtestdummy.war, an app used by support for testing.
@@ -558,10 +756,8 @@ public class FatalErrorLog {
         if (getJvmMemorySwappedOut() > 0) {
             analysis.add(Analysis.WARN_SWAPPED_OUT);
         }
-        // Crashes related to Oracle JDBC OCI (native) driver
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^C  \\[libocijdbc.+$")) {
-            analysis.add(Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER);
-        }
+        // Crashes related to Oracle JDBC OCI (native) driver (a crash in the driver is a known crash signature, matched
+        // at the end of the analysis, that suppresses INFO_ORACLE_JDBC_OCI)
         if (getEventTimestamp("^Event: (\\d{1,}\\.\\d{3}) Loaded shared library .+libocijdbc.+.(dll|so)$") > 0
                 && getUptime() > 0 && getUptime() - getEventTimestamp(
                         "^Event: (\\d{1,}\\.\\d{3}) Loaded shared library .+libocijdbc.+.(dll|so)$") <= 1000) {
@@ -603,26 +799,15 @@ public class FatalErrorLog {
             }
         }
         // Check PostgreSQL JDBC driver / JDK8 compatibility
-        List<String> jars = getJars();
-        if (!jars.isEmpty()) {
-            String postgresqlJdbcDriverPath = null;
-            Iterator<String> iterator = jars.iterator();
-            while (iterator.hasNext()) {
-                String jar = iterator.next();
-                if (jar.matches(JdkRegEx.POSTGRESQL_JDBC_DRIVER_PATH)) {
-                    postgresqlJdbcDriverPath = jar;
-                    break;
-                }
-            }
-            if (postgresqlJdbcDriverPath != null) {
-                Pattern pattern = Pattern.compile(JdkRegEx.POSTGRESQL_JDBC_DRIVER_PATH);
-                Matcher matcher = pattern.matcher(postgresqlJdbcDriverPath);
-                if (matcher.find()) {
-                    Integer minorVersion = Integer.parseInt(matcher.group(3));
-                    if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) == 8 && minorVersion < 5) {
-                        analysis.add(Analysis.ERROR_POSTGRESQL_JDBC_JDK8_INCOMPATIBLE);
-                    }
+        Iterator<JarInventory.Jar> postgresqlJars = getJarInventory().getJars("postgresql").iterator();
+        while (postgresqlJars.hasNext()) {
+            JarInventory.Jar jar = postgresqlJars.next();
+            if (jar.getFile().matches(JdkRegEx.POSTGRESQL_JDBC_DRIVER)) {
+                Integer minorVersion = Integer.parseInt(jar.getVersion().split("\\.")[1]);
+                if (JdkUtil.getJavaSpecificationNumber(getJavaSpecification()) == 8 && minorVersion < 5) {
+                    analysis.add(Analysis.ERROR_POSTGRESQL_JDBC_JDK8_INCOMPATIBLE);
                 }
+                break;
             }
         }
         // Check for ancient fatal error log
@@ -683,7 +868,8 @@ public class FatalErrorLog {
             } else if (isWindows()) {
                 analysis.add(0, Analysis.INFO_RH_BUILD_WINDOWS_ZIP);
             }
-        } else if (getJavaVendor() == JavaVendor.UNIDENTIFIED) {
+        } else if (getJavaVendor() == JavaVendor.UNIDENTIFIED && !triage) {
+            // Triage does not read the system section with the vm_info and OS needed to identify the vendor
             if (getJdkReleaseString() != org.github.krashpad.util.Constants.PROPERTY_UNKNOWN) {
                 if (!isRhVersion() || (isRhVersion() && getJdkBuiltBy() != BuiltBy.UNKNOWN && !isRhBuildString()
                         && getJdkBuildDate() != null && !isRhBuildDate())) {
@@ -806,6 +992,9 @@ public class FatalErrorLog {
                                 && getHeapInitialSize() == getHeapMaxSize()) {
                             analysis.add(Analysis.INFO_OOME_STARTUP_HEAP_MIN_EQUAL_MAX);
                         }
+                    } else if (triage) {
+                        // Memory and limits are in the system section, which triage does not read
+                        analysis.add(Analysis.ERROR_OOME);
                     } else {
                         // Resource limit
                         if (Os.WINDOWS == getOs()) {
@@ -906,8 +1095,10 @@ public class FatalErrorLog {
                             }
                         }
                     } else {
-                        // Allocation unknown, JVM memory >/ 1/2 total memory.
-                        if ((isTruncated() || isInHeader("Java Heap may be blocking the growth of the native heap")
+                        // Allocation unknown, JVM memory >/ 1/2 total memory. Triage stops reading early by design, so
+                        // it does not count as truncated.
+                        if (((isTruncated() && !triage)
+                                || isInHeader("Java Heap may be blocking the growth of the native heap")
                                 || isInHeader("compressed oops")) && isCompressedOops()) {
                             analysis.add(Analysis.ERROR_OOME_OOPS);
                         } else if (isInHeader("Failed to map memory")) {
@@ -1028,20 +1219,12 @@ public class FatalErrorLog {
         if (getSignalNumber().equals(SignalNumber.SIGFPE) || getSignalCode().equals(SignalCode.FPE_INTDIV)) {
             analysis.add(Analysis.ERROR_FPE);
         }
-        // pthread_getcpuclockid
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^C  \\[libpthread\\.so.+\\]  pthread_getcpuclockid.+$")) {
-            analysis.add(Analysis.ERROR_PTHREAD_GETCPUCLOCKID);
-        }
-        // BufferBlob::flush_icache_stub
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^v  ~BufferBlob::flush_icache_stub+$")) {
-            analysis.add(Analysis.ERROR_BUFFERBLOB_FLUSH_ICACHE_STUB);
-        }
         // StackOverflowError
         if (getSignalNumber() != SignalNumber.EXCEPTION_STACK_OVERFLOW && haveStackOverFlowError()) {
             analysis.add(Analysis.ERROR_STACKOVERFLOW);
         } else {
-            if (getThreadStackFreeSpace() > getThreadStackSize()) {
+            // Triage does not read the JVM options or exceptions that decide this
+            if (!triage && getThreadStackFreeSpace() > getThreadStackSize()) {
                 // Applies only to ThreadStackSize (not CompilerThreadStackSize, VMThreadStackSize, MarkStackSize, the
                 // JLI_Launch method in main.c that starts the JVM, or C code).
                 if (currentThread != null && !(currentThread.isCompilerThread() || currentThread.isVmThread())
@@ -1076,16 +1259,6 @@ public class FatalErrorLog {
         if (haveOomeThrownCompressedClassSpace()) {
             analysis.add(Analysis.ERROR_OOME_THROWN_COMP_CLASS_SPACE);
         }
-        // ShenandoahConcurrentMark::mark_loop_work
-        if ((getStackFrameTop() != null
-                && getStackFrameTop().matches("^.+ShenandoahConcurrentMark::mark_loop_work.+"))) {
-            analysis.add(Analysis.ERROR_JDK8_SHENANDOAH_MARK_LOOP_WORK);
-        }
-        // org.apache.activemq.artemis.nativo.jlibaio.LibaioContext.done()
-        if ((getStackFrameTop() != null && getStackFrameTop()
-                .matches("^.+ org.apache.activemq.artemis.nativo.jlibaio.LibaioContext.done().+"))) {
-            analysis.add(Analysis.ERROR_LIBAIO_CONTEXT_DONE);
-        }
         // cgroup version
         if (getCgroupVersion() != null) {
             analysis.add(Analysis.INFO_CGROUP_VERSION);
@@ -1093,8 +1266,10 @@ public class FatalErrorLog {
         if (haveCgroupMemoryLimit()) {
             analysis.add(Analysis.INFO_CGROUP_MEMORY_LIMIT);
         }
-        // truncated fatal error log
-        if (isTruncated()) {
+        // truncated fatal error log (triage stops reading early by design)
+        if (triage) {
+            analysis.add(Analysis.INFO_TRIAGE);
+        } else if (isTruncated()) {
             analysis.add(Analysis.INFO_TRUNCATED);
         }
         // Storage analysis
@@ -1173,11 +1348,6 @@ public class FatalErrorLog {
                 && getStackFrameTopJava().matches("^.+sun\\.font\\.FreetypeFontScaler\\.getGlyphImageNative.+$")) {
             analysis.add(Analysis.ERROR_FREETYPE_FONT_SCALER_GET_GLYPH_IMAGE_NATIVE);
         }
-        // Check for JDK8 Deflator contention
-        if ((getArchOs().equals(Arch.PPC64) || getArchOs().equals(Arch.PPC64LE)) && getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+JavaThread::pd_get_top_frame_for_profiling.+$")) {
-            analysis.add(Analysis.ERROR_JFR_PD_GET_TOP_FRAME);
-        }
 
         // Cannot get library information
         if (!dynamicLibraries.isEmpty() && dynamicLibraries.size() >= 2 && dynamicLibraries.size() <= 3) {
@@ -1187,20 +1357,15 @@ public class FatalErrorLog {
                 analysis.add(Analysis.ERROR_CANNOT_GET_LIBRARY_INFORMATION);
             }
         }
-        // Check for G1ParScanThreadState::copy_to_survivor_space
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+G1ParScanThreadState::copy_to_survivor_space.+$")
-                && (getJavaVersionMajor() == 8 || (getJavaVersionMajor() == 11 && getJavaVersionMinor() < 10))) {
-            analysis.add(Analysis.ERROR_G1_PAR_SCAN_THREAD_STATE_COPY_TO_SURVIVOR_SPACE);
-            // Don't double report
-            analysis.remove(Analysis.ERROR_LIBJVM_SO);
-        }
-        // Check for PSPromotionManager::copy_to_survivor_space
-        if (getStackFrameTop() != null
-                && getStackFrameTop().matches("^V.+PSPromotionManager::copy_to_survivor_space.+$")) {
-            analysis.add(Analysis.ERROR_PS_PROMOTION_MANAGER_COPY_TO_SURVIVOR_SPACE);
+        // Known crash signatures (see known_crashes.txt)
+        Iterator<Signature> signatures = KrashUtil.CRASH_SIGNATURE_INDEX.match(this).iterator();
+        while (signatures.hasNext()) {
+            Signature signature = signatures.next();
+            if (!analysis.contains(signature.getAnalysis())) {
+                analysis.add(signature.getAnalysis());
+            }
             // Don't double report
-            analysis.remove(Analysis.ERROR_LIBJVM_SO);
+            analysis.removeAll(signature.getSuppress());
         }
         // Check if JVM user ne USERNAME
         if (getJvmUser() != null && getUsername() != null && !getJvmUser().equals(getUsername())) {
@@ -1235,11 +1400,8 @@ public class FatalErrorLog {
                 }
             }
         }
-        // Crash in HashMap
-        if (getStackFrameTop() != null && getStackFrameTop().matches("^J.+java\\.util\\.HashMap.+$")) {
-            analysis.add(Analysis.ERROR_HASHMAP);
-        }
-        // Specific CompilerThread crashes
+        // Specific CompilerThread crashes (an else-if chain: one specific crash is reported, so they are not crash
+        // signatures)
         if (getCurrentThreadName() != null && getCurrentThreadName().matches("^.+C2 CompilerThread\\d{1,}.+$")) {
             if (this.getCurrentCompileTask() != null
                     && getCurrentCompileTask().matches("^.+java\\.lang\\.ClassLoader::loadClass.+")
@@ -1313,15 +1475,8 @@ public class FatalErrorLog {
         // iText
         if (isInStack("com\\.itextpdf\\.text")) {
             analysis.add(0, Analysis.WARN_ITEXT);
-        } else if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
-            while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getLogEntry() != null && event.getLogEntry().matches("^.+itext.*\\.jar$")) {
-                    analysis.add(Analysis.INFO_ITEXT);
-                    break;
-                }
-            }
+        } else if (getJarInventory().hasPath("^.*itext.*\\.jar$")) {
+            analysis.add(Analysis.INFO_ITEXT);
         }
         // async-profiler
         if (isInStack("asyncProfiler")) {
@@ -1342,15 +1497,8 @@ public class FatalErrorLog {
             analysis.add(0, Analysis.WARN_LUCENE);
         }
         // IBM Toolkit
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
-            while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.getLogEntry() != null && event.getLogEntry().matches("^.+jt400\\.jar$")) {
-                    analysis.add(Analysis.INFO_IBM_TOOLKIT);
-                    break;
-                }
-            }
+        if (getJarInventory().hasPath("^.*jt400\\.jar$")) {
+            analysis.add(Analysis.INFO_IBM_TOOLKIT);
         }
         // ERROR_JDK8_LIBC_CFREE
         if (getJavaSpecification() == JavaSpecification.JDK8
@@ -1360,7 +1508,8 @@ public class FatalErrorLog {
                 while (iterator.hasNext()) {
                     Header event = iterator.next();
                     if (event.isProblematicFrame() && event.getLogEntry().matches("^.+libc.+cfree\\+0x1c$")
-                            && (getJvmOptions() == null || getJvmOptions().getUseGcLogFileRotation() != null)
+                            && ((getJvmOptions() == null && !triage)
+                                    || (getJvmOptions() != null && getJvmOptions().getUseGcLogFileRotation() != null))
                             && getCurrentThreadName() != null
                             && getCurrentThreadName().matches("^ConcurrentGCThread .+$")) {
                         analysis.add(Analysis.ERROR_JDK8_LIBC_CFREE);
@@ -1884,6 +2033,32 @@ public class FatalErrorLog {
         if (getVmOperationsThreadDumpFrequency() >= 1) {
             analysis.add(Analysis.WARN_VM_OPERATION_THREAD_DUMP_FREQUENCY);
         }
+        // code cache full or nearly full
+        if (getCodeCacheSummary().isFull()) {
+            analysis.add(Analysis.WARN_CODE_CACHE_FULL);
+        } else if (!getCodeCacheSummary().getSaturated().isEmpty()) {
+            analysis.add(Analysis.WARN_CODE_CACHE_SATURATED);
+        }
+        // runaway class generation
+        if (getClassChurn().isRunawayGeneration()) {
+            analysis.add(Analysis.WARN_CLASS_GENERATION);
+        }
+        // deoptimization loop or recompilation thrash
+        if (!getCompilationStatistics().getThrashMethods().isEmpty()) {
+            analysis.add(Analysis.WARN_COMPILATION_THRASH);
+        }
+        // long safepoint/VM operation right before the crash
+        if (!getVmOperationStatistics().getLongBeforeCrash().isEmpty()) {
+            analysis.add(Analysis.WARN_VM_OPERATION_LONG_BEFORE_CRASH);
+        }
+        // container memory usage at or near the cgroup limit
+        if (getMemoryLedger().isCgroupMemorySaturated()) {
+            analysis.add(Analysis.WARN_CGROUP_MEMORY_SATURATED);
+        }
+        // multiple versions of the same jar
+        if (!getJarInventory().getConflicts().isEmpty()) {
+            analysis.add(Analysis.WARN_JAR_VERSION_CONFLICT);
+        }
     }
 
     /**
@@ -1897,6 +2072,96 @@ public class FatalErrorLog {
         hydrateJavaHome();
     }
 
+    /**
+     * Freeze the fatal error log after analysis: compute the lazily built views (address space, class churn, code
+     * cache summary, compilation statistics, global flag index, internal exception statistics, jar inventory, memory
+     * ledger, Native Memory Tracking summaries, thread inventory, timeline, VM operation statistics), make the event
+     * and analysis lists unmodifiable, and freeze the heap regions and ZGC page table summaries.
+     * 
+     * <p>
+     * A frozen fatal error log is immutable, so once safely published (e.g. returned from a <code>Future</code> or
+     * stored in a <code>ConcurrentHashMap</code>) it can be read by multiple threads without locking (e.g. to report
+     * text and JSON in parallel, or to serve a cached log to many requests). Setters, analysis changes, and adding
+     * events to the event lists or summaries throw <code>UnsupportedOperationException</code>.
+     * </p>
+     * 
+     * <p>
+     * The exception is {@link #getJvmOptions()}: <code>JvmOptions</code> is owned by the JVM options analysis library
+     * and cannot be frozen, so it must be treated as read-only once the fatal error log is frozen.
+     * </p>
+     * 
+     * @return This fatal error log.
+     */
+    public synchronized FatalErrorLog freeze() {
+        if (!frozen) {
+            getAddressSpace();
+            getClassChurn();
+            getCodeCacheSummary();
+            getCompilationStatistics();
+            getGlobalFlagIndex();
+            getInternalExceptionStatistics();
+            getJarInventory();
+            getMemoryLedger();
+            parseNativeMemoryTracking();
+            getThreadInventory();
+            getTimeline();
+            getVmOperationStatistics();
+            heapRegionsSummary.freeze();
+            zgcPageTableSummary.freeze();
+            analysis = Collections.unmodifiableList(analysis);
+            classesLoadedEvents = Collections.unmodifiableList(classesLoadedEvents);
+            classesRedefinedEvents = Collections.unmodifiableList(classesRedefinedEvents);
+            classesUnloadedEvents = Collections.unmodifiableList(classesUnloadedEvents);
+            codeCaches = Collections.unmodifiableList(codeCaches);
+            compilationEvents = Collections.unmodifiableList(compilationEvents);
+            containerInfos = Collections.unmodifiableList(containerInfos);
+            cpuInfos = Collections.unmodifiableList(cpuInfos);
+            currentCompileTasks = Collections.unmodifiableList(currentCompileTasks);
+            deoptimizationEvents = Collections.unmodifiableList(deoptimizationEvents);
+            dllOperationEvents = Collections.unmodifiableList(dllOperationEvents);
+            dynamicLibraries = Collections.unmodifiableList(dynamicLibraries);
+            environmentVariables = Collections.unmodifiableList(environmentVariables);
+            events = Collections.unmodifiableList(events);
+            exceptionCounts = Collections.unmodifiableList(exceptionCounts);
+            garbageCollections = Collections.unmodifiableList(garbageCollections);
+            gcHeapHistoryEvents = Collections.unmodifiableList(gcHeapHistoryEvents);
+            gcPreciousLogs = Collections.unmodifiableList(gcPreciousLogs);
+            globalFlags = Collections.unmodifiableList(globalFlags);
+            headers = Collections.unmodifiableList(headers);
+            heaps = Collections.unmodifiableList(heaps);
+            internalExceptionEvents = Collections.unmodifiableList(internalExceptionEvents);
+            internalStatistics = Collections.unmodifiableList(internalStatistics);
+            ldPreloadFiles = Collections.unmodifiableList(ldPreloadFiles);
+            maxMapCounts = Collections.unmodifiableList(maxMapCounts);
+            meminfos = Collections.unmodifiableList(meminfos);
+            memories = Collections.unmodifiableList(memories);
+            nativeLibraries = Collections.unmodifiableList(nativeLibraries);
+            nativeLibrariesUnknown = Collections.unmodifiableList(nativeLibrariesUnknown);
+            nativeMemoryTrackings = Collections.unmodifiableList(nativeMemoryTrackings);
+            osInfos = Collections.unmodifiableList(osInfos);
+            pidMaxes = Collections.unmodifiableList(pidMaxes);
+            processMemories = Collections.unmodifiableList(processMemories);
+            registerToMemoryMappings = Collections.unmodifiableList(registerToMemoryMappings);
+            registers = Collections.unmodifiableList(registers);
+            releaseFiles = Collections.unmodifiableList(releaseFiles);
+            stackSlotToMemoryMappings = Collections.unmodifiableList(stackSlotToMemoryMappings);
+            stacks = Collections.unmodifiableList(stacks);
+            threads = Collections.unmodifiableList(threads);
+            threadsMaxes = Collections.unmodifiableList(threadsMaxes);
+            timeouts = Collections.unmodifiableList(timeouts);
+            transparentHugepageDefrags = Collections.unmodifiableList(transparentHugepageDefrags);
+            transparentHugepageEnableds = Collections.unmodifiableList(transparentHugepageEnableds);
+            transparentHugepageHpagePmdSizes = Collections.unmodifiableList(transparentHugepageHpagePmdSizes);
+            unidentifiedLogLines = Collections.unmodifiableList(unidentifiedLogLines);
+            virtualizationInfos = Collections.unmodifiableList(virtualizationInfos);
+            vmArguments = Collections.unmodifiableList(vmArguments);
+            vmOperationEvents = Collections.unmodifiableList(vmOperationEvents);
+            zgcPhaseSwitchEvents = Collections.unmodifiableList(zgcPhaseSwitchEvents);
+            frozen = true;
+        }
+        return this;
+    }
+
     /**
      * @return The active processor count.
      */
@@ -1938,6 +2203,72 @@ public class FatalErrorLog {
         return activeProcessorCount;
     }
 
+    /**
+     * @return The address-to-region index of the JVM process, built on first use from the heap, current thread stack,
+     *         code cache, polling page, and file backed memory mappings.
+     */
+    public AddressSpace getAddressSpace() {
+        if (frozen) {
+            return addressSpace;
+        }
+        synchronized (this) {
+            if (addressSpace == null) {
+                AddressSpace space = new AddressSpace();
+                if (heapAddress != null && heapAddress.getStartingAddress() >= 0 && heapAddress.getSize() > 0) {
+                    space.addRegion(RegionType.HEAP, null, heapAddress.getStartingAddress(),
+                            heapAddress.getStartingAddress() + heapAddress.getSize());
+                }
+                Iterator<Stack> iteratorStacks = stacks.iterator();
+                while (iteratorStacks.hasNext()) {
+                    Stack event = iteratorStacks.next();
+                    if (event.isHeader()) {
+                        space.addRegion(RegionType.STACK, "(current thread)", event.getStartAddress(),
+                                event.getEndAddress());
+                        break;
+                    }
+                }
+                String codeHeapName = null;
+                Iterator<CodeCache> iteratorCodeCaches = codeCaches.iterator();
+                while (iteratorCodeCaches.hasNext()) {
+                    CodeCache event = iteratorCodeCaches.next();
+                    if (event.getCodeHeapName() != null) {
+                        codeHeapName = "'" + event.getCodeHeapName() + "'";
+                    } else if (event.getBoundsStartAddress() >= 0) {
+                        space.addRegion(RegionType.CODE_CACHE, codeHeapName, event.getBoundsStartAddress(),
+                                event.getBoundsEndAddress());
+                    }
+                }
+                if (pollingPage != null) {
+                    // The polling page is a single page; assume the smallest (4K) page size.
+                    space.addRegion(RegionType.POLLING_PAGE, null, pollingPage.getAddress(),
+                            pollingPage.getAddress() + 4096);
+                }
+                Iterator<DynamicLibrary> iteratorDynamicLibraries = dynamicLibraries.iterator();
+                while (iteratorDynamicLibraries.hasNext()) {
+                    DynamicLibrary event = iteratorDynamicLibraries.next();
+                    if (event.getFilePath() != null) {
+                        space.addMapping(event.getFilePath(), event.getStartAddress(), event.getEndAddress());
+                    }
+                }
+                addressSpace = space;
+            }
+            return addressSpace;
+        }
+    }
+
+    /**
+     * @param address
+     *            A hexadecimal address (e.g. 0x00007fd57e24ad0d).
+     * @return The region containing the address, or null if the address is not in a known region.
+     */
+    public Region getAddressRegion(String address) {
+        Region region = null;
+        if (address != null) {
+            region = getAddressSpace().getRegion(JdkMath.convertHexToDecimal(address));
+        }
+        return region;
+    }
+
     /**
      * @return Analysis as a <code>List</code> of String arrays with 2 elements, the first the key, the second the
      *         display literal.
@@ -2216,6 +2547,134 @@ public class FatalErrorLog {
                 }
                 s.append(".");
                 a.add(new String[] { item.getKey(), s.toString() });
+            } else if (item.getKey().equals(Analysis.WARN_CLASS_GENERATION.toString())) {
+                StringBuffer s = new StringBuffer(item.getValue());
+                ClassChurn classChurn = getClassChurn();
+                s.append(classChurn.getGenerated());
+                s.append(" of ");
+                s.append(classChurn.getLoaded());
+                s.append(" class loads (");
+                s.append(classChurn.getGeneratedPercent());
+                s.append("%), net growth ");
+                s.append(classChurn.getNetGrowth());
+                s.append(". Top generated: ");
+                Iterator<Entry<String, Integer>> iterator = classChurn.getGeneratedPrefixes().entrySet().iterator();
+                int prefixes = 0;
+                while (iterator.hasNext() && prefixes < 3) {
+                    Entry<String, Integer> entry = iterator.next();
+                    if (prefixes > 0) {
+                        s.append(", ");
+                    }
+                    s.append(entry.getKey());
+                    s.append(" (");
+                    s.append(entry.getValue());
+                    s.append(")");
+                    prefixes++;
+                }
+                if (getJvmMemoryMetaspaceUsed() > 0) {
+                    s.append(". Metaspace used: ");
+                    s.append(
+                            JdkUtil.convertSize(getJvmMemoryMetaspaceUsed(), 'B', org.github.joa.util.Constants.UNITS));
+                    s.append(Character.toString(org.github.joa.util.Constants.UNITS));
+                    if (getJvmMemoryMetaspaceReserved() > 0) {
+                        s.append(" (");
+                        s.append(JdkMath.calcPercent(getJvmMemoryMetaspaceUsed(), getJvmMemoryMetaspaceReserved()));
+                        s.append("% of reserved)");
+                    }
+                }
+                s.append(".");
+                a.add(new String[] { item.getKey(), s.toString() });
+            } else if (item.getKey().equals(Analysis.WARN_CGROUP_MEMORY_SATURATED.toString())) {
+                StringBuffer s = new StringBuffer(item.getValue());
+                MemoryLedger memoryLedger = getMemoryLedger();
+                s.append("usage ");
+                s.append(JdkUtil.convertSize(memoryLedger.getCgroupMemoryUsage(), 'B',
+                        org.github.joa.util.Constants.UNITS));
+                s.append(Character.toString(org.github.joa.util.Constants.UNITS));
+                s.append(" (");
+                s.append(memoryLedger.getCgroupMemoryUsagePercent());
+                s.append("%) of limit ");
+                s.append(JdkUtil.convertSize(memoryLedger.getCgroupMemoryLimit(), 'B',
+                        org.github.joa.util.Constants.UNITS));
+                s.append(Character.toString(org.github.joa.util.Constants.UNITS));
+                if (memoryLedger.getCgroupMemoryMaxUsage() >= 0) {
+                    s.append(", max usage ");
+                    s.append(JdkUtil.convertSize(memoryLedger.getCgroupMemoryMaxUsage(), 'B',
+                            org.github.joa.util.Constants.UNITS));
+                    s.append(Character.toString(org.github.joa.util.Constants.UNITS));
+                }
+                s.append(".");
+                a.add(new String[] { item.getKey(), s.toString() });
+            } else if (item.getKey().equals(Analysis.WARN_CODE_CACHE_FULL.toString())
+                    || item.getKey().equals(Analysis.WARN_CODE_CACHE_SATURATED.toString())) {
+                StringBuffer s = new StringBuffer(item.getValue());
+                CodeCacheSummary codeCacheSummary = getCodeCacheSummary();
+                boolean punctuate = false;
+                if (codeCacheSummary.getCompilation() != null) {
+                    s.append("compilation ");
+                    s.append(codeCacheSummary.getCompilation());
+                    punctuate = true;
+                }
+                if (codeCacheSummary.getFullCount() > 0) {
+                    if (punctuate) {
+                        s.append(", ");
+                    }
+                    s.append("full_count=");
+                    s.append(codeCacheSummary.getFullCount());
+                    punctuate = true;
+                }
+                List<CodeHeap> codeHeaps = codeCacheSummary.getHeaps().isEmpty()
+                        && codeCacheSummary.getTotal() != null
+                                ? Collections.singletonList(codeCacheSummary.getTotal())
+                                : codeCacheSummary.getHeaps();
+                for (CodeHeap codeHeap : codeHeaps) {
+                    if (punctuate) {
+                        s.append(", ");
+                    }
+                    s.append(codeHeap.getName() == null ? "CodeCache" : "'" + codeHeap.getName() + "'");
+                    s.append(" max_used ");
+                    s.append(codeHeap.getHighWaterPercent());
+                    s.append("% of ");
+                    s.append(JdkUtil.convertSize(codeHeap.getSize(), 'B', org.github.joa.util.Constants.UNITS));
+                    s.append(Character.toString(org.github.joa.util.Constants.UNITS));
+                    punctuate = true;
+                }
+                if (codeCacheSummary.getReservedCodeCacheSize() > 0) {
+                    s.append(". ReservedCodeCacheSize=");
+                    s.append(JdkUtil.convertSize(codeCacheSummary.getReservedCodeCacheSize(), 'B',
+                            org.github.joa.util.Constants.UNITS));
+                    s.append(Character.toString(org.github.joa.util.Constants.UNITS));
+                }
+                s.append(".");
+                a.add(new String[] { item.getKey(), s.toString() });
+            } else if (item.getKey().equals(Analysis.WARN_JAR_VERSION_CONFLICT.toString())) {
+                StringBuffer s = new StringBuffer(item.getValue());
+                Iterator<Entry<String, List<String>>> iterator = getJarInventory().getConflicts().entrySet()
+                        .iterator();
+                while (iterator.hasNext()) {
+                    Entry<String, List<String>> entry = iterator.next();
+                    s.append(entry.getKey());
+                    s.append(" ");
+                    s.append(entry.getValue());
+                    if (iterator.hasNext()) {
+                        s.append(", ");
+                    }
+                }
+                s.append(".");
+                a.add(new String[] { item.getKey(), s.toString() });
+            } else if (item.getKey().equals(Analysis.WARN_COMPILATION_THRASH.toString())) {
+                StringBuffer s = new StringBuffer(item.getValue());
+                Iterator<String> iterator = getCompilationStatistics().getThrashMethods().iterator();
+                boolean punctuate = false;
+                while (iterator.hasNext()) {
+                    if (punctuate) {
+                        s.append(", ");
+                    }
+                    s.append(iterator.next());
+                    punctuate = true;
+                }
+                s.append(".");
+                a.add(new String[] { item.getKey(), s.toString() });
             } else if (item.getKey().equals(Analysis.WARN_EXPERIMENTAL_ERGONOMIC.toString())) {
                 StringBuffer s = new StringBuffer(item.getValue());
                 Iterator<GlobalFlag> iterator = getGlobalFlagsExperimentalErgonomic().iterator();
@@ -2569,6 +3028,32 @@ public class FatalErrorLog {
         return cgroupVersion;
     }
 
+    /**
+     * @return The class loading, unloading, and redefinition churn: rates, net growth, and top class name prefixes.
+     */
+    public ClassChurn getClassChurn() {
+        if (frozen) {
+            return classChurn;
+        }
+        synchronized (this) {
+            int size = classesLoadedEvents.size() + classesUnloadedEvents.size() + classesRedefinedEvents.size()
+                    + events.size();
+            if (classChurn == null || classChurnEvents != size) {
+                classChurn = new ClassChurn(classesLoadedEvents, classesUnloadedEvents, classesRedefinedEvents, events);
+                classChurnEvents = size;
+            }
+            return classChurn;
+        }
+    }
+
+    public List<ClassesLoadedEvent> getClassesLoadedEvents() {
+        return classesLoadedEvents;
+    }
+
+    public List<ClassesRedefinedEvent> getClassesRedefinedEvents() {
+        return classesRedefinedEvents;
+    }
+
     public List<ClassesUnloadedEvent> getClassesUnloadedEvents() {
         return classesUnloadedEvents;
     }
@@ -2581,10 +3066,50 @@ public class FatalErrorLog {
         return commandLine;
     }
 
+    public List<CodeCache> getCodeCaches() {
+        return codeCaches;
+    }
+
+    /**
+     * @return The code cache utilization: per code heap size, used, and high-water mark, blob counts, and compilation
+     *         status, cross-checked against <code>ReservedCodeCacheSize</code> and the code heap size flags.
+     */
+    public CodeCacheSummary getCodeCacheSummary() {
+        if (frozen) {
+            return codeCacheSummary;
+        }
+        synchronized (this) {
+            int size = codeCaches.size() + globalFlags.size();
+            if (codeCacheSummary == null || codeCacheSummaryEvents != size) {
+                codeCacheSummary = new CodeCacheSummary(codeCaches, globalFlags);
+                codeCacheSummaryEvents = size;
+            }
+            return codeCacheSummary;
+        }
+    }
+
     public List<CompilationEvent> getCompilationEvents() {
         return compilationEvents;
     }
 
+    /**
+     * @return The compilation and deoptimization statistics: rates, uncommon trap reasons, top methods, and methods
+     *         in a deoptimization loop or recompilation thrash.
+     */
+    public CompilationStatistics getCompilationStatistics() {
+        if (frozen) {
+            return compilationStatistics;
+        }
+        synchronized (this) {
+            int size = compilationEvents.size() + deoptimizationEvents.size();
+            if (compilationStatistics == null || compilationStatisticsEvents != size) {
+                compilationStatistics = new CompilationStatistics(compilationEvents, deoptimizationEvents);
+                compilationStatisticsEvents = size;
+            }
+            return compilationStatistics;
+        }
+    }
+
     /**
      * @return The max compressed class size reserved in bytes.
      */
@@ -3006,12 +3531,52 @@ public class FatalErrorLog {
     }
 
     /**
-     * @param releaseString
-     *            The JDK release string (e.g. 17.0.4.1+1-LTS).
-     * @return The first JDK release that matches a Red Hat build string, or null if none found. Used to get a an
-     *         approximate release (e.g. to determine approximate JDK age).
-     */
-    public Release getFirstJdkRelease(String releaseString) {
+     * A crash fingerprint to group fatal error logs with the same crash: the signal (or error type) and the top 3
+     * stack frames without addresses, offsets, and parameters. For example:
+     * 
+     * <pre>
+     * SIGSEGV: V libjvm:G1ParScanThreadState::copy_to_survivor_space &lt; V libjvm:G1ParScanThreadState::trim_queue
+     * </pre>
+     * 
+     * @return The crash fingerprint.
+     */
+    public String getFingerprint() {
+        final int frames = 3;
+        StringBuilder fingerprint = new StringBuilder();
+        SignalNumber signalNumber = getSignalNumber();
+        if (signalNumber != SignalNumber.UNKNOWN) {
+            fingerprint.append(signalNumber.toString());
+        } else {
+            String error = "UNKNOWN";
+            Iterator<Header> iterator = headers.iterator();
+            while (iterator.hasNext()) {
+                Header he = iterator.next();
+                if (he.isInternalError()) {
+                    error = "INTERNAL_ERROR";
+                    break;
+                } else if (he.isInsufficient() || he.isOutOf()) {
+                    error = "OUT_OF_MEMORY";
+                    break;
+                }
+            }
+            fingerprint.append(error);
+        }
+        List<String> stackFrames = CrashSignatureIndex.getFrames(this);
+        for (int i = 0; i < stackFrames.size() && i < frames; i++) {
+            List<String> keys = CrashSignatureIndex.getKeys(stackFrames.get(i));
+            fingerprint.append(i == 0 ? ": " : " < ");
+            fingerprint.append(keys.isEmpty() ? stackFrames.get(i).substring(0, 1) + " ?" : keys.get(0));
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * @param releaseString
+     *            The JDK release string (e.g. 17.0.4.1+1-LTS).
+     * @return The first JDK release that matches a Red Hat build string, or null if none found. Used to get a an
+     *         approximate release (e.g. to determine approximate JDK age).
+     */
+    public Release getFirstJdkRelease(String releaseString) {
         Release firstRelease = null;
         if (firstRelease == null) {
             firstRelease = JdkUtil.getFirstReleaseFromReleases(releaseString, Jdk8.RHEL6_X86_64_RPMS);
@@ -3093,7 +3658,7 @@ public class FatalErrorLog {
      * 
      * @return maximum pause duration (milliseconds).
      */
-    public synchronized long getGarbageCollectionDurationMax() {
+    public long getGarbageCollectionDurationMax() {
         return longs(this.garbageCollections, GarbageCollection::getDuration).mapToLong(Long::valueOf).max().orElse(0);
     }
 
@@ -3102,7 +3667,7 @@ public class FatalErrorLog {
      * 
      * @return total pause duration (milliseconds).
      */
-    public synchronized long getGarbageCollectionDurationTotal() {
+    public long getGarbageCollectionDurationTotal() {
         return longs(this.garbageCollections, GarbageCollection::getDuration).collect(summingLong(Long::valueOf));
     }
 
@@ -3238,18 +3803,24 @@ public class FatalErrorLog {
      * @return The <code>GlobalFlag</code> if it exists, null otherwise.
      */
     public GlobalFlag getGlobalFlag(String flag) {
-        GlobalFlag globalFlag = null;
-        if (!globalFlags.isEmpty()) {
-            Iterator<GlobalFlag> iterator = globalFlags.iterator();
-            while (iterator.hasNext()) {
-                GlobalFlag event = iterator.next();
-                if (!event.isHeader() && event.getFlag().matches(flag)) {
-                    globalFlag = event;
-                    break;
-                }
+        return getGlobalFlagIndex().getFlag(flag);
+    }
+
+    /**
+     * @return The global flags indexed by flag name, with typed values and origin, for comparison to the requested
+     *         JVM options.
+     */
+    public GlobalFlagIndex getGlobalFlagIndex() {
+        if (frozen) {
+            return globalFlagIndex;
+        }
+        synchronized (this) {
+            if (globalFlagIndex == null || globalFlagIndexEvents != globalFlags.size()) {
+                globalFlagIndex = new GlobalFlagIndex(globalFlags);
+                globalFlagIndexEvents = globalFlags.size();
             }
+            return globalFlagIndex;
         }
-        return globalFlag;
     }
 
     public List<GlobalFlag> getGlobalFlags() {
@@ -3301,6 +3872,10 @@ public class FatalErrorLog {
         return heapAddress;
     }
 
+    public HeapRegionsSummary getHeapRegionsSummary() {
+        return heapRegionsSummary;
+    }
+
     /**
      * @return The heap initial size in bytes, or Long.MIN_VALUE if undetermined.
      */
@@ -3437,27 +4012,48 @@ public class FatalErrorLog {
         return internalExceptionEvents;
     }
 
+    /**
+     * @return The internal exception heavy hitter summary: exceptions grouped by class and throw location.
+     */
+    public InternalExceptionStatistics getInternalExceptionStatistics() {
+        if (frozen) {
+            return internalExceptionStatistics;
+        }
+        synchronized (this) {
+            if (internalExceptionStatistics == null
+                    || internalExceptionStatisticsEvents != internalExceptionEvents.size()) {
+                internalExceptionStatistics = new InternalExceptionStatistics(internalExceptionEvents);
+                internalExceptionStatisticsEvents = internalExceptionEvents.size();
+            }
+            return internalExceptionStatistics;
+        }
+    }
+
     public List<InternalStatistic> getInternalStatistics() {
         return internalStatistics;
     }
 
     /**
-     * @return Jar list (unique entries).
+     * @return The mapped jars indexed by artifact, built once from the dynamic libraries.
      */
-    public List<String> getJars() {
-        List<String> jars = new ArrayList<String>();
-        if (!dynamicLibraries.isEmpty()) {
-            Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
-            while (iterator.hasNext()) {
-                DynamicLibrary event = iterator.next();
-                if (event.isJar()) {
-                    if (!jars.contains(event.getFilePath())) {
-                        jars.add(event.getFilePath());
-                    }
-                }
+    public JarInventory getJarInventory() {
+        if (frozen) {
+            return jarInventory;
+        }
+        synchronized (this) {
+            if (jarInventory == null || jarInventoryEvents != dynamicLibraries.size()) {
+                jarInventory = new JarInventory(dynamicLibraries);
+                jarInventoryEvents = dynamicLibraries.size();
             }
+            return jarInventory;
         }
-        return jars;
+    }
+
+    /**
+     * @return Jar list (unique entries).
+     */
+    public List<String> getJars() {
+        return getJarInventory().getPaths();
     }
 
     /**
@@ -3581,10 +4177,11 @@ public class FatalErrorLog {
     public int getJavaThreadCount(String regex) {
         int threadCount = 0;
         if (!threads.isEmpty()) {
+            Pattern pattern = Pattern.compile(regex);
             Iterator<Thread> iterator = threads.iterator();
             while (iterator.hasNext()) {
                 Thread event = iterator.next();
-                if (event.getLogEntry().matches("^.*" + regex + ".*$")) {
+                if (pattern.matcher(event.getLogEntry()).find()) {
                     threadCount++;
                 }
             }
@@ -4090,79 +4687,7 @@ public class FatalErrorLog {
      * @return The total heap committed in bytes, or Long.MIN_VALUE if it cannot be determined.
      */
     public long getJvmMemoryHeapCommitted() {
-        long jvmMemoryHeapCommitted = Long.MIN_VALUE;
-        if (!heaps.isEmpty()) {
-            jvmMemoryHeapCommitted = 0;
-            Iterator<Heap> iterator = heaps.iterator();
-            char fromUnits;
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                Heap event = iterator.next();
-                if (event.isYoungGen()) {
-                    pattern = Pattern.compile(JdkRegEx.YOUNG_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(3));
-                        if (matcher.group(5) != null) {
-                            fromUnits = matcher.group(5).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryHeapCommitted += JdkUtil.convertSize(value, fromUnits, 'B');
-                    }
-                } else if (event.isOldGen()) {
-                    pattern = Pattern.compile(JdkRegEx.OLD_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(2));
-                        if (matcher.group(4) != null) {
-                            fromUnits = matcher.group(4).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryHeapCommitted += JdkUtil.convertSize(value, fromUnits, 'B');
-                    }
-                } else if (event.isShenandoah()) {
-                    pattern = Pattern.compile(JdkRegEx.SHENANDOAH_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(9));
-                        if (matcher.group(11) != null) {
-                            fromUnits = matcher.group(11).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryHeapCommitted += JdkUtil.convertSize(value, fromUnits, 'B');
-                    }
-                } else if (event.isG1()) {
-                    pattern = Pattern.compile(JdkRegEx.G1_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(5));
-                        if (matcher.group(7) != null) {
-                            fromUnits = matcher.group(7).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryHeapCommitted += JdkUtil.convertSize(value, fromUnits, 'B');
-                    }
-                } else if (event.isZ()) {
-                    pattern = Pattern.compile(JdkRegEx.Z_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(4));
-                        if (matcher.group(6) != null) {
-                            fromUnits = matcher.group(6).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryHeapCommitted += JdkUtil.convertSize(value, fromUnits, 'B');
-                    }
-                }
-            }
-        }
+        long jvmMemoryHeapCommitted = getMemoryLedger().getHeapCommitted();
         if (jvmMemoryHeapCommitted < 0) {
             jvmMemoryHeapCommitted = getJvmMemoryHeapUsed();
         }
@@ -4188,131 +4713,14 @@ public class FatalErrorLog {
      * @return The total heap used in bytes, or Long.MIN_VALUE if it cannot be determined.
      */
     public long getJvmMemoryHeapUsed() {
-        long jvmMemoryHeapUsed = Long.MIN_VALUE;
-        if (!heaps.isEmpty()) {
-            Iterator<Heap> iterator = heaps.iterator();
-            char fromUnits;
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                Heap event = iterator.next();
-                if (event.isYoungGen()) {
-                    pattern = Pattern.compile(JdkRegEx.YOUNG_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(6));
-                        if (matcher.group(8) != null) {
-                            fromUnits = matcher.group(8).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        if (jvmMemoryHeapUsed == Long.MIN_VALUE) {
-                            jvmMemoryHeapUsed = JdkUtil.convertSize(value, fromUnits, 'B');
-                        } else {
-                            jvmMemoryHeapUsed += JdkUtil.convertSize(value, fromUnits, 'B');
-                        }
-                    }
-                } else if (event.isOldGen()) {
-                    pattern = Pattern.compile(JdkRegEx.OLD_GEN_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(5));
-                        if (matcher.group(7) != null) {
-                            fromUnits = matcher.group(7).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        if (jvmMemoryHeapUsed == Long.MIN_VALUE) {
-                            jvmMemoryHeapUsed = JdkUtil.convertSize(value, fromUnits, 'B');
-                        } else {
-                            jvmMemoryHeapUsed += JdkUtil.convertSize(value, fromUnits, 'B');
-                        }
-                    }
-                } else if (event.isShenandoah()) {
-                    pattern = Pattern.compile(JdkRegEx.SHENANDOAH_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(12));
-                        if (matcher.group(14) != null) {
-                            fromUnits = matcher.group(14).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        if (jvmMemoryHeapUsed == Long.MIN_VALUE) {
-                            jvmMemoryHeapUsed = JdkUtil.convertSize(value, fromUnits, 'B');
-                        } else {
-                            jvmMemoryHeapUsed += JdkUtil.convertSize(value, fromUnits, 'B');
-                        }
-                    }
-                } else if (event.isG1()) {
-                    pattern = Pattern.compile(JdkRegEx.G1);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(9));
-                        if (matcher.group(11) != null) {
-                            fromUnits = matcher.group(11).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        if (jvmMemoryHeapUsed == Long.MIN_VALUE) {
-                            jvmMemoryHeapUsed = JdkUtil.convertSize(value, fromUnits, 'B');
-                        } else {
-                            jvmMemoryHeapUsed += JdkUtil.convertSize(value, fromUnits, 'B');
-                        }
-                    }
-                } else if (event.isZ()) {
-                    pattern = Pattern.compile(JdkRegEx.Z);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(1));
-                        if (matcher.group(3) != null) {
-                            fromUnits = matcher.group(3).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        if (jvmMemoryHeapUsed == Long.MIN_VALUE) {
-                            jvmMemoryHeapUsed = JdkUtil.convertSize(value, fromUnits, 'B');
-                        } else {
-                            jvmMemoryHeapUsed += JdkUtil.convertSize(value, fromUnits, 'B');
-                        }
-                    }
-                }
-            }
-        }
-        return jvmMemoryHeapUsed;
+        return getMemoryLedger().getHeapUsed();
     }
 
     /**
      * @return The total metaspace committed (allocated) in bytes, or Long.MIN_VALUE if it cannot be determined.
      */
     public long getJvmMemoryMetaspaceCommitted() {
-        long jvmMemoryMetaspaceCommitted = Long.MIN_VALUE;
-        if (!heaps.isEmpty()) {
-            Iterator<Heap> iterator = heaps.iterator();
-            char fromUnits;
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                Heap event = iterator.next();
-                if (event.isMetaspace()) {
-                    pattern = Pattern.compile(JdkRegEx.METASPACE_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(8));
-                        if (matcher.group(10) != null) {
-                            fromUnits = matcher.group(10).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryMetaspaceCommitted = JdkUtil.convertSize(value, fromUnits, 'B');
-                        break;
-                    }
-                }
-            }
-        }
-        return jvmMemoryMetaspaceCommitted;
+        return getMemoryLedger().getMetaspaceCommitted();
     }
 
     /**
@@ -4340,32 +4748,7 @@ public class FatalErrorLog {
         }
         // If max metaspace size not set (recommended), get from <code>HeapEvent</code> "reserved".
         if (jvmMemoryMetaspaceReserved == Long.MIN_VALUE) {
-            if (!heaps.isEmpty()) {
-                Iterator<Heap> iterator = heaps.iterator();
-                char fromUnits;
-                long value;
-                Pattern pattern = null;
-                Matcher matcher = null;
-                while (iterator.hasNext()) {
-                    Heap event = iterator.next();
-                    if (event.isMetaspace()) {
-                        pattern = Pattern.compile(JdkRegEx.METASPACE_SIZE);
-                        matcher = pattern.matcher(event.getLogEntry());
-                        if (matcher.find()) {
-                            int committedBlock = 11;
-                            int committedIndex = 13;
-                            value = Long.parseLong(matcher.group(committedBlock));
-                            if (matcher.group(committedIndex) != null) {
-                                fromUnits = matcher.group(committedIndex).charAt(0);
-                            } else {
-                                fromUnits = 'B';
-                            }
-                            jvmMemoryMetaspaceReserved = JdkUtil.convertSize(value, fromUnits, 'B');
-                            break;
-                        }
-                    }
-                }
-            }
+            jvmMemoryMetaspaceReserved = getMemoryLedger().getMetaspaceReserved();
         }
         return jvmMemoryMetaspaceReserved;
     }
@@ -4374,84 +4757,21 @@ public class FatalErrorLog {
      * @return The total metaspace used in bytes, or Long.MIN_VALUE if it cannot be determined.
      */
     public long getJvmMemoryMetaspaceUsed() {
-        long jvmMemoryMetaspaceUsed = Long.MIN_VALUE;
-        if (!heaps.isEmpty()) {
-            Iterator<Heap> iterator = heaps.iterator();
-            char fromUnits;
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                Heap event = iterator.next();
-                if (event.isMetaspace()) {
-                    pattern = Pattern.compile(JdkRegEx.METASPACE_SIZE);
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(1));
-                        if (matcher.group(3) != null) {
-                            fromUnits = matcher.group(3).charAt(0);
-                        } else {
-                            fromUnits = 'B';
-                        }
-                        jvmMemoryMetaspaceUsed = JdkUtil.convertSize(value, fromUnits, 'B');
-                        break;
-                    }
-                }
-            }
-        }
-        return jvmMemoryMetaspaceUsed;
+        return getMemoryLedger().getMetaspaceUsed();
     }
 
     /**
      * @return The JVM process RSS, or Long.MIN_VALUE if it cannot be determined.
      */
     private long getJvmMemoryRss() {
-        long jvmMemoryRss = Long.MIN_VALUE;
-        if (!processMemories.isEmpty()) {
-            Iterator<ProcessMemory> iterator = processMemories.iterator();
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                ProcessMemory event = iterator.next();
-                if (event.isRss()) {
-                    pattern = Pattern.compile("^Resident Set Size: (\\d{1,})K .+$");
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(1));
-                        jvmMemoryRss = JdkUtil.convertSize(value, 'K', 'B');
-                        break;
-                    }
-                }
-            }
-        }
-        return jvmMemoryRss;
+        return getMemoryLedger().getRss();
     }
 
     /**
      * @return The JVM process memory swapped out in bytes, or Long.MIN_VALUE if it cannot be determined.
      */
     public long getJvmMemorySwappedOut() {
-        long jvmMemorySwappedOut = Long.MIN_VALUE;
-        if (!processMemories.isEmpty()) {
-            Iterator<ProcessMemory> iterator = processMemories.iterator();
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                ProcessMemory event = iterator.next();
-                if (event.isSwapped()) {
-                    pattern = Pattern.compile("^Swapped out: (\\d{1,})K$");
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(1));
-                        jvmMemorySwappedOut = JdkUtil.convertSize(value, 'K', 'B');
-                        break;
-                    }
-                }
-            }
-        }
-        return jvmMemorySwappedOut;
+        return getMemoryLedger().getSwappedOut();
     }
 
     /**
@@ -4578,28 +4898,13 @@ public class FatalErrorLog {
      * @return The JVM process virtual memory, or Long.MIN_VALUE if it cannot be determined.
      */
     private long getJvmMemoryVirtual() {
-        long jvmMemoryVirtual = Long.MIN_VALUE;
-        if (!processMemories.isEmpty()) {
-            Iterator<ProcessMemory> iterator = processMemories.iterator();
-            long value;
-            Pattern pattern = null;
-            Matcher matcher = null;
-            while (iterator.hasNext()) {
-                ProcessMemory event = iterator.next();
-                if (event.isVirtual()) {
-                    pattern = Pattern.compile("^Virtual Size: (\\d{1,})K .+$");
-                    matcher = pattern.matcher(event.getLogEntry());
-                    if (matcher.find()) {
-                        value = Long.parseLong(matcher.group(1));
-                        jvmMemoryVirtual = JdkUtil.convertSize(value, 'K', 'B');
-                        break;
-                    }
-                }
-            }
-        }
-        return jvmMemoryVirtual;
+        return getMemoryLedger().getVirtual();
     }
 
+    /**
+     * @return The JVM options. Not frozen by {@link #freeze()}, so treat it as read-only once the fatal error log is
+     *         frozen.
+     */
     public JvmOptions getJvmOptions() {
         return jvmOptions;
     }
@@ -4684,22 +4989,31 @@ public class FatalErrorLog {
         return memories;
     }
 
+    /**
+     * @return The JVM, OS, and container memory observed in the log, collected in a single pass.
+     */
+    public MemoryLedger getMemoryLedger() {
+        if (frozen) {
+            return memoryLedger;
+        }
+        synchronized (this) {
+            int size = heaps.size() + meminfos.size() + gcPreciousLogs.size() + processMemories.size()
+                    + containerInfos.size() + memories.size();
+            if (memoryLedger == null || memoryLedgerEvents != size) {
+                memoryLedger = new MemoryLedger(heaps, meminfos, gcPreciousLogs, processMemories, containerInfos,
+                        memories);
+                memoryLedgerEvents = size;
+            }
+            return memoryLedger;
+        }
+    }
+
     /**
      * @return Estimated memory available for allocations without causing swapping in bytes, or Long.MIN_VALUE if
      *         undetermined.
      */
     public long getMemoryFree() {
-        long memoryFree = Long.MIN_VALUE;
-        if (!memories.isEmpty()) {
-            Iterator<Memory> iterator = memories.iterator();
-            while (iterator.hasNext()) {
-                Memory event = iterator.next();
-                if (event.isHeader()) {
-                    memoryFree = event.getPhysicalFree();
-                    break;
-                }
-            }
-        }
+        long memoryFree = getMemoryLedger().getPhysicalFree();
         if (memoryFree < 0) {
             memoryFree = getOsMemoryFree();
         }
@@ -4710,17 +5024,7 @@ public class FatalErrorLog {
      * @return The total available physical memory in bytes.
      */
     public long getMemoryTotal() {
-        long memoryTotal = Long.MIN_VALUE;
-        if (!memories.isEmpty()) {
-            Iterator<Memory> iterator = memories.iterator();
-            while (iterator.hasNext()) {
-                Memory event = iterator.next();
-                if (event.isHeader()) {
-                    memoryTotal = event.getPhysicalTotal();
-                    break;
-                }
-            }
-        }
+        long memoryTotal = getMemoryLedger().getPhysicalTotal();
         if (memoryTotal < 0) {
             memoryTotal = getOsMemoryTotal();
         }
@@ -4750,75 +5054,50 @@ public class FatalErrorLog {
     }
 
     /**
-     * @return Google native libraries.
+     * @param category
+     *            The native library catalog category.
+     * @return The native libraries in the category.
      */
-    public List<String> getNativeLibrariesGoogle() {
-        List<String> googleNativeLibraries = new ArrayList<String>();
+    private List<String> getNativeLibraries(Category category) {
+        List<String> categoryNativeLibraries = new ArrayList<String>();
         if (!nativeLibraries.isEmpty()) {
             Iterator<String> iterator = nativeLibraries.iterator();
             while (iterator.hasNext()) {
                 String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && KrashUtil.NATIVE_LIBRARIES_GOOGLE.contains(nativeLibrary)) {
-                    googleNativeLibraries.add(nativeLibraryPath);
+                if (KrashUtil.NATIVE_LIBRARY_CATALOG.classify(nativeLibraryPath).getCategories().contains(category)) {
+                    categoryNativeLibraries.add(nativeLibraryPath);
                 }
             }
         }
-        return googleNativeLibraries;
+        return categoryNativeLibraries;
+    }
+
+    /**
+     * @return Google native libraries.
+     */
+    public List<String> getNativeLibrariesGoogle() {
+        return getNativeLibraries(Category.GOOGLE);
     }
 
     /**
      * @return JBoss native libraries.
      */
     public List<String> getNativeLibrariesJBoss() {
-        List<String> jbossNativeLibraries = new ArrayList<String>();
-        if (!nativeLibraries.isEmpty()) {
-            Iterator<String> iterator = nativeLibraries.iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && KrashUtil.NATIVE_LIBRARIES_JBOSS.contains(nativeLibrary)) {
-                    jbossNativeLibraries.add(nativeLibraryPath);
-                }
-            }
-        }
-        return jbossNativeLibraries;
+        return getNativeLibraries(Category.JBOSS);
     }
 
     /**
      * @return Netty native transport library.
      */
     public List<String> getNativeLibrariesNetty() {
-        List<String> nettyNativeLibraries = new ArrayList<String>();
-        if (!nativeLibraries.isEmpty()) {
-            Iterator<String> iterator = nativeLibraries.iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && nativeLibrary.matches(KrashUtil.NATIVE_LIBRARY_NETTY)) {
-                    nettyNativeLibraries.add(nativeLibraryPath);
-                }
-            }
-        }
-        return nettyNativeLibraries;
+        return getNativeLibraries(Category.NETTY);
     }
 
     /**
      * @return Tomcat native libraries.
      */
     public List<String> getNativeLibrariesTomcat() {
-        List<String> tomcatNativeLibraries = new ArrayList<String>();
-        if (!nativeLibraries.isEmpty()) {
-            Iterator<String> iterator = nativeLibraries.iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && KrashUtil.NATIVE_LIBRARIES_TOMCAT.contains(nativeLibrary)) {
-                    tomcatNativeLibraries.add(nativeLibraryPath);
-                }
-            }
-        }
-        return tomcatNativeLibraries;
+        return getNativeLibraries(Category.TOMCAT);
     }
 
     public List<String> getNativeLibrariesUnknown() {
@@ -4829,18 +5108,7 @@ public class FatalErrorLog {
      * @return VMware native libraries.
      */
     public List<String> getNativeLibrariesVmWare() {
-        List<String> vmWareNativeLibraries = new ArrayList<String>();
-        if (!nativeLibraries.isEmpty()) {
-            Iterator<String> iterator = nativeLibraries.iterator();
-            while (iterator.hasNext()) {
-                String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (nativeLibrary != null && KrashUtil.NATIVE_LIBRARIES_VMWARE.contains(nativeLibrary)) {
-                    vmWareNativeLibraries.add(nativeLibraryPath);
-                }
-            }
-        }
-        return vmWareNativeLibraries;
+        return getNativeLibraries(Category.VMWARE);
     }
 
     /**
@@ -4858,22 +5126,40 @@ public class FatalErrorLog {
         return nativeLibraryInCrash;
     }
 
+    /**
+     * Compare Native Memory Tracking with a baseline fatal error log (e.g. an earlier crash of the same service) to
+     * identify which categories are growing.
+     * 
+     * @param baseline
+     *            The baseline fatal error log.
+     * @return The change in each category from the baseline to this fatal error log, sorted by committed memory
+     *         growth (largest first). Categories only in the baseline are included with negative values.
+     */
+    public List<NativeMemoryTrackingSummary> getNativeMemoryTrackingDiff(FatalErrorLog baseline) {
+        Map<String, NativeMemoryTrackingSummary> baselineSummaries = new HashMap<String, NativeMemoryTrackingSummary>();
+        for (NativeMemoryTrackingSummary summary : baseline.getNativeMemoryTrackingSummaries()) {
+            baselineSummaries.put(summary.getCategory(), summary);
+        }
+        List<NativeMemoryTrackingSummary> diff = new ArrayList<NativeMemoryTrackingSummary>();
+        for (NativeMemoryTrackingSummary summary : getNativeMemoryTrackingSummaries()) {
+            diff.add(summary.subtract(baselineSummaries.remove(summary.getCategory())));
+        }
+        for (NativeMemoryTrackingSummary summary : baselineSummaries.values()) {
+            diff.add(new NativeMemoryTrackingSummary(summary.getCategory(), 0, 0).subtract(summary));
+        }
+        Collections.sort(diff, new NativeMemoryTrackingSummaryComparator());
+        return diff;
+    }
+
     public List<NativeMemoryTracking> getNativeMemoryTrackings() {
         return nativeMemoryTrackings;
     }
 
+    /**
+     * @return The Native Memory Tracking categories, sorted by committed memory (largest first).
+     */
     public List<NativeMemoryTrackingSummary> getNativeMemoryTrackingSummaries() {
-        List<NativeMemoryTrackingSummary> nativeMemoryTrackingSummaries = new ArrayList<NativeMemoryTrackingSummary>();
-        Iterator<NativeMemoryTracking> iterator = nativeMemoryTrackings.iterator();
-        while (iterator.hasNext()) {
-            NativeMemoryTracking nmt = iterator.next();
-            if (nmt.isCategory()) {
-                NativeMemoryTrackingSummary summary = new NativeMemoryTrackingSummary(nmt.getCategory(),
-                        nmt.getCommitted());
-                nativeMemoryTrackingSummaries.add(summary);
-            }
-        }
-        Collections.sort(nativeMemoryTrackingSummaries, new NativeMemoryTrackingSummaryComparator());
+        parseNativeMemoryTracking();
         return nativeMemoryTrackingSummaries;
     }
 
@@ -4881,18 +5167,16 @@ public class FatalErrorLog {
      * @return The Native Memory Tracking total committed memory, in kilobytes.
      */
     public int getNativeMemoryTrackingTotalCommitted() {
-        int nativeMemoryTrackingTotalCommitted = Integer.MIN_VALUE;
-        if (!nativeMemoryTrackings.isEmpty()) {
-            Iterator<NativeMemoryTracking> iterator = nativeMemoryTrackings.iterator();
-            while (iterator.hasNext()) {
-                NativeMemoryTracking event = iterator.next();
-                if (event.isTotal()) {
-                    nativeMemoryTrackingTotalCommitted = event.getTotalCommitted();
-                    break;
-                }
-            }
-        }
-        return nativeMemoryTrackingTotalCommitted;
+        parseNativeMemoryTracking();
+        return nativeMemoryTrackingTotal == null ? Integer.MIN_VALUE : nativeMemoryTrackingTotal.getCommitted();
+    }
+
+    /**
+     * @return The Native Memory Tracking total reserved memory, in kilobytes.
+     */
+    public int getNativeMemoryTrackingTotalReserved() {
+        parseNativeMemoryTracking();
+        return nativeMemoryTrackingTotal == null ? Integer.MIN_VALUE : nativeMemoryTrackingTotal.getReserved();
     }
 
     /**
@@ -4958,22 +5242,7 @@ public class FatalErrorLog {
      * @return the memory the process has asked for that cannot be shared with other processes, in bytes.
      */
     private long getOsCommitCharge() {
-        long commitCharge = Long.MIN_VALUE;
-        if (!memories.isEmpty()) {
-            String regexCommitCharge = "current process commit charge \\(\"private bytes\"\\): (\\d{1,})M, peak: "
-                    + "\\d{1,}M";
-            Pattern pattern = Pattern.compile(regexCommitCharge);
-            Iterator<Memory> iterator = memories.iterator();
-            while (iterator.hasNext()) {
-                Memory event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    commitCharge = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
-                    break;
-                }
-            }
-        }
-        return commitCharge;
+        return getMemoryLedger().getCommitCharge();
     }
 
     /**
@@ -4991,24 +5260,7 @@ public class FatalErrorLog {
      * @return The total amount of memory currently available to be allocated by the system, in bytes.
      */
     public long getOsCommitLimit() {
-        long osCommitLimit = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexCommitLimit = "CommitLimit:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexCommitLimit);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    osCommitLimit = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        } else {
-            // get from JVM
-            getJvmCommitLimit();
-        }
-        return osCommitLimit;
+        return getMemoryLedger().getCommitLimit();
     }
 
     /**
@@ -5039,21 +5291,8 @@ public class FatalErrorLog {
      */
     public long getOsCommitLimitUsed() {
         long osCommitLimitUsed = Long.MIN_VALUE;
-        if (Os.LINUX == getOs() && !meminfos.isEmpty()) {
-            String regexCommittedAs = "Committed_AS:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexCommittedAs);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    osCommitLimitUsed = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        } else {
-            // get from JVM
-            getJvmCommitLimitUsed();
+        if (Os.LINUX == getOs()) {
+            osCommitLimitUsed = getMemoryLedger().getCommittedAs();
         }
         return osCommitLimitUsed;
     }
@@ -5080,34 +5319,7 @@ public class FatalErrorLog {
      * @return The total available OS physical memory in bytes.
      */
     public long getOsMemoryTotal() {
-        long osMemoryTotal = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexMemTotal = "MemTotal:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    osMemoryTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        }
-        if (osMemoryTotal < 0 && !gcPreciousLogs.isEmpty()) {
-            String regexMemory = "Memory: (\\d{1,})M";
-            Pattern pattern = Pattern.compile(regexMemory);
-            Iterator<GcPreciousLog> iterator = gcPreciousLogs.iterator();
-            while (iterator.hasNext()) {
-                GcPreciousLog event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    osMemoryTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
-                    break;
-                }
-            }
-        }
-        return osMemoryTotal;
+        return getMemoryLedger().getMemTotal();
     }
 
     /**
@@ -5147,42 +5359,14 @@ public class FatalErrorLog {
      * @return The total free swap in bytes.
      */
     public long getOsSwapFree() {
-        long osSwapFree = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexMemTotal = "SwapFree:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    osSwapFree = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        }
-        return osSwapFree;
+        return getMemoryLedger().getSwapFree();
     }
 
     /**
      * @return The total available OS swap in bytes.
      */
     public long getOsSwapTotal() {
-        long osSwapTotal = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexMemTotal = "SwapTotal:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    osSwapTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        }
-        return osSwapTotal;
+        return getMemoryLedger().getSwapTotal();
     }
 
     /**
@@ -5286,10 +5470,34 @@ public class FatalErrorLog {
         return pidMaxLimit;
     }
 
+    public PollingPage getPollingPage() {
+        return pollingPage;
+    }
+
     public List<ProcessMemory> getProcessMemories() {
         return processMemories;
     }
 
+    public List<Register> getRegisters() {
+        return registers;
+    }
+
+    /**
+     * @return The register values at the time of the crash (e.g. RIP=0x00007fcbd05a3b71) in logging order, by register
+     *         name.
+     */
+    public Map<String, String> getRegisterValues() {
+        Map<String, String> registerValues = new LinkedHashMap<String, String>();
+        Iterator<Register> iterator = registers.iterator();
+        while (iterator.hasNext()) {
+            Register event = iterator.next();
+            if (!event.isHeader()) {
+                registerValues.putAll(event.getValues());
+            }
+        }
+        return registerValues;
+    }
+
     public List<RegisterToMemoryMapping> getRegisterToMemoryMappings() {
         return registerToMemoryMappings;
     }
@@ -5341,21 +5549,7 @@ public class FatalErrorLog {
      * @return The total available physical memory as reported by RHEL in bytes, or Long.MIN_VALUE if undetermined.
      */
     private long getRhelMemAvailable() {
-        long rhelMemAvailable = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexMemTotal = "MemAvailable:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    rhelMemAvailable = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        }
-        return rhelMemAvailable;
+        return getMemoryLedger().getMemAvailable();
     }
 
     /**
@@ -5365,21 +5559,7 @@ public class FatalErrorLog {
      * @return The total free physical memory in bytes.
      */
     private long getRhelMemFree() {
-        long rhelMemFree = Long.MIN_VALUE;
-        if (!meminfos.isEmpty()) {
-            String regexMemTotal = "MemFree:[ ]{0,}(\\d{1,}) kB";
-            Pattern pattern = Pattern.compile(regexMemTotal);
-            Iterator<Meminfo> iterator = meminfos.iterator();
-            while (iterator.hasNext()) {
-                Meminfo event = iterator.next();
-                Matcher matcher = pattern.matcher(event.getLogEntry());
-                if (matcher.find()) {
-                    rhelMemFree = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
-                    break;
-                }
-            }
-        }
-        return rhelMemFree;
+        return getMemoryLedger().getMemFree();
     }
 
     /**
@@ -5691,6 +5871,22 @@ public class FatalErrorLog {
         return swapTotal;
     }
 
+    /**
+     * @return The thread inventory, with histograms by kind, state, and name prefix.
+     */
+    public ThreadInventory getThreadInventory() {
+        if (frozen) {
+            return threadInventory;
+        }
+        synchronized (this) {
+            if (threadInventory == null || threadInventoryThreads != threads.size()) {
+                threadInventory = new ThreadInventory(threads);
+                threadInventoryThreads = threads.size();
+            }
+            return threadInventory;
+        }
+    }
+
     public List<Thread> getThreads() {
         return threads;
     }
@@ -5791,6 +5987,59 @@ public class FatalErrorLog {
         return timeElapsedTime;
     }
 
+    /**
+     * @return The event logs merged into a single time ordered timeline, anchored to the wall clock when the crash
+     *         time and uptime are known.
+     */
+    public Timeline getTimeline() {
+        if (frozen) {
+            return timeline;
+        }
+        synchronized (this) {
+            List<List<? extends LogEvent>> rings = new ArrayList<List<? extends LogEvent>>();
+            rings.add(events);
+            rings.add(classesLoadedEvents);
+            rings.add(classesRedefinedEvents);
+            rings.add(classesUnloadedEvents);
+            rings.add(compilationEvents);
+            rings.add(deoptimizationEvents);
+            rings.add(dllOperationEvents);
+            rings.add(gcHeapHistoryEvents);
+            rings.add(internalExceptionEvents);
+            rings.add(vmOperationEvents);
+            rings.add(zgcPhaseSwitchEvents);
+            int size = 0;
+            for (List<? extends LogEvent> ring : rings) {
+                size += ring.size();
+            }
+            if (timeline == null || timelineEvents != size) {
+                long startTime = Long.MIN_VALUE;
+                Date crashDate = getCrashDate();
+                if (crashDate != null && getUptime() > 0) {
+                    startTime = crashDate.getTime() - getUptime();
+                }
+                timeline = new Timeline(rings, startTime);
+                timelineEvents = size;
+            }
+            return timeline;
+        }
+    }
+
+    /**
+     * @param millis
+     *            The window length (milliseconds).
+     * @return The timeline events in the <code>millis</code> before the crash, in time order. The crash is the JVM
+     *         uptime, or the last timeline event if later (the uptime is only reported to the second).
+     */
+    public List<LogEvent> getTimelineBeforeCrash(long millis) {
+        Timeline timeline = getTimeline();
+        long end = Math.max(getUptime(), 0);
+        if (timeline.size() > 0 && timeline.getTimestamp(timeline.size() - 1) > end) {
+            end = timeline.getTimestamp(timeline.size() - 1);
+        }
+        return timeline.getEventsBefore(end, millis);
+    }
+
     public List<Timeout> getTimeouts() {
         return timeouts;
     }
@@ -5928,6 +6177,23 @@ public class FatalErrorLog {
         return vmOperationEvents;
     }
 
+    /**
+     * @return The VM operation statistics: durations, percentiles, per-operation counts, and long operations before
+     *         the crash.
+     */
+    public VmOperationStatistics getVmOperationStatistics() {
+        if (frozen) {
+            return vmOperationStatistics;
+        }
+        synchronized (this) {
+            if (vmOperationStatistics == null || vmOperationStatisticsEvents != vmOperationEvents.size()) {
+                vmOperationStatistics = new VmOperationStatistics(vmOperationEvents, getUptime());
+                vmOperationStatisticsEvents = vmOperationEvents.size();
+            }
+            return vmOperationStatistics;
+        }
+    }
+
     /**
      * @return VM Operations total duration (milliseconds).
      */
@@ -5987,6 +6253,10 @@ public class FatalErrorLog {
         return vmState;
     }
 
+    public ZgcPageTableSummary getZgcPageTableSummary() {
+        return zgcPageTableSummary;
+    }
+
     public List<ZgcPhaseSwitchEvent> getZgcPhaseSwitchEvents() {
         return zgcPhaseSwitchEvents;
     }
@@ -6054,18 +6324,7 @@ public class FatalErrorLog {
      * @return true if there is a cgroup memory limit, false otherwise.
      */
     public boolean haveCgroupMemoryLimit() {
-        boolean isCgroupMemoryLimit = false;
-        if (!containerInfos.isEmpty()) {
-            Iterator<ContainerInfo> iterator = containerInfos.iterator();
-            while (iterator.hasNext()) {
-                ContainerInfo event = iterator.next();
-                if (event.getLogEntry().matches("^memory_limit_in_bytes: \\d{1,}( k)?$")) {
-                    isCgroupMemoryLimit = true;
-                    break;
-                }
-            }
-        }
-        return isCgroupMemoryLimit;
+        return getMemoryLedger().getCgroupMemoryLimit() != Long.MIN_VALUE;
     }
 
     /**
@@ -6355,6 +6614,7 @@ public class FatalErrorLog {
      * 7ff0f61d2000-7ff0f61da000 rw-s 00000000 fd:01 33563495 /tmp/hsperfdata_jb_admin/92333
      */
     public void hydrateJvmUser() {
+        checkNotFrozen();
         String jvmUser = null;
         if (!dynamicLibraries.isEmpty()) {
             String regExHsPerfData = System.getProperty("file.separator") + "hsperfdata_([^"
@@ -6381,11 +6641,12 @@ public class FatalErrorLog {
     private void hydrateNativeLibraries() {
         List<String> nativeLibraries = new ArrayList<String>();
         if (!dynamicLibraries.isEmpty()) {
+            Set<String> filePaths = new HashSet<String>();
             Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
             while (iterator.hasNext()) {
                 DynamicLibrary event = iterator.next();
                 if (event.isNativeLibrary()) {
-                    if (!nativeLibraries.contains(event.getFilePath())) {
+                    if (filePaths.add(event.getFilePath())) {
                         nativeLibraries.add(event.getFilePath());
                     }
                 }
@@ -6403,21 +6664,7 @@ public class FatalErrorLog {
             Iterator<String> iterator = nativeLibraries.iterator();
             while (iterator.hasNext()) {
                 String nativeLibraryPath = iterator.next();
-                String nativeLibrary = org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath);
-                if (!KrashUtil.NATIVE_LIBRARIES_GOOGLE.contains(nativeLibrary)
-                        && !KrashUtil.NATIVE_LIBRARIES_JBOSS.contains(nativeLibrary)
-                        && !(KrashUtil.NATIVE_LIBRARIES_LINUX.contains(nativeLibrary)
-                                && nativeLibraryPath.matches(KrashUtil.NATIVE_LIBRARY_LINUX_HOME + ".+"))
-                        && !KrashUtil.NATIVE_LIBRARIES_LINUX_JAVA.contains(nativeLibrary)
-                        && !KrashUtil.NATIVE_LIBRARIES_ORACLE.contains(nativeLibrary)
-                        && !nativeLibrary.matches(KrashUtil.NATIVE_LIBRARY_NETTY)
-                        && !KrashUtil.NATIVE_LIBRARIES_TOMCAT
-                                .contains(org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath))
-                        && !KrashUtil.NATIVE_LIBRARIES_VMWARE
-                                .contains(org.github.joa.util.JdkRegEx.getFile(nativeLibraryPath))
-                        && !(KrashUtil.NATIVE_LIBRARIES_WINDOWS.contains(nativeLibrary)
-                                && nativeLibraryPath.matches(KrashUtil.NATIVE_LIBRARY_WINDOWS_SYSTEM_HOME + ".+"))
-                        && !KrashUtil.NATIVE_LIBRARIES_WINDOWS_JAVA.contains(nativeLibrary)) {
+                if (!KrashUtil.NATIVE_LIBRARY_CATALOG.classify(nativeLibraryPath).isKnown()) {
                     nativeLibrariesUnknown.add(nativeLibraryPath);
                 }
             }
@@ -6500,6 +6747,13 @@ public class FatalErrorLog {
         return isError;
     }
 
+    /**
+     * @return true if the fatal error log is frozen (immutable), false otherwise.
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * @return true if HyperV environment, false otherwise.
      */
@@ -7366,6 +7620,13 @@ public class FatalErrorLog {
         return isRhWindowsZipInstall;
     }
 
+    /**
+     * @return true if the fatal error log was parsed in triage mode, false otherwise.
+     */
+    public boolean isTriage() {
+        return triage;
+    }
+
     /**
      * @return true if the fatal error is truncated, false otherwise.
      */
@@ -7421,6 +7682,60 @@ public class FatalErrorLog {
         return isWindows;
     }
 
+    /**
+     * Parse the Native Memory Tracking events, unless already parsed. The result is cached until more events are
+     * added.
+     */
+    private void parseNativeMemoryTracking() {
+        if (frozen) {
+            return;
+        }
+        synchronized (this) {
+            if (nativeMemoryTrackingSummaries == null || nativeMemoryTrackingsParsed != nativeMemoryTrackings.size()) {
+                parseNativeMemoryTrackingSummaries();
+            }
+        }
+    }
+
+    /**
+     * Parse the Native Memory Tracking events into typed summaries in a single pass. Detail lines (malloc, mmap,
+     * stack, arena) are attributed to the preceding category.
+     */
+    private void parseNativeMemoryTrackingSummaries() {
+        List<NativeMemoryTrackingSummary> summaries = new ArrayList<NativeMemoryTrackingSummary>();
+        NativeMemoryTrackingSummary total = null;
+        NativeMemoryTrackingSummary summary = null;
+        Iterator<NativeMemoryTracking> iterator = nativeMemoryTrackings.iterator();
+        while (iterator.hasNext()) {
+            NativeMemoryTracking nmt = iterator.next();
+            if (nmt.isCategory()) {
+                summary = new NativeMemoryTrackingSummary(nmt.getCategory(), nmt.getReserved(), nmt.getCommitted());
+                summaries.add(summary);
+            } else if (nmt.isTotal()) {
+                total = new NativeMemoryTrackingSummary("Total", nmt.getTotalReserved(), nmt.getTotalCommitted());
+                summary = null;
+            } else if (summary != null) {
+                int mallocSize = nmt.getMallocSize();
+                int mmapReserved = nmt.getMmapReserved();
+                int arenaSize = nmt.getArenaSize();
+                if (mallocSize != Integer.MIN_VALUE) {
+                    summary.setMallocSize(mallocSize);
+                    summary.setMallocCount(Math.max(nmt.getMallocCount(), 0));
+                } else if (mmapReserved != Integer.MIN_VALUE) {
+                    summary.setMmapReserved(summary.getMmapReserved() + mmapReserved);
+                    summary.setMmapCommitted(summary.getMmapCommitted() + nmt.getMmapCommitted());
+                } else if (arenaSize != Integer.MIN_VALUE) {
+                    summary.setArenaSize(arenaSize);
+                    summary.setArenaCount(Math.max(nmt.getArenaCount(), 0));
+                }
+            }
+        }
+        Collections.sort(summaries, new NativeMemoryTrackingSummaryComparator());
+        nativeMemoryTrackingSummaries = Collections.unmodifiableList(summaries);
+        nativeMemoryTrackingTotal = total;
+        nativeMemoryTrackingsParsed = nativeMemoryTrackings.size();
+    }
+
     /**
      * Convenience method to remove <code>Analysis</code>.
      * 
@@ -7428,86 +7743,117 @@ public class FatalErrorLog {
      *            The <code>Analysis</code> to check.
      */
     public void removeAnalysis(Analysis key) {
+        checkNotFrozen();
         analysis.remove(key);
     }
 
     public void setBarrierSet(BarrierSet barrierSet) {
+        checkNotFrozen();
         this.barrierSet = barrierSet;
     }
 
     public void setClassInfo(ClassInfo classInfo) {
+        checkNotFrozen();
         this.classInfo = classInfo;
     }
 
     public void setCommandLine(CommandLine commandLine) {
+        checkNotFrozen();
         this.commandLine = commandLine;
     }
 
     public void setCurrentThread(CurrentThread currentThread) {
+        checkNotFrozen();
         this.currentThread = currentThread;
     }
 
     public void setDynamicLibrariesMappingCount(int dynamicLibrariesMappingCount) {
+        checkNotFrozen();
         this.dynamicLibrariesMappingCount = dynamicLibrariesMappingCount;
     }
 
     public void setElapsedTime(ElapsedTime elapsedTime) {
+        checkNotFrozen();
         this.elapsedTime = elapsedTime;
     }
 
     public void setEnd(End end) {
+        checkNotFrozen();
         this.end = end;
     }
 
     public void setHeapAddress(HeapAddress heapAddress) {
+        checkNotFrozen();
         this.heapAddress = heapAddress;
     }
 
     public void setHost(Host host) {
+        checkNotFrozen();
         this.host = host;
     }
 
     public void setPeriodicNativeTrim(PeriodicNativeTrim periodicNativeTrim) {
+        checkNotFrozen();
         this.periodicNativeTrim = periodicNativeTrim;
     }
 
+    public void setPollingPage(PollingPage pollingPage) {
+        checkNotFrozen();
+        this.pollingPage = pollingPage;
+    }
+
     public void setRlimit(Rlimit rlimit) {
+        checkNotFrozen();
         this.rlimit = rlimit;
     }
 
     public void setSigInfo(SigInfo sigInfo) {
+        checkNotFrozen();
         this.sigInfo = sigInfo;
     }
 
     public void setTime(Time time) {
+        checkNotFrozen();
         this.time = time;
     }
 
     public void setTimeElapsedTime(TimeElapsedTime timeElapsedTime) {
+        checkNotFrozen();
         this.timeElapsedTime = timeElapsedTime;
     }
 
     public void setTimezone(Timezone timezone) {
+        checkNotFrozen();
         this.timezone = timezone;
     }
 
+    public void setTriage(boolean triage) {
+        checkNotFrozen();
+        this.triage = triage;
+    }
+
     public void setUname(Uname uname) {
+        checkNotFrozen();
         this.uname = uname;
     }
 
     public void setUnidentifiedLogLines(List<String> unidentifiedLogLines) {
+        checkNotFrozen();
         this.unidentifiedLogLines = unidentifiedLogLines;
     }
 
     public void setVmInfo(VmInfo vmInfo) {
+        checkNotFrozen();
         this.vmInfo = vmInfo;
     }
 
     public void setVmOperation(VmOperation vmOperation) {
+        checkNotFrozen();
         this.vmOperation = vmOperation;
     }
 
     public void setVmState(VmState vmState) {
+        checkNotFrozen();
         this.vmState = vmState;
     }
 }
\ No newline at end of file
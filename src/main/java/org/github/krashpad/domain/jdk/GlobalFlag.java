@@ -61,6 +61,57 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  */
 public class GlobalFlag implements LogEvent, HeaderEvent {
 
+    /**
+     * Where the flag value came from.
+     */
+    public enum Origin {
+        COMMAND_LINE("command line"), COMMAND_LINE_ERGONOMIC("command line, ergonomic"), DEFAULT("default"),
+        ENVIRONMENT("environment"), ERGONOMIC("ergonomic"), MANAGEMENT("management");
+
+        /**
+         * @param literal
+         *            The origin literal (e.g. "command line"), or null if not logged.
+         * @return The <code>Origin</code>, {@link #DEFAULT} if not logged.
+         */
+        public static Origin getOrigin(String literal) {
+            Origin origin = DEFAULT;
+            if (literal != null) {
+                for (Origin o : values()) {
+                    if (o.literal.equals(literal)) {
+                        origin = o;
+                        break;
+                    }
+                }
+            }
+            return origin;
+        }
+
+        private String literal;
+
+        private Origin(final String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public String toString() {
+            return literal;
+        }
+    }
+
+    /**
+     * The flag value type.
+     */
+    public enum Type {
+        BOOL, CCSTR, CCSTRLIST, DOUBLE, INT, INTX, SIZE_T, UINT, UINT64_T, UINTX;
+
+        /**
+         * @return true if the type is an integer type, false otherwise.
+         */
+        public boolean isInteger() {
+            return this != BOOL && this != CCSTR && this != CCSTRLIST && this != DOUBLE;
+        }
+    }
+
     /**
      * Regular expression for the header.
      */
@@ -88,11 +139,41 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
         return logLine.matches(REGEX);
     }
 
+    /**
+     * The flag (or null for the header).
+     */
+    private String flag;
+
+    /**
+     * The flag kind (e.g. "product", "experimental"), or null if not logged.
+     */
+    private String kind;
+
     /**
      * The log entry for the event.
      */
     private String logEntry;
 
+    /**
+     * The flag origin.
+     */
+    private Origin origin;
+
+    /**
+     * Whether the log entry has been parsed into fields.
+     */
+    private boolean parsed;
+
+    /**
+     * The flag value type, or null if not logged.
+     */
+    private Type type;
+
+    /**
+     * The flag value (or null for the header).
+     */
+    private String value;
+
     /**
      * Create event from log entry.
      * 
@@ -103,6 +184,30 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return true if the flag is a bool flag with value "true", false otherwise.
+     */
+    public boolean getBooleanValue() {
+        parse();
+        return type == Type.BOOL && "true".equals(value);
+    }
+
+    /**
+     * @return The double flag value, or Double.NaN if not a double flag.
+     */
+    public double getDoubleValue() {
+        parse();
+        double doubleValue = Double.NaN;
+        if (type == Type.DOUBLE) {
+            try {
+                doubleValue = Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                // leave undetermined
+            }
+        }
+        return doubleValue;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.GLOBAL_FLAG;
@@ -112,30 +217,60 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
      * @return The flag (or null for the header).
      */
     public String getFlag() {
-        String flag = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            flag = matcher.group(3);
-        }
+        parse();
         return flag;
     }
 
+    /**
+     * @return The flag kind (e.g. "product", "experimental"), or null if not logged.
+     */
+    public String getKind() {
+        parse();
+        return kind;
+    }
+
     public String getLogEntry() {
         return logEntry;
     }
 
     /**
-     * @return The flag value (or null for the header).
+     * @return The integer flag value, or Long.MIN_VALUE if not an integer flag. uint64_t values greater than
+     *         Long.MAX_VALUE are returned as Long.MAX_VALUE.
      */
-    public String getValue() {
-        String value = null;
-        Matcher matcher = pattern.matcher(logEntry);
-        if (matcher.find()) {
-            value = matcher.group(4);
-            if (value != null) {
-                value = value.trim();
+    public long getLongValue() {
+        parse();
+        long longValue = Long.MIN_VALUE;
+        if (type != null && type.isInteger() && value.matches("-?\\d{1,}")) {
+            try {
+                longValue = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                longValue = Long.MAX_VALUE;
             }
         }
+        return longValue;
+    }
+
+    /**
+     * @return The flag origin ({@link Origin#DEFAULT} if not logged), or null for the header.
+     */
+    public Origin getOrigin() {
+        parse();
+        return origin;
+    }
+
+    /**
+     * @return The flag value type, or null if not logged.
+     */
+    public Type getType() {
+        parse();
+        return type;
+    }
+
+    /**
+     * @return The flag value (or null for the header).
+     */
+    public String getValue() {
+        parse();
         return value;
     }
 
@@ -147,4 +282,24 @@ public class GlobalFlag implements LogEvent, HeaderEvent {
         }
         return isHeader;
     }
+
+    /**
+     * Parse the log entry into fields, once.
+     */
+    private synchronized void parse() {
+        if (parsed) {
+            return;
+        }
+        parsed = true;
+        Matcher matcher = pattern.matcher(logEntry);
+        if (matcher.find() && matcher.group(3) != null) {
+            if (matcher.group(2) != null && !matcher.group(2).isEmpty()) {
+                type = Type.valueOf(matcher.group(2).toUpperCase());
+            }
+            flag = matcher.group(3);
+            value = matcher.group(4).trim();
+            kind = matcher.group(6);
+            origin = Origin.getOrigin(matcher.group(8));
+        }
+    }
 }
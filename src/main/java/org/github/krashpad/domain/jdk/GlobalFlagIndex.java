@@ -0,0 +1,302 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.joa.JvmOptions;
+import org.github.krashpad.domain.jdk.GlobalFlag.Origin;
+import org.github.krashpad.domain.jdk.GlobalFlag.Type;
+import org.github.krashpad.util.jdk.JdkRegEx;
+import org.github.krashpad.util.jdk.JdkUtil;
+
+/**
+ * <p>
+ * The <code>GlobalFlag</code> events indexed by flag name, for constant time lookup of the typed flag values and
+ * origins (the logs can have close to a thousand flags), and comparison of the flags the JVM ran with to the JVM
+ * options requested.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GlobalFlagIndex {
+
+    /**
+     * A requested JVM option that differs from the flag value the JVM ran with.
+     */
+    public static class Difference {
+
+        /**
+         * The global flag the JVM ran with.
+         */
+        private GlobalFlag globalFlag;
+
+        /**
+         * The requested JVM option (e.g. "-Xss256k").
+         */
+        private String option;
+
+        /**
+         * @param option
+         *            The requested JVM option.
+         * @param globalFlag
+         *            The global flag the JVM ran with.
+         */
+        public Difference(String option, GlobalFlag globalFlag) {
+            this.option = option;
+            this.globalFlag = globalFlag;
+        }
+
+        public GlobalFlag getGlobalFlag() {
+            return globalFlag;
+        }
+
+        public String getOption() {
+            return option;
+        }
+
+        @Override
+        public String toString() {
+            return option + " -> " + globalFlag.getFlag() + "=" + globalFlag.getValue() + " {"
+                    + globalFlag.getOrigin() + "}";
+        }
+    }
+
+    /**
+     * Boolean -XX option (e.g. -XX:+UseG1GC).
+     */
+    private static final Pattern PATTERN_OPTION_BOOLEAN = Pattern.compile("^-XX:([+-])([a-zA-Z0-9]+)$");
+
+    /**
+     * Standard size option mapped to a flag (e.g. -Xmx2g).
+     */
+    private static final Pattern PATTERN_OPTION_SIZE = Pattern.compile("^-X(mn|ms|mx|ss)" + JdkRegEx.OPTION_SIZE_BYTES
+            + "$");
+
+    /**
+     * Size suffix on a -XX option value (e.g. -XX:MaxMetaspaceSize=256m).
+     */
+    private static final Pattern PATTERN_OPTION_SIZE_BYTES = Pattern.compile("^" + JdkRegEx.OPTION_SIZE_BYTES + "$");
+
+    /**
+     * Value -XX option (e.g. -XX:ReservedCodeCacheSize=256m).
+     */
+    private static final Pattern PATTERN_OPTION_VALUE = Pattern.compile("^-XX:([a-zA-Z0-9]+)=(.*)$");
+
+    /**
+     * @param size
+     *            The option size (e.g. "256m").
+     * @return The size in bytes, or Long.MIN_VALUE if not a size.
+     */
+    private static long parseSize(String size) {
+        long bytes = Long.MIN_VALUE;
+        Matcher matcher = PATTERN_OPTION_SIZE_BYTES.matcher(size);
+        if (matcher.find()) {
+            char fromUnits = matcher.group(3) == null ? 'B' : matcher.group(3).charAt(0);
+            bytes = JdkUtil.convertSize(Long.parseLong(matcher.group(2)), fromUnits, 'B');
+        }
+        return bytes;
+    }
+
+    /**
+     * The global flags by flag name.
+     */
+    private Map<String, GlobalFlag> flags;
+
+    /**
+     * @param globalFlags
+     *            The <code>GlobalFlag</code> events.
+     */
+    public GlobalFlagIndex(List<GlobalFlag> globalFlags) {
+        flags = new HashMap<String, GlobalFlag>(globalFlags.size() * 2);
+        Iterator<GlobalFlag> iterator = globalFlags.iterator();
+        while (iterator.hasNext()) {
+            GlobalFlag globalFlag = iterator.next();
+            if (!globalFlag.isHeader() && globalFlag.getFlag() != null && !flags.containsKey(globalFlag.getFlag())) {
+                flags.put(globalFlag.getFlag(), globalFlag);
+            }
+        }
+    }
+
+    /**
+     * @param jvmOptions
+     *            The requested JVM options.
+     * @return The requested JVM options that differ from the flag values the JVM ran with.
+     */
+    public List<Difference> getDifferences(JvmOptions jvmOptions) {
+        List<String> options = new ArrayList<String>();
+        if (jvmOptions != null) {
+            Iterator<ArrayList<String>> iterator = jvmOptions.getOptions().values().iterator();
+            while (iterator.hasNext()) {
+                options.addAll(iterator.next());
+            }
+        }
+        return getDifferences(options);
+    }
+
+    /**
+     * Compare the requested JVM options to the flag values the JVM ran with. Options without a logged flag are
+     * ignored. When an option is repeated, the last one is compared.
+     * 
+     * @param options
+     *            The requested JVM options (e.g. "-Xmx2g", "-XX:+UseG1GC", "-XX:ReservedCodeCacheSize=256m").
+     * @return The requested JVM options that differ from the flag values the JVM ran with.
+     */
+    public List<Difference> getDifferences(List<String> options) {
+        Map<String, String> requested = new LinkedHashMap<String, String>();
+        Map<String, String> requestedOptions = new LinkedHashMap<String, String>();
+        Iterator<String> iterator = options.iterator();
+        while (iterator.hasNext()) {
+            String option = iterator.next();
+            String flag = null;
+            String value = null;
+            Matcher matcherBoolean = PATTERN_OPTION_BOOLEAN.matcher(option);
+            Matcher matcherValue = PATTERN_OPTION_VALUE.matcher(option);
+            Matcher matcherSize = PATTERN_OPTION_SIZE.matcher(option);
+            if (matcherBoolean.find()) {
+                flag = matcherBoolean.group(2);
+                value = matcherBoolean.group(1).equals("+") ? "true" : "false";
+            } else if (matcherValue.find()) {
+                flag = matcherValue.group(1);
+                value = matcherValue.group(2);
+            } else if (matcherSize.find()) {
+                long bytes = parseSize(matcherSize.group(2));
+                if (matcherSize.group(1).equals("mn")) {
+                    flag = "MaxNewSize";
+                } else if (matcherSize.group(1).equals("ms")) {
+                    flag = "InitialHeapSize";
+                } else if (matcherSize.group(1).equals("mx")) {
+                    flag = "MaxHeapSize";
+                } else {
+                    // ThreadStackSize is in kilobytes
+                    flag = "ThreadStackSize";
+                    bytes = JdkUtil.convertSize(bytes, 'B', 'K');
+                }
+                value = Long.toString(bytes);
+            }
+            if (flag != null) {
+                requested.remove(flag);
+                requestedOptions.remove(flag);
+                requested.put(flag, value);
+                requestedOptions.put(flag, option);
+            }
+        }
+        List<Difference> differences = new ArrayList<Difference>();
+        Iterator<Entry<String, String>> iteratorRequested = requested.entrySet().iterator();
+        while (iteratorRequested.hasNext()) {
+            Entry<String, String> entry = iteratorRequested.next();
+            GlobalFlag globalFlag = flags.get(entry.getKey());
+            if (globalFlag != null && !isEqual(globalFlag, entry.getValue())) {
+                differences.add(new Difference(requestedOptions.get(entry.getKey()), globalFlag));
+            }
+        }
+        return differences;
+    }
+
+    /**
+     * @param flag
+     *            The flag name (e.g. "MaxHeapSize").
+     * @return The <code>GlobalFlag</code>, or null if not logged.
+     */
+    public GlobalFlag getFlag(String flag) {
+        return flags.get(flag);
+    }
+
+    /**
+     * @param origin
+     *            The flag origin.
+     * @return The flags with the origin, sorted by flag name.
+     */
+    public List<GlobalFlag> getFlags(Origin origin) {
+        List<String> names = new ArrayList<String>();
+        Iterator<GlobalFlag> iterator = flags.values().iterator();
+        while (iterator.hasNext()) {
+            GlobalFlag globalFlag = iterator.next();
+            if (globalFlag.getOrigin() == origin) {
+                names.add(globalFlag.getFlag());
+            }
+        }
+        Collections.sort(names);
+        List<GlobalFlag> globalFlags = new ArrayList<GlobalFlag>();
+        for (String name : names) {
+            globalFlags.add(flags.get(name));
+        }
+        return globalFlags;
+    }
+
+    /**
+     * @param flag
+     *            The flag name (e.g. "ActiveProcessorCount").
+     * @return The integer flag value, or Long.MIN_VALUE if not logged or not an integer flag.
+     */
+    public long getLongValue(String flag) {
+        GlobalFlag globalFlag = flags.get(flag);
+        return globalFlag == null ? Long.MIN_VALUE : globalFlag.getLongValue();
+    }
+
+    /**
+     * @param flag
+     *            The flag name (e.g. "UseNUMA").
+     * @return true if the bool flag is logged and true, false otherwise.
+     */
+    public boolean isEnabled(String flag) {
+        GlobalFlag globalFlag = flags.get(flag);
+        return globalFlag != null && globalFlag.getBooleanValue();
+    }
+
+    /**
+     * @param globalFlag
+     *            The global flag the JVM ran with.
+     * @param value
+     *            The requested value.
+     * @return true if the requested value is the flag value, false otherwise.
+     */
+    private boolean isEqual(GlobalFlag globalFlag, String value) {
+        boolean isEqual;
+        Type type = globalFlag.getType();
+        if (type == Type.BOOL) {
+            isEqual = globalFlag.getBooleanValue() == value.equals("true");
+        } else if (type == Type.DOUBLE) {
+            try {
+                isEqual = globalFlag.getDoubleValue() == Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                isEqual = false;
+            }
+        } else if (type != null && type.isInteger() && globalFlag.getLongValue() != Long.MIN_VALUE) {
+            long requestedValue = value.matches("-\\d{1,}") ? Long.parseLong(value) : parseSize(value);
+            isEqual = globalFlag.getLongValue() == requestedValue;
+        } else {
+            isEqual = globalFlag.getValue().equals(value);
+        }
+        return isEqual;
+    }
+
+    /**
+     * @return The number of flags.
+     */
+    public int size() {
+        return flags.size();
+    }
+}
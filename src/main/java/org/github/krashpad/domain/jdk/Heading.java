@@ -91,4 +91,11 @@ public class Heading implements LogEvent, ThrowAwayEvent {
         return logEntry;
     }
 
+    /**
+     * @return true if the heading starts the process section, false otherwise.
+     */
+    public boolean isProcess() {
+        return logEntry.matches("^[-]{15}  P R O C E S S[ ]{1,2}[-]{12,15}$");
+    }
+
 }
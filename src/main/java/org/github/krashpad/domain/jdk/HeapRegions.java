@@ -16,7 +16,6 @@ package org.github.krashpad.domain.jdk;
 
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
 /**
@@ -25,7 +24,7 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * </p>
  * 
  * <p>
- * Heap information.
+ * Heap information. Region rows are summarized by {@link HeapRegionsSummary} as they are parsed and not retained.
  * </p>
  * 
  * <h2>Example Logging</h2>
@@ -42,7 +41,7 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class HeapRegions implements LogEvent, ThrowAwayEvent, HeaderEvent {
+public class HeapRegions implements LogEvent, HeaderEvent {
 
     /**
      * Regular expression for the header.
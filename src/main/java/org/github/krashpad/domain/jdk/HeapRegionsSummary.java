@@ -0,0 +1,429 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+/**
+ * <p>
+ * Streaming summary of the <code>HeapRegions</code> table.
+ * </p>
+ * 
+ * <p>
+ * The table has one row per region, which can be tens of thousands of rows for a large heap with small regions. Rows
+ * are parsed in place as they are read, and only per region type counters are kept, so the table can be summarized
+ * without retaining or allocating per row objects.
+ * </p>
+ * 
+ * <h2>Example Logging</h2>
+ * 
+ * <p>
+ * 1) G1:
+ * </p>
+ * 
+ * <pre>
+ * |   0|0x0000000600000000, 0x0000000600400000, 0x0000000600400000|100%| O|  |TAMS 0x0000000600000000, 0x0000000600000000| Untracked
+ * </pre>
+ * 
+ * <p>
+ * 2) Shenandoah:
+ * </p>
+ * 
+ * <pre>
+ * |    0|CS |BTE    67a200000,    67a400000,    67a400000|TAMS    67a400000|UWM    67a400000|U  2048K|T  2047K|G     0B|S    56B|L 31152B|CP   0
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class HeapRegionsSummary {
+
+    /**
+     * Region type. G1 and Shenandoah use different codes.
+     */
+    public enum RegionType {
+        //
+        ARCHIVE("A", "archive", false), ARCHIVE_CLOSED("CA", "closed archive", false),
+        //
+        ARCHIVE_OPEN("OA", "open archive", false), COLLECTION_SET("CS", "collection set", false),
+        //
+        COLLECTION_SET_PINNED("CSP", "pinned collection set", false), EDEN("E", "eden", false),
+        //
+        EMPTY_COMMITTED("EC", "empty committed", true), EMPTY_UNCOMMITTED("EU", "empty uncommitted", true),
+        //
+        FREE("F", "free", true), HUMONGOUS_CONTINUATION("HC", "humongous continuation", false),
+        //
+        HUMONGOUS_PINNED("HP", "pinned humongous start", false), HUMONGOUS_START("HS", "humongous start", false),
+        //
+        HUMONGOUS_START_SHENANDOAH("H", "humongous start", false), OLD("O", "old", false),
+        //
+        PINNED("P", "pinned", false), REGULAR("R", "regular", false), SURVIVOR("S", "survivor", false),
+        //
+        TRASH("T", "trash", false), TRASH_SHENANDOAH("TR", "trash", false);
+
+        private static final RegionType[] TYPES = values();
+
+        /**
+         * @param logLine
+         *            The log line.
+         * @param from
+         *            The start index of the code (inclusive).
+         * @param to
+         *            The end index of the code (exclusive).
+         * @return The <code>RegionType</code> with the code, or null if none.
+         */
+        private static RegionType fromCode(String logLine, int from, int to) {
+            for (int i = 0; i < TYPES.length; i++) {
+                String code = TYPES[i].code;
+                if (code.length() == to - from && logLine.regionMatches(from, code, 0, code.length())) {
+                    return TYPES[i];
+                }
+            }
+            return null;
+        }
+
+        private String code;
+
+        private String description;
+
+        private boolean free;
+
+        private RegionType(String code, String description, boolean free) {
+            this.code = code;
+            this.description = description;
+            this.free = free;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * @return true if the region is free (available for allocation), false otherwise.
+         */
+        public boolean isFree() {
+            return free;
+        }
+    }
+
+    /**
+     * Parse a hexadecimal number, ignoring an optional "0x" prefix and surrounding spaces.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param from
+     *            The start index (inclusive).
+     * @param to
+     *            The end index (exclusive).
+     * @return The number, or -1 if there are no hexadecimal digits.
+     */
+    private static long parseHex(String logLine, int from, int to) {
+        while (from < to && logLine.charAt(from) == ' ') {
+            from++;
+        }
+        if (from + 1 < to && logLine.charAt(from) == '0' && logLine.charAt(from + 1) == 'x') {
+            from += 2;
+        }
+        long number = -1;
+        for (int i = from; i < to; i++) {
+            int digit = Character.digit(logLine.charAt(i), 16);
+            if (digit < 0) {
+                break;
+            }
+            number = (number < 0 ? 0 : number << 4) + digit;
+        }
+        return number;
+    }
+
+    /**
+     * Parse a size with a unit (e.g. "31152B", " 2048K").
+     * 
+     * @param logLine
+     *            The log line.
+     * @param from
+     *            The start index (inclusive).
+     * @param to
+     *            The end index (exclusive).
+     * @return The size in bytes, or -1 if there is no number.
+     */
+    private static long parseSize(String logLine, int from, int to) {
+        long size = -1;
+        for (int i = from; i < to; i++) {
+            char c = logLine.charAt(i);
+            if (c >= '0' && c <= '9') {
+                size = (size < 0 ? 0 : size * 10) + (c - '0');
+            } else if (size >= 0) {
+                switch (Character.toUpperCase(c)) {
+                case 'K':
+                    return size * 1024;
+                case 'M':
+                    return size * 1024 * 1024;
+                case 'G':
+                    return size * 1024 * 1024 * 1024;
+                default:
+                    return size;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Region capacity (bytes) per <code>RegionType</code> ordinal.
+     */
+    private long[] capacity = new long[RegionType.TYPES.length];
+
+    /**
+     * Region count per <code>RegionType</code> ordinal.
+     */
+    private int[] count = new int[RegionType.TYPES.length];
+
+    /**
+     * Whether the summary is frozen (immutable). See {@link #freeze()}.
+     */
+    private boolean frozen;
+
+    /**
+     * Index of the previous region row, to detect contiguous free runs.
+     */
+    private int previousIndex = -1;
+
+    /**
+     * Live data (bytes) per <code>RegionType</code> ordinal. Only reported by Shenandoah.
+     */
+    private long[] live = new long[RegionType.TYPES.length];
+
+    /**
+     * Whether any region reported live data.
+     */
+    private boolean liveReported;
+
+    /**
+     * Capacity (bytes) of the longest run of contiguous free regions.
+     */
+    private long longestFreeRunBytes;
+
+    /**
+     * Region count of the longest run of contiguous free regions.
+     */
+    private int longestFreeRunRegions;
+
+    /**
+     * Capacity (bytes) of the current run of contiguous free regions.
+     */
+    private long runBytes;
+
+    /**
+     * Region count of the current run of contiguous free regions.
+     */
+    private int runRegions;
+
+    /**
+     * Region rows that could not be parsed.
+     */
+    private int unidentifiedRows;
+
+    /**
+     * Used memory (bytes) per <code>RegionType</code> ordinal.
+     */
+    private long[] used = new long[RegionType.TYPES.length];
+
+    /**
+     * Add a <code>HeapRegions</code> log line to the summary. Lines other than region rows are ignored.
+     * 
+     * @param logLine
+     *            The log line.
+     */
+    public void add(String logLine) {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen heap regions summary cannot be modified.");
+        }
+        if (logLine == null || logLine.length() < 2 || logLine.charAt(0) != '|') {
+            return;
+        }
+        int end = logLine.length();
+        int fieldEnd = logLine.indexOf('|', 1);
+        if (fieldEnd < 0) {
+            unidentifiedRows++;
+            return;
+        }
+        int index = (int) parseSize(logLine, 1, fieldEnd);
+        RegionType type = null;
+        long bottom = -1;
+        long top = -1;
+        long regionEnd = -1;
+        long regionLive = -1;
+        int from = fieldEnd + 1;
+        while (from < end) {
+            fieldEnd = logLine.indexOf('|', from);
+            if (fieldEnd < 0) {
+                fieldEnd = end;
+            }
+            int start = from;
+            int stop = fieldEnd;
+            while (start < stop && logLine.charAt(start) == ' ') {
+                start++;
+            }
+            while (stop > start && logLine.charAt(stop - 1) == ' ') {
+                stop--;
+            }
+            if (start < stop) {
+                if (logLine.startsWith("BTE", start) || logLine.startsWith("0x", start)) {
+                    if (logLine.startsWith("BTE", start)) {
+                        start += 3;
+                    }
+                    int comma1 = logLine.indexOf(',', start);
+                    int comma2 = comma1 < 0 ? -1 : logLine.indexOf(',', comma1 + 1);
+                    if (comma2 > 0 && comma2 < stop) {
+                        bottom = parseHex(logLine, start, comma1);
+                        top = parseHex(logLine, comma1 + 1, comma2);
+                        regionEnd = parseHex(logLine, comma2 + 1, stop);
+                    }
+                } else if (logLine.startsWith("L ", start)) {
+                    regionLive = parseSize(logLine, start + 2, stop);
+                } else if (type == null) {
+                    type = RegionType.fromCode(logLine, start, stop);
+                }
+            }
+            from = fieldEnd + 1;
+        }
+        if (type == null || bottom < 0 || top < bottom || regionEnd < top) {
+            unidentifiedRows++;
+            return;
+        }
+        int ordinal = type.ordinal();
+        count[ordinal]++;
+        capacity[ordinal] += regionEnd - bottom;
+        used[ordinal] += top - bottom;
+        if (regionLive >= 0) {
+            live[ordinal] += regionLive;
+            liveReported = true;
+        }
+        if (type.isFree()) {
+            if (index != previousIndex + 1) {
+                runRegions = 0;
+                runBytes = 0;
+            }
+            runRegions++;
+            runBytes += regionEnd - bottom;
+            if (runBytes > longestFreeRunBytes) {
+                longestFreeRunBytes = runBytes;
+                longestFreeRunRegions = runRegions;
+            }
+        } else {
+            runRegions = 0;
+            runBytes = 0;
+        }
+        previousIndex = index;
+    }
+
+    /**
+     * Freeze the summary when the fatal error log is frozen. Adding log lines afterwards throws
+     * <code>UnsupportedOperationException</code>.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * @param type
+     *            The region type.
+     * @return The total capacity of regions of the given type, in bytes.
+     */
+    public long getCapacity(RegionType type) {
+        return capacity[type.ordinal()];
+    }
+
+    /**
+     * @param type
+     *            The region type.
+     * @return The number of regions of the given type.
+     */
+    public int getCount(RegionType type) {
+        return count[type.ordinal()];
+    }
+
+    /**
+     * @param type
+     *            The region type.
+     * @return The live data in regions of the given type, in bytes, or 0 if not reported.
+     */
+    public long getLive(RegionType type) {
+        return live[type.ordinal()];
+    }
+
+    public long getLongestFreeRunBytes() {
+        return longestFreeRunBytes;
+    }
+
+    public int getLongestFreeRunRegions() {
+        return longestFreeRunRegions;
+    }
+
+    /**
+     * @return The total number of regions.
+     */
+    public int getRegions() {
+        int regions = 0;
+        for (int i = 0; i < count.length; i++) {
+            regions += count[i];
+        }
+        return regions;
+    }
+
+    /**
+     * @return The total capacity of all regions, in bytes.
+     */
+    public long getTotalCapacity() {
+        long totalCapacity = 0;
+        for (int i = 0; i < capacity.length; i++) {
+            totalCapacity += capacity[i];
+        }
+        return totalCapacity;
+    }
+
+    /**
+     * @return The total used memory in all regions, in bytes.
+     */
+    public long getTotalUsed() {
+        long totalUsed = 0;
+        for (int i = 0; i < used.length; i++) {
+            totalUsed += used[i];
+        }
+        return totalUsed;
+    }
+
+    public int getUnidentifiedRows() {
+        return unidentifiedRows;
+    }
+
+    /**
+     * @param type
+     *            The region type.
+     * @return The used memory in regions of the given type, in bytes.
+     */
+    public long getUsed(RegionType type) {
+        return used[type.ordinal()];
+    }
+
+    /**
+     * @return true if region live data was reported (Shenandoah), false otherwise.
+     */
+    public boolean isLiveReported() {
+        return liveReported;
+    }
+}
@@ -14,8 +14,12 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -40,6 +44,16 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * Event: 1787840.598 Thread 0x00000000e2291000 StackOverflowError at 0x0000000006f058c0
  * </pre>
  * 
+ * <p>
+ * JDK17+ logs the throw location on a separate line:
+ * </p>
+ * 
+ * <pre>
+ * Internal exceptions (1 events):
+ * Event: 0.050 Thread 0x00007f746c025d40 Exception &lt;a 'java/lang/NoSuchMethodError'{0x000000062c8203d0}: 'void java.lang.invoke.DirectMethodHandle$Holder.invokeStatic(java.lang.Object, int, int)'&gt; (0x000000062c8203d0) 
+ * thrown [src/hotspot/share/interpreter/linkResolver.cpp, line 759]
+ * </pre>
+ * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
@@ -50,6 +64,18 @@ public class InternalExceptionEvent implements LogEvent, HeaderEvent {
      */
     public static final String _REGEX_HEADER = "Internal exceptions \\(\\d{1,} events\\):";
 
+    /**
+     * Regular expression for an exception (group 1 = timestamp, group 2 = thread, group 4 = exception object class,
+     * group 5 = other exception).
+     */
+    private static final Pattern PATTERN_EXCEPTION = Pattern.compile("^Event: " + JdkRegEx.TIMESTAMP
+            + " Thread 0x([0-9a-f]{1,}) (Exception <a '([^']{1,})'|(.+?) at 0x)");
+
+    /**
+     * Regular expression for the throw location (group 2 = source file path, group 3 = line).
+     */
+    private static final Pattern PATTERN_LOCATION = Pattern.compile("thrown (at )?\\[(.+), line (\\d{1,})\\]");
+
     /**
      * Regular expression defining the logging.
      */
@@ -68,11 +94,37 @@ public class InternalExceptionEvent implements LogEvent, HeaderEvent {
         return logLine.matches(REGEX);
     }
 
+    /**
+     * Exception class (e.g. "java.lang.ClassNotFoundException", "Implicit null exception"), or null if not an
+     * exception.
+     */
+    private String exception;
+
+    /**
+     * Throw location source file and line (e.g. "systemDictionary.cpp:210"), or null if not logged.
+     */
+    private String location;
+
     /**
      * The log entry for the event.
      */
     private String logEntry;
 
+    /**
+     * Whether the log entry has been parsed into fields.
+     */
+    private boolean parsed;
+
+    /**
+     * Throwing thread address, or 0 if unknown.
+     */
+    private long thread;
+
+    /**
+     * The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    private long timestamp = Long.MIN_VALUE;
+
     /**
      * Create event from log entry.
      * 
@@ -88,10 +140,42 @@ public class InternalExceptionEvent implements LogEvent, HeaderEvent {
         return LogEventType.INTERNAL_EXCEPTION_EVENT;
     }
 
+    /**
+     * @return The exception class, or null if not an exception.
+     */
+    public String getException() {
+        parse();
+        return exception;
+    }
+
+    /**
+     * @return The throw location source file and line (e.g. "systemDictionary.cpp:210"), or null if not logged.
+     */
+    public String getLocation() {
+        parse();
+        return location;
+    }
+
     public String getLogEntry() {
         return logEntry;
     }
 
+    /**
+     * @return The throwing thread address, or 0 if unknown.
+     */
+    public long getThread() {
+        parse();
+        return thread;
+    }
+
+    /**
+     * @return The time of the event in milliseconds after JVM startup, or Long.MIN_VALUE if unknown.
+     */
+    public long getTimestamp() {
+        parse();
+        return timestamp;
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -100,4 +184,33 @@ public class InternalExceptionEvent implements LogEvent, HeaderEvent {
         }
         return isHeader;
     }
+
+    /**
+     * @return true if the log entry is the throw location of the previous exception (JDK17+), false otherwise.
+     */
+    public boolean isThrownLocation() {
+        return logEntry.startsWith("thrown");
+    }
+
+    /**
+     * Parse the log entry into fields once, on first use.
+     */
+    private synchronized void parse() {
+        if (parsed) {
+            return;
+        }
+        parsed = true;
+        Matcher matcher = PATTERN_EXCEPTION.matcher(logEntry);
+        if (matcher.find()) {
+            timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
+            thread = Long.parseUnsignedLong(matcher.group(2), 16);
+            exception = matcher.group(4) != null ? matcher.group(4).replace('/', '.') : matcher.group(5);
+        }
+        matcher = PATTERN_LOCATION.matcher(logEntry);
+        if (matcher.find()) {
+            String path = matcher.group(2);
+            int separator = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+            location = path.substring(separator + 1) + ":" + matcher.group(3);
+        }
+    }
 }
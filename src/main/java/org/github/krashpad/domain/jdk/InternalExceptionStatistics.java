@@ -0,0 +1,260 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.github.krashpad.util.KrashUtil;
+
+/**
+ * <p>
+ * Heavy hitter summary of the <code>InternalExceptionEvent</code> ring buffer: the exceptions grouped by exception
+ * class and throw location, with counts, first/last timestamps, and rate, computed in one pass. Exception storms are a
+ * hidden CPU cost, and the ring buffer is often dominated by a few exceptions thrown from a few locations.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class InternalExceptionStatistics {
+
+    /**
+     * Exceptions of one class thrown from one location.
+     */
+    public static class HeavyHitter {
+
+        /**
+         * The number of exceptions.
+         */
+        private int count;
+
+        /**
+         * The exception class.
+         */
+        private String exception;
+
+        /**
+         * The first exception timestamp (milliseconds after JVM startup).
+         */
+        private long first = Long.MAX_VALUE;
+
+        /**
+         * The last exception timestamp (milliseconds after JVM startup).
+         */
+        private long last = Long.MIN_VALUE;
+
+        /**
+         * The throw location, or null if not logged.
+         */
+        private String location;
+
+        /**
+         * The throwing thread addresses.
+         */
+        private Set<Long> threads;
+
+        /**
+         * @param exception
+         *            The exception class.
+         * @param location
+         *            The throw location, or null if not logged.
+         */
+        public HeavyHitter(String exception, String location) {
+            this.exception = exception;
+            this.location = location;
+            threads = new HashSet<Long>();
+        }
+
+        /**
+         * @param timestamp
+         *            The exception timestamp (milliseconds after JVM startup).
+         * @param thread
+         *            The throwing thread address.
+         */
+        private void add(long timestamp, long thread) {
+            count++;
+            first = Math.min(first, timestamp);
+            last = Math.max(last, timestamp);
+            threads.add(thread);
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getException() {
+            return exception;
+        }
+
+        public long getFirst() {
+            return first;
+        }
+
+        public long getLast() {
+            return last;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        /**
+         * @return The exceptions per second from the first to the last exception, or 0 if all in the same
+         *         millisecond.
+         */
+        public double getRate() {
+            return last > first ? count * 1000.0 / (last - first) : 0;
+        }
+
+        /**
+         * @return The number of distinct throwing threads.
+         */
+        public int getThreadCount() {
+            return threads.size();
+        }
+    }
+
+    /**
+     * Comparator for sorting heavy hitters by count (largest first), then by exception and location.
+     */
+    private static final Comparator<HeavyHitter> COUNT_COMPARATOR = new Comparator<HeavyHitter>() {
+        @Override
+        public int compare(HeavyHitter heavyHitter1, HeavyHitter heavyHitter2) {
+            int compare = Integer.compare(heavyHitter2.getCount(), heavyHitter1.getCount());
+            if (compare == 0) {
+                compare = heavyHitter1.getException().compareTo(heavyHitter2.getException());
+            }
+            if (compare == 0) {
+                compare = String.valueOf(heavyHitter1.getLocation())
+                        .compareTo(String.valueOf(heavyHitter2.getLocation()));
+            }
+            return compare;
+        }
+    };
+
+    /**
+     * Exception count by exception class, sorted by count (largest first).
+     */
+    private Map<String, Integer> exceptions;
+
+    /**
+     * The first exception timestamp (milliseconds after JVM startup), or Long.MIN_VALUE if none.
+     */
+    private long first = Long.MIN_VALUE;
+
+    /**
+     * Heavy hitters sorted by count (largest first).
+     */
+    private List<HeavyHitter> heavyHitters;
+
+    /**
+     * The last exception timestamp (milliseconds after JVM startup), or Long.MIN_VALUE if none.
+     */
+    private long last = Long.MIN_VALUE;
+
+    /**
+     * The number of exceptions.
+     */
+    private int total;
+
+    /**
+     * @param events
+     *            The <code>InternalExceptionEvent</code>s, in log order.
+     */
+    public InternalExceptionStatistics(List<InternalExceptionEvent> events) {
+        Map<String, HeavyHitter> byKey = new HashMap<String, HeavyHitter>();
+        Map<String, Integer> unsortedExceptions = new TreeMap<String, Integer>();
+        for (int i = 0; i < events.size(); i++) {
+            InternalExceptionEvent event = events.get(i);
+            if (event.getException() == null) {
+                continue;
+            }
+            String location = event.getLocation();
+            // JDK17+ logs the throw location on the next line
+            if (location == null && i + 1 < events.size() && events.get(i + 1).isThrownLocation()) {
+                location = events.get(i + 1).getLocation();
+            }
+            String key = event.getException() + "\u0000" + location;
+            HeavyHitter heavyHitter = byKey.get(key);
+            if (heavyHitter == null) {
+                heavyHitter = new HeavyHitter(event.getException(), location);
+                byKey.put(key, heavyHitter);
+            }
+            heavyHitter.add(event.getTimestamp(), event.getThread());
+            Integer count = unsortedExceptions.get(event.getException());
+            unsortedExceptions.put(event.getException(), count == null ? 1 : count + 1);
+            if (first == Long.MIN_VALUE || event.getTimestamp() < first) {
+                first = event.getTimestamp();
+            }
+            last = Math.max(last, event.getTimestamp());
+            total++;
+        }
+        heavyHitters = new ArrayList<HeavyHitter>(byKey.values());
+        Collections.sort(heavyHitters, COUNT_COMPARATOR);
+        exceptions = KrashUtil.sortByCount(unsortedExceptions);
+    }
+
+    /**
+     * @return Exception count by exception class, sorted by count (largest first).
+     */
+    public Map<String, Integer> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * @return The first exception timestamp (milliseconds after JVM startup), or Long.MIN_VALUE if none.
+     */
+    public long getFirst() {
+        return first;
+    }
+
+    /**
+     * @param limit
+     *            The maximum number of heavy hitters.
+     * @return The exception class and throw location combinations with the most exceptions, largest first.
+     */
+    public List<HeavyHitter> getHeavyHitters(int limit) {
+        return Collections.unmodifiableList(heavyHitters.subList(0, Math.min(limit, heavyHitters.size())));
+    }
+
+    /**
+     * @return The last exception timestamp (milliseconds after JVM startup), or Long.MIN_VALUE if none.
+     */
+    public long getLast() {
+        return last;
+    }
+
+    /**
+     * @return The exceptions per second from the first to the last exception, or 0 if all in the same millisecond.
+     */
+    public double getRate() {
+        return last > first ? total * 1000.0 / (last - first) : 0;
+    }
+
+    /**
+     * @return The number of exceptions.
+     */
+    public int getTotal() {
+        return total;
+    }
+}
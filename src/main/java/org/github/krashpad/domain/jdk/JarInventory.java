@@ -0,0 +1,277 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * The jars mapped into the JVM process (from the <code>DynamicLibrary</code> events), de-duplicated and indexed by
+ * artifact, with the artifact name and version parsed from the file name (e.g. postgresql-42.2.5.jar,
+ * org.eclipse.core.runtime_3.18.0.v20200506-2143.jar).
+ * </p>
+ * 
+ * <p>
+ * Multiple versions of the same artifact on the class path (e.g. a library bundled in the application and provided by
+ * the application server) is a common cause of <code>NoSuchMethodError</code>, <code>LinkageError</code>, and
+ * <code>ClassCastException</code>.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class JarInventory {
+
+    /**
+     * A jar.
+     */
+    public static class Jar {
+
+        /**
+         * The artifact name (the file name without the version and extension).
+         */
+        private String artifact;
+
+        /**
+         * The file name.
+         */
+        private String file;
+
+        /**
+         * The file path.
+         */
+        private String path;
+
+        /**
+         * The version, or null if the file name has no version.
+         */
+        private String version;
+
+        /**
+         * @param path
+         *            The file path.
+         */
+        public Jar(String path) {
+            this.path = path;
+            file = org.github.joa.util.JdkRegEx.getFile(path);
+            Matcher matcher = ARTIFACT_VERSION.matcher(file);
+            if (matcher.find()) {
+                artifact = matcher.group(1);
+                version = matcher.group(2);
+            } else {
+                artifact = file.substring(0, file.length() - 4);
+            }
+        }
+
+        public String getArtifact() {
+            return artifact;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public String toString() {
+            return path;
+        }
+    }
+
+    /**
+     * Artifact and version in a jar file name: the version follows a "-" (Maven) or "_" (OSGi) and is a dotted number
+     * with optional qualifiers (e.g. 27.1-jre, 5.4.2.Final, 3.18.0.v20200506-2143). A qualifier is not a dotted
+     * number, so a version in the artifact name is part of the artifact (e.g. log4j-1.2-api-2.17.1.jar).
+     */
+    private static final Pattern ARTIFACT_VERSION = Pattern
+            .compile("^(.+?)[-_](\\d+(?:\\.\\d+)*(?:[-._](?!\\d+\\.\\d)[A-Za-z0-9]+)*)\\.jar$");
+
+    /**
+     * Jars by artifact.
+     */
+    private Map<String, List<Jar>> artifacts = new HashMap<String, List<Jar>>();
+
+    /**
+     * Jars by path, in mapping order.
+     */
+    private Map<String, Jar> jars = new LinkedHashMap<String, Jar>();
+
+    /**
+     * @param dynamicLibraries
+     *            The <code>DynamicLibrary</code> events.
+     */
+    public JarInventory(List<DynamicLibrary> dynamicLibraries) {
+        Iterator<DynamicLibrary> iterator = dynamicLibraries.iterator();
+        while (iterator.hasNext()) {
+            DynamicLibrary event = iterator.next();
+            // Check the extension first to avoid the regular expression for the (many) non-jar mappings
+            if (event.getLogEntry() != null && event.getLogEntry().endsWith(".jar") && event.isJar()
+                    && event.getFilePath() != null && !jars.containsKey(event.getFilePath())) {
+                Jar jar = new Jar(event.getFilePath());
+                jars.put(jar.getPath(), jar);
+                List<Jar> artifactJars = artifacts.get(jar.getArtifact());
+                if (artifactJars == null) {
+                    artifactJars = new ArrayList<Jar>();
+                    artifacts.put(jar.getArtifact(), artifactJars);
+                }
+                artifactJars.add(jar);
+            }
+        }
+    }
+
+    /**
+     * @return Artifacts with more than one version, sorted by artifact.
+     */
+    public Map<String, List<String>> getConflicts() {
+        Map<String, List<String>> conflicts = new TreeMap<String, List<String>>();
+        Iterator<Map.Entry<String, List<Jar>>> iterator = artifacts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<Jar>> entry = iterator.next();
+            if (entry.getValue().size() > 1) {
+                List<String> versions = getVersions(entry.getKey());
+                if (versions.size() > 1) {
+                    conflicts.put(entry.getKey(), versions);
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * @return Jars with the same artifact and version mapped from more than one path, sorted by artifact.
+     */
+    public Map<String, List<Jar>> getDuplicates() {
+        Map<String, List<Jar>> duplicates = new TreeMap<String, List<Jar>>();
+        Iterator<Map.Entry<String, List<Jar>>> iterator = artifacts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<Jar>> entry = iterator.next();
+            if (entry.getValue().size() > 1) {
+                Map<String, List<Jar>> byVersion = new HashMap<String, List<Jar>>();
+                for (Jar jar : entry.getValue()) {
+                    String key = jar.getVersion() == null ? "" : jar.getVersion();
+                    if (!byVersion.containsKey(key)) {
+                        byVersion.put(key, new ArrayList<Jar>());
+                    }
+                    byVersion.get(key).add(jar);
+                }
+                for (List<Jar> sameVersion : byVersion.values()) {
+                    if (sameVersion.size() > 1) {
+                        duplicates.put(entry.getKey(), sameVersion);
+                    }
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * @param path
+     *            The jar file path.
+     * @return The <code>Jar</code>, or null if not mapped.
+     */
+    public Jar getJar(String path) {
+        return jars.get(path);
+    }
+
+    /**
+     * @return The jars, in mapping order.
+     */
+    public List<Jar> getJars() {
+        return new ArrayList<Jar>(jars.values());
+    }
+
+    /**
+     * @param artifact
+     *            The artifact name (e.g. "postgresql").
+     * @return The jars for the artifact, in mapping order.
+     */
+    public List<Jar> getJars(String artifact) {
+        List<Jar> artifactJars = artifacts.get(artifact);
+        return artifactJars == null ? Collections.<Jar> emptyList() : Collections.unmodifiableList(artifactJars);
+    }
+
+    /**
+     * @return The jar file paths, in mapping order.
+     */
+    public List<String> getPaths() {
+        return new ArrayList<String>(jars.keySet());
+    }
+
+    /**
+     * @param artifact
+     *            The artifact name.
+     * @return The distinct versions of the artifact, sorted.
+     */
+    public List<String> getVersions(String artifact) {
+        TreeSet<String> versions = new TreeSet<String>();
+        for (Jar jar : getJars(artifact)) {
+            if (jar.getVersion() != null) {
+                versions.add(jar.getVersion());
+            }
+        }
+        return new ArrayList<String>(versions);
+    }
+
+    /**
+     * @param artifact
+     *            The artifact name.
+     * @return true if a jar for the artifact is mapped, false otherwise.
+     */
+    public boolean hasArtifact(String artifact) {
+        return artifacts.containsKey(artifact);
+    }
+
+    /**
+     * @param regEx
+     *            A file path regular expression.
+     * @return true if a jar path matches the regular expression, false otherwise.
+     */
+    public boolean hasPath(String regEx) {
+        boolean hasPath = false;
+        Pattern pattern = Pattern.compile(regEx);
+        Iterator<String> iterator = jars.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (pattern.matcher(iterator.next()).matches()) {
+                hasPath = true;
+                break;
+            }
+        }
+        return hasPath;
+    }
+
+    /**
+     * @return The number of distinct jars.
+     */
+    public int size() {
+        return jars.size();
+    }
+}
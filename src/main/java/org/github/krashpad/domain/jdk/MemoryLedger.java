@@ -0,0 +1,666 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.krashpad.util.jdk.JdkMath;
+import org.github.krashpad.util.jdk.JdkRegEx;
+import org.github.krashpad.util.jdk.JdkUtil;
+
+/**
+ * <p>
+ * Memory values observed in the fatal error log, collected in a single pass over the <code>Heap</code>,
+ * <code>Meminfo</code>, <code>GcPreciousLog</code>, <code>ProcessMemory</code>, <code>ContainerInfo</code>, and
+ * <code>Memory</code> events: the JVM heap and metaspace, the process resident/virtual/swapped size, the host physical
+ * memory, swap, and commit limit, and the cgroup memory limit and usage.
+ * </p>
+ * 
+ * <p>
+ * Values are in bytes, or Long.MIN_VALUE if undetermined. Values derived from JVM options and flags (e.g. thread
+ * stacks, direct memory, code cache) are not logged as observations and are not part of the ledger.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class MemoryLedger {
+
+    /**
+     * The cgroup memory usage percent of the cgroup memory limit at or above which the container is considered
+     * saturated.
+     */
+    public static final int CGROUP_SATURATED_PERCENT = 95;
+
+    /**
+     * Regular expression for a cgroup memory setting. The value is in bytes, or kilobytes if followed by " k".
+     */
+    private static final Pattern CGROUP_MEMORY = Pattern.compile(
+            "^(memory_limit_in_bytes|memory_and_swap_limit_in_bytes|memory_usage_in_bytes|memory_max_usage_in_bytes): "
+                    + "(\\d{1,})( k)?$");
+
+    /**
+     * Regular expression for the Windows process commit charge.
+     */
+    private static final Pattern COMMIT_CHARGE = Pattern
+            .compile("current process commit charge \\(\"private bytes\"\\): (\\d{1,})M, peak: \\d{1,}M");
+
+    /**
+     * Regular expression for the G1 used size.
+     */
+    private static final Pattern G1 = Pattern.compile(JdkRegEx.G1);
+
+    /**
+     * Regular expression for the G1 committed size.
+     */
+    private static final Pattern G1_SIZE = Pattern.compile(JdkRegEx.G1_SIZE);
+
+    /**
+     * Regular expression for the physical memory logged by gc precious log.
+     */
+    private static final Pattern GC_PRECIOUS_LOG_MEMORY = Pattern.compile("Memory: (\\d{1,})M");
+
+    /**
+     * Regular expression for meminfo CommitLimit.
+     */
+    private static final Pattern MEMINFO_COMMIT_LIMIT = Pattern.compile("CommitLimit:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for meminfo Committed_AS.
+     */
+    private static final Pattern MEMINFO_COMMITTED_AS = Pattern.compile("Committed_AS:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for meminfo MemAvailable.
+     */
+    private static final Pattern MEMINFO_MEM_AVAILABLE = Pattern.compile("MemAvailable:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for meminfo MemFree.
+     */
+    private static final Pattern MEMINFO_MEM_FREE = Pattern.compile("MemFree:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for meminfo MemTotal.
+     */
+    private static final Pattern MEMINFO_MEM_TOTAL = Pattern.compile("MemTotal:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for meminfo SwapFree.
+     */
+    private static final Pattern MEMINFO_SWAP_FREE = Pattern.compile("SwapFree:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for meminfo SwapTotal.
+     */
+    private static final Pattern MEMINFO_SWAP_TOTAL = Pattern.compile("SwapTotal:[ ]{0,}(\\d{1,}) kB");
+
+    /**
+     * Regular expression for the metaspace sizes.
+     */
+    private static final Pattern METASPACE_SIZE = Pattern.compile(JdkRegEx.METASPACE_SIZE);
+
+    /**
+     * Regular expression for the old generation sizes.
+     */
+    private static final Pattern OLD_GEN_SIZE = Pattern.compile(JdkRegEx.OLD_GEN_SIZE);
+
+    /**
+     * Regular expression for the process resident set size.
+     */
+    private static final Pattern RSS = Pattern.compile("^Resident Set Size: (\\d{1,})K .+$");
+
+    /**
+     * Regular expression for the Shenandoah sizes.
+     */
+    private static final Pattern SHENANDOAH_SIZE = Pattern.compile(JdkRegEx.SHENANDOAH_SIZE);
+
+    /**
+     * Regular expression for the process memory swapped out.
+     */
+    private static final Pattern SWAPPED_OUT = Pattern.compile("^Swapped out: (\\d{1,})K$");
+
+    /**
+     * Regular expression for the process virtual size.
+     */
+    private static final Pattern VIRTUAL = Pattern.compile("^Virtual Size: (\\d{1,})K .+$");
+
+    /**
+     * Regular expression for the young generation sizes.
+     */
+    private static final Pattern YOUNG_GEN_SIZE = Pattern.compile(JdkRegEx.YOUNG_GEN_SIZE);
+
+    /**
+     * Regular expression for the Z used size.
+     */
+    private static final Pattern Z = Pattern.compile(JdkRegEx.Z);
+
+    /**
+     * Regular expression for the Z committed size.
+     */
+    private static final Pattern Z_SIZE = Pattern.compile(JdkRegEx.Z_SIZE);
+
+    /**
+     * Convert a matched size to bytes.
+     * 
+     * @param matcher
+     *            The <code>Matcher</code>.
+     * @param valueGroup
+     *            The group with the size value.
+     * @param unitsGroup
+     *            The group with the size units, null if bytes.
+     * @return The size in bytes.
+     */
+    private static long toBytes(Matcher matcher, int valueGroup, int unitsGroup) {
+        long value = Long.parseLong(matcher.group(valueGroup));
+        char fromUnits;
+        if (matcher.group(unitsGroup) != null) {
+            fromUnits = matcher.group(unitsGroup).charAt(0);
+        } else {
+            fromUnits = 'B';
+        }
+        return JdkUtil.convertSize(value, fromUnits, 'B');
+    }
+
+    /**
+     * The cgroup memory and swap limit (bytes).
+     */
+    private long cgroupMemoryAndSwapLimit = Long.MIN_VALUE;
+
+    /**
+     * The cgroup memory limit (bytes).
+     */
+    private long cgroupMemoryLimit = Long.MIN_VALUE;
+
+    /**
+     * The cgroup memory max usage (bytes).
+     */
+    private long cgroupMemoryMaxUsage = Long.MIN_VALUE;
+
+    /**
+     * The cgroup memory usage (bytes).
+     */
+    private long cgroupMemoryUsage = Long.MIN_VALUE;
+
+    /**
+     * The Windows process commit charge (bytes).
+     */
+    private long commitCharge = Long.MIN_VALUE;
+
+    /**
+     * The meminfo CommitLimit (bytes).
+     */
+    private long commitLimit = Long.MIN_VALUE;
+
+    /**
+     * The meminfo Committed_AS (bytes).
+     */
+    private long committedAs = Long.MIN_VALUE;
+
+    /**
+     * The heap committed (bytes).
+     */
+    private long heapCommitted = Long.MIN_VALUE;
+
+    /**
+     * The heap used (bytes).
+     */
+    private long heapUsed = Long.MIN_VALUE;
+
+    /**
+     * The meminfo MemAvailable (bytes).
+     */
+    private long memAvailable = Long.MIN_VALUE;
+
+    /**
+     * The meminfo MemFree (bytes).
+     */
+    private long memFree = Long.MIN_VALUE;
+
+    /**
+     * The meminfo MemTotal, or the gc precious log physical memory (bytes).
+     */
+    private long memTotal = Long.MIN_VALUE;
+
+    /**
+     * The metaspace committed (bytes).
+     */
+    private long metaspaceCommitted = Long.MIN_VALUE;
+
+    /**
+     * The metaspace reserved (bytes).
+     */
+    private long metaspaceReserved = Long.MIN_VALUE;
+
+    /**
+     * The metaspace used (bytes).
+     */
+    private long metaspaceUsed = Long.MIN_VALUE;
+
+    /**
+     * The <code>Memory</code> header physical free (bytes).
+     */
+    private long physicalFree = Long.MIN_VALUE;
+
+    /**
+     * The <code>Memory</code> header physical total (bytes).
+     */
+    private long physicalTotal = Long.MIN_VALUE;
+
+    /**
+     * The process resident set size (bytes).
+     */
+    private long rss = Long.MIN_VALUE;
+
+    /**
+     * The meminfo SwapFree (bytes).
+     */
+    private long swapFree = Long.MIN_VALUE;
+
+    /**
+     * The process memory swapped out (bytes).
+     */
+    private long swappedOut = Long.MIN_VALUE;
+
+    /**
+     * The meminfo SwapTotal (bytes).
+     */
+    private long swapTotal = Long.MIN_VALUE;
+
+    /**
+     * The process virtual size (bytes).
+     */
+    private long virtual = Long.MIN_VALUE;
+
+    /**
+     * @param heaps
+     *            The <code>Heap</code> events.
+     * @param meminfos
+     *            The <code>Meminfo</code> events.
+     * @param gcPreciousLogs
+     *            The <code>GcPreciousLog</code> events.
+     * @param processMemories
+     *            The <code>ProcessMemory</code> events.
+     * @param containerInfos
+     *            The <code>ContainerInfo</code> events.
+     * @param memories
+     *            The <code>Memory</code> events.
+     */
+    public MemoryLedger(List<Heap> heaps, List<Meminfo> meminfos, List<GcPreciousLog> gcPreciousLogs,
+            List<ProcessMemory> processMemories, List<ContainerInfo> containerInfos, List<Memory> memories) {
+        scanHeaps(heaps);
+        scanMeminfos(meminfos);
+        if (memTotal < 0) {
+            Iterator<GcPreciousLog> iterator = gcPreciousLogs.iterator();
+            while (iterator.hasNext()) {
+                Matcher matcher = GC_PRECIOUS_LOG_MEMORY.matcher(iterator.next().getLogEntry());
+                if (matcher.find()) {
+                    memTotal = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
+                    break;
+                }
+            }
+        }
+        scanProcessMemories(processMemories);
+        scanContainerInfos(containerInfos);
+        scanMemories(memories);
+    }
+
+    public long getCgroupMemoryAndSwapLimit() {
+        return cgroupMemoryAndSwapLimit;
+    }
+
+    public long getCgroupMemoryLimit() {
+        return cgroupMemoryLimit;
+    }
+
+    public long getCgroupMemoryMaxUsage() {
+        return cgroupMemoryMaxUsage;
+    }
+
+    public long getCgroupMemoryUsage() {
+        return cgroupMemoryUsage;
+    }
+
+    /**
+     * @return The cgroup memory usage as a percent of the cgroup memory limit, or Integer.MIN_VALUE if the container
+     *         is not memory limited or the usage is undetermined.
+     */
+    public int getCgroupMemoryUsagePercent() {
+        int cgroupMemoryUsagePercent = Integer.MIN_VALUE;
+        if (isCgroupLimited() && cgroupMemoryUsage >= 0) {
+            cgroupMemoryUsagePercent = JdkMath.calcPercent(cgroupMemoryUsage, cgroupMemoryLimit);
+        }
+        return cgroupMemoryUsagePercent;
+    }
+
+    public long getCommitCharge() {
+        return commitCharge;
+    }
+
+    public long getCommitLimit() {
+        return commitLimit;
+    }
+
+    public long getCommittedAs() {
+        return committedAs;
+    }
+
+    /**
+     * @return The memory limit that applies to the JVM process: the cgroup memory limit if lower than the host
+     *         physical memory, otherwise the host physical memory, or Long.MIN_VALUE if undetermined.
+     */
+    public long getEffectiveMemoryLimit() {
+        long effectiveMemoryLimit = getHostMemoryTotal();
+        if (isCgroupLimited() && (effectiveMemoryLimit <= 0 || cgroupMemoryLimit < effectiveMemoryLimit)) {
+            effectiveMemoryLimit = cgroupMemoryLimit;
+        }
+        return effectiveMemoryLimit;
+    }
+
+    /**
+     * @return The memory remaining under the effective memory limit: the limit minus the cgroup usage when cgroup
+     *         limited, otherwise the host available (or free) memory, or Long.MIN_VALUE if undetermined.
+     */
+    public long getHeadroom() {
+        long headroom = Long.MIN_VALUE;
+        if (isCgroupLimited() && cgroupMemoryUsage >= 0 && getEffectiveMemoryLimit() == cgroupMemoryLimit) {
+            headroom = cgroupMemoryLimit - cgroupMemoryUsage;
+        } else if (memAvailable >= 0) {
+            headroom = memAvailable;
+        } else if (physicalFree >= 0) {
+            headroom = physicalFree;
+        } else if (memFree >= 0) {
+            headroom = memFree;
+        }
+        return headroom;
+    }
+
+    public long getHeapCommitted() {
+        return heapCommitted;
+    }
+
+    public long getHeapUsed() {
+        return heapUsed;
+    }
+
+    /**
+     * @return The host physical memory: the meminfo MemTotal, otherwise the <code>Memory</code> header physical total
+     *         (the container memory when running in a container), or Long.MIN_VALUE if undetermined.
+     */
+    public long getHostMemoryTotal() {
+        return memTotal >= 0 ? memTotal : physicalTotal;
+    }
+
+    public long getMemAvailable() {
+        return memAvailable;
+    }
+
+    public long getMemFree() {
+        return memFree;
+    }
+
+    public long getMemTotal() {
+        return memTotal;
+    }
+
+    public long getMetaspaceCommitted() {
+        return metaspaceCommitted;
+    }
+
+    public long getMetaspaceReserved() {
+        return metaspaceReserved;
+    }
+
+    public long getMetaspaceUsed() {
+        return metaspaceUsed;
+    }
+
+    public long getPhysicalFree() {
+        return physicalFree;
+    }
+
+    public long getPhysicalTotal() {
+        return physicalTotal;
+    }
+
+    public long getRss() {
+        return rss;
+    }
+
+    public long getSwapFree() {
+        return swapFree;
+    }
+
+    public long getSwappedOut() {
+        return swappedOut;
+    }
+
+    public long getSwapTotal() {
+        return swapTotal;
+    }
+
+    public long getVirtual() {
+        return virtual;
+    }
+
+    /**
+     * @return true if the cgroup memory usage is at or above {@link #CGROUP_SATURATED_PERCENT} of the cgroup memory
+     *         limit, false otherwise.
+     */
+    public boolean isCgroupMemorySaturated() {
+        return getCgroupMemoryUsagePercent() >= CGROUP_SATURATED_PERCENT;
+    }
+
+    /**
+     * @return true if the cgroup memory limit is set, false otherwise.
+     */
+    public boolean isCgroupLimited() {
+        return cgroupMemoryLimit > 0;
+    }
+
+    /**
+     * Collect the cgroup memory settings. Values other than a size (e.g. "unlimited", "-1", "-2") mean no limit or not
+     * supported.
+     * 
+     * @param containerInfos
+     *            The <code>ContainerInfo</code> events.
+     */
+    private void scanContainerInfos(List<ContainerInfo> containerInfos) {
+        Iterator<ContainerInfo> iterator = containerInfos.iterator();
+        while (iterator.hasNext()) {
+            Matcher matcher = CGROUP_MEMORY.matcher(iterator.next().getLogEntry());
+            if (matcher.find()) {
+                long value = Long.parseLong(matcher.group(2));
+                if (matcher.group(3) != null) {
+                    value = JdkUtil.convertSize(value, 'K', 'B');
+                }
+                String setting = matcher.group(1);
+                if (setting.equals("memory_limit_in_bytes") && cgroupMemoryLimit == Long.MIN_VALUE) {
+                    cgroupMemoryLimit = value;
+                } else if (setting.equals("memory_and_swap_limit_in_bytes")
+                        && cgroupMemoryAndSwapLimit == Long.MIN_VALUE) {
+                    cgroupMemoryAndSwapLimit = value;
+                } else if (setting.equals("memory_usage_in_bytes") && cgroupMemoryUsage == Long.MIN_VALUE) {
+                    cgroupMemoryUsage = value;
+                } else if (setting.equals("memory_max_usage_in_bytes") && cgroupMemoryMaxUsage == Long.MIN_VALUE) {
+                    cgroupMemoryMaxUsage = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sum the committed and used sizes of the heap spaces, and get the metaspace sizes from the first metaspace line.
+     * 
+     * @param heaps
+     *            The <code>Heap</code> events.
+     */
+    private void scanHeaps(List<Heap> heaps) {
+        if (!heaps.isEmpty()) {
+            heapCommitted = 0;
+        }
+        Iterator<Heap> iterator = heaps.iterator();
+        while (iterator.hasNext()) {
+            Heap event = iterator.next();
+            String logEntry = event.getLogEntry();
+            Matcher committed = null;
+            int committedGroup = 0;
+            Matcher used = null;
+            int usedGroup = 0;
+            if (event.isYoungGen()) {
+                committed = YOUNG_GEN_SIZE.matcher(logEntry);
+                committedGroup = 3;
+                used = YOUNG_GEN_SIZE.matcher(logEntry);
+                usedGroup = 6;
+            } else if (event.isOldGen()) {
+                committed = OLD_GEN_SIZE.matcher(logEntry);
+                committedGroup = 2;
+                used = OLD_GEN_SIZE.matcher(logEntry);
+                usedGroup = 5;
+            } else if (event.isShenandoah()) {
+                committed = SHENANDOAH_SIZE.matcher(logEntry);
+                committedGroup = 9;
+                used = SHENANDOAH_SIZE.matcher(logEntry);
+                usedGroup = 12;
+            } else if (event.isG1()) {
+                committed = G1_SIZE.matcher(logEntry);
+                committedGroup = 5;
+                used = G1.matcher(logEntry);
+                usedGroup = 9;
+            } else if (event.isZ()) {
+                committed = Z_SIZE.matcher(logEntry);
+                committedGroup = 4;
+                used = Z.matcher(logEntry);
+                usedGroup = 1;
+            }
+            if (committed != null && committed.find()) {
+                heapCommitted += toBytes(committed, committedGroup, committedGroup + 2);
+            }
+            if (used != null && used.find()) {
+                if (heapUsed == Long.MIN_VALUE) {
+                    heapUsed = toBytes(used, usedGroup, usedGroup + 2);
+                } else {
+                    heapUsed += toBytes(used, usedGroup, usedGroup + 2);
+                }
+            }
+            if (metaspaceUsed == Long.MIN_VALUE && event.isMetaspace()) {
+                Matcher matcher = METASPACE_SIZE.matcher(logEntry);
+                if (matcher.find()) {
+                    metaspaceUsed = toBytes(matcher, 1, 3);
+                    metaspaceCommitted = toBytes(matcher, 8, 10);
+                    metaspaceReserved = toBytes(matcher, 11, 13);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the first occurrence of each meminfo value.
+     * 
+     * @param meminfos
+     *            The <code>Meminfo</code> events.
+     */
+    private void scanMeminfos(List<Meminfo> meminfos) {
+        Iterator<Meminfo> iterator = meminfos.iterator();
+        while (iterator.hasNext()) {
+            String logEntry = iterator.next().getLogEntry();
+            memTotal = scanMeminfo(MEMINFO_MEM_TOTAL, logEntry, memTotal);
+            memFree = scanMeminfo(MEMINFO_MEM_FREE, logEntry, memFree);
+            memAvailable = scanMeminfo(MEMINFO_MEM_AVAILABLE, logEntry, memAvailable);
+            swapTotal = scanMeminfo(MEMINFO_SWAP_TOTAL, logEntry, swapTotal);
+            swapFree = scanMeminfo(MEMINFO_SWAP_FREE, logEntry, swapFree);
+            commitLimit = scanMeminfo(MEMINFO_COMMIT_LIMIT, logEntry, commitLimit);
+            committedAs = scanMeminfo(MEMINFO_COMMITTED_AS, logEntry, committedAs);
+        }
+    }
+
+    /**
+     * @param pattern
+     *            The meminfo value <code>Pattern</code>.
+     * @param logEntry
+     *            The meminfo log entry.
+     * @param current
+     *            The value found so far.
+     * @return The current value if already found, otherwise the matched value in bytes, or Long.MIN_VALUE if no match.
+     */
+    private long scanMeminfo(Pattern pattern, String logEntry, long current) {
+        long value = current;
+        if (current == Long.MIN_VALUE) {
+            Matcher matcher = pattern.matcher(logEntry);
+            if (matcher.find()) {
+                value = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get the first <code>Memory</code> header physical total and free, and the first commit charge.
+     * 
+     * @param memories
+     *            The <code>Memory</code> events.
+     */
+    private void scanMemories(List<Memory> memories) {
+        boolean header = false;
+        Iterator<Memory> iterator = memories.iterator();
+        while (iterator.hasNext()) {
+            Memory event = iterator.next();
+            if (!header && event.isHeader()) {
+                physicalTotal = event.getPhysicalTotal();
+                physicalFree = event.getPhysicalFree();
+                header = true;
+            }
+            if (commitCharge == Long.MIN_VALUE) {
+                Matcher matcher = COMMIT_CHARGE.matcher(event.getLogEntry());
+                if (matcher.find()) {
+                    commitCharge = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'M', 'B');
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the first process resident set size, virtual size, and swapped out size.
+     * 
+     * @param processMemories
+     *            The <code>ProcessMemory</code> events.
+     */
+    private void scanProcessMemories(List<ProcessMemory> processMemories) {
+        Iterator<ProcessMemory> iterator = processMemories.iterator();
+        while (iterator.hasNext()) {
+            ProcessMemory event = iterator.next();
+            Matcher matcher = null;
+            if (event.isRss() && rss == Long.MIN_VALUE) {
+                matcher = RSS.matcher(event.getLogEntry());
+                if (matcher.find()) {
+                    rss = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
+                }
+            } else if (event.isVirtual() && virtual == Long.MIN_VALUE) {
+                matcher = VIRTUAL.matcher(event.getLogEntry());
+                if (matcher.find()) {
+                    virtual = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
+                }
+            } else if (event.isSwapped() && swappedOut == Long.MIN_VALUE) {
+                matcher = SWAPPED_OUT.matcher(event.getLogEntry());
+                if (matcher.find()) {
+                    swappedOut = JdkUtil.convertSize(Long.parseLong(matcher.group(1)), 'K', 'B');
+                }
+            }
+        }
+    }
+}
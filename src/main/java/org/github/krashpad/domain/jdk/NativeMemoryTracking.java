@@ -97,9 +97,36 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
             "Synchronizer", "Thread", "Tracing", "Unknown" };
 
     public static final String _REGEX_CATEGORY = "-[ ]{1,}(" + String.join("|", CATEGORY)
-            + ") \\(reserved=\\d{1,}KB, committed=(\\d{1,})KB(, readonly=\\d{1,}KB)?\\)";
+            + ") \\(reserved=(\\d{1,})KB, committed=(\\d{1,})KB(, readonly=\\d{1,}KB)?\\)";
 
-    public static final String _REGEX_TOTAL = "Total: reserved=\\d{1,}KB, committed=(\\d{1,})KB";
+    public static final String _REGEX_TOTAL = "Total: reserved=(\\d{1,})KB, committed=(\\d{1,})KB";
+
+    /**
+     * Regular expression for category arena memory (e.g. "(arena=7124KB #12155)").
+     */
+    private static final String _REGEX_ARENA = "^[ ]{1,}\\([ ]{0,}arena=(\\d{1,})KB( #(\\d{1,}))?";
+
+    /**
+     * Regular expression for category malloc memory (e.g. "(malloc=6038KB #64830)").
+     */
+    private static final String _REGEX_MALLOC = "^[ ]{1,}\\([ ]{0,}malloc=(\\d{1,})KB( #(\\d{1,}))?";
+
+    /**
+     * Regular expression for category mmap memory (e.g. "(mmap: reserved=1230848KB, committed=208588KB)"). Thread
+     * stacks (e.g. "(stack: reserved=6250236KB, committed=6250236KB)") are mmapped.
+     */
+    private static final String _REGEX_MMAP = "^[ ]{1,}\\([ ]{0,}(mmap|stack): reserved=(\\d{1,})KB, "
+            + "committed=(\\d{1,})KB";
+
+    private static final Pattern PATTERN_ARENA = Pattern.compile(_REGEX_ARENA);
+
+    private static final Pattern PATTERN_CATEGORY = Pattern.compile(_REGEX_CATEGORY);
+
+    private static final Pattern PATTERN_MALLOC = Pattern.compile(_REGEX_MALLOC);
+
+    private static final Pattern PATTERN_MMAP = Pattern.compile(_REGEX_MMAP);
+
+    private static final Pattern PATTERN_TOTAL = Pattern.compile(_REGEX_TOTAL);
 
     private static final String REGEX = "^(" + _REGEX_HEADER + "|" + _REGEX_CATEGORY + "|" + _REGEX_TOTAL + "|"
     // parentheses =
@@ -144,17 +171,28 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return Category arena count, or Integer.MIN_VALUE if not an arena line or no count.
+     */
+    public int getArenaCount() {
+        return getCount(PATTERN_ARENA);
+    }
+
+    /**
+     * @return Category arena memory (kilobytes), or Integer.MIN_VALUE if not an arena line.
+     */
+    public int getArenaSize() {
+        return getSize(PATTERN_ARENA);
+    }
+
     /**
      * @return memory category.
      */
     public String getCategory() {
         String category = null;
-        if (isCategory()) {
-            Pattern pattern = Pattern.compile(_REGEX_CATEGORY);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                category = matcher.group(1);
-            }
+        Matcher matcher = PATTERN_CATEGORY.matcher(logEntry);
+        if (matcher.matches()) {
+            category = matcher.group(1);
         }
         return category;
     }
@@ -164,16 +202,27 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
      */
     public int getCommitted() {
         int committed = Integer.MIN_VALUE;
-        if (isCategory()) {
-            Pattern pattern = Pattern.compile(_REGEX_CATEGORY);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                committed = Integer.valueOf(matcher.group(2));
-            }
+        Matcher matcher = PATTERN_CATEGORY.matcher(logEntry);
+        if (matcher.matches()) {
+            committed = Integer.parseInt(matcher.group(3));
         }
         return committed;
     }
 
+    /**
+     * @param pattern
+     *            The size and count pattern.
+     * @return The count, or Integer.MIN_VALUE if the log entry does not match or has no count.
+     */
+    private int getCount(Pattern pattern) {
+        int count = Integer.MIN_VALUE;
+        Matcher matcher = pattern.matcher(logEntry);
+        if (matcher.find() && matcher.group(3) != null) {
+            count = Integer.parseInt(matcher.group(3));
+        }
+        return count;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.NATIVE_MEMORY_TRACKING;
@@ -183,21 +232,94 @@ public class NativeMemoryTracking implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return Category malloc allocation count, or Integer.MIN_VALUE if not a malloc line or no count.
+     */
+    public int getMallocCount() {
+        return getCount(PATTERN_MALLOC);
+    }
+
+    /**
+     * @return Category malloc memory (kilobytes), or Integer.MIN_VALUE if not a malloc line.
+     */
+    public int getMallocSize() {
+        return getSize(PATTERN_MALLOC);
+    }
+
+    /**
+     * @return Category mmap committed memory (kilobytes), or Integer.MIN_VALUE if not an mmap line.
+     */
+    public int getMmapCommitted() {
+        int mmapCommitted = Integer.MIN_VALUE;
+        Matcher matcher = PATTERN_MMAP.matcher(logEntry);
+        if (matcher.find()) {
+            mmapCommitted = Integer.parseInt(matcher.group(3));
+        }
+        return mmapCommitted;
+    }
+
+    /**
+     * @return Category mmap reserved memory (kilobytes), or Integer.MIN_VALUE if not an mmap line.
+     */
+    public int getMmapReserved() {
+        int mmapReserved = Integer.MIN_VALUE;
+        Matcher matcher = PATTERN_MMAP.matcher(logEntry);
+        if (matcher.find()) {
+            mmapReserved = Integer.parseInt(matcher.group(2));
+        }
+        return mmapReserved;
+    }
+
+    /**
+     * @return reserved memory (kilobytes).
+     */
+    public int getReserved() {
+        int reserved = Integer.MIN_VALUE;
+        Matcher matcher = PATTERN_CATEGORY.matcher(logEntry);
+        if (matcher.matches()) {
+            reserved = Integer.parseInt(matcher.group(2));
+        }
+        return reserved;
+    }
+
+    /**
+     * @param pattern
+     *            The size and count pattern.
+     * @return The size (kilobytes), or Integer.MIN_VALUE if the log entry does not match.
+     */
+    private int getSize(Pattern pattern) {
+        int size = Integer.MIN_VALUE;
+        Matcher matcher = pattern.matcher(logEntry);
+        if (matcher.find()) {
+            size = Integer.parseInt(matcher.group(1));
+        }
+        return size;
+    }
+
     /**
      * @return Total committed memory (kilobytes).
      */
     public int getTotalCommitted() {
         int totalCommitted = Integer.MIN_VALUE;
-        if (isTotal()) {
-            Pattern pattern = Pattern.compile(_REGEX_TOTAL);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                totalCommitted = Integer.valueOf(matcher.group(1));
-            }
+        Matcher matcher = PATTERN_TOTAL.matcher(logEntry);
+        if (matcher.matches()) {
+            totalCommitted = Integer.parseInt(matcher.group(2));
         }
         return totalCommitted;
     }
 
+    /**
+     * @return Total reserved memory (kilobytes).
+     */
+    public int getTotalReserved() {
+        int totalReserved = Integer.MIN_VALUE;
+        Matcher matcher = PATTERN_TOTAL.matcher(logEntry);
+        if (matcher.matches()) {
+            totalReserved = Integer.parseInt(matcher.group(1));
+        }
+        return totalReserved;
+    }
+
     /**
      * @return true if the log line is a memory category, false otherwise.
      */
@@ -16,7 +16,8 @@ package org.github.krashpad.domain.jdk;
 
 /**
  * <p>
- * <code>NativeMemoryTracking</code> summary used for reporting.
+ * <code>NativeMemoryTracking</code> summary used for reporting. A typed model of one category (or the total) parsed
+ * once from the Native Memory Tracking section. Sizes are in kilobytes.
  * </p>
  * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
@@ -24,6 +25,16 @@ package org.github.krashpad.domain.jdk;
  */
 public class NativeMemoryTrackingSummary {
 
+    /**
+     * Arena chunk count.
+     */
+    private int arenaCount;
+
+    /**
+     * Arena memory (kilobytes).
+     */
+    private int arenaSize;
+
     /**
      * Memory category.
      */
@@ -34,6 +45,31 @@ public class NativeMemoryTrackingSummary {
      */
     private int committed;
 
+    /**
+     * Malloc allocation count.
+     */
+    private int mallocCount;
+
+    /**
+     * Malloc memory (kilobytes).
+     */
+    private int mallocSize;
+
+    /**
+     * Mmap memory committed (kilobytes), including thread stacks.
+     */
+    private int mmapCommitted;
+
+    /**
+     * Mmap memory reserved (kilobytes), including thread stacks.
+     */
+    private int mmapReserved;
+
+    /**
+     * Memory reserved (kilobytes).
+     */
+    private int reserved;
+
     /**
      * Default constructor.
      * 
@@ -47,6 +83,30 @@ public class NativeMemoryTrackingSummary {
         this.committed = committed;
     }
 
+    /**
+     * Constructor with reserved memory.
+     * 
+     * @param category
+     *            Memory category.
+     * @param reserved
+     *            Memory reserved (kilobytes).
+     * @param committed
+     *            Memory committed (kilobytes).
+     */
+    public NativeMemoryTrackingSummary(String category, int reserved, int committed) {
+        this.category = category;
+        this.reserved = reserved;
+        this.committed = committed;
+    }
+
+    public int getArenaCount() {
+        return arenaCount;
+    }
+
+    public int getArenaSize() {
+        return arenaSize;
+    }
+
     public String getCategory() {
         return category;
     }
@@ -55,4 +115,68 @@ public class NativeMemoryTrackingSummary {
         return committed;
     }
 
+    public int getMallocCount() {
+        return mallocCount;
+    }
+
+    public int getMallocSize() {
+        return mallocSize;
+    }
+
+    public int getMmapCommitted() {
+        return mmapCommitted;
+    }
+
+    public int getMmapReserved() {
+        return mmapReserved;
+    }
+
+    public int getReserved() {
+        return reserved;
+    }
+
+    public void setArenaCount(int arenaCount) {
+        this.arenaCount = arenaCount;
+    }
+
+    public void setArenaSize(int arenaSize) {
+        this.arenaSize = arenaSize;
+    }
+
+    public void setMallocCount(int mallocCount) {
+        this.mallocCount = mallocCount;
+    }
+
+    public void setMallocSize(int mallocSize) {
+        this.mallocSize = mallocSize;
+    }
+
+    public void setMmapCommitted(int mmapCommitted) {
+        this.mmapCommitted = mmapCommitted;
+    }
+
+    public void setMmapReserved(int mmapReserved) {
+        this.mmapReserved = mmapReserved;
+    }
+
+    /**
+     * @param baseline
+     *            The same category in a baseline log (e.g. an earlier crash of the same service), or null if the
+     *            category does not exist in the baseline.
+     * @return A summary holding the change in each value from the baseline to this summary.
+     */
+    public NativeMemoryTrackingSummary subtract(NativeMemoryTrackingSummary baseline) {
+        if (baseline == null) {
+            baseline = new NativeMemoryTrackingSummary(category, 0, 0);
+        }
+        NativeMemoryTrackingSummary delta = new NativeMemoryTrackingSummary(category, reserved - baseline.reserved,
+                committed - baseline.committed);
+        delta.mallocSize = mallocSize - baseline.mallocSize;
+        delta.mallocCount = mallocCount - baseline.mallocCount;
+        delta.mmapReserved = mmapReserved - baseline.mmapReserved;
+        delta.mmapCommitted = mmapCommitted - baseline.mmapCommitted;
+        delta.arenaSize = arenaSize - baseline.arenaSize;
+        delta.arenaCount = arenaCount - baseline.arenaCount;
+        return delta;
+    }
 }
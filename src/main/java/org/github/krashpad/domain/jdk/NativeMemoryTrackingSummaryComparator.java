@@ -28,7 +28,7 @@ public class NativeMemoryTrackingSummaryComparator implements Comparator<NativeM
 
     @Override
     public int compare(NativeMemoryTrackingSummary nmts1, NativeMemoryTrackingSummary nmts2) {
-        return nmts2.getCommitted() - nmts1.getCommitted();
+        return Integer.compare(nmts2.getCommitted(), nmts1.getCommitted());
     }
 
 }
@@ -14,8 +14,11 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
+import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -37,13 +40,15 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class PollingPage implements LogEvent, ThrowAwayEvent {
+public class PollingPage implements LogEvent {
 
     /**
      * Regular expression defining the logging.
      */
     private static final String REGEX = "^Polling page: " + JdkRegEx.ADDRESS + "$";
 
+    private static Pattern pattern = Pattern.compile(PollingPage.REGEX);
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -75,6 +80,18 @@ public class PollingPage implements LogEvent, ThrowAwayEvent {
         return LogEventType.POLLING_PAGE;
     }
 
+    /**
+     * @return The polling page address.
+     */
+    public long getAddress() {
+        long address = Long.MIN_VALUE;
+        Matcher matcher = pattern.matcher(logEntry);
+        if (matcher.find()) {
+            address = JdkMath.convertHexToDecimal(matcher.group(1));
+        }
+        return address;
+    }
+
     public String getLogEntry() {
         return logEntry;
     }
@@ -14,9 +14,13 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -58,13 +62,18 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class Register implements LogEvent, ThrowAwayEvent, HeaderEvent {
+public class Register implements LogEvent, HeaderEvent {
 
     /**
      * Regular expression for the header.
      */
     public static final String _REGEX_HEADER = "Registers:";
 
+    /**
+     * Regular expression for a single register value (e.g. RIP=0x00007fcbd05a3b71, R8 =0x0000000000000005).
+     */
+    private static Pattern patternRegister = Pattern.compile("([A-Za-z][A-Za-z0-9]*)[ ]{0,1}=(0x[0-9a-f]{8,16})");
+
     /**
      * Regular expression defining the logging.
      */
@@ -108,6 +117,18 @@ public class Register implements LogEvent, ThrowAwayEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The register values (e.g. RIP=0x00007fcbd05a3b71) in logging order, by register name.
+     */
+    public Map<String, String> getValues() {
+        Map<String, String> values = new LinkedHashMap<String, String>();
+        Matcher matcher = patternRegister.matcher(logEntry);
+        while (matcher.find()) {
+            values.put(matcher.group(1).trim(), matcher.group(2));
+        }
+        return values;
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -19,6 +19,7 @@ import java.util.regex.Pattern;
 
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.util.jdk.JdkMath;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -146,10 +147,38 @@ public class Stack implements LogEvent, HeaderEvent {
         return LogEventType.STACK;
     }
 
+    /**
+     * @return The stack end (high) address, or Long.MIN_VALUE if not the stack header.
+     */
+    public long getEndAddress() {
+        long endAddress = Long.MIN_VALUE;
+        if (isHeader()) {
+            Matcher matcher = pattern.matcher(logEntry);
+            if (matcher.find()) {
+                endAddress = JdkMath.convertHexToDecimal(matcher.group(7));
+            }
+        }
+        return endAddress;
+    }
+
     public String getLogEntry() {
         return logEntry;
     }
 
+    /**
+     * @return The stack start (low) address, or Long.MIN_VALUE if not the stack header.
+     */
+    public long getStartAddress() {
+        long startAddress = Long.MIN_VALUE;
+        if (isHeader()) {
+            Matcher matcher = pattern.matcher(logEntry);
+            if (matcher.find()) {
+                startAddress = JdkMath.convertHexToDecimal(matcher.group(2));
+            }
+        }
+        return startAddress;
+    }
+
     /**
      * @return The stack free space (kilobytes).
      */
@@ -14,6 +14,9 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
@@ -31,6 +34,7 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * 
  * <pre>
  * 0x00007f19aa5128e0 JavaThread "Thread-8" daemon [_thread_blocked, id=18881, stack(0x00007f199cf04000,0x00007f199d005000)]
+ * 0x000055ed3cb0a000 VMThread "VM Thread" [stack: 0x00007fd54bb15000,0x00007fd54bc15000] [id=1984]
  * </pre>
  * 
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
@@ -45,6 +49,30 @@ public class Thread implements LogEvent {
             + JdkRegEx.ADDRESS + "( \\(exited\\))?( (ConcurrentGC|GCTask|Java|VM|Watcher|Worker)?Thread)?|"
             + "\\[error occurred during error reporting \\(printing all threads\\)).*$";
 
+    /**
+     * Regular expression for the thread id (e.g. "id=18881").
+     */
+    private static final Pattern PATTERN_ID = Pattern.compile("id=(\\d{1,})");
+
+    /**
+     * Regular expression for the stack (e.g. "stack(0x00007f199cf04000,0x00007f199d005000)" or
+     * "stack: 0x00007fd54bb15000,0x00007fd54bc15000").
+     */
+    private static final Pattern PATTERN_STACK = Pattern
+            .compile("stack(\\(|: )(0x[0-9a-fA-F]{1,}),[ ]{0,}(0x[0-9a-fA-F]{1,})");
+
+    /**
+     * Regular expression for the thread state (e.g. "[_thread_blocked").
+     */
+    private static final Pattern PATTERN_STATE = Pattern.compile("\\[(_thread_[a-z_]{1,})");
+
+    /**
+     * Regular expression for the thread address, kind, and name. The name can include quotes and brackets, so it
+     * extends to the last quote.
+     */
+    private static final Pattern PATTERN_THREAD = Pattern.compile("^(  |=>)(0x[0-9a-fA-F]{1,})( \\(exited\\))? "
+            + "([A-Za-z]*Thread)( \"(.*)\")?");
+
     /**
      * Regular expression for the header.
      */
@@ -66,11 +94,61 @@ public class Thread implements LogEvent {
         return logLine.matches(REGEX);
     }
 
+    /**
+     * Thread address, or -1 if not a thread line.
+     */
+    private long address = -1;
+
+    /**
+     * Whether the thread is a daemon thread.
+     */
+    private boolean daemon;
+
+    /**
+     * Whether the thread had exited.
+     */
+    private boolean exited;
+
+    /**
+     * Thread kind (e.g. "JavaThread", "VMThread", "GCTaskThread").
+     */
+    private String kind;
+
     /**
      * The log entry for the event.
      */
     private String logEntry;
 
+    /**
+     * Thread name, or null if not named.
+     */
+    private String name;
+
+    /**
+     * OS thread id, or -1 if undetermined.
+     */
+    private long osThreadId = -1;
+
+    /**
+     * Whether the log entry has been parsed into fields.
+     */
+    private boolean parsed;
+
+    /**
+     * Stack end address, or -1 if undetermined.
+     */
+    private long stackEndAddress = -1;
+
+    /**
+     * Stack start address, or -1 if undetermined.
+     */
+    private long stackStartAddress = -1;
+
+    /**
+     * Thread state (e.g. "_thread_blocked"), or null if not reported.
+     */
+    private String state;
+
     /**
      * Create event from log entry.
      * 
@@ -81,17 +159,158 @@ public class Thread implements LogEvent {
         this.logEntry = logEntry;
     }
 
+    /**
+     * @return The thread address, or -1 if not a thread line.
+     */
+    public long getAddress() {
+        parse();
+        return address;
+    }
+
     @Override
     public LogEventType getEventType() {
         return LogEventType.THREAD;
     }
 
+    /**
+     * @return The thread kind (e.g. "JavaThread", "VMThread", "GCTaskThread"), or null if not a thread line.
+     */
+    public String getKind() {
+        parse();
+        return kind;
+    }
+
     public String getLogEntry() {
         return logEntry;
     }
 
+    /**
+     * @return The thread name, or null if not named.
+     */
+    public String getName() {
+        parse();
+        return name;
+    }
+
+    /**
+     * @return The OS thread id, or -1 if undetermined.
+     */
+    public long getOsThreadId() {
+        parse();
+        return osThreadId;
+    }
+
+    /**
+     * @return The stack end address, or -1 if undetermined.
+     */
+    public long getStackEndAddress() {
+        parse();
+        return stackEndAddress;
+    }
+
+    /**
+     * @return The stack size in bytes, or 0 if undetermined.
+     */
+    public long getStackSize() {
+        parse();
+        return stackStartAddress >= 0 && stackEndAddress > stackStartAddress ? stackEndAddress - stackStartAddress
+                : 0;
+    }
+
+    /**
+     * @return The stack start address, or -1 if undetermined.
+     */
+    public long getStackStartAddress() {
+        parse();
+        return stackStartAddress;
+    }
+
+    /**
+     * @return The thread state (e.g. "_thread_blocked"), or null if not reported.
+     */
+    public String getState() {
+        parse();
+        return state;
+    }
+
+    /**
+     * @return true if the thread is the current thread, false otherwise.
+     */
+    public boolean isCurrent() {
+        return logEntry.startsWith("=>");
+    }
+
+    /**
+     * @return true if the thread is a daemon thread, false otherwise.
+     */
+    public boolean isDaemon() {
+        parse();
+        return daemon;
+    }
+
     public boolean isErrorOccurredDuringErrorReporting() {
         return logEntry.startsWith("[error occurred during error reporting");
     }
 
+    /**
+     * @return true if the thread had exited, false otherwise.
+     */
+    public boolean isExited() {
+        parse();
+        return exited;
+    }
+
+    /**
+     * @return true if the log entry is a thread (not a header or footer), false otherwise.
+     */
+    public boolean isThread() {
+        parse();
+        return kind != null;
+    }
+
+    /**
+     * Parse the log entry into fields once, on first use.
+     */
+    private synchronized void parse() {
+        if (parsed) {
+            return;
+        }
+        parsed = true;
+        Matcher matcher = PATTERN_THREAD.matcher(logEntry);
+        if (!matcher.find()) {
+            return;
+        }
+        address = Long.parseUnsignedLong(matcher.group(2).substring(2), 16);
+        exited = matcher.group(3) != null;
+        kind = matcher.group(4);
+        name = matcher.group(6);
+        int detailsStart = matcher.end();
+        daemon = logEntry.startsWith("daemon", skipSpaces(detailsStart));
+        matcher = PATTERN_STATE.matcher(logEntry);
+        if (matcher.find(detailsStart)) {
+            state = matcher.group(1);
+        }
+        matcher = PATTERN_ID.matcher(logEntry);
+        if (matcher.find(detailsStart)) {
+            osThreadId = Long.parseLong(matcher.group(1));
+        }
+        matcher = PATTERN_STACK.matcher(logEntry);
+        if (matcher.find(detailsStart)) {
+            stackStartAddress = Long.parseUnsignedLong(matcher.group(2).substring(2), 16);
+            stackEndAddress = Long.parseUnsignedLong(matcher.group(3).substring(2), 16);
+        }
+    }
+
+    /**
+     * @param index
+     *            An index in the log entry.
+     * @return The index of the first non-space character at or after the index.
+     */
+    private int skipSpaces(int index) {
+        while (index < logEntry.length() && logEntry.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
 }
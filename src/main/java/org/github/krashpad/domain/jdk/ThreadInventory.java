@@ -0,0 +1,192 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.github.krashpad.util.KrashUtil;
+
+/**
+ * <p>
+ * Inventory of the <code>Thread</code> events, with histograms by kind, state, and name prefix. Built once from the
+ * thread list so thread pool explosions can be analyzed without rescanning the log entries.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ThreadInventory {
+
+    /**
+     * Name prefix used to group threads without a name.
+     */
+    public static final String UNNAMED = "(unnamed)";
+
+    /**
+     * @param histogram
+     *            The histogram.
+     * @param key
+     *            The key to count.
+     */
+    private static void count(Map<String, Integer> histogram, String key) {
+        Integer count = histogram.get(key);
+        histogram.put(key, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Derive the name prefix used to group the threads in a pool by removing the trailing sequence number (e.g.
+     * "tomcat-http--31" -> "tomcat-http", "GC Thread#3" -> "GC Thread", "C2 CompilerThread0" -> "C2 CompilerThread").
+     * 
+     * @param name
+     *            The thread name.
+     * @return The name prefix, or {@link #UNNAMED} if the thread has no name.
+     */
+    public static String getNamePrefix(String name) {
+        if (name == null || name.isEmpty()) {
+            return UNNAMED;
+        }
+        int end = name.length();
+        while (end > 0 && "0123456789-_#:. ".indexOf(name.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return end == 0 ? name : name.substring(0, end);
+    }
+
+    /**
+     * Thread count by kind.
+     */
+    private Map<String, Integer> kinds;
+
+    /**
+     * Thread count by name prefix.
+     */
+    private Map<String, Integer> namePrefixes;
+
+    /**
+     * Total stack reserved by all threads (bytes).
+     */
+    private long stackReserved;
+
+    /**
+     * Thread count by state.
+     */
+    private Map<String, Integer> states;
+
+    /**
+     * Threads.
+     */
+    private List<Thread> threads;
+
+    /**
+     * Threads by kind.
+     */
+    private Map<String, List<Thread>> threadsByKind;
+
+    /**
+     * Create an inventory from the thread events.
+     * 
+     * @param events
+     *            The <code>Thread</code> events, including headers and footers.
+     */
+    public ThreadInventory(List<Thread> events) {
+        Map<String, Integer> kinds = new TreeMap<String, Integer>();
+        Map<String, Integer> namePrefixes = new TreeMap<String, Integer>();
+        Map<String, Integer> states = new TreeMap<String, Integer>();
+        threads = new ArrayList<Thread>();
+        threadsByKind = new HashMap<String, List<Thread>>();
+        Iterator<Thread> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            Thread thread = iterator.next();
+            if (!thread.isThread()) {
+                continue;
+            }
+            threads.add(thread);
+            List<Thread> kindThreads = threadsByKind.get(thread.getKind());
+            if (kindThreads == null) {
+                kindThreads = new ArrayList<Thread>();
+                threadsByKind.put(thread.getKind(), kindThreads);
+            }
+            kindThreads.add(thread);
+            count(kinds, thread.getKind());
+            if (thread.getState() != null) {
+                count(states, thread.getState());
+            }
+            count(namePrefixes, getNamePrefix(thread.getName()));
+            stackReserved += thread.getStackSize();
+        }
+        this.kinds = KrashUtil.sortByCount(kinds);
+        this.namePrefixes = KrashUtil.sortByCount(namePrefixes);
+        this.states = KrashUtil.sortByCount(states);
+    }
+
+    /**
+     * @return Thread count by kind (e.g. "JavaThread"), sorted by count (largest first).
+     */
+    public Map<String, Integer> getKinds() {
+        return kinds;
+    }
+
+    /**
+     * @return Thread count by name prefix (see {@link #getNamePrefix(String)}), sorted by count (largest first).
+     */
+    public Map<String, Integer> getNamePrefixes() {
+        return namePrefixes;
+    }
+
+    /**
+     * @return The total stack reserved by all threads, in bytes.
+     */
+    public long getStackReserved() {
+        return stackReserved;
+    }
+
+    /**
+     * @return Thread count by state (e.g. "_thread_blocked"), sorted by count (largest first). Only Java threads
+     *         report a state.
+     */
+    public Map<String, Integer> getStates() {
+        return states;
+    }
+
+    /**
+     * @return The number of threads.
+     */
+    public int getThreadCount() {
+        return threads.size();
+    }
+
+    /**
+     * @return The threads (excluding headers and footers).
+     */
+    public List<Thread> getThreads() {
+        return Collections.unmodifiableList(threads);
+    }
+
+    /**
+     * @param kind
+     *            The thread kind (e.g. "JavaThread").
+     * @return The threads of the given kind.
+     */
+    public List<Thread> getThreads(String kind) {
+        List<Thread> kindThreads = threadsByKind.get(kind);
+        return kindThreads == null ? Collections.<Thread> emptyList() : Collections.unmodifiableList(kindThreads);
+    }
+}
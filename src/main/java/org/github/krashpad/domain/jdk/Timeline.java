@@ -0,0 +1,290 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.github.krashpad.domain.LogEvent;
+
+/**
+ * <p>
+ * Time ordered timeline of the event logs (e.g. <code>Event</code>, <code>CompilationEvent</code>,
+ * <code>DeoptimizationEvent</code>, <code>GcHeapHistoryEvent</code>).
+ * </p>
+ * 
+ * <p>
+ * Each event log is a ring buffer already in time order, so the timeline is built with a k-way merge. Timestamps
+ * ("Event: 6606.129") are parsed once into milliseconds since JVM start and kept in a primitive array, so window
+ * queries are binary searches.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class Timeline {
+
+    /**
+     * Event log entry prefix.
+     */
+    private static final String EVENT_PREFIX = "Event: ";
+
+    /**
+     * Parse the timestamp of an event log entry (e.g. "Event: 6606.129 Thread 0x00007ff0ec201800 ...").
+     * 
+     * @param logEntry
+     *            The log entry.
+     * @return The timestamp in milliseconds since JVM start, or Long.MIN_VALUE if the log entry does not start with
+     *         a timestamp (e.g. a header or a continuation line).
+     */
+    public static long parseTimestamp(String logEntry) {
+        if (logEntry == null || !logEntry.startsWith(EVENT_PREFIX)) {
+            return Long.MIN_VALUE;
+        }
+        long seconds = 0;
+        int digits = 0;
+        int i = EVENT_PREFIX.length();
+        while (i < logEntry.length() && Character.isDigit(logEntry.charAt(i))) {
+            seconds = seconds * 10 + (logEntry.charAt(i) - '0');
+            digits++;
+            i++;
+        }
+        if (digits == 0) {
+            return Long.MIN_VALUE;
+        }
+        long millis = 0;
+        int fractionDigits = 0;
+        if (i < logEntry.length() && logEntry.charAt(i) == '.') {
+            i++;
+            while (i < logEntry.length() && Character.isDigit(logEntry.charAt(i))) {
+                if (fractionDigits < 3) {
+                    millis = millis * 10 + (logEntry.charAt(i) - '0');
+                    fractionDigits++;
+                }
+                i++;
+            }
+        }
+        while (fractionDigits < 3) {
+            millis *= 10;
+            fractionDigits++;
+        }
+        return seconds * 1000 + millis;
+    }
+
+    /**
+     * Sort a ring that is not in time order (insertion sort, stable).
+     * 
+     * @param ts
+     *            The ring timestamps.
+     * @param ev
+     *            The ring events.
+     * @param n
+     *            The number of entries.
+     */
+    private static void sortRing(long[] ts, LogEvent[] ev, int n) {
+        for (int i = 1; i < n; i++) {
+            long timestamp = ts[i];
+            LogEvent event = ev[i];
+            int j = i - 1;
+            while (j >= 0 && ts[j] > timestamp) {
+                ts[j + 1] = ts[j];
+                ev[j + 1] = ev[j];
+                j--;
+            }
+            ts[j + 1] = timestamp;
+            ev[j + 1] = event;
+        }
+    }
+
+    /**
+     * Timeline events, in time order.
+     */
+    private LogEvent[] events;
+
+    /**
+     * JVM start time (milliseconds since the epoch), or Long.MIN_VALUE if undetermined.
+     */
+    private long startTime;
+
+    /**
+     * Timeline timestamps (milliseconds since JVM start), in time order.
+     */
+    private long[] timestamps;
+
+    /**
+     * Create a timeline by merging event logs.
+     * 
+     * @param rings
+     *            The event logs, each in time order. Entries without a timestamp are skipped.
+     * @param startTime
+     *            The JVM start time (milliseconds since the epoch), or Long.MIN_VALUE if undetermined.
+     */
+    public Timeline(List<List<? extends LogEvent>> rings, long startTime) {
+        this.startTime = startTime;
+        // Parse timestamps once per ring
+        final List<long[]> ringTimestamps = new ArrayList<long[]>(rings.size());
+        final List<LogEvent[]> ringEvents = new ArrayList<LogEvent[]>(rings.size());
+        int size = 0;
+        for (List<? extends LogEvent> ring : rings) {
+            long[] ts = new long[ring.size()];
+            LogEvent[] ev = new LogEvent[ring.size()];
+            int n = 0;
+            boolean sorted = true;
+            for (LogEvent event : ring) {
+                long timestamp = parseTimestamp(event.getLogEntry());
+                if (timestamp != Long.MIN_VALUE) {
+                    if (n > 0 && timestamp < ts[n - 1]) {
+                        sorted = false;
+                    }
+                    ts[n] = timestamp;
+                    ev[n] = event;
+                    n++;
+                }
+            }
+            if (!sorted) {
+                sortRing(ts, ev, n);
+            }
+            long[] trimmedTimestamps = new long[n];
+            LogEvent[] trimmedEvents = new LogEvent[n];
+            System.arraycopy(ts, 0, trimmedTimestamps, 0, n);
+            System.arraycopy(ev, 0, trimmedEvents, 0, n);
+            ringTimestamps.add(trimmedTimestamps);
+            ringEvents.add(trimmedEvents);
+            size += n;
+        }
+        timestamps = new long[size];
+        events = new LogEvent[size];
+        // k-way merge: heap of {ring, position} cursors ordered by timestamp, then ring
+        PriorityQueue<int[]> heap = new PriorityQueue<int[]>(Math.max(1, rings.size()), new Comparator<int[]>() {
+            @Override
+            public int compare(int[] cursor1, int[] cursor2) {
+                int compare = Long.compare(ringTimestamps.get(cursor1[0])[cursor1[1]],
+                        ringTimestamps.get(cursor2[0])[cursor2[1]]);
+                return compare != 0 ? compare : Integer.compare(cursor1[0], cursor2[0]);
+            }
+        });
+        for (int ring = 0; ring < ringTimestamps.size(); ring++) {
+            if (ringTimestamps.get(ring).length > 0) {
+                heap.add(new int[] { ring, 0 });
+            }
+        }
+        int i = 0;
+        while (!heap.isEmpty()) {
+            int[] cursor = heap.poll();
+            timestamps[i] = ringTimestamps.get(cursor[0])[cursor[1]];
+            events[i] = ringEvents.get(cursor[0])[cursor[1]];
+            i++;
+            cursor[1]++;
+            if (cursor[1] < ringTimestamps.get(cursor[0]).length) {
+                heap.add(cursor);
+            }
+        }
+    }
+
+    /**
+     * @param index
+     *            The timeline index.
+     * @return The event at the index.
+     */
+    public LogEvent getEvent(int index) {
+        return events[index];
+    }
+
+    /**
+     * @param from
+     *            The window start (milliseconds since JVM start), inclusive.
+     * @param to
+     *            The window end (milliseconds since JVM start), inclusive.
+     * @return The events in the window, in time order.
+     */
+    public List<LogEvent> getEvents(long from, long to) {
+        if (to < from) {
+            return Collections.emptyList();
+        }
+        int start = lowerBound(from);
+        int end = lowerBound(to == Long.MAX_VALUE ? to : to + 1);
+        List<LogEvent> window = new ArrayList<LogEvent>(end - start);
+        for (int i = start; i < end; i++) {
+            window.add(events[i]);
+        }
+        return window;
+    }
+
+    /**
+     * @param end
+     *            The window end (milliseconds since JVM start), inclusive. Typically the uptime at the crash.
+     * @param millis
+     *            The window length (milliseconds).
+     * @return The events in the <code>millis</code> before <code>end</code>, in time order.
+     */
+    public List<LogEvent> getEventsBefore(long end, long millis) {
+        return getEvents(end - millis, end);
+    }
+
+    /**
+     * @return The JVM start time (milliseconds since the epoch), or Long.MIN_VALUE if undetermined.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @param index
+     *            The timeline index.
+     * @return The timestamp (milliseconds since JVM start) at the index.
+     */
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * @param index
+     *            The timeline index.
+     * @return The wall clock time (milliseconds since the epoch) at the index, or Long.MIN_VALUE if the JVM start
+     *         time is undetermined.
+     */
+    public long getWallClock(int index) {
+        return startTime == Long.MIN_VALUE ? Long.MIN_VALUE : startTime + timestamps[index];
+    }
+
+    /**
+     * @param timestamp
+     *            A timestamp (milliseconds since JVM start).
+     * @return The index of the first event at or after the timestamp.
+     */
+    private int lowerBound(long timestamp) {
+        int low = 0;
+        int high = timestamps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return The number of events in the timeline.
+     */
+    public int size() {
+        return timestamps.length;
+    }
+}
@@ -69,6 +69,11 @@ public class VmOperationEvent implements LogEvent, HeaderEvent {
             + "ZMarkFlushOperation|ZMarkStart|ZMarkStartYoung \\(Allocation Rate\\)|"
             + "ZMarkStartYoungAndOld \\(Allocation Rate\\)|ZRelocateStart|ZRendezvousGCThreads)( done)?";
 
+    /**
+     * Compiled operation pattern (group 1 = timestamp, group 4 = operation, last group = done).
+     */
+    private static final Pattern PATTERN_OPERATION = Pattern.compile(_REGEX_OPERATION);
+
     /**
      * Regular expression defining the logging.
      */
@@ -109,18 +114,27 @@ public class VmOperationEvent implements LogEvent, HeaderEvent {
         return logEntry;
     }
 
+    /**
+     * @return The VM Operation (e.g. "G1CollectForAllocation"), or null if the log entry is not an operation.
+     */
+    public String getOperation() {
+        String operation = null;
+        Matcher matcher = PATTERN_OPERATION.matcher(logEntry);
+        if (matcher.matches()) {
+            operation = matcher.group(4);
+        }
+        return operation;
+    }
+
     /**
      * @return The time of the VM Operation event in milliseconds after JVM startup, or Long.MIN_VALUE if
      *         unknown/undetermined.
      */
     public long getTimestamp() {
         long timestamp = Long.MIN_VALUE;
-        if (logEntry.matches(_REGEX_OPERATION)) {
-            Pattern pattern = Pattern.compile(_REGEX_OPERATION);
-            Matcher matcher = pattern.matcher(logEntry);
-            if (matcher.find()) {
-                timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
-            }
+        Matcher matcher = PATTERN_OPERATION.matcher(logEntry);
+        if (matcher.matches()) {
+            timestamp = JdkMath.convertSecsToMillis(matcher.group(1)).longValue();
         }
         return timestamp;
     }
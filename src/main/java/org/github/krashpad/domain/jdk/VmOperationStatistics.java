@@ -0,0 +1,256 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.github.krashpad.util.KrashUtil;
+
+/**
+ * <p>
+ * Statistics for the <code>VmOperationEvent</code> ring buffer. Each operation beginning is paired with the next
+ * ending of the same operation to determine durations, percentiles, per-operation counts, and the fraction of the
+ * recorded window spent in VM operations.
+ * </p>
+ * 
+ * <p>
+ * The ring buffer only holds the most recent events, so an ending without a beginning (the beginning was overwritten)
+ * is ignored. A beginning without an ending is an operation in progress at the time of the crash.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class VmOperationStatistics {
+
+    /**
+     * Window before the crash (milliseconds) where a long operation is considered related to the crash.
+     */
+    public static final long BEFORE_CRASH = 5000;
+
+    /**
+     * Duration (milliseconds) at or above which an operation is considered long.
+     */
+    public static final long LONG_OPERATION = 500;
+
+    /**
+     * Operation count by operation, sorted by count (largest first).
+     */
+    private Map<String, Integer> counts;
+
+    /**
+     * The crash time (milliseconds after JVM startup), or the last event if later.
+     */
+    private long crashTimestamp;
+
+    /**
+     * Paired operation durations (milliseconds), sorted.
+     */
+    private long[] durations;
+
+    /**
+     * Total paired operation duration (milliseconds) by operation.
+     */
+    private Map<String, Long> durationsByOperation;
+
+    /**
+     * Timestamp of the first operation event (milliseconds after JVM startup), or Long.MIN_VALUE if none.
+     */
+    private long firstTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Operation in progress at the time of the crash, or null if none.
+     */
+    private String inProgress;
+
+    /**
+     * Beginning of the operation in progress at the time of the crash (milliseconds after JVM startup).
+     */
+    private long inProgressTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Timestamp of the last operation event (milliseconds after JVM startup), or Long.MIN_VALUE if none.
+     */
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Long operations (&gt;= {@link #LONG_OPERATION}) ending within {@link #BEFORE_CRASH} of the crash.
+     */
+    private List<String> longBeforeCrash;
+
+    /**
+     * Total paired operation duration (milliseconds).
+     */
+    private long totalDuration;
+
+    /**
+     * @param events
+     *            The <code>VmOperationEvent</code>s, in log order.
+     * @param uptime
+     *            The JVM uptime at the time of the crash (milliseconds), or a negative value if unknown.
+     */
+    public VmOperationStatistics(List<VmOperationEvent> events, long uptime) {
+        Map<String, Long> pending = new HashMap<String, Long>();
+        Map<String, Integer> unsortedCounts = new TreeMap<String, Integer>();
+        durationsByOperation = new HashMap<String, Long>();
+        List<String> ended = new ArrayList<String>();
+        List<Long> endings = new ArrayList<Long>();
+        long[] paired = new long[events.size()];
+        int pairedCount = 0;
+        Iterator<VmOperationEvent> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            VmOperationEvent event = iterator.next();
+            String operation = event.getOperation();
+            if (operation == null) {
+                continue;
+            }
+            long timestamp = event.getTimestamp();
+            if (firstTimestamp == Long.MIN_VALUE) {
+                firstTimestamp = timestamp;
+            }
+            lastTimestamp = timestamp;
+            if (event.isBeginning()) {
+                pending.put(operation, timestamp);
+                Integer count = unsortedCounts.get(operation);
+                unsortedCounts.put(operation, count == null ? 1 : count + 1);
+            } else {
+                Long beginning = pending.remove(operation);
+                if (beginning != null) {
+                    long duration = timestamp - beginning;
+                    paired[pairedCount++] = duration;
+                    totalDuration += duration;
+                    Long operationDuration = durationsByOperation.get(operation);
+                    durationsByOperation.put(operation,
+                            operationDuration == null ? duration : operationDuration + duration);
+                    if (duration >= LONG_OPERATION) {
+                        ended.add(operation + " (" + duration + " ms)");
+                        endings.add(timestamp);
+                    }
+                }
+            }
+        }
+        durations = Arrays.copyOf(paired, pairedCount);
+        Arrays.sort(durations);
+        crashTimestamp = Math.max(uptime, lastTimestamp);
+        // The most recent beginning still pending is the operation in progress at the crash
+        for (Entry<String, Long> entry : pending.entrySet()) {
+            if (entry.getValue() > inProgressTimestamp) {
+                inProgress = entry.getKey();
+                inProgressTimestamp = entry.getValue();
+            }
+        }
+        longBeforeCrash = new ArrayList<String>();
+        for (int i = 0; i < ended.size(); i++) {
+            if (crashTimestamp - endings.get(i) <= BEFORE_CRASH) {
+                longBeforeCrash.add(ended.get(i));
+            }
+        }
+        if (inProgress != null && crashTimestamp - inProgressTimestamp >= LONG_OPERATION) {
+            longBeforeCrash.add(inProgress + " (in progress " + (crashTimestamp - inProgressTimestamp) + " ms)");
+        }
+        counts = KrashUtil.sortByCount(unsortedCounts);
+    }
+
+    /**
+     * @return Operation count by operation, sorted by count (largest first).
+     */
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+
+    /**
+     * @param operation
+     *            The VM operation.
+     * @return The total paired duration (milliseconds) of the operation.
+     */
+    public long getDuration(String operation) {
+        Long duration = durationsByOperation.get(operation);
+        return duration == null ? 0 : duration.longValue();
+    }
+
+    /**
+     * @return The operation in progress at the time of the crash, or null if none.
+     */
+    public String getInProgress() {
+        return inProgress;
+    }
+
+    /**
+     * @return Long operations (&gt;= {@link #LONG_OPERATION}) ending within {@link #BEFORE_CRASH} of the crash or in
+     *         progress at the time of the crash.
+     */
+    public List<String> getLongBeforeCrash() {
+        return Collections.unmodifiableList(longBeforeCrash);
+    }
+
+    /**
+     * @return The maximum paired operation duration (milliseconds), or 0 if none.
+     */
+    public long getMax() {
+        return durations.length == 0 ? 0 : durations[durations.length - 1];
+    }
+
+    /**
+     * @return The number of paired operations.
+     */
+    public int getPairedCount() {
+        return durations.length;
+    }
+
+    /**
+     * Nearest-rank percentile of the paired operation durations.
+     * 
+     * @param percentile
+     *            The percentile (0-100).
+     * @return The duration (milliseconds) at the percentile, or 0 if none.
+     */
+    public long getPercentile(int percentile) {
+        if (durations.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * durations.length);
+        return durations[Math.min(Math.max(rank, 1), durations.length) - 1];
+    }
+
+    /**
+     * @return The total paired operation duration (milliseconds).
+     */
+    public long getTotalDuration() {
+        return totalDuration;
+    }
+
+    /**
+     * @return The window recorded in the ring buffer (milliseconds): from the first operation event to the crash.
+     */
+    public long getWindow() {
+        return firstTimestamp == Long.MIN_VALUE ? 0 : crashTimestamp - firstTimestamp;
+    }
+
+    /**
+     * @return The percent of the recorded window spent in VM operations (0-100).
+     */
+    public int getWindowPercent() {
+        long window = getWindow();
+        return window > 0 ? (int) Math.round(totalDuration * 100.0 / window) : 0;
+    }
+}
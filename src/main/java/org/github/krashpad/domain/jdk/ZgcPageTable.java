@@ -17,7 +17,6 @@ package org.github.krashpad.domain.jdk;
 import org.github.krashpad.domain.BlankLine;
 import org.github.krashpad.domain.HeaderEvent;
 import org.github.krashpad.domain.LogEvent;
-import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.util.jdk.JdkRegEx;
 import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
@@ -27,7 +26,8 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * </p>
  * 
  * <p>
- * ZGC page table information.
+ * ZGC page table information. Page rows are summarized by {@link ZgcPageTableSummary} as they are parsed and not
+ * retained.
  * </p>
  * 
  * <h2>Example Logging</h2>
@@ -43,7 +43,7 @@ import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class ZgcPageTable implements LogEvent, ThrowAwayEvent, HeaderEvent {
+public class ZgcPageTable implements LogEvent, HeaderEvent {
 
     /**
      * Regular expression for the header.
@@ -0,0 +1,358 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+/**
+ * <p>
+ * Streaming summary of the <code>ZgcPageTable</code>.
+ * </p>
+ * 
+ * <p>
+ * The page table can have millions of rows on a large heap. Rows are parsed in place as they are read, and only per
+ * page type counters are kept, so the table can be summarized without retaining the rows.
+ * </p>
+ * 
+ * <h2>Example Logging</h2>
+ * 
+ * <pre>
+ * ZGC Page Table:
+ * Small   0x0000000007200000 0x00000000073fffa8 0x0000000007400000  Relocatable
+ * Small   0x000000001de00000 0x000000001e000000 0x000000001e000000  Allocating
+ * Small   0x0000000ff6c00000 0x0000000ff6c80000 0x0000000ff6e00000 Y/138   Allocating
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ZgcPageTableSummary {
+
+    /**
+     * Page type.
+     */
+    public enum PageType {
+        LARGE("Large"), MEDIUM("Medium"), SMALL("Small");
+
+        private static final PageType[] TYPES = values();
+
+        /**
+         * @param logLine
+         *            The log line.
+         * @param from
+         *            The start index of the name (inclusive).
+         * @param to
+         *            The end index of the name (exclusive).
+         * @return The <code>PageType</code> with the name, or null if none.
+         */
+        private static PageType fromName(String logLine, int from, int to) {
+            for (int i = 0; i < TYPES.length; i++) {
+                String name = TYPES[i].name;
+                if (name.length() == to - from && logLine.regionMatches(from, name, 0, name.length())) {
+                    return TYPES[i];
+                }
+            }
+            return null;
+        }
+
+        private String name;
+
+        private PageType(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Parse a hexadecimal address with a "0x" prefix.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param from
+     *            The start index (inclusive).
+     * @param to
+     *            The end index (exclusive).
+     * @return The address, or -1 if the token is not a hexadecimal address.
+     */
+    private static long parseAddress(String logLine, int from, int to) {
+        if (to - from < 3 || logLine.charAt(from) != '0' || logLine.charAt(from + 1) != 'x') {
+            return -1;
+        }
+        long address = 0;
+        for (int i = from + 2; i < to; i++) {
+            int digit = Character.digit(logLine.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            address = (address << 4) + digit;
+        }
+        return address;
+    }
+
+    /**
+     * Allocating page count per <code>PageType</code> ordinal.
+     */
+    private int[] allocating = new int[PageType.TYPES.length];
+
+    /**
+     * Page count per <code>PageType</code> ordinal.
+     */
+    private int[] count = new int[PageType.TYPES.length];
+
+    /**
+     * Whether the summary is frozen (immutable). See {@link #freeze()}.
+     */
+    private boolean frozen;
+
+    /**
+     * Highest page end address.
+     */
+    private long highAddress = -1;
+
+    /**
+     * Lowest page start address.
+     */
+    private long lowAddress = -1;
+
+    /**
+     * Old generation page count (generational ZGC).
+     */
+    private int old;
+
+    /**
+     * Relocatable page count per <code>PageType</code> ordinal.
+     */
+    private int[] relocatable = new int[PageType.TYPES.length];
+
+    /**
+     * Page size (bytes) per <code>PageType</code> ordinal.
+     */
+    private long[] size = new long[PageType.TYPES.length];
+
+    /**
+     * Page table rows that could not be parsed.
+     */
+    private int unidentifiedRows;
+
+    /**
+     * Used memory (bytes) per <code>PageType</code> ordinal.
+     */
+    private long[] used = new long[PageType.TYPES.length];
+
+    /**
+     * Young generation page count (generational ZGC).
+     */
+    private int young;
+
+    /**
+     * Add a <code>ZgcPageTable</code> log line to the summary. Lines other than page rows are ignored.
+     * 
+     * @param logLine
+     *            The log line.
+     */
+    public void add(String logLine) {
+        if (frozen) {
+            throw new UnsupportedOperationException("Frozen ZGC page table summary cannot be modified.");
+        }
+        if (logLine == null || logLine.startsWith(ZgcPageTable._REGEX_HEADER)) {
+            return;
+        }
+        PageType type = null;
+        long start = -1;
+        long top = -1;
+        long end = -1;
+        char generation = 0;
+        boolean isAllocating = false;
+        boolean isRelocatable = false;
+        int token = 0;
+        int length = logLine.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && logLine.charAt(i) == ' ') {
+                i++;
+            }
+            int tokenStart = i;
+            while (i < length && logLine.charAt(i) != ' ') {
+                i++;
+            }
+            if (tokenStart == i) {
+                break;
+            }
+            switch (token) {
+            case 0:
+                type = PageType.fromName(logLine, tokenStart, i);
+                break;
+            case 1:
+                start = parseAddress(logLine, tokenStart, i);
+                break;
+            case 2:
+                top = parseAddress(logLine, tokenStart, i);
+                break;
+            case 3:
+                end = parseAddress(logLine, tokenStart, i);
+                break;
+            default:
+                if (logLine.startsWith("Allocating", tokenStart)) {
+                    isAllocating = true;
+                } else if (logLine.startsWith("Relocatable", tokenStart)) {
+                    isRelocatable = true;
+                } else if (i - tokenStart > 2 && logLine.charAt(tokenStart + 1) == '/') {
+                    generation = logLine.charAt(tokenStart);
+                }
+                break;
+            }
+            token++;
+        }
+        if (type == null || start < 0 || top < start || end < top) {
+            if (logLine.length() > 0) {
+                unidentifiedRows++;
+            }
+            return;
+        }
+        int ordinal = type.ordinal();
+        count[ordinal]++;
+        size[ordinal] += end - start;
+        used[ordinal] += top - start;
+        if (isAllocating) {
+            allocating[ordinal]++;
+        } else if (isRelocatable) {
+            relocatable[ordinal]++;
+        }
+        if (generation == 'O') {
+            old++;
+        } else if (generation == 'Y') {
+            young++;
+        }
+        if (lowAddress < 0 || start < lowAddress) {
+            lowAddress = start;
+        }
+        if (end > highAddress) {
+            highAddress = end;
+        }
+    }
+
+    /**
+     * Freeze the summary when the fatal error log is frozen. Adding log lines afterwards throws
+     * <code>UnsupportedOperationException</code>.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * @param type
+     *            The page type.
+     * @return The number of allocating pages of the given type.
+     */
+    public int getAllocating(PageType type) {
+        return allocating[type.ordinal()];
+    }
+
+    /**
+     * @param type
+     *            The page type.
+     * @return The number of pages of the given type.
+     */
+    public int getCount(PageType type) {
+        return count[type.ordinal()];
+    }
+
+    /**
+     * @return The highest page end address, or -1 if there are no pages.
+     */
+    public long getHighAddress() {
+        return highAddress;
+    }
+
+    /**
+     * @return The lowest page start address, or -1 if there are no pages.
+     */
+    public long getLowAddress() {
+        return lowAddress;
+    }
+
+    public int getOld() {
+        return old;
+    }
+
+    /**
+     * @return The total number of pages.
+     */
+    public int getPages() {
+        int pages = 0;
+        for (int i = 0; i < count.length; i++) {
+            pages += count[i];
+        }
+        return pages;
+    }
+
+    /**
+     * @param type
+     *            The page type.
+     * @return The number of relocatable pages of the given type.
+     */
+    public int getRelocatable(PageType type) {
+        return relocatable[type.ordinal()];
+    }
+
+    /**
+     * @param type
+     *            The page type.
+     * @return The total size of pages of the given type, in bytes.
+     */
+    public long getSize(PageType type) {
+        return size[type.ordinal()];
+    }
+
+    /**
+     * @return The total size of all pages, in bytes.
+     */
+    public long getTotalSize() {
+        long totalSize = 0;
+        for (int i = 0; i < size.length; i++) {
+            totalSize += size[i];
+        }
+        return totalSize;
+    }
+
+    /**
+     * @return The total used memory in all pages, in bytes.
+     */
+    public long getTotalUsed() {
+        long totalUsed = 0;
+        for (int i = 0; i < used.length; i++) {
+            totalUsed += used[i];
+        }
+        return totalUsed;
+    }
+
+    public int getUnidentifiedRows() {
+        return unidentifiedRows;
+    }
+
+    /**
+     * @param type
+     *            The page type.
+     * @return The used memory in pages of the given type, in bytes.
+     */
+    public long getUsed(PageType type) {
+        return used[type.ordinal()];
+    }
+
+    public int getYoung() {
+        return young;
+    }
+}
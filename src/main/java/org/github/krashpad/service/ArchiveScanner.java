@@ -0,0 +1,594 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.github.krashpad.util.jdk.JdkRegEx;
+
+/**
+ * <p>
+ * Finds the fatal error logs in a support archive (e.g. sosreport, must-gather, application support zip) in a single
+ * streaming pass, without extracting anything to disk. Archive formats are identified by content: zip, tar, and gzip
+ * (e.g. tar.gz, tgz, a single gzipped fatal error log). Archives nested in an archive (e.g. a must-gather tar.gz in a
+ * support zip) are scanned in the same pass.
+ * </p>
+ * 
+ * <p>
+ * An entry is a candidate fatal error log if its name starts with "hs_err" or the first {@link #SNIFF_LENGTH} bytes
+ * have a fatal error log banner. Only candidates are read into memory, one at a time, and passed to a
+ * {@link Handler} as they are found, so they can be parsed while the archive is still being read. Identical fatal
+ * error logs (e.g. the same file collected from more than one location) are de-duplicated by SHA-256 content hash.
+ * Candidates that cannot be read (larger than {@link #MAX_ENTRY_SIZE}, or in a nested xz archive) are reported to
+ * the handler as skipped.
+ * </p>
+ * 
+ * <p>
+ * xz compression (e.g. sosreport tar.xz) is not supported by the JDK. Decompress it first (e.g. <code>xz -d</code>)
+ * and scan the tar.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ArchiveScanner {
+
+    /**
+     * A candidate fatal error log in an archive.
+     */
+    public static class Entry {
+
+        /**
+         * The fatal error log.
+         */
+        private byte[] content;
+
+        /**
+         * The SHA-256 content hash (hex).
+         */
+        private String digest;
+
+        /**
+         * The entry name (path in the archive). Nested archive entries are separated by "!/" (e.g.
+         * must-gather.tar.gz!/namespaces/app/hs_err_pid1.log).
+         */
+        private String name;
+
+        /**
+         * @param name
+         *            The entry name.
+         * @param content
+         *            The fatal error log.
+         * @param digest
+         *            The SHA-256 content hash (hex).
+         */
+        public Entry(String name, byte[] content, String digest) {
+            this.name = name;
+            this.content = content;
+            this.digest = digest;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Receives the candidate fatal error logs, in archive order, as they are read from the archive stream.
+     */
+    public interface Handler {
+
+        /**
+         * @param entry
+         *            A distinct candidate fatal error log.
+         */
+        void candidate(Entry entry);
+
+        /**
+         * @param name
+         *            The entry name.
+         * @param reason
+         *            Why the entry was not read (e.g. too large).
+         */
+        void skipped(String name, String reason);
+    }
+
+    /**
+     * Reads the regular file entries of a tar stream (ustar, with GNU long name and pax path extensions).
+     */
+    private static class TarInputStream extends FilterInputStream {
+
+        /**
+         * The padding after the current entry data (the data is padded to the record size).
+         */
+        private long padding;
+
+        /**
+         * The current entry data bytes not read.
+         */
+        private long remaining;
+
+        private TarInputStream(InputStream in) {
+            super(in);
+        }
+
+        /**
+         * @return The next regular file entry name, or null at the end of the archive.
+         * @throws IOException
+         *             if the archive cannot be read.
+         */
+        private String getNextEntry() throws IOException {
+            skipFully(in, remaining + padding);
+            remaining = 0;
+            padding = 0;
+            String longName = null;
+            byte[] header = new byte[TAR_RECORD_SIZE];
+            while (readFully(in, header)) {
+                if (header[0] == 0) {
+                    // End of archive marker
+                    return null;
+                }
+                long size = getSize(header);
+                char type = (char) header[156];
+                remaining = size;
+                padding = (TAR_RECORD_SIZE - size % TAR_RECORD_SIZE) % TAR_RECORD_SIZE;
+                if (type == 'L' || type == 'x') {
+                    byte[] data = new byte[(int) size];
+                    if (!readFully(in, data)) {
+                        return null;
+                    }
+                    skipFully(in, padding);
+                    remaining = 0;
+                    padding = 0;
+                    if (type == 'L') {
+                        longName = getString(data, 0, data.length);
+                    } else {
+                        String path = getPaxPath(data);
+                        if (path != null) {
+                            longName = path;
+                        }
+                    }
+                } else if (type == '0' || type == 0 || type == '7') {
+                    String name = getString(header, 0, 100);
+                    if (longName != null) {
+                        name = longName;
+                    } else if (new String(header, 257, 5, StandardCharsets.US_ASCII).equals("ustar")) {
+                        String prefix = getString(header, 345, 155);
+                        if (!prefix.isEmpty()) {
+                            name = prefix + "/" + name;
+                        }
+                    }
+                    return name;
+                } else {
+                    // Directory, link, global pax header, etc.
+                    skipFully(in, remaining + padding);
+                    remaining = 0;
+                    padding = 0;
+                    longName = null;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+
+    /**
+     * The maximum fatal error log size (bytes). Larger candidates are not read and are reported as skipped.
+     */
+    public static final int MAX_ENTRY_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The maximum depth of nested archives.
+     */
+    private static final int MAX_NESTING = 4;
+
+    /**
+     * The number of bytes at the beginning of an entry checked for a fatal error log banner.
+     */
+    public static final int SNIFF_LENGTH = 4096;
+
+    /**
+     * The tar header and data record size (bytes).
+     */
+    private static final int TAR_RECORD_SIZE = 512;
+
+    /**
+     * @param in
+     *            An archive entry.
+     * @param name
+     *            The entry name.
+     * @param maxEntrySize
+     *            The maximum fatal error log size (bytes).
+     * @param handler
+     *            The candidate fatal error log handler.
+     * @param digests
+     *            The candidate fatal error log content hashes.
+     * @throws IOException
+     *             if the entry cannot be read.
+     */
+    private static void addCandidate(InputStream in, String name, int maxEntrySize, Handler handler,
+            Set<String> digests) throws IOException {
+        byte[] sniff = new byte[SNIFF_LENGTH];
+        int length = 0;
+        int read;
+        while (length < sniff.length && (read = in.read(sniff, length, sniff.length - length)) > 0) {
+            length += read;
+        }
+        String fileName = name.substring(name.lastIndexOf('/') + 1);
+        if (!fileName.startsWith("hs_err") && !hasBanner(sniff, length)) {
+            return;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream(Math.max(length, SNIFF_LENGTH));
+        content.write(sniff, 0, length);
+        byte[] buffer = new byte[64 * 1024];
+        while ((read = in.read(buffer)) > 0) {
+            if (content.size() + read > maxEntrySize) {
+                handler.skipped(name, "larger than " + maxEntrySize + " bytes");
+                return;
+            }
+            content.write(buffer, 0, read);
+        }
+        byte[] bytes = content.toByteArray();
+        String digest = getDigest(bytes);
+        if (digests.add(digest)) {
+            handler.candidate(new Entry(name, bytes, digest));
+        }
+    }
+
+    /**
+     * @param bytes
+     *            The content.
+     * @return The SHA-256 content hash (hex).
+     */
+    private static String getDigest(byte[] bytes) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every JDK has SHA-256
+            throw new IllegalStateException(e);
+        }
+        StringBuilder digest = new StringBuilder();
+        for (byte b : messageDigest.digest(bytes)) {
+            digest.append(String.format("%02x", b & 0xff));
+        }
+        return digest.toString();
+    }
+
+    /**
+     * @param data
+     *            The pax extended header records ("&lt;length&gt; &lt;key&gt;=&lt;value&gt;\n").
+     * @return The path record value, or null if there is no path record.
+     */
+    private static String getPaxPath(byte[] data) {
+        int offset = 0;
+        while (offset < data.length) {
+            int space = offset;
+            while (space < data.length && data[space] != ' ') {
+                space++;
+            }
+            int length;
+            try {
+                length = Integer.parseInt(new String(data, offset, space - offset, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (length <= 0 || offset + length > data.length) {
+                return null;
+            }
+            String record = new String(data, space + 1, offset + length - space - 2, StandardCharsets.UTF_8);
+            if (record.startsWith("path=")) {
+                return record.substring(5);
+            }
+            offset += length;
+        }
+        return null;
+    }
+
+    /**
+     * @param header
+     *            A tar header.
+     * @return The entry size (bytes), octal or (for large entries) base-256.
+     */
+    private static long getSize(byte[] header) {
+        long size = 0;
+        if ((header[124] & 0x80) != 0) {
+            for (int i = 125; i < 136; i++) {
+                size = (size << 8) | (header[i] & 0xff);
+            }
+        } else {
+            for (int i = 124; i < 136; i++) {
+                if (header[i] >= '0' && header[i] <= '7') {
+                    size = (size << 3) | (header[i] - '0');
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @param bytes
+     *            The bytes.
+     * @param offset
+     *            The string offset.
+     * @param length
+     *            The maximum string length.
+     * @return The NUL terminated UTF-8 string.
+     */
+    private static String getString(byte[] bytes, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && bytes[end] != 0) {
+            end++;
+        }
+        return new String(bytes, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param bytes
+     *            The first bytes of an entry.
+     * @param length
+     *            The number of bytes.
+     * @return true if the bytes have a fatal error log banner, false otherwise.
+     */
+    private static boolean hasBanner(byte[] bytes, int length) {
+        String sniff = new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+        return sniff.contains(JdkRegEx.FATAL_ERROR_LOG_BANNER) || sniff.contains(JdkRegEx.FATAL_ERROR_LOG_BANNER_OOM);
+    }
+
+    /**
+     * @param name
+     *            An archive entry name.
+     * @return true if the entry is an archive to scan (by name, to not scan e.g. jar files), false otherwise.
+     */
+    private static boolean isArchive(String name) {
+        String lowerCase = name.toLowerCase();
+        return lowerCase.endsWith(".zip") || lowerCase.endsWith(".tar") || lowerCase.endsWith(".tgz")
+                || lowerCase.endsWith(".gz") || lowerCase.endsWith(".xz");
+    }
+
+    /**
+     * @param in
+     *            The stream.
+     * @param bytes
+     *            The bytes to read.
+     * @return true if the bytes were read, false if the end of the stream was reached first.
+     * @throws IOException
+     *             if the stream cannot be read.
+     */
+    private static boolean readFully(InputStream in, byte[] bytes) throws IOException {
+        int length = 0;
+        while (length < bytes.length) {
+            int read = in.read(bytes, length, bytes.length - length);
+            if (read < 0) {
+                return false;
+            }
+            length += read;
+        }
+        return true;
+    }
+
+    /**
+     * @param path
+     *            The archive.
+     * @return The distinct candidate fatal error logs, in archive order.
+     * @throws IOException
+     *             if the archive cannot be read or is xz compressed.
+     */
+    public static List<Entry> scan(Path path) throws IOException {
+        final List<Entry> entries = new ArrayList<Entry>();
+        scan(path, new Handler() {
+            @Override
+            public void candidate(Entry entry) {
+                entries.add(entry);
+            }
+
+            @Override
+            public void skipped(String name, String reason) {
+                // Not reported
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * @param path
+     *            The archive.
+     * @param handler
+     *            The handler for the distinct candidate fatal error logs, called in archive order as each candidate
+     *            is read.
+     * @throws IOException
+     *             if the archive cannot be read or is xz compressed.
+     */
+    public static void scan(Path path, Handler handler) throws IOException {
+        scan(path, MAX_ENTRY_SIZE, handler);
+    }
+
+    /**
+     * @param path
+     *            The archive.
+     * @param maxEntrySize
+     *            The maximum fatal error log size (bytes).
+     * @param handler
+     *            The handler for the distinct candidate fatal error logs.
+     * @throws IOException
+     *             if the archive cannot be read or is xz compressed.
+     */
+    static void scan(Path path, int maxEntrySize, Handler handler) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024)) {
+            scan(in, path.getFileName().toString(), 0, maxEntrySize, handler, new HashSet<String>());
+        }
+    }
+
+    /**
+     * @param in
+     *            The stream (supporting mark/reset).
+     * @param name
+     *            The stream name ("" for the top level archive entries).
+     * @param depth
+     *            The archive nesting depth (0 = top level).
+     * @param maxEntrySize
+     *            The maximum fatal error log size (bytes).
+     * @param handler
+     *            The candidate fatal error log handler.
+     * @param digests
+     *            The candidate fatal error log content hashes.
+     * @throws IOException
+     *             if the stream cannot be read.
+     */
+    private static void scan(InputStream in, String name, int depth, int maxEntrySize, Handler handler,
+            Set<String> digests) throws IOException {
+        byte[] magic = new byte[TAR_RECORD_SIZE];
+        in.mark(magic.length);
+        int length = 0;
+        int read;
+        while (length < magic.length && (read = in.read(magic, length, magic.length - length)) > 0) {
+            length += read;
+        }
+        in.reset();
+        String prefix = depth == 0 ? "" : name + "!/";
+        if (length >= 2 && (magic[0] & 0xff) == 0x1f && (magic[1] & 0xff) == 0x8b) {
+            scan(new BufferedInputStream(new GZIPInputStream(in), 64 * 1024), name, depth, maxEntrySize, handler,
+                    digests);
+        } else if (length >= 6 && (magic[0] & 0xff) == 0xfd && magic[1] == '7' && magic[2] == 'z' && magic[3] == 'X'
+                && magic[4] == 'Z' && magic[5] == 0) {
+            if (depth == 0) {
+                throw new IOException("xz compression is not supported: " + name + ". Decompress it first.");
+            }
+            handler.skipped(name, "xz compression is not supported");
+        } else if (length >= 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4) {
+            ZipInputStream zip = new ZipInputStream(in);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    scanEntry(zip, prefix + entry.getName(), depth, maxEntrySize, handler, digests);
+                }
+            }
+        } else if (length == TAR_RECORD_SIZE
+                && new String(magic, 257, 5, StandardCharsets.US_ASCII).equals("ustar")) {
+            TarInputStream tar = new TarInputStream(in);
+            String entryName;
+            while ((entryName = tar.getNextEntry()) != null) {
+                scanEntry(tar, prefix + entryName, depth, maxEntrySize, handler, digests);
+            }
+        } else {
+            addCandidate(in, name, maxEntrySize, handler, digests);
+        }
+    }
+
+    /**
+     * @param in
+     *            The archive entry.
+     * @param name
+     *            The entry name.
+     * @param depth
+     *            The archive nesting depth of the archive with the entry.
+     * @param maxEntrySize
+     *            The maximum fatal error log size (bytes).
+     * @param handler
+     *            The candidate fatal error log handler.
+     * @param digests
+     *            The candidate fatal error log content hashes.
+     * @throws IOException
+     *             if the entry cannot be read.
+     */
+    private static void scanEntry(InputStream in, String name, int depth, int maxEntrySize, Handler handler,
+            Set<String> digests) throws IOException {
+        if (isArchive(name) && depth < MAX_NESTING) {
+            scan(new BufferedInputStream(in, 64 * 1024), name, depth + 1, maxEntrySize, handler, digests);
+        } else {
+            addCandidate(in, name, maxEntrySize, handler, digests);
+        }
+    }
+
+    /**
+     * @param in
+     *            The stream.
+     * @param bytes
+     *            The bytes to skip.
+     * @throws IOException
+     *             if the stream cannot be read.
+     */
+    private static void skipFully(InputStream in, long bytes) throws IOException {
+        byte[] buffer = null;
+        while (bytes > 0) {
+            long skipped = in.skip(bytes);
+            if (skipped <= 0) {
+                if (buffer == null) {
+                    buffer = new byte[8192];
+                }
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, bytes));
+                if (read < 0) {
+                    return;
+                }
+                skipped = read;
+            }
+            bytes -= skipped;
+        }
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private ArchiveScanner() {
+
+    }
+}
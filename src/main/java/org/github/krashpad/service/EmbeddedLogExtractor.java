@@ -0,0 +1,550 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.krashpad.domain.jdk.Heading;
+import org.github.krashpad.util.jdk.JdkRegEx;
+
+/**
+ * <p>
+ * Extracts the fatal error logs embedded in console or container logs (e.g. <code>-XX:+ErrorFileToStdout</code>),
+ * without splitting multi-GB logs by hand. The log is memory mapped and searched for the
+ * {@link org.github.krashpad.util.jdk.JdkRegEx#FATAL_ERROR_LOG_BANNER} and
+ * {@link org.github.krashpad.util.jdk.JdkRegEx#FATAL_ERROR_LOG_BANNER_OOM} literal. Only the crash blocks are
+ * decoded.
+ * </p>
+ * 
+ * <p>
+ * The per-line prefix added by the log collector is identified from the banner line and stripped from the block
+ * lines:
+ * </p>
+ * 
+ * <ul>
+ * <li>containerd/CRI-O: "&lt;timestamp&gt; &lt;stream&gt; &lt;P|F&gt; " (partial lines are joined).</li>
+ * <li>Docker json-file: {"log":"...","stream":"...","time":"..."} (the log value is unescaped, split lines are
+ * joined).</li>
+ * <li>Any other prefix (e.g. timestamp, host, stream name): the text before the banner line "#", with digits and
+ * whitespace generalized. Lines without the prefix (interleaved output from another source) are skipped.</li>
+ * </ul>
+ * 
+ * <p>
+ * A block ends at the "END." line, the next banner, the end of the log, or {@link #MAX_BLOCK_SIZE}. A summary
+ * banner not followed by a section heading (e.g. "# An error report file with more information is saved as:") ends
+ * at the first line after the "#" lines.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class EmbeddedLogExtractor {
+
+    /**
+     * A fatal error log embedded in a console log.
+     */
+    public static class Block {
+
+        /**
+         * The line number (1 = first line) of the first line in the console log.
+         */
+        private long line;
+
+        /**
+         * The offset (bytes) of the first line in the console log.
+         */
+        private long offset;
+
+        /**
+         * The fatal error log, without the collector prefixes.
+         */
+        private String text;
+
+        /**
+         * @param offset
+         *            The offset (bytes) of the first line in the console log.
+         * @param line
+         *            The line number of the first line in the console log.
+         * @param text
+         *            The fatal error log, without the collector prefixes.
+         */
+        public Block(long offset, long line, String text) {
+            this.offset = offset;
+            this.line = line;
+            this.text = text;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    /**
+     * Console log line format.
+     */
+    private enum Format {
+        CRI, DOCKER_JSON, PREFIX
+    }
+
+    /**
+     * Memory mapped file, mapped one window at a time.
+     */
+    private static class MappedFile {
+
+        private MappedByteBuffer buffer;
+
+        private FileChannel channel;
+
+        private long size;
+
+        /**
+         * The offset of {@link #buffer}.
+         */
+        private long start = 0;
+
+        private int windowSize;
+
+        private MappedFile(FileChannel channel, int windowSize) throws IOException {
+            this.channel = channel;
+            this.windowSize = windowSize;
+            this.size = channel.size();
+        }
+
+        /**
+         * @param offset
+         *            The file offset.
+         * @return The byte at the offset.
+         * @throws IOException
+         *             if the file cannot be mapped.
+         */
+        private byte get(long offset) throws IOException {
+            if (buffer == null || offset < start || offset >= start + buffer.limit()) {
+                // Start the window a little before the offset, for backward line start searches
+                start = Math.max(0, offset - windowSize / 4);
+                buffer = channel.map(MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+            }
+            return buffer.get((int) (offset - start));
+        }
+
+        /**
+         * @param from
+         *            The offset to start at.
+         * @param end
+         *            The offset to end at (exclusive).
+         * @return The bytes decoded as UTF-8.
+         * @throws IOException
+         *             if the file cannot be mapped.
+         */
+        private String getString(long from, long end) throws IOException {
+            if (end > from && get(end - 1) == '\r') {
+                end--;
+            }
+            byte[] bytes = new byte[(int) (end - from)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = get(from + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @param offset
+         *            An offset in the line.
+         * @return The offset of the end of the line (the "\n", or the file size).
+         * @throws IOException
+         *             if the file cannot be mapped.
+         */
+        private long getLineEnd(long offset) throws IOException {
+            while (offset < size && get(offset) != '\n') {
+                offset++;
+            }
+            return offset;
+        }
+
+        /**
+         * @param offset
+         *            An offset in the line.
+         * @return The offset of the start of the line.
+         * @throws IOException
+         *             if the file cannot be mapped.
+         */
+        private long getLineStart(long offset) throws IOException {
+            while (offset > 0 && get(offset - 1) != '\n') {
+                offset--;
+            }
+            return offset;
+        }
+    }
+
+    /**
+     * The literal common to the banners, searched for in the console log bytes.
+     */
+    private static final byte[] BANNER = "the Java Runtime Environment".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * containerd/CRI-O log line: timestamp, stream, partial (P) or full (F) line tag, and log text.
+     */
+    private static final Pattern CRI = Pattern.compile("^\\S+ (stdout|stderr) ([PF]) (.*)$");
+
+    /**
+     * Docker json-file log value.
+     */
+    private static final String DOCKER_JSON_LOG = "\"log\":\"";
+
+    /**
+     * The maximum fatal error log size (chars), to bound memory when a truncated fatal error log (no "END.") is
+     * followed by a lot of console output.
+     */
+    public static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Boyer-Moore-Horspool bad character shifts for {@link #BANNER}.
+     */
+    private static final int[] SKIP = new int[256];
+
+    static {
+        for (int i = 0; i < SKIP.length; i++) {
+            SKIP[i] = BANNER.length;
+        }
+        for (int i = 0; i < BANNER.length - 1; i++) {
+            SKIP[BANNER[i] & 0xff] = BANNER.length - 1 - i;
+        }
+    }
+
+    /**
+     * Default mapped window size (bytes).
+     */
+    public static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * @param path
+     *            The console log.
+     * @return The fatal error logs embedded in the console log, in console log order.
+     * @throws IOException
+     *             if the console log cannot be read.
+     */
+    public static List<Block> extract(Path path) throws IOException {
+        return extract(path, WINDOW_SIZE);
+    }
+
+    /**
+     * @param path
+     *            The console log.
+     * @param windowSize
+     *            The mapped window size (bytes).
+     * @return The fatal error logs embedded in the console log, in console log order.
+     * @throws IOException
+     *             if the console log cannot be read.
+     */
+    static List<Block> extract(Path path, int windowSize) throws IOException {
+        List<Block> blocks = new ArrayList<Block>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedFile file = new MappedFile(channel, Math.max(windowSize, 2 * BANNER.length));
+            long line = 1;
+            long lineCounted = 0;
+            long banner = find(file, 0);
+            while (banner >= 0) {
+                long start = file.getLineStart(banner);
+                String bannerLine = file.getString(start, file.getLineEnd(banner));
+                if (getBannerIndex(bannerLine) < 0) {
+                    banner = find(file, banner + 1);
+                    continue;
+                }
+                Format format = getFormat(bannerLine);
+                Pattern prefix = format == Format.PREFIX ? getPrefix(bannerLine) : null;
+                // The fatal error log starts with a "#" line before the banner
+                if (start > 0) {
+                    long previous = file.getLineStart(start - 1);
+                    String content = getContent(file.getString(previous, start - 1), format, prefix);
+                    if (content != null && format == Format.CRI) {
+                        content = content.substring(1);
+                    } else if (content != null && format == Format.DOCKER_JSON && content.endsWith("\n")) {
+                        content = content.substring(0, content.length() - 1);
+                    }
+                    if (content != null && content.equals("#")) {
+                        start = previous;
+                    }
+                }
+                for (long i = lineCounted; i < start; i++) {
+                    if (file.get(i) == '\n') {
+                        line++;
+                    }
+                }
+                lineCounted = start;
+                StringBuilder text = new StringBuilder();
+                StringBuilder partial = new StringBuilder();
+                long offset = start;
+                long resume = -1;
+                boolean hasBanner = false;
+                boolean hasHeading = false;
+                while (offset < file.size && text.length() < MAX_BLOCK_SIZE) {
+                    long end = file.getLineEnd(offset);
+                    String content = getContent(file.getString(offset, end), format, prefix);
+                    long lineStart = offset;
+                    offset = end + 1;
+                    if (content == null) {
+                        // Not a collector line, or not from the same source
+                        continue;
+                    }
+                    if (format == Format.CRI || format == Format.DOCKER_JSON) {
+                        boolean complete;
+                        if (format == Format.CRI) {
+                            complete = content.charAt(0) == 'F';
+                            content = content.substring(1);
+                        } else {
+                            complete = content.endsWith("\n");
+                            if (complete) {
+                                content = content.substring(0, content.length() - 1);
+                            }
+                        }
+                        partial.append(content);
+                        if (!complete) {
+                            continue;
+                        }
+                        content = partial.toString();
+                        partial.setLength(0);
+                    }
+                    if (getBannerIndex(content) >= 0) {
+                        if (hasBanner) {
+                            // The next fatal error log
+                            resume = lineStart;
+                            break;
+                        }
+                        hasBanner = true;
+                    }
+                    if (hasBanner && !hasHeading && !content.startsWith("#") && !content.trim().isEmpty()) {
+                        if (!Heading.match(content)) {
+                            // Only the summary (e.g. the error report is saved to a file), followed by console output
+                            resume = lineStart;
+                            break;
+                        }
+                        hasHeading = true;
+                    }
+                    text.append(content);
+                    text.append('\n');
+                    if (content.equals("END.")) {
+                        break;
+                    }
+                }
+                blocks.add(new Block(start, line, text.toString()));
+                banner = find(file, resume >= 0 ? resume : offset);
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Find the next banner with a Boyer-Moore-Horspool search.
+     * 
+     * @param file
+     *            The console log.
+     * @param from
+     *            The offset to start the search at.
+     * @return The offset of the next banner, or -1 if not found.
+     * @throws IOException
+     *             if the console log cannot be mapped.
+     */
+    private static long find(MappedFile file, long from) throws IOException {
+        long offset = Math.max(from, 0);
+        while (offset + BANNER.length <= file.size) {
+            int i = BANNER.length - 1;
+            while (i >= 0 && file.get(offset + i) == BANNER[i]) {
+                i--;
+            }
+            if (i < 0) {
+                return offset;
+            }
+            offset += SKIP[file.get(offset + BANNER.length - 1) & 0xff];
+        }
+        return -1;
+    }
+
+    /**
+     * @param text
+     *            The text.
+     * @return The index of the banner in the text, or -1 if the text has no banner.
+     */
+    private static int getBannerIndex(String text) {
+        int index = text.indexOf(JdkRegEx.FATAL_ERROR_LOG_BANNER);
+        if (index < 0) {
+            index = text.indexOf(JdkRegEx.FATAL_ERROR_LOG_BANNER_OOM);
+        }
+        return index;
+    }
+
+    /**
+     * @param line
+     *            A console log line.
+     * @param format
+     *            The console log line format.
+     * @param prefix
+     *            The prefix pattern ({@link Format#PREFIX}).
+     * @return The log text of the line (for {@link Format#CRI} prefixed with the P or F tag), or null if the line is
+     *         not in the format.
+     */
+    private static String getContent(String line, Format format, Pattern prefix) {
+        String content = null;
+        if (format == Format.CRI) {
+            Matcher matcher = CRI.matcher(line);
+            if (matcher.matches()) {
+                content = matcher.group(2) + matcher.group(3);
+            }
+        } else if (format == Format.DOCKER_JSON) {
+            content = getDockerJsonLog(line);
+        } else {
+            Matcher matcher = prefix.matcher(line);
+            if (matcher.lookingAt()) {
+                content = line.substring(matcher.end());
+            }
+        }
+        return content;
+    }
+
+    /**
+     * @param line
+     *            A Docker json-file log line.
+     * @return The unescaped log value, or null if the line is not a Docker json-file log line.
+     */
+    private static String getDockerJsonLog(String line) {
+        int index = line.indexOf(DOCKER_JSON_LOG);
+        if (!line.startsWith("{") || index < 0) {
+            return null;
+        }
+        StringBuilder log = new StringBuilder();
+        for (int i = index + DOCKER_JSON_LOG.length(); i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                return log.toString();
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                switch (escaped) {
+                case 'n':
+                    log.append('\n');
+                    break;
+                case 'r':
+                    log.append('\r');
+                    break;
+                case 't':
+                    log.append('\t');
+                    break;
+                case 'b':
+                    log.append('\b');
+                    break;
+                case 'f':
+                    log.append('\f');
+                    break;
+                case 'u':
+                    if (i + 4 < line.length()) {
+                        log.append((char) Integer.parseInt(line.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    }
+                    break;
+                default:
+                    // \" \\ \/
+                    log.append(escaped);
+                }
+            } else {
+                log.append(c);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param bannerLine
+     *            The console log line with the banner.
+     * @return The console log line format.
+     */
+    private static Format getFormat(String bannerLine) {
+        Format format = Format.PREFIX;
+        if (bannerLine.startsWith("{") && bannerLine.indexOf(DOCKER_JSON_LOG) > 0) {
+            format = Format.DOCKER_JSON;
+        } else {
+            Matcher matcher = CRI.matcher(bannerLine);
+            if (matcher.matches() && getBannerIndex(matcher.group(3)) >= 0) {
+                format = Format.CRI;
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Get the collector prefix pattern from the text before the banner line "#", with digit runs generalized to any
+     * digits and whitespace runs (except trailing whitespace) to any whitespace (e.g. timestamps, padded days).
+     * 
+     * @param bannerLine
+     *            The console log line with the banner.
+     * @return The prefix pattern.
+     */
+    static Pattern getPrefix(String bannerLine) {
+        int banner = getBannerIndex(bannerLine);
+        int hash = bannerLine.lastIndexOf('#', banner);
+        String prefix = bannerLine.substring(0, hash < 0 ? banner : hash);
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        while (i < prefix.length()) {
+            char c = prefix.charAt(i);
+            int j = i + 1;
+            if (Character.isDigit(c)) {
+                while (j < prefix.length() && Character.isDigit(prefix.charAt(j))) {
+                    j++;
+                }
+                regex.append("\\d+");
+            } else if (Character.isWhitespace(c)) {
+                while (j < prefix.length() && Character.isWhitespace(prefix.charAt(j))) {
+                    j++;
+                }
+                if (j < prefix.length()) {
+                    regex.append("\\s+");
+                } else {
+                    // Keep the log text indentation
+                    regex.append(Pattern.quote(prefix.substring(i, j)));
+                }
+            } else {
+                while (j < prefix.length() && !Character.isDigit(prefix.charAt(j))
+                        && !Character.isWhitespace(prefix.charAt(j))) {
+                    j++;
+                }
+                regex.append(Pattern.quote(prefix.substring(i, j)));
+            }
+            i = j;
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private EmbeddedLogExtractor() {
+
+    }
+}
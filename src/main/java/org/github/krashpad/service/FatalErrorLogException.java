@@ -0,0 +1,78 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+/**
+ * <p>
+ * A fatal error log could not be parsed by the {@link org.github.krashpad.service.FatalErrorLogParser}.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class FatalErrorLogException extends Exception {
+
+    /**
+     * Why the fatal error log could not be parsed.
+     */
+    public enum Reason {
+        /**
+         * The input is empty (or only blank lines).
+         */
+        EMPTY,
+        /**
+         * The input has no fatal error log lines (none identified).
+         */
+        NOT_FATAL_ERROR_LOG,
+        /**
+         * The input cannot be read (see the cause).
+         */
+        READ
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Why the fatal error log could not be parsed.
+     */
+    private final Reason reason;
+
+    /**
+     * @param reason
+     *            Why the fatal error log could not be parsed.
+     * @param message
+     *            The detail message.
+     */
+    public FatalErrorLogException(Reason reason, String message) {
+        this(reason, message, null);
+    }
+
+    /**
+     * @param reason
+     *            Why the fatal error log could not be parsed.
+     * @param message
+     *            The detail message.
+     * @param cause
+     *            The cause.
+     */
+    public FatalErrorLogException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,598 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.service.ArchiveScanner.Entry;
+import org.github.krashpad.service.EmbeddedLogExtractor.Block;
+import org.github.krashpad.service.LogSplitter.Segment;
+
+/**
+ * <p>
+ * Reusable fatal error log parsing engine for embedding (e.g. in a triage service). Unlike
+ * {@link org.github.krashpad.service.Manager}, which is used for a single parse of a <code>File</code>, a parser is
+ * immutable after construction and can be shared by any number of threads doing concurrent parses of a
+ * <code>Path</code>, <code>InputStream</code>, <code>ByteBuffer</code>, or <code>CharSequence</code>.
+ * </p>
+ * 
+ * <p>
+ * Each thread reuses its own read buffer, line builder, and charset decoder across parses, so a worker thread parsing
+ * many fatal error logs does not allocate them for each parse. The line parsing itself only uses precompiled (shared,
+ * thread safe) patterns. Failures are reported as a {@link org.github.krashpad.service.FatalErrorLogException} with
+ * the {@link org.github.krashpad.service.FatalErrorLogException.Reason}, not printed.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class FatalErrorLogParser {
+
+    /**
+     * Default read buffer size (chars).
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The read buffer size (chars).
+     */
+    private final int bufferSize;
+
+    /**
+     * Read buffers, one per thread.
+     */
+    private final ThreadLocal<char[]> buffers;
+
+    /**
+     * The charset of the byte input (<code>Path</code>, <code>InputStream</code>, <code>ByteBuffer</code>).
+     */
+    private final Charset charset;
+
+    /**
+     * Charset decoders, one per thread. Malformed and unmappable input is replaced (like <code>FileReader</code>).
+     */
+    private final ThreadLocal<CharsetDecoder> decoders;
+
+    /**
+     * Whether to return frozen (immutable) fatal error logs.
+     */
+    private final boolean freeze;
+
+    /**
+     * Line builders, one per thread.
+     */
+    private final ThreadLocal<StringBuilder> lines;
+
+    /**
+     * Resolves native frames without symbols before analysis, or null to not symbolize.
+     */
+    private final Symbolizer symbolizer;
+
+    /**
+     * Whether to stop reading at the process section.
+     */
+    private final boolean triage;
+
+    /**
+     * Default constructor: frozen, full (not triage) parse, no symbolization, default charset.
+     */
+    public FatalErrorLogParser() {
+        this(null, false, true);
+    }
+
+    /**
+     * @param symbolizer
+     *            Resolves native frames without symbols before analysis, or null to not symbolize.
+     * @param triage
+     *            Whether to stop reading at the process section.
+     * @param freeze
+     *            Whether to return frozen (immutable) fatal error logs that can be shared between threads.
+     */
+    public FatalErrorLogParser(Symbolizer symbolizer, boolean triage, boolean freeze) {
+        this(symbolizer, triage, freeze, Charset.defaultCharset(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param symbolizer
+     *            Resolves native frames without symbols before analysis, or null to not symbolize.
+     * @param triage
+     *            Whether to stop reading at the process section.
+     * @param freeze
+     *            Whether to return frozen (immutable) fatal error logs that can be shared between threads.
+     * @param charset
+     *            The charset of the byte input.
+     * @param bufferSize
+     *            The read buffer size (chars).
+     */
+    public FatalErrorLogParser(Symbolizer symbolizer, boolean triage, boolean freeze, final Charset charset,
+            final int bufferSize) {
+        if (charset == null) {
+            throw new IllegalArgumentException("Missing charset.");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+        }
+        this.symbolizer = symbolizer;
+        this.triage = triage;
+        this.freeze = freeze;
+        this.charset = charset;
+        this.bufferSize = bufferSize;
+        buffers = new ThreadLocal<char[]>() {
+            @Override
+            protected char[] initialValue() {
+                return new char[bufferSize];
+            }
+        };
+        decoders = new ThreadLocal<CharsetDecoder>() {
+            @Override
+            protected CharsetDecoder initialValue() {
+                return charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            }
+        };
+        lines = new ThreadLocal<StringBuilder>() {
+            @Override
+            protected StringBuilder initialValue() {
+                return new StringBuilder();
+            }
+        };
+    }
+
+    /**
+     * @param futures
+     *            The parses to cancel (if not done).
+     */
+    private void cancel(List<Future<FatalErrorLog>> futures) {
+        for (Future<FatalErrorLog> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * @param futures
+     *            The parses, in file order.
+     * @param path
+     *            The file.
+     * @return The fatal error logs, in file order. Empty (blank) fatal error logs are skipped.
+     * @throws FatalErrorLogException
+     *             if a fatal error log cannot be parsed.
+     */
+    private List<FatalErrorLog> getAll(List<Future<FatalErrorLog>> futures, Path path)
+            throws FatalErrorLogException {
+        List<FatalErrorLog> fatalErrorLogs = getAll(futures, path, EnumSet.of(FatalErrorLogException.Reason.EMPTY));
+        fatalErrorLogs.removeAll(Collections.singleton(null));
+        return fatalErrorLogs;
+    }
+
+    /**
+     * @param futures
+     *            The parses, in file order.
+     * @param path
+     *            The file.
+     * @param skipped
+     *            The parse failures to skip.
+     * @return The fatal error logs, in file order, with null for a skipped parse.
+     * @throws FatalErrorLogException
+     *             if a fatal error log cannot be parsed.
+     */
+    private List<FatalErrorLog> getAll(List<Future<FatalErrorLog>> futures, Path path,
+            Set<FatalErrorLogException.Reason> skipped) throws FatalErrorLogException {
+        List<FatalErrorLog> fatalErrorLogs = new ArrayList<FatalErrorLog>(futures.size());
+        try {
+            for (Future<FatalErrorLog> future : futures) {
+                try {
+                    fatalErrorLogs.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof FatalErrorLogException) {
+                        FatalErrorLogException cause = (FatalErrorLogException) e.getCause();
+                        if (!skipped.contains(cause.getReason())) {
+                            throw cause;
+                        }
+                        fatalErrorLogs.add(null);
+                    } else if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    } else {
+                        throw (Error) e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ, "Interrupted reading " + path + ".",
+                    e);
+        } finally {
+            cancel(futures);
+        }
+        return fatalErrorLogs;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public Symbolizer getSymbolizer() {
+        return symbolizer;
+    }
+
+    public boolean isFreeze() {
+        return freeze;
+    }
+
+    public boolean isTriage() {
+        return triage;
+    }
+
+    /**
+     * @param buffer
+     *            The fatal error log bytes, from the position to the limit. The buffer position is not changed.
+     * @return The fatal error log object.
+     * @throws FatalErrorLogException
+     *             if the fatal error log cannot be decoded or has no fatal error log lines.
+     */
+    public FatalErrorLog parse(ByteBuffer buffer) throws FatalErrorLogException {
+        CharsetDecoder decoder = decoders.get();
+        decoder.reset();
+        CharBuffer text;
+        try {
+            text = decoder.decode(buffer.duplicate());
+        } catch (CharacterCodingException e) {
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ, "Cannot decode fatal error log.", e);
+        }
+        return parse(new LineReader(text));
+    }
+
+    /**
+     * @param text
+     *            The fatal error log.
+     * @return The fatal error log object.
+     * @throws FatalErrorLogException
+     *             if the text has no fatal error log lines.
+     */
+    public FatalErrorLog parse(CharSequence text) throws FatalErrorLogException {
+        return parse(new LineReader(text));
+    }
+
+    /**
+     * @param inputStream
+     *            The fatal error log. It is read to the end (or the process section when triaging) but not closed.
+     * @return The fatal error log object.
+     * @throws FatalErrorLogException
+     *             if the stream cannot be read or has no fatal error log lines.
+     */
+    public FatalErrorLog parse(InputStream inputStream) throws FatalErrorLogException {
+        CharsetDecoder decoder = decoders.get();
+        decoder.reset();
+        return parse(new LineReader(new InputStreamReader(inputStream, decoder), buffers.get(), lines.get()));
+    }
+
+    /**
+     * @param lineReader
+     *            The fatal error log lines.
+     * @return The fatal error log object.
+     * @throws FatalErrorLogException
+     *             if the lines cannot be read or have no fatal error log lines.
+     */
+    private FatalErrorLog parse(LineReader lineReader) throws FatalErrorLogException {
+        Manager manager = new Manager(symbolizer);
+        FatalErrorLog fatalErrorLog;
+        try {
+            fatalErrorLog = manager.parse(lineReader, triage, freeze);
+        } catch (IOException e) {
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ, "Cannot read fatal error log.", e);
+        }
+        if (manager.getIdentifiedLogLines() == 0) {
+            if (fatalErrorLog.getUnidentifiedLogLines().isEmpty()) {
+                throw new FatalErrorLogException(FatalErrorLogException.Reason.EMPTY, "Empty fatal error log.");
+            }
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.NOT_FATAL_ERROR_LOG,
+                    "No fatal error log lines identified.");
+        }
+        return fatalErrorLog;
+    }
+
+    /**
+     * @param path
+     *            The fatal error log file.
+     * @return The fatal error log object.
+     * @throws FatalErrorLogException
+     *             if the file cannot be read or has no fatal error log lines.
+     */
+    public FatalErrorLog parse(Path path) throws FatalErrorLogException {
+        InputStream inputStream;
+        try {
+            inputStream = Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ, "Cannot open " + path + ".", e);
+        }
+        try {
+            return parse(inputStream);
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException e) {
+                // The fatal error log was read
+            }
+        }
+    }
+
+    /**
+     * Parse a file with multiple concatenated fatal error logs (e.g. <code>-XX:ErrorFile</code> pointing to a fixed
+     * path), one fatal error log per available processor in parallel.
+     * 
+     * @param path
+     *            The file.
+     * @return The fatal error logs, in file order.
+     * @throws FatalErrorLogException
+     *             if the file cannot be read or a fatal error log cannot be parsed.
+     */
+    public List<FatalErrorLog> parseAll(Path path) throws FatalErrorLogException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            return parseAll(path, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Parse a file with multiple concatenated fatal error logs. The fatal error log boundaries are found in a single
+     * scan (see {@link org.github.krashpad.service.LogSplitter}), then each fatal error log is mapped and parsed into
+     * its own <code>FatalErrorLog</code> by the executor.
+     * 
+     * @param path
+     *            The file.
+     * @param executor
+     *            The executor to parse the fatal error logs. It is not shut down.
+     * @return The fatal error logs, in file order. Empty (blank) fatal error logs are skipped.
+     * @throws FatalErrorLogException
+     *             if the file cannot be read or a fatal error log cannot be parsed.
+     */
+    public List<FatalErrorLog> parseAll(Path path, ExecutorService executor) throws FatalErrorLogException {
+        List<Future<FatalErrorLog>> futures = new ArrayList<Future<FatalErrorLog>>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (Segment segment : LogSplitter.split(path)) {
+                if (segment.getLength() > Integer.MAX_VALUE) {
+                    throw new FatalErrorLogException(FatalErrorLogException.Reason.READ,
+                            "Fatal error log at line " + segment.getLine() + " is too large to map.");
+                }
+                final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, segment.getOffset(), segment.getLength());
+                futures.add(executor.submit(new Callable<FatalErrorLog>() {
+                    @Override
+                    public FatalErrorLog call() throws FatalErrorLogException {
+                        return parse(buffer);
+                    }
+                }));
+            }
+        } catch (IOException e) {
+            cancel(futures);
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ, "Cannot read " + path + ".", e);
+        } catch (FatalErrorLogException e) {
+            cancel(futures);
+            throw e;
+        }
+        return getAll(futures, path);
+    }
+
+    /**
+     * Parse the fatal error logs in a support archive (e.g. sosreport, must-gather, application support zip), one
+     * fatal error log per available processor in parallel.
+     * 
+     * @param path
+     *            The archive.
+     * @return The fatal error logs by archive entry name, in archive order.
+     * @throws FatalErrorLogException
+     *             if the archive cannot be read or a fatal error log cannot be parsed.
+     */
+    public Map<String, FatalErrorLog> parseArchive(Path path) throws FatalErrorLogException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            return parseArchive(path, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Parse the fatal error logs in a support archive. The candidate fatal error logs are read from the archive
+     * stream, without extracting to disk, and de-duplicated in a single pass (see
+     * {@link org.github.krashpad.service.ArchiveScanner}). Each candidate is submitted to the executor as soon as it
+     * is read, and its bytes are released once it is parsed.
+     * 
+     * @param path
+     *            The archive.
+     * @param executor
+     *            The executor to parse the fatal error logs. It is not shut down.
+     * @return The fatal error logs by archive entry name, in archive order. Candidates that are empty or not a fatal
+     *         error log (e.g. a text file named hs_err_notes.txt) are skipped. A repeated entry name gets a copy
+     *         number (e.g. "hs_err_pid1.log (2)").
+     * @throws FatalErrorLogException
+     *             if the archive cannot be read or a fatal error log cannot be parsed.
+     */
+    public Map<String, FatalErrorLog> parseArchive(Path path, ExecutorService executor)
+            throws FatalErrorLogException {
+        return parseArchive(path, executor, null);
+    }
+
+    /**
+     * Parse the fatal error logs in a support archive (see {@link #parseArchive(Path, ExecutorService)}).
+     * 
+     * @param path
+     *            The archive.
+     * @param executor
+     *            The executor to parse the fatal error logs. It is not shut down.
+     * @param skipped
+     *            The candidate fatal error logs that were not read (e.g. too large), entry name to reason, in archive
+     *            order. Not collected if null.
+     * @return The fatal error logs by archive entry name, in archive order. Candidates that are empty or not a fatal
+     *         error log (e.g. a text file named hs_err_notes.txt) are skipped. A repeated entry name gets a copy
+     *         number (e.g. "hs_err_pid1.log (2)").
+     * @throws FatalErrorLogException
+     *             if the archive cannot be read or a fatal error log cannot be parsed.
+     */
+    public Map<String, FatalErrorLog> parseArchive(Path path, final ExecutorService executor,
+            final Map<String, String> skipped) throws FatalErrorLogException {
+        final List<String> names = new ArrayList<String>();
+        final List<Future<FatalErrorLog>> futures = new ArrayList<Future<FatalErrorLog>>();
+        try {
+            ArchiveScanner.scan(path, new ArchiveScanner.Handler() {
+                @Override
+                public void candidate(Entry entry) {
+                    // Only the task references the bytes, so they can be collected once the entry is parsed
+                    final ByteBuffer buffer = ByteBuffer.wrap(entry.getContent());
+                    names.add(entry.getName());
+                    futures.add(executor.submit(new Callable<FatalErrorLog>() {
+                        @Override
+                        public FatalErrorLog call() throws FatalErrorLogException {
+                            return parse(buffer);
+                        }
+                    }));
+                }
+
+                @Override
+                public void skipped(String name, String reason) {
+                    if (skipped != null) {
+                        skipped.put(name, reason);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            cancel(futures);
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ,
+                    "Cannot read " + path + ": " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            cancel(futures);
+            throw e;
+        }
+        List<FatalErrorLog> fatalErrorLogs = getAll(futures, path,
+                EnumSet.of(FatalErrorLogException.Reason.EMPTY, FatalErrorLogException.Reason.NOT_FATAL_ERROR_LOG));
+        Map<String, FatalErrorLog> archive = new LinkedHashMap<String, FatalErrorLog>();
+        for (int i = 0; i < names.size(); i++) {
+            if (fatalErrorLogs.get(i) != null) {
+                // An archive can have more than one entry with the same name (e.g. a tar appended to)
+                String name = names.get(i);
+                int copy = 2;
+                while (archive.containsKey(name)) {
+                    name = names.get(i) + " (" + copy++ + ")";
+                }
+                archive.put(name, fatalErrorLogs.get(i));
+            }
+        }
+        return archive;
+    }
+
+    /**
+     * Parse the fatal error logs in a support archive, one fatal error log per available processor in parallel.
+     * 
+     * @param path
+     *            The archive.
+     * @param skipped
+     *            The candidate fatal error logs that were not read (e.g. too large), entry name to reason, in archive
+     *            order. Not collected if null.
+     * @return The fatal error logs by archive entry name, in archive order.
+     * @throws FatalErrorLogException
+     *             if the archive cannot be read or a fatal error log cannot be parsed.
+     */
+    public Map<String, FatalErrorLog> parseArchive(Path path, Map<String, String> skipped)
+            throws FatalErrorLogException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            return parseArchive(path, executor, skipped);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Parse the fatal error logs embedded in a (e.g. multi-GB) console or container log, one fatal error log per
+     * available processor in parallel.
+     * 
+     * @param path
+     *            The console log.
+     * @return The fatal error logs, in console log order.
+     * @throws FatalErrorLogException
+     *             if the console log cannot be read or a fatal error log cannot be parsed.
+     */
+    public List<FatalErrorLog> parseEmbedded(Path path) throws FatalErrorLogException {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            return parseEmbedded(path, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Parse the fatal error logs embedded in a console or container log. The fatal error logs are extracted, without
+     * the log collector line prefixes, in a single scan (see
+     * {@link org.github.krashpad.service.EmbeddedLogExtractor}), then each fatal error log is parsed into its own
+     * <code>FatalErrorLog</code> by the executor.
+     * 
+     * @param path
+     *            The console log.
+     * @param executor
+     *            The executor to parse the fatal error logs. It is not shut down.
+     * @return The fatal error logs, in console log order. Empty (blank) fatal error logs are skipped.
+     * @throws FatalErrorLogException
+     *             if the console log cannot be read or a fatal error log cannot be parsed.
+     */
+    public List<FatalErrorLog> parseEmbedded(Path path, ExecutorService executor) throws FatalErrorLogException {
+        List<Block> blocks;
+        try {
+            blocks = EmbeddedLogExtractor.extract(path);
+        } catch (IOException e) {
+            throw new FatalErrorLogException(FatalErrorLogException.Reason.READ, "Cannot read " + path + ".", e);
+        }
+        List<Future<FatalErrorLog>> futures = new ArrayList<Future<FatalErrorLog>>(blocks.size());
+        for (final Block block : blocks) {
+            futures.add(executor.submit(new Callable<FatalErrorLog>() {
+                @Override
+                public FatalErrorLog call() throws FatalErrorLogException {
+                    return parse(block.getText());
+                }
+            }));
+        }
+        return getAll(futures, path);
+    }
+}
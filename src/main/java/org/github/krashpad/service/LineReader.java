@@ -0,0 +1,201 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * <p>
+ * Reads lines from a <code>Reader</code> or a <code>CharSequence</code>, with the same line terminators as
+ * <code>BufferedReader</code> ("\n", "\r", or "\r\n"). Unlike <code>BufferedReader</code>, the read buffer and line
+ * builder can be supplied by the caller, so they can be reused across reads (e.g. pooled per thread by
+ * {@link org.github.krashpad.service.FatalErrorLogParser}). Lines read from a <code>CharSequence</code> are sliced
+ * from it without copying it to a buffer.
+ * </p>
+ * 
+ * <p>
+ * Not thread safe.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class LineReader implements Closeable {
+
+    /**
+     * Default read buffer size (chars).
+     */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The read buffer, or null when reading a <code>CharSequence</code>.
+     */
+    private char[] buffer;
+
+    /**
+     * The number of chars in {@link #buffer}.
+     */
+    private int limit;
+
+    /**
+     * The line being read, when it spans more than one {@link #buffer} fill.
+     */
+    private StringBuilder line;
+
+    /**
+     * The next char to read in {@link #buffer} or {@link #text}.
+     */
+    private int position;
+
+    /**
+     * The <code>Reader</code>, or null when reading a <code>CharSequence</code>.
+     */
+    private Reader reader;
+
+    /**
+     * Whether the last char read was a "\r" (so a following "\n" is part of the same line terminator).
+     */
+    private boolean skipLineFeed;
+
+    /**
+     * The <code>CharSequence</code>, or null when reading a <code>Reader</code>.
+     */
+    private CharSequence text;
+
+    /**
+     * @param text
+     *            The lines.
+     */
+    LineReader(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * @param reader
+     *            The <code>Reader</code> to read lines from.
+     */
+    LineReader(Reader reader) {
+        this(reader, new char[DEFAULT_BUFFER_SIZE], new StringBuilder());
+    }
+
+    /**
+     * @param reader
+     *            The <code>Reader</code> to read lines from.
+     * @param buffer
+     *            The read buffer.
+     * @param line
+     *            The line builder. It is cleared before use.
+     */
+    LineReader(Reader reader, char[] buffer, StringBuilder line) {
+        this.reader = reader;
+        this.buffer = buffer;
+        this.line = line;
+        line.setLength(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    /**
+     * @return The next line, without the line terminator, or null at the end of the input.
+     * @throws IOException
+     *             if the <code>Reader</code> cannot be read.
+     */
+    String readLine() throws IOException {
+        return text == null ? readBufferLine() : readTextLine();
+    }
+
+    /**
+     * @return The next line from the <code>Reader</code>, or null at the end of the input.
+     * @throws IOException
+     *             if the <code>Reader</code> cannot be read.
+     */
+    private String readBufferLine() throws IOException {
+        boolean haveLine = false;
+        line.setLength(0);
+        while (true) {
+            if (position >= limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return haveLine ? line.toString() : null;
+                }
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                position++;
+            }
+            if (position < limit) {
+                // Line terminator found
+                String logLine;
+                if (haveLine) {
+                    line.append(buffer, start, position - start);
+                    logLine = line.toString();
+                } else {
+                    logLine = new String(buffer, start, position - start);
+                }
+                skipLineFeed = buffer[position] == '\r';
+                position++;
+                return logLine;
+            }
+            line.append(buffer, start, position - start);
+            haveLine = true;
+        }
+    }
+
+    /**
+     * @return The next line from the <code>CharSequence</code>, or null at the end of the input.
+     */
+    private String readTextLine() {
+        int length = text.length();
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (position < length && text.charAt(position) == '\n') {
+                position++;
+            }
+        }
+        if (position >= length) {
+            return null;
+        }
+        int start = position;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            position++;
+        }
+        String logLine = text.subSequence(start, position).toString();
+        if (position < length) {
+            skipLineFeed = text.charAt(position) == '\r';
+            position++;
+        }
+        return logLine;
+    }
+}
@@ -0,0 +1,214 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.End;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.VmInfo;
+
+/**
+ * <p>
+ * Finds the fatal error logs in a file with multiple concatenated fatal error logs (e.g. <code>-XX:ErrorFile</code>
+ * pointing to a fixed path, or container stdout capture), in a single pass over the memory mapped file.
+ * </p>
+ * 
+ * <p>
+ * A fatal error log starts at a {@link org.github.krashpad.domain.jdk.Header} line following the
+ * {@link org.github.krashpad.domain.jdk.End} or {@link org.github.krashpad.domain.jdk.VmInfo} line of the previous
+ * fatal error log, the same boundary where {@link org.github.krashpad.service.Manager} stops parsing and reports
+ * {@link org.github.krashpad.util.jdk.Analysis#ERROR_LOGGING_MULTIPLE}. Only lines that can start one of those events
+ * are decoded.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class LogSplitter {
+
+    /**
+     * A fatal error log in the file.
+     */
+    public static class Segment {
+
+        /**
+         * The length (bytes).
+         */
+        private long length;
+
+        /**
+         * The first line number (1 = first line of the file).
+         */
+        private long line;
+
+        /**
+         * The offset (bytes) of the first line.
+         */
+        private long offset;
+
+        /**
+         * @param offset
+         *            The offset (bytes) of the first line.
+         * @param length
+         *            The length (bytes).
+         * @param line
+         *            The first line number.
+         */
+        public Segment(long offset, long length, long line) {
+            this.offset = offset;
+            this.length = length;
+            this.line = line;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+    }
+
+    /**
+     * Default mapped window size (bytes). Files larger than the window are scanned one window at a time. A line longer
+     * than the window is scanned in a larger window.
+     */
+    public static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * @param buffer
+     *            The mapped bytes.
+     * @param start
+     *            The line start.
+     * @param end
+     *            The line end (exclusive, without the line terminator).
+     * @return The line, decoded as ISO-8859-1 (the event boundaries are ASCII).
+     */
+    private static String getLine(MappedByteBuffer buffer, int start, int end) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param path
+     *            The file.
+     * @return The fatal error logs in the file, in file order. A file with a single fatal error log (or none) has
+     *         one segment, the whole file (none if the file is empty).
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    public static List<Segment> split(Path path) throws IOException {
+        return split(path, WINDOW_SIZE);
+    }
+
+    /**
+     * @param path
+     *            The file.
+     * @param windowSize
+     *            The mapped window size (bytes).
+     * @return The fatal error logs in the file, in file order.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    static List<Segment> split(Path path, int windowSize) throws IOException {
+        List<Segment> segments = new ArrayList<Segment>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long segmentOffset = 0;
+            long segmentLine = 1;
+            long line = 1;
+            boolean ended = false;
+            long position = 0;
+            int window = windowSize;
+            while (position < size) {
+                int limit = (int) Math.min(window, size - position);
+                boolean last = position + limit == size;
+                MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, position, limit);
+                int start = 0;
+                while (start < limit) {
+                    int end = start;
+                    while (end < limit && buffer.get(end) != '\n') {
+                        end++;
+                    }
+                    boolean terminated = end < limit;
+                    if (!terminated && !last && (start > 0 || window < Integer.MAX_VALUE)) {
+                        if (start == 0) {
+                            // Line longer than the window
+                            window = (int) Math.min(2L * window, Integer.MAX_VALUE);
+                        }
+                        // Line continues in the next window
+                        break;
+                    }
+                    if (end > start) {
+                        byte first = buffer.get(start);
+                        if (first == 'E' || first == 'v') {
+                            if (End.match(getLine(buffer, start, end)) || VmInfo.match(getLine(buffer, start, end))) {
+                                ended = true;
+                            }
+                        } else if (ended && (first == '#' || first == '[')) {
+                            if (Header.match(getLine(buffer, start, end))) {
+                                long offset = position + start;
+                                segments.add(new Segment(segmentOffset, offset - segmentOffset, segmentLine));
+                                segmentOffset = offset;
+                                segmentLine = line;
+                                ended = false;
+                            }
+                        }
+                    }
+                    if (terminated) {
+                        line++;
+                        start = end + 1;
+                    } else {
+                        start = end;
+                    }
+                }
+                position += start;
+                if (start > 0) {
+                    window = windowSize;
+                }
+            }
+            if (size > segmentOffset) {
+                segments.add(new Segment(segmentOffset, size - segmentOffset, segmentLine));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private LogSplitter() {
+
+    }
+}
@@ -14,11 +14,17 @@
  *********************************************************************************************************************/
 package org.github.krashpad.service;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
 
 import org.github.krashpad.Main;
 import org.github.krashpad.domain.BlankLine;
@@ -26,7 +32,10 @@ import org.github.krashpad.domain.LogEvent;
 import org.github.krashpad.domain.ThrowAwayEvent;
 import org.github.krashpad.domain.UnknownEvent;
 import org.github.krashpad.domain.jdk.BarrierSet;
+import org.github.krashpad.domain.jdk.ClassesLoadedEvent;
+import org.github.krashpad.domain.jdk.ClassesRedefinedEvent;
 import org.github.krashpad.domain.jdk.ClassesUnloadedEvent;
+import org.github.krashpad.domain.jdk.CodeCache;
 import org.github.krashpad.domain.jdk.CommandLine;
 import org.github.krashpad.domain.jdk.CompilationEvent;
 import org.github.krashpad.domain.jdk.ContainerInfo;
@@ -46,8 +55,10 @@ import org.github.krashpad.domain.jdk.GcHeapHistoryEvent;
 import org.github.krashpad.domain.jdk.GcPreciousLog;
 import org.github.krashpad.domain.jdk.GlobalFlag;
 import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.Heading;
 import org.github.krashpad.domain.jdk.Heap;
 import org.github.krashpad.domain.jdk.HeapAddress;
+import org.github.krashpad.domain.jdk.HeapRegions;
 import org.github.krashpad.domain.jdk.Host;
 import org.github.krashpad.domain.jdk.InternalExceptionEvent;
 import org.github.krashpad.domain.jdk.InternalStatistic;
@@ -59,7 +70,9 @@ import org.github.krashpad.domain.jdk.NativeMemoryTracking;
 import org.github.krashpad.domain.jdk.OsInfo;
 import org.github.krashpad.domain.jdk.PeriodicNativeTrim;
 import org.github.krashpad.domain.jdk.PidMax;
+import org.github.krashpad.domain.jdk.PollingPage;
 import org.github.krashpad.domain.jdk.ProcessMemory;
+import org.github.krashpad.domain.jdk.Register;
 import org.github.krashpad.domain.jdk.RegisterToMemoryMapping;
 import org.github.krashpad.domain.jdk.Rlimit;
 import org.github.krashpad.domain.jdk.SigInfo;
@@ -82,8 +95,10 @@ import org.github.krashpad.domain.jdk.VmOperationEvent;
 import org.github.krashpad.domain.jdk.VmState;
 import org.github.krashpad.domain.jdk.ZgcPageTable;
 import org.github.krashpad.domain.jdk.ZgcPhaseSwitchEvent;
+import org.github.krashpad.service.SectionIndex.Section;
 import org.github.krashpad.util.jdk.Analysis;
 import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 
 /**
  * <p>
@@ -100,6 +115,16 @@ public class Manager {
      */
     private FatalErrorLog fatalErrorLog;
 
+    /**
+     * The number of log lines identified (parsed as a known event).
+     */
+    private int identifiedLogLines;
+
+    /**
+     * Resolves native frames without symbols before analysis, or null to not symbolize.
+     */
+    private Symbolizer symbolizer;
+
     /**
      * Default constructor.
      */
@@ -107,6 +132,205 @@ public class Manager {
         this.fatalErrorLog = new FatalErrorLog();
     }
 
+    /**
+     * @param symbolizer
+     *            Resolves native frames without symbols before analysis, or null to not symbolize.
+     */
+    public Manager(Symbolizer symbolizer) {
+        this();
+        this.symbolizer = symbolizer;
+    }
+
+    /**
+     * Add a parsed event to the fatal error log.
+     * 
+     * @param event
+     *            The parsed event.
+     * @param logLine
+     *            The log line the event was parsed from.
+     * @return false if parsing should stop (e.g. a second fatal error log was found), true otherwise.
+     */
+    private boolean add(LogEvent event, String logLine) {
+        if (event instanceof ClassesUnloadedEvent) {
+            fatalErrorLog.getClassesUnloadedEvents().add((ClassesUnloadedEvent) event);
+        } else if (event instanceof BarrierSet) {
+            fatalErrorLog.setBarrierSet((BarrierSet) event);
+        } else if (event instanceof ClassesLoadedEvent) {
+            fatalErrorLog.getClassesLoadedEvents().add((ClassesLoadedEvent) event);
+        } else if (event instanceof ClassesRedefinedEvent) {
+            fatalErrorLog.getClassesRedefinedEvents().add((ClassesRedefinedEvent) event);
+        } else if (event instanceof CodeCache) {
+            fatalErrorLog.getCodeCaches().add((CodeCache) event);
+        } else if (event instanceof CommandLine) {
+            fatalErrorLog.setCommandLine((CommandLine) event);
+        } else if (event instanceof CompilationEvent) {
+            fatalErrorLog.getCompilationEvents().add((CompilationEvent) event);
+        } else if (event instanceof ContainerInfo) {
+            fatalErrorLog.getContainerInfos().add((ContainerInfo) event);
+        } else if (event instanceof CpuInfo) {
+            fatalErrorLog.getCpuInfos().add((CpuInfo) event);
+        } else if (event instanceof CurrentCompileTask) {
+            fatalErrorLog.getCurrentCompileTasks().add((CurrentCompileTask) event);
+        } else if (event instanceof CurrentThread) {
+            fatalErrorLog.setCurrentThread((CurrentThread) event);
+        } else if (event instanceof DeoptimizationEvent) {
+            fatalErrorLog.getDeoptimizationEvents().add((DeoptimizationEvent) event);
+        } else if (event instanceof DllOperationEvent) {
+            fatalErrorLog.getDllOperationEvents().add((DllOperationEvent) event);
+        } else if (event instanceof DynamicLibrary) {
+            if (!(((DynamicLibrary) event).isHeader() || ((DynamicLibrary) event).isFooter()
+                    || ((DynamicLibrary) event).isError())) {
+                fatalErrorLog.setDynamicLibrariesMappingCount(
+                        fatalErrorLog.getDynamicLibrariesMappingCount() + 1);
+            }
+            // Only keep "interesting" mappings
+            if (((DynamicLibrary) event).isInteresting()) {
+                fatalErrorLog.getDynamicLibraries().add((DynamicLibrary) event);
+            }
+        } else if (event instanceof EnvironmentVariable) {
+            fatalErrorLog.getEnvironmentVariables().add((EnvironmentVariable) event);
+        } else if (event instanceof ElapsedTime) {
+            fatalErrorLog.setElapsedTime((ElapsedTime) event);
+        } else if (event instanceof End) {
+            fatalErrorLog.setEnd((End) event);
+        } else if (event instanceof Event) {
+            fatalErrorLog.getEvents().add((Event) event);
+        } else if (event instanceof ExceptionCounts) {
+            fatalErrorLog.getExceptionCounts().add((ExceptionCounts) event);
+        } else if (event instanceof GcHeapHistoryEvent) {
+            fatalErrorLog.getGcHeapHistoryEvents().add((GcHeapHistoryEvent) event);
+        } else if (event instanceof GcPreciousLog) {
+            fatalErrorLog.getGcPreciousLogs().add((GcPreciousLog) event);
+        } else if (event instanceof GlobalFlag) {
+            fatalErrorLog.getGlobalFlags().add((GlobalFlag) event);
+        } else if (event instanceof Header) {
+            if (fatalErrorLog.getEnd() == null && fatalErrorLog.getVmInfo() == null) {
+                fatalErrorLog.getHeaders().add((Header) event);
+            } else {
+                fatalErrorLog.addAnalysis(Analysis.ERROR_LOGGING_MULTIPLE);
+                return false;
+            }
+        } else if (event instanceof HeapAddress) {
+            fatalErrorLog.setHeapAddress((HeapAddress) event);
+        } else if (event instanceof Heap) {
+            fatalErrorLog.getHeaps().add((Heap) event);
+        } else if (event instanceof HeapRegions) {
+            // Summarize rows without retaining them
+            fatalErrorLog.getHeapRegionsSummary().add(logLine);
+        } else if (event instanceof LdPreloadFile) {
+            fatalErrorLog.getLdPreloadFiles().add((LdPreloadFile) event);
+        } else if (event instanceof Host) {
+            fatalErrorLog.setHost((Host) event);
+        } else if (event instanceof MaxMapCount) {
+            fatalErrorLog.getMaxMapCounts().add((MaxMapCount) event);
+        } else if (event instanceof Meminfo) {
+            fatalErrorLog.getMeminfos().add((Meminfo) event);
+        } else if (event instanceof Memory) {
+            fatalErrorLog.getMemories().add((Memory) event);
+        } else if (event instanceof NativeMemoryTracking) {
+            fatalErrorLog.getNativeMemoryTrackings().add((NativeMemoryTracking) event);
+        } else if (event instanceof OsInfo) {
+            fatalErrorLog.getOsInfos().add((OsInfo) event);
+        } else if (event instanceof PeriodicNativeTrim) {
+            fatalErrorLog.setPeriodicNativeTrim((PeriodicNativeTrim) event);
+        } else if (event instanceof PidMax) {
+            fatalErrorLog.getPidMaxes().add((PidMax) event);
+        } else if (event instanceof PollingPage) {
+            fatalErrorLog.setPollingPage((PollingPage) event);
+        } else if (event instanceof ProcessMemory) {
+            fatalErrorLog.getProcessMemories().add((ProcessMemory) event);
+        } else if (event instanceof Register) {
+            fatalErrorLog.getRegisters().add((Register) event);
+        } else if (event instanceof RegisterToMemoryMapping) {
+            fatalErrorLog.getRegisterToMemoryMappings().add((RegisterToMemoryMapping) event);
+        } else if (event instanceof Rlimit) {
+            fatalErrorLog.setRlimit((Rlimit) event);
+        } else if (event instanceof SigInfo) {
+            fatalErrorLog.setSigInfo((SigInfo) event);
+        } else if (event instanceof Stack) {
+            fatalErrorLog.getStacks().add((Stack) event);
+        } else if (event instanceof StackSlotToMemoryMapping) {
+            fatalErrorLog.getStackSlotToMemoryMappings().add((StackSlotToMemoryMapping) event);
+        } else if (event instanceof InternalExceptionEvent) {
+            fatalErrorLog.getInternalExceptionEvents().add((InternalExceptionEvent) event);
+        } else if (event instanceof InternalStatistic) {
+            fatalErrorLog.getInternalStatistics().add((InternalStatistic) event);
+        } else if (event instanceof Thread) {
+            fatalErrorLog.getThreads().add((Thread) event);
+        } else if (event instanceof ThreadsMax) {
+            fatalErrorLog.getThreadsMaxes().add((ThreadsMax) event);
+        } else if (event instanceof ThrowAwayEvent) {
+            // ThrowAwayEvents are ignored
+        } else if (event instanceof Time) {
+            fatalErrorLog.setTime((Time) event);
+        } else if (event instanceof TimeElapsedTime) {
+            fatalErrorLog.setTimeElapsedTime((TimeElapsedTime) event);
+        } else if (event instanceof Timeout) {
+            fatalErrorLog.getTimeouts().add((Timeout) event);
+        } else if (event instanceof Timezone) {
+            fatalErrorLog.setTimezone((Timezone) event);
+        } else if (event instanceof TransparentHugepageDefrag) {
+            fatalErrorLog.getTransparentHugepageDefrags().add((TransparentHugepageDefrag) event);
+        } else if (event instanceof TransparentHugepageEnabled) {
+            fatalErrorLog.getTransparentHugepageEnableds().add((TransparentHugepageEnabled) event);
+        } else if (event instanceof Uname) {
+            // some uname information is split across 2 lines
+            if (fatalErrorLog.getUname() == null) {
+                fatalErrorLog.setUname((Uname) event);
+            } else {
+                Uname unameEvent = new Uname(
+                        fatalErrorLog.getUname().getLogEntry() + ((Uname) event).getLogEntry());
+                fatalErrorLog.setUname(unameEvent);
+            }
+        } else if (event instanceof UnknownEvent
+                && fatalErrorLog.getUnidentifiedLogLines().size() < Main.REJECT_LIMIT) {
+            fatalErrorLog.getUnidentifiedLogLines().add(logLine);
+        } else if (event instanceof VirtualizationInfo) {
+            fatalErrorLog.getVirtualizationInfos().add((VirtualizationInfo) event);
+        } else if (event instanceof VmArguments) {
+            fatalErrorLog.getVmArguments().add((VmArguments) event);
+        } else if (event instanceof VmInfo) {
+            fatalErrorLog.setVmInfo((VmInfo) event);
+        } else if (event instanceof VmOperation) {
+            fatalErrorLog.setVmOperation((VmOperation) event);
+        } else if (event instanceof VmState) {
+            fatalErrorLog.setVmState((VmState) event);
+        } else if (event instanceof VmOperationEvent) {
+            fatalErrorLog.getVmOperationEvents().add((VmOperationEvent) event);
+        } else if (event instanceof ZgcPageTable) {
+            // Summarize rows without retaining them
+            fatalErrorLog.getZgcPageTableSummary().add(logLine);
+        } else if (event instanceof ZgcPhaseSwitchEvent) {
+            fatalErrorLog.getZgcPhaseSwitchEvents().add((ZgcPhaseSwitchEvent) event);
+        }
+        return true;
+    }
+
+    /**
+     * Symbolize (if configured), do analysis, and freeze (if requested) the parsed fatal error log.
+     * 
+     * @param freeze
+     *            Whether to freeze the fatal error log.
+     * @return The fatal error log object.
+     */
+    private FatalErrorLog analyze(boolean freeze) {
+        if (symbolizer != null) {
+            symbolizer.symbolize(fatalErrorLog);
+        }
+        fatalErrorLog.doAnalysis();
+        if (freeze) {
+            fatalErrorLog.freeze();
+        }
+        return fatalErrorLog;
+    }
+
+    /**
+     * @return The number of log lines identified (parsed as a known event).
+     */
+    int getIdentifiedLogLines() {
+        return identifiedLogLines;
+    }
+
     /**
      * Parse the fatal error log.
      * 
@@ -115,180 +339,152 @@ public class Manager {
      * @return The fatal error log object.
      */
     public FatalErrorLog parse(File logFile) {
+        return parse(logFile, false);
+    }
+
+    /**
+     * Parse the fatal error log.
+     * 
+     * @param logFile
+     *            The fatal error log to parse.
+     * @param triage
+     *            Whether to stop reading at the process section. The header, summary, and thread sections (signal,
+     *            problematic frame, JDK version, current thread, stack, siginfo, registers) come before the huge
+     *            process and system sections (threads, events, dynamic libraries, memory, environment).
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(File logFile, boolean triage) {
+        return parse(logFile, triage, false);
+    }
+
+    /**
+     * Parse the fatal error log.
+     * 
+     * @param logFile
+     *            The fatal error log to parse.
+     * @param triage
+     *            Whether to stop reading at the process section.
+     * @param freeze
+     *            Whether to return a frozen (immutable) fatal error log that can be shared between threads without
+     *            locking. See {@link org.github.krashpad.domain.jdk.FatalErrorLog#freeze()}.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(File logFile, boolean triage, boolean freeze) {
+        fatalErrorLog.setTriage(triage);
         if (logFile != null) {
 
             // Parse vm log file
-            BufferedReader bufferedReader = null;
+            LineReader lineReader = null;
             try {
-                bufferedReader = new BufferedReader(new FileReader(logFile));
-                String logLine = bufferedReader.readLine();
-                LogEvent priorEvent = null;
-                while (logLine != null) {
-                    LogEvent event = JdkUtil.parseLogLine(logLine, priorEvent);
-                    if (event instanceof ClassesUnloadedEvent) {
-                        fatalErrorLog.getClassesUnloadedEvents().add((ClassesUnloadedEvent) event);
-                    } else if (event instanceof BarrierSet) {
-                        fatalErrorLog.setBarrierSet((BarrierSet) event);
-                    } else if (event instanceof CommandLine) {
-                        fatalErrorLog.setCommandLine((CommandLine) event);
-                    } else if (event instanceof CompilationEvent) {
-                        fatalErrorLog.getCompilationEvents().add((CompilationEvent) event);
-                    } else if (event instanceof ContainerInfo) {
-                        fatalErrorLog.getContainerInfos().add((ContainerInfo) event);
-                    } else if (event instanceof CpuInfo) {
-                        fatalErrorLog.getCpuInfos().add((CpuInfo) event);
-                    } else if (event instanceof CurrentCompileTask) {
-                        fatalErrorLog.getCurrentCompileTasks().add((CurrentCompileTask) event);
-                    } else if (event instanceof CurrentThread) {
-                        fatalErrorLog.setCurrentThread((CurrentThread) event);
-                    } else if (event instanceof DeoptimizationEvent) {
-                        fatalErrorLog.getDeoptimizationEvents().add((DeoptimizationEvent) event);
-                    } else if (event instanceof DllOperationEvent) {
-                        fatalErrorLog.getDllOperationEvents().add((DllOperationEvent) event);
-                    } else if (event instanceof DynamicLibrary) {
-                        if (!(((DynamicLibrary) event).isHeader() || ((DynamicLibrary) event).isFooter()
-                                || ((DynamicLibrary) event).isError())) {
-                            fatalErrorLog.setDynamicLibrariesMappingCount(
-                                    fatalErrorLog.getDynamicLibrariesMappingCount() + 1);
-                        }
-                        // Only keep "interesting" mappings
-                        if (((DynamicLibrary) event).isInteresting()) {
-                            fatalErrorLog.getDynamicLibraries().add((DynamicLibrary) event);
-                        }
-                    } else if (event instanceof EnvironmentVariable) {
-                        fatalErrorLog.getEnvironmentVariables().add((EnvironmentVariable) event);
-                    } else if (event instanceof ElapsedTime) {
-                        fatalErrorLog.setElapsedTime((ElapsedTime) event);
-                    } else if (event instanceof End) {
-                        fatalErrorLog.setEnd((End) event);
-                    } else if (event instanceof Event) {
-                        fatalErrorLog.getEvents().add((Event) event);
-                    } else if (event instanceof ExceptionCounts) {
-                        fatalErrorLog.getExceptionCounts().add((ExceptionCounts) event);
-                    } else if (event instanceof GcHeapHistoryEvent) {
-                        fatalErrorLog.getGcHeapHistoryEvents().add((GcHeapHistoryEvent) event);
-                    } else if (event instanceof GcPreciousLog) {
-                        fatalErrorLog.getGcPreciousLogs().add((GcPreciousLog) event);
-                    } else if (event instanceof GlobalFlag) {
-                        fatalErrorLog.getGlobalFlags().add((GlobalFlag) event);
-                    } else if (event instanceof Header) {
-                        if (fatalErrorLog.getEnd() == null && fatalErrorLog.getVmInfo() == null) {
-                            fatalErrorLog.getHeaders().add((Header) event);
-                        } else {
-                            fatalErrorLog.addAnalysis(Analysis.ERROR_LOGGING_MULTIPLE);
-                            break;
-                        }
-                    } else if (event instanceof HeapAddress) {
-                        fatalErrorLog.setHeapAddress((HeapAddress) event);
-                    } else if (event instanceof Heap) {
-                        fatalErrorLog.getHeaps().add((Heap) event);
-                    } else if (event instanceof LdPreloadFile) {
-                        fatalErrorLog.getLdPreloadFiles().add((LdPreloadFile) event);
-                    } else if (event instanceof Host) {
-                        fatalErrorLog.setHost((Host) event);
-                    } else if (event instanceof MaxMapCount) {
-                        fatalErrorLog.getMaxMapCounts().add((MaxMapCount) event);
-                    } else if (event instanceof Meminfo) {
-                        fatalErrorLog.getMeminfos().add((Meminfo) event);
-                    } else if (event instanceof Memory) {
-                        fatalErrorLog.getMemories().add((Memory) event);
-                    } else if (event instanceof NativeMemoryTracking) {
-                        fatalErrorLog.getNativeMemoryTrackings().add((NativeMemoryTracking) event);
-                    } else if (event instanceof OsInfo) {
-                        fatalErrorLog.getOsInfos().add((OsInfo) event);
-                    } else if (event instanceof PeriodicNativeTrim) {
-                        fatalErrorLog.setPeriodicNativeTrim((PeriodicNativeTrim) event);
-                    } else if (event instanceof PidMax) {
-                        fatalErrorLog.getPidMaxes().add((PidMax) event);
-                    } else if (event instanceof ProcessMemory) {
-                        fatalErrorLog.getProcessMemories().add((ProcessMemory) event);
-                    } else if (event instanceof RegisterToMemoryMapping) {
-                        fatalErrorLog.getRegisterToMemoryMappings().add((RegisterToMemoryMapping) event);
-                    } else if (event instanceof Rlimit) {
-                        fatalErrorLog.setRlimit((Rlimit) event);
-                    } else if (event instanceof SigInfo) {
-                        fatalErrorLog.setSigInfo((SigInfo) event);
-                    } else if (event instanceof Stack) {
-                        fatalErrorLog.getStacks().add((Stack) event);
-                    } else if (event instanceof StackSlotToMemoryMapping) {
-                        fatalErrorLog.getStackSlotToMemoryMappings().add((StackSlotToMemoryMapping) event);
-                    } else if (event instanceof InternalExceptionEvent) {
-                        fatalErrorLog.getInternalExceptionEvents().add((InternalExceptionEvent) event);
-                    } else if (event instanceof InternalStatistic) {
-                        fatalErrorLog.getInternalStatistics().add((InternalStatistic) event);
-                    } else if (event instanceof Thread) {
-                        fatalErrorLog.getThreads().add((Thread) event);
-                    } else if (event instanceof ThreadsMax) {
-                        fatalErrorLog.getThreadsMaxes().add((ThreadsMax) event);
-                    } else if (event instanceof ThrowAwayEvent) {
-                        // ThrowAwayEvents are ignored
-                    } else if (event instanceof Time) {
-                        fatalErrorLog.setTime((Time) event);
-                    } else if (event instanceof TimeElapsedTime) {
-                        fatalErrorLog.setTimeElapsedTime((TimeElapsedTime) event);
-                    } else if (event instanceof Timeout) {
-                        fatalErrorLog.getTimeouts().add((Timeout) event);
-                    } else if (event instanceof Timezone) {
-                        fatalErrorLog.setTimezone((Timezone) event);
-                    } else if (event instanceof TransparentHugepageDefrag) {
-                        fatalErrorLog.getTransparentHugepageDefrags().add((TransparentHugepageDefrag) event);
-                    } else if (event instanceof TransparentHugepageEnabled) {
-                        fatalErrorLog.getTransparentHugepageEnableds().add((TransparentHugepageEnabled) event);
-                    } else if (event instanceof Uname) {
-                        // some uname information is split across 2 lines
-                        if (fatalErrorLog.getUname() == null) {
-                            fatalErrorLog.setUname((Uname) event);
-                        } else {
-                            Uname unameEvent = new Uname(
-                                    fatalErrorLog.getUname().getLogEntry() + ((Uname) event).getLogEntry());
-                            fatalErrorLog.setUname(unameEvent);
-                        }
-                    } else if (event instanceof UnknownEvent
-                            && fatalErrorLog.getUnidentifiedLogLines().size() < Main.REJECT_LIMIT) {
-                        fatalErrorLog.getUnidentifiedLogLines().add(logLine);
-                    } else if (event instanceof VirtualizationInfo) {
-                        fatalErrorLog.getVirtualizationInfos().add((VirtualizationInfo) event);
-                    } else if (event instanceof VmArguments) {
-                        fatalErrorLog.getVmArguments().add((VmArguments) event);
-                    } else if (event instanceof VmInfo) {
-                        fatalErrorLog.setVmInfo((VmInfo) event);
-                    } else if (event instanceof VmOperation) {
-                        fatalErrorLog.setVmOperation((VmOperation) event);
-                    } else if (event instanceof VmState) {
-                        fatalErrorLog.setVmState((VmState) event);
-                    } else if (event instanceof VmOperationEvent) {
-                        fatalErrorLog.getVmOperationEvents().add((VmOperationEvent) event);
-                    } else if (event instanceof ZgcPhaseSwitchEvent) {
-                        fatalErrorLog.getZgcPhaseSwitchEvents().add((ZgcPhaseSwitchEvent) event);
-                    }
-                    // Blank lines are treated in one of two ways: (1) The event can include blank lines, so they
-                    // are thrown away (prior event is not updated). (2) The event cannot include blank lines (so
-                    // prior event is updated to {@link org.github.krashpad.domain.BlankLine}. Using {@link
-                    // org.github.krashpad.domain.BlankLine} as an event boundary is an optimization for events that
-                    // can contain huge numbers of entries.
-                    // TODO: Add an event method to determine if the event can include blank lines.
-                    if (!(event instanceof BlankLine) || priorEvent instanceof DynamicLibrary
-                            || priorEvent instanceof ZgcPageTable) {
-                        priorEvent = event;
-                    }
-                    logLine = bufferedReader.readLine();
-                }
+                lineReader = new LineReader(new FileReader(logFile));
+                parse(lineReader, triage);
             } catch (FileNotFoundException e) {
                 e.printStackTrace();
             } catch (IOException e) {
                 e.printStackTrace();
             } finally {
                 // Close streams
-                if (bufferedReader != null) {
+                if (lineReader != null) {
                     try {
-                        bufferedReader.close();
+                        lineReader.close();
                     } catch (IOException e) {
                         e.printStackTrace();
                     }
                 }
             }
         }
-        fatalErrorLog.doAnalysis();
+        return analyze(freeze);
+    }
+
+    /**
+     * Parse fatal error log lines and do analysis. I/O errors are thrown, not printed.
+     * 
+     * @param lineReader
+     *            The fatal error log lines.
+     * @param triage
+     *            Whether to stop reading at the process section.
+     * @param freeze
+     *            Whether to return a frozen (immutable) fatal error log.
+     * @return The fatal error log object.
+     * @throws IOException
+     *             if the lines cannot be read.
+     */
+    FatalErrorLog parse(LineReader lineReader, boolean triage, boolean freeze) throws IOException {
+        fatalErrorLog.setTriage(triage);
+        parse(lineReader, triage);
+        return analyze(freeze);
+    }
+
+    /**
+     * Parse only the given sections of the fatal error log. The sections are located with the
+     * {@link org.github.krashpad.service.SectionIndex} (read from a current sidecar index file, otherwise built in
+     * memory), and only those byte ranges of the fatal error log are mapped and decoded as UTF-8. Analysis is not done,
+     * since it depends on the whole fatal error log.
+     * 
+     * @param logFile
+     *            The fatal error log to parse.
+     * @param eventTypes
+     *            The event types to parse.
+     * @return The fatal error log object.
+     */
+    public FatalErrorLog parse(File logFile, Set<LogEventType> eventTypes) {
+        if (logFile != null) {
+            SectionIndex index = SectionIndex.load(logFile);
+            Charset charset = StandardCharsets.UTF_8;
+            try (FileChannel channel = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+                for (Section section : index.getSections()) {
+                    if (eventTypes.contains(section.getEventType())) {
+                        MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, section.getOffset(),
+                                section.getLength());
+                        if (!parse(new LineReader(charset.decode(buffer)), false)) {
+                            break;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
         return fatalErrorLog;
     }
-}
\ No newline at end of file
+
+    /**
+     * Parse fatal error log lines.
+     * 
+     * @param lineReader
+     *            The fatal error log lines.
+     * @param triage
+     *            Whether to stop reading at the process section.
+     * @return false if parsing stopped early (e.g. a second fatal error log was found), true otherwise.
+     * @throws IOException
+     *             if the lines cannot be read.
+     */
+    private boolean parse(LineReader lineReader, boolean triage) throws IOException {
+        String logLine = lineReader.readLine();
+        LogEvent priorEvent = null;
+        while (logLine != null) {
+            LogEvent event = JdkUtil.parseLogLine(logLine, priorEvent);
+            if (triage && event instanceof Heading && ((Heading) event).isProcess()) {
+                // Everything needed for triage has been read
+                return false;
+            }
+            if (!add(event, logLine)) {
+                return false;
+            }
+            if (!(event instanceof UnknownEvent || event instanceof BlankLine)) {
+                identifiedLogLines++;
+            }
+            // Blank lines are treated in one of two ways: (1) The event can include blank lines, so they are thrown
+            // away (prior event is not updated). (2) The event cannot include blank lines (so prior event is updated
+            // to {@link org.github.krashpad.domain.BlankLine}. Using {@link org.github.krashpad.domain.BlankLine} as
+            // an event boundary is an optimization for events that can contain huge numbers of entries.
+            // TODO: Add an event method to determine if the event can include blank lines.
+            if (!(event instanceof BlankLine) || priorEvent instanceof DynamicLibrary
+                    || priorEvent instanceof ZgcPageTable) {
+                priorEvent = event;
+            }
+            logLine = lineReader.readLine();
+        }
+        return true;
+    }
+}
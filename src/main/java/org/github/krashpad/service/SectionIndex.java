@@ -0,0 +1,482 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.github.krashpad.domain.BlankLine;
+import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.DynamicLibrary;
+import org.github.krashpad.domain.jdk.Heading;
+import org.github.krashpad.domain.jdk.ZgcPageTable;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.JdkUtil;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * Byte offset index of the sections of a fatal error log.
+ * </p>
+ * 
+ * <p>
+ * A section is a run of consecutive lines of the same {@link org.github.krashpad.util.jdk.JdkUtil.LogEventType}
+ * (blank lines belong to the section they follow), together with the {@link org.github.krashpad.domain.jdk.Heading}
+ * it appears under (e.g. "PROCESS"). The index is small (one entry per section) and is kept in memory. It can optionally
+ * be stored in a sidecar file next to the fatal error log with a
+ * {@link org.github.krashpad.util.Constants#INDEX_FILE_EXTENSION} extension (see {@link #load(File, boolean)}), so
+ * later runs can map the fatal error log and parse only the sections they need without reading it all (see
+ * {@link org.github.krashpad.service.Manager#parse(File, java.util.Set)}).
+ * </p>
+ * 
+ * <p>
+ * Index file format (tab separated):
+ * </p>
+ * 
+ * <pre>
+ * # krashpad section index
+ * # 30861 1700000000000
+ * HEADER   -       0       1005    17
+ * HEADING  -       1005    42      1
+ * COMMAND_LINE     SUMMARY 1089    103     1
+ * </pre>
+ * 
+ * <p>
+ * The second line is the fatal error log length and last modified time, used to detect a stale index.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class SectionIndex {
+
+    /**
+     * A contiguous section of a fatal error log.
+     */
+    public static class Section {
+
+        /**
+         * The section event type.
+         */
+        private LogEventType eventType;
+
+        /**
+         * The heading the section appears under, or {@link SectionIndex#NO_HEADING} for sections before the first
+         * heading.
+         */
+        private String heading;
+
+        /**
+         * The section length, in bytes (including line terminators).
+         */
+        private long length;
+
+        /**
+         * The number of lines in the section.
+         */
+        private int lines;
+
+        /**
+         * The byte offset of the first line of the section.
+         */
+        private long offset;
+
+        /**
+         * @param eventType
+         *            The section event type.
+         * @param heading
+         *            The heading the section appears under.
+         * @param offset
+         *            The byte offset of the first line of the section.
+         * @param length
+         *            The section length, in bytes.
+         * @param lines
+         *            The number of lines in the section.
+         */
+        public Section(LogEventType eventType, String heading, long offset, long length, int lines) {
+            this.eventType = eventType;
+            this.heading = heading;
+            this.offset = offset;
+            this.length = length;
+            this.lines = lines;
+        }
+
+        public LogEventType getEventType() {
+            return eventType;
+        }
+
+        public String getHeading() {
+            return heading;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public int getLines() {
+            return lines;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+    }
+
+    /**
+     * First line of the index file.
+     */
+    private static final String INDEX_FILE_HEADER = "# krashpad section index";
+
+    /**
+     * Heading for sections before the first heading (e.g. the header).
+     */
+    public static final String NO_HEADING = "-";
+
+    /**
+     * Build the section index by reading the fatal error log once, decoding lines as UTF-8.
+     * 
+     * @param logFile
+     *            The fatal error log.
+     * @return The section index.
+     */
+    public static final SectionIndex build(File logFile) {
+        return build(logFile, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Build the section index by reading the fatal error log once.
+     * 
+     * @param logFile
+     *            The fatal error log.
+     * @param charset
+     *            The fatal error log charset.
+     * @return The section index.
+     */
+    public static final SectionIndex build(File logFile, Charset charset) {
+        SectionIndex index = new SectionIndex(logFile.length(), logFile.lastModified());
+        try (InputStream in = new FileInputStream(logFile)) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            byte[] buffer = new byte[65536];
+            long offset = 0;
+            boolean priorCarriageReturn = false;
+            int count = in.read(buffer);
+            while (count != -1) {
+                for (int i = 0; i < count; i++) {
+                    byte b = buffer[i];
+                    offset++;
+                    // Same line terminators as java.io.BufferedReader (\n, \r, \r\n)
+                    if (b == '\n' && priorCarriageReturn) {
+                        index.skip(1);
+                    } else if (b == '\n' || b == '\r') {
+                        index.add(new String(line.toByteArray(), charset), offset);
+                        line.reset();
+                    } else {
+                        line.write(b);
+                    }
+                    priorCarriageReturn = b == '\r';
+                }
+                count = in.read(buffer);
+            }
+            if (line.size() > 0) {
+                index.add(new String(line.toByteArray(), charset), offset);
+            }
+            index.finish(offset);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        index.hydrate();
+        return index;
+    }
+
+    /**
+     * @param logFile
+     *            The fatal error log.
+     * @return The section index file for the fatal error log.
+     */
+    public static final File getIndexFile(File logFile) {
+        return new File(logFile.getPath() + Constants.INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Get the section index for a fatal error log, reading the sidecar index file when it is current, otherwise
+     * building the index in memory. Nothing is written next to the fatal error log.
+     * 
+     * @param logFile
+     *            The fatal error log.
+     * @return The section index.
+     */
+    public static final SectionIndex load(File logFile) {
+        return load(logFile, false);
+    }
+
+    /**
+     * Get the section index for a fatal error log, reading the sidecar index file when it is current, otherwise
+     * building the index.
+     * 
+     * @param logFile
+     *            The fatal error log.
+     * @param store
+     *            Whether to store a newly built index in the sidecar index file.
+     * @return The section index.
+     */
+    public static final SectionIndex load(File logFile, boolean store) {
+        File indexFile = getIndexFile(logFile);
+        SectionIndex index = null;
+        if (indexFile.isFile()) {
+            index = read(indexFile);
+        }
+        if (index == null || index.logFileLength != logFile.length()
+                || index.logFileLastModified != logFile.lastModified()) {
+            index = build(logFile);
+            if (store) {
+                index.store(indexFile);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @param indexFile
+     *            The section index file.
+     * @return The section index, or null if the file is not a valid section index file.
+     */
+    public static final SectionIndex read(File indexFile) {
+        SectionIndex index = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(indexFile), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            if (INDEX_FILE_HEADER.equals(line)) {
+                line = reader.readLine();
+                String[] file = line.substring(2).split(" ");
+                index = new SectionIndex(Long.parseLong(file[0]), Long.parseLong(file[1]));
+                line = reader.readLine();
+                while (line != null) {
+                    String[] fields = line.split("\t");
+                    index.sections.add(new Section(LogEventType.valueOf(fields[0]), fields[1],
+                            Long.parseLong(fields[2]), Long.parseLong(fields[3]), Integer.parseInt(fields[4])));
+                    line = reader.readLine();
+                }
+                index.hydrate();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (RuntimeException e) {
+            // Corrupt or incompatible index (e.g. written by a version with different event types)
+            index = null;
+        }
+        return index;
+    }
+
+    /**
+     * The current heading while building the index.
+     */
+    private String heading = NO_HEADING;
+
+    /**
+     * The fatal error log last modified time when the index was built.
+     */
+    private long logFileLastModified;
+
+    /**
+     * The fatal error log length when the index was built.
+     */
+    private long logFileLength;
+
+    /**
+     * The byte offset of the next line while building the index.
+     */
+    private long nextLineOffset = 0;
+
+    /**
+     * The prior event while building the index.
+     */
+    private LogEvent priorEvent;
+
+    /**
+     * The current section heading while building the index.
+     */
+    private String sectionHeading;
+
+    /**
+     * The current section line count while building the index.
+     */
+    private int sectionLines;
+
+    /**
+     * The current section byte offset while building the index.
+     */
+    private long sectionOffset;
+
+    /**
+     * Sections in file order.
+     */
+    private List<Section> sections;
+
+    /**
+     * Sections by event type, in file order.
+     */
+    private Map<LogEventType, List<Section>> sectionsByEventType;
+
+    /**
+     * The current section event type while building the index.
+     */
+    private LogEventType sectionType;
+
+    /**
+     * @param logFileLength
+     *            The fatal error log length when the index was built.
+     * @param logFileLastModified
+     *            The fatal error log last modified time when the index was built.
+     */
+    private SectionIndex(long logFileLength, long logFileLastModified) {
+        this.logFileLength = logFileLength;
+        this.logFileLastModified = logFileLastModified;
+        sections = new ArrayList<Section>();
+        sectionsByEventType = new EnumMap<LogEventType, List<Section>>(LogEventType.class);
+    }
+
+    /**
+     * Add a line while building the index.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param endOffset
+     *            The byte offset after the line terminator.
+     */
+    private void add(String logLine, long endOffset) {
+        LogEvent event = JdkUtil.parseLogLine(logLine, priorEvent);
+        if (event instanceof Heading) {
+            String name = ((Heading) event).getLogEntry().replaceAll("[- ]", "");
+            if (name.length() > 0) {
+                heading = name;
+            }
+        }
+        if (sectionType == null || (!(event instanceof BlankLine) && event.getEventType() != sectionType)) {
+            finish(nextLineOffset);
+            sectionType = event.getEventType();
+            sectionHeading = heading;
+            sectionOffset = nextLineOffset;
+            sectionLines = 0;
+        }
+        sectionLines++;
+        nextLineOffset = endOffset;
+        // Same prior event rules as Manager
+        if (!(event instanceof BlankLine) || priorEvent instanceof DynamicLibrary
+                || priorEvent instanceof ZgcPageTable) {
+            priorEvent = event;
+        }
+    }
+
+    /**
+     * Close the current section while building the index.
+     * 
+     * @param endOffset
+     *            The byte offset after the section.
+     */
+    private void finish(long endOffset) {
+        if (sectionType != null) {
+            sections.add(new Section(sectionType, sectionHeading, sectionOffset, endOffset - sectionOffset,
+                    sectionLines));
+            sectionType = null;
+        }
+    }
+
+    public long getLogFileLastModified() {
+        return logFileLastModified;
+    }
+
+    public long getLogFileLength() {
+        return logFileLength;
+    }
+
+    /**
+     * @return The sections, in file order.
+     */
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    /**
+     * @param eventType
+     *            The event type.
+     * @return The sections of the given event type, in file order.
+     */
+    public List<Section> getSections(LogEventType eventType) {
+        List<Section> sectionsForEventType = sectionsByEventType.get(eventType);
+        if (sectionsForEventType == null) {
+            sectionsForEventType = Collections.emptyList();
+        }
+        return Collections.unmodifiableList(sectionsForEventType);
+    }
+
+    /**
+     * Build the event type lookup.
+     */
+    private void hydrate() {
+        for (Section section : sections) {
+            List<Section> sectionsForEventType = sectionsByEventType.get(section.getEventType());
+            if (sectionsForEventType == null) {
+                sectionsForEventType = new ArrayList<Section>();
+                sectionsByEventType.put(section.getEventType(), sectionsForEventType);
+            }
+            sectionsForEventType.add(section);
+        }
+    }
+
+    /**
+     * Skip bytes that are not part of a line while building the index (e.g. the \n of a \r\n line terminator).
+     * 
+     * @param bytes
+     *            The number of bytes to skip.
+     */
+    private void skip(int bytes) {
+        nextLineOffset += bytes;
+    }
+
+    /**
+     * Write the section index file.
+     * 
+     * @param indexFile
+     *            The section index file.
+     */
+    public void store(File indexFile) {
+        try (PrintWriter printWriter = new PrintWriter(
+                new OutputStreamWriter(new FileOutputStream(indexFile), StandardCharsets.UTF_8))) {
+            printWriter.write(INDEX_FILE_HEADER + "\n");
+            printWriter.write("# " + logFileLength + " " + logFileLastModified + "\n");
+            for (Section section : sections) {
+                printWriter.write(section.getEventType() + "\t" + section.getHeading() + "\t" + section.getOffset()
+                        + "\t" + section.getLength() + "\t" + section.getLines() + "\n");
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
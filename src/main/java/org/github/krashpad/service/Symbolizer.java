@@ -0,0 +1,269 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.krashpad.domain.jdk.DynamicLibrary;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.util.ElfSymbolTable;
+
+/**
+ * <p>
+ * Resolves native stack frames that have only a library offset (e.g. <code>V  [libjvm.so+0x65a9e1]</code>, common
+ * when the JDK or native library is stripped or the debuginfo is not installed on the crashing host) against the ELF
+ * symbol tables of debuginfo files in a local directory.
+ * </p>
+ * 
+ * <p>
+ * A resolved frame is rewritten in the format the JVM uses when it can resolve the symbol itself (e.g.
+ * <code>V  [libjvm.so+0x65a9e1]  Symbol::name+0x21</code>), so {@link FatalErrorLog#isInStack(String)}, the stack frame
+ * getters, and the analysis rules work the same as for a symbolized fatal error log.
+ * </p>
+ * 
+ * <p>
+ * The debuginfo directory is searched for the library:
+ * </p>
+ * 
+ * <ol>
+ * <li>By the library path from the dynamic libraries section under the debuginfo directory (the /usr/lib/debug layout),
+ * with or without a ".debug" extension (e.g. /usr/lib/debug/usr/lib/jvm/java-17-openjdk/lib/server/libjvm.so.debug).
+ * </li>
+ * <li>By file name anywhere under the debuginfo directory (e.g. libjvm.so.debug, libjvm.so-17.0.9.0.9-1.x86_64.debug,
+ * libjvm.so).</li>
+ * </ol>
+ * 
+ * <p>
+ * A symbolizer is intended to be shared across many fatal error logs (e.g. a batch run). Symbol tables are kept in
+ * memory once loaded, and are cached on disk by ELF build-id (see {@link ElfSymbolTable#load(File, File)}), so only the
+ * first run parses a given debuginfo file.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class Symbolizer {
+
+    /**
+     * Native frame with no symbol. For example:
+     * 
+     * V [libjvm.so+0x65a9e1]
+     * 
+     * # C [libfoo.so+0x1234]
+     */
+    private static final Pattern UNRESOLVED_FRAME = Pattern
+            .compile("^((# )?[CV]  \\[([^\\]\\+]+)\\+0x([0-9a-fA-F]+)\\])\\s*$");
+
+    /**
+     * The symbol table cache directory, or null for no disk cache.
+     */
+    private File cacheDir;
+
+    /**
+     * The debuginfo directory.
+     */
+    private File debuginfoDir;
+
+    /**
+     * Debuginfo files under the debuginfo directory by library file name, built on first use.
+     */
+    private Map<String, File> debuginfoFiles;
+
+    /**
+     * Debuginfo files that could not be read as ELF files.
+     */
+    private Set<File> invalidFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Symbol tables by debuginfo file.
+     */
+    private Map<File, ElfSymbolTable> symbolTables = new ConcurrentHashMap<File, ElfSymbolTable>();
+
+    /**
+     * @param debuginfoDir
+     *            The debuginfo directory.
+     * @param cacheDir
+     *            The symbol table cache directory, or null for no disk cache.
+     */
+    public Symbolizer(File debuginfoDir, File cacheDir) {
+        this.debuginfoDir = debuginfoDir;
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * @param libraryPath
+     *            The library path from the dynamic libraries section, or null if unknown.
+     * @param library
+     *            The library file name (e.g. libjvm.so).
+     * @return The debuginfo file for the library, or null if none.
+     */
+    File getDebuginfoFile(String libraryPath, String library) {
+        File debuginfoFile = null;
+        if (libraryPath != null) {
+            File file = new File(debuginfoDir, libraryPath + ".debug");
+            if (!file.isFile()) {
+                file = new File(debuginfoDir, libraryPath);
+            }
+            if (file.isFile()) {
+                debuginfoFile = file;
+            }
+        }
+        if (debuginfoFile == null) {
+            debuginfoFile = getDebuginfoFiles().get(library);
+        }
+        return debuginfoFile;
+    }
+
+    /**
+     * @return Debuginfo files under the debuginfo directory by library file name.
+     */
+    private synchronized Map<String, File> getDebuginfoFiles() {
+        if (debuginfoFiles == null) {
+            debuginfoFiles = new HashMap<String, File>();
+            index(debuginfoDir);
+        }
+        return debuginfoFiles;
+    }
+
+    /**
+     * @param debuginfoFile
+     *            The debuginfo file.
+     * @return The symbol table, or null if the file is not a valid ELF file.
+     */
+    private ElfSymbolTable getSymbolTable(File debuginfoFile) {
+        ElfSymbolTable symbolTable = symbolTables.get(debuginfoFile);
+        if (symbolTable == null && !invalidFiles.contains(debuginfoFile)) {
+            symbolTable = ElfSymbolTable.load(debuginfoFile, cacheDir);
+            if (symbolTable == null) {
+                invalidFiles.add(debuginfoFile);
+            } else {
+                symbolTables.put(debuginfoFile, symbolTable);
+            }
+        }
+        return symbolTable;
+    }
+
+    /**
+     * Add the files under a directory to the debuginfo file index.
+     * 
+     * @param dir
+     *            The directory.
+     */
+    private void index(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    index(file);
+                } else {
+                    String name = file.getName();
+                    boolean debug = name.endsWith(".debug");
+                    if (debug) {
+                        name = name.substring(0, name.length() - 6);
+                        // Version appended to the library name (e.g. libjvm.so-17.0.9.0.9-1.x86_64)
+                        int version = name.indexOf(".so-");
+                        if (version > 0) {
+                            name = name.substring(0, version + 3);
+                        }
+                    }
+                    // A separate debuginfo file has the full symbol table
+                    if (debug || !debuginfoFiles.containsKey(name)) {
+                        debuginfoFiles.put(name, file);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolve the native frames that have no symbol in the stack and the problematic frame.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The number of frames resolved.
+     */
+    public int symbolize(FatalErrorLog fatalErrorLog) {
+        Map<String, String> libraryPaths = new HashMap<String, String>();
+        Iterator<DynamicLibrary> iterator = fatalErrorLog.getDynamicLibraries().iterator();
+        while (iterator.hasNext()) {
+            DynamicLibrary event = iterator.next();
+            if (event.getFilePath() != null) {
+                libraryPaths.put(org.github.joa.util.JdkRegEx.getFile(event.getFilePath()), event.getFilePath());
+            }
+        }
+        int resolved = 0;
+        List<Stack> stacks = fatalErrorLog.getStacks();
+        for (int i = 0; i < stacks.size(); i++) {
+            String frame = symbolize(stacks.get(i).getLogEntry(), libraryPaths);
+            if (frame != null) {
+                stacks.set(i, new Stack(frame));
+                resolved++;
+            }
+        }
+        List<Header> headers = fatalErrorLog.getHeaders();
+        for (int i = 0; i < headers.size(); i++) {
+            if (headers.get(i).isProblematicFrame()) {
+                String frame = symbolize(headers.get(i).getLogEntry(), libraryPaths);
+                if (frame != null) {
+                    headers.set(i, new Header(frame));
+                    resolved++;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * @param logEntry
+     *            The stack frame log entry.
+     * @param libraryPaths
+     *            Library paths by file name.
+     * @return The stack frame with the symbol, or null if the log entry is not a native frame with no symbol or the
+     *         symbol cannot be resolved. A failure (e.g. a malformed symbol in the debuginfo file) only leaves the
+     *         frame unresolved, it does not stop the parse.
+     */
+    private String symbolize(String logEntry, Map<String, String> libraryPaths) {
+        String frame = null;
+        Matcher matcher = UNRESOLVED_FRAME.matcher(logEntry);
+        if (matcher.matches()) {
+            try {
+                String library = matcher.group(3);
+                File debuginfoFile = getDebuginfoFile(libraryPaths.get(library), library);
+                if (debuginfoFile != null) {
+                    ElfSymbolTable symbolTable = getSymbolTable(debuginfoFile);
+                    if (symbolTable != null) {
+                        String symbol = symbolTable.getSymbol(Long.parseLong(matcher.group(4), 16));
+                        if (symbol != null) {
+                            frame = matcher.group(1) + "  " + symbol;
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,376 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.github.krashpad.Main;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.JdkRegEx;
+
+/**
+ * <p>
+ * Watches a directory (e.g. a crash collector spool directory) and analyzes fatal error logs as they are completed.
+ * </p>
+ * 
+ * <p>
+ * New and modified files are tracked until they are complete, either because the "END." marker has been written or
+ * the file size has not changed for {@link #QUIET_PERIOD_POLLS} consecutive polls. Completed fatal error logs are
+ * queued for analysis on a bounded worker pool. When the queue is full, the watching thread runs the analysis itself,
+ * throttling intake until the workers catch up.
+ * </p>
+ * 
+ * <p>
+ * The report is written next to the fatal error log with a {@link org.github.krashpad.util.Constants#REPORT_FILE_EXTENSION}
+ * extension. Files that already have a report newer than the file are skipped, so restarting the watcher does not
+ * reprocess the spool directory.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class Watcher implements Runnable {
+
+    /**
+     * The time (milliseconds) between checks of the files being tracked.
+     */
+    public static final long POLL_INTERVAL = 1000;
+
+    /**
+     * The default maximum number of fatal error logs waiting for a worker.
+     */
+    public static final int QUEUE_CAPACITY = 64;
+
+    /**
+     * The number of consecutive polls the file size must be unchanged for a file without an "END." marker to be
+     * considered complete.
+     */
+    public static final int QUIET_PERIOD_POLLS = 2;
+
+    /**
+     * The number of bytes at the beginning of a file checked for the fatal error log banner.
+     */
+    private static final int SNIFF_LENGTH = 4096;
+
+    /**
+     * The directory being watched.
+     */
+    private File directory;
+
+    /**
+     * The worker pool.
+     */
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Files being tracked until they are complete. The value is the file size at the last poll and the number of
+     * consecutive polls the size has been unchanged.
+     */
+    private Map<Path, long[]> pending;
+
+    /**
+     * Files queued for analysis and the last modified time when they were queued, until they are analyzed.
+     */
+    private Map<Path, Long> queued;
+
+    /**
+     * Whether the watcher is running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Resolves native frames without symbols, shared by all workers so symbol tables are loaded once, or null to not
+     * symbolize.
+     */
+    private Symbolizer symbolizer;
+
+    /**
+     * @param directory
+     *            The directory to watch.
+     * @param threads
+     *            The number of worker threads.
+     * @param queueCapacity
+     *            The maximum number of fatal error logs waiting for a worker.
+     */
+    public Watcher(File directory, int threads, int queueCapacity) {
+        this(directory, threads, queueCapacity, null);
+    }
+
+    /**
+     * @param directory
+     *            The directory to watch.
+     * @param threads
+     *            The number of worker threads.
+     * @param queueCapacity
+     *            The maximum number of fatal error logs waiting for a worker.
+     * @param symbolizer
+     *            Resolves native frames without symbols, or null to not symbolize.
+     */
+    public Watcher(File directory, int threads, int queueCapacity, Symbolizer symbolizer) {
+        this.directory = directory;
+        this.symbolizer = symbolizer;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+        this.pending = new HashMap<Path, long[]>();
+        this.queued = new ConcurrentHashMap<Path, Long>();
+    }
+
+    /**
+     * Analyze a fatal error log and write the report next to it. A failure is reported and does not stop the watcher
+     * (the analysis runs on the watching thread when the queue is full).
+     * 
+     * @param file
+     *            The fatal error log.
+     * @param lastModified
+     *            The last modified time when the fatal error log was queued.
+     */
+    private void analyze(File file, long lastModified) {
+        try {
+            Manager manager = new Manager(symbolizer);
+            FatalErrorLog fel = manager.parse(file);
+            File reportFile = getReportFile(file);
+            Main.createReport(fel, false, reportFile, file.getName());
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        } finally {
+            // Not needed after the analysis (unless the file was modified and queued again)
+            queued.remove(file.toPath(), lastModified);
+            analyzed(file);
+        }
+    }
+
+    /**
+     * Called on the analyzing thread after a fatal error log is analyzed, whether or not the analysis succeeded. Does
+     * nothing by default (e.g. tests override it to wait for an analysis without polling for the report).
+     * 
+     * @param file
+     *            The fatal error log.
+     */
+    void analyzed(File file) {
+        // Nothing to do
+    }
+
+    /**
+     * Check the files being tracked and queue the ones that are complete.
+     */
+    private void checkPending() {
+        Iterator<Entry<Path, long[]>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Path, long[]> entry = iterator.next();
+            File file = entry.getKey().toFile();
+            if (!file.isFile()) {
+                iterator.remove();
+                continue;
+            }
+            long size = file.length();
+            long[] state = entry.getValue();
+            if (size > 0 && size == state[0]) {
+                state[1]++;
+            } else {
+                state[0] = size;
+                state[1] = 0;
+            }
+            if (size > 0 && (hasEndMarker(file) || state[1] >= QUIET_PERIOD_POLLS)) {
+                iterator.remove();
+                queue(file);
+            }
+        }
+    }
+
+    /**
+     * @param file
+     *            The fatal error log.
+     * @return The report file for the fatal error log.
+     */
+    public static final File getReportFile(File file) {
+        return new File(file.getPath() + Constants.REPORT_FILE_EXTENSION);
+    }
+
+    /**
+     * @param file
+     *            The file to check.
+     * @return true if the last line of the file is the "END." marker, false otherwise.
+     */
+    private static boolean hasEndMarker(File file) {
+        boolean hasEndMarker = false;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            int length = (int) Math.min(16, raf.length());
+            byte[] bytes = new byte[length];
+            raf.seek(raf.length() - length);
+            raf.readFully(bytes);
+            hasEndMarker = new String(bytes, StandardCharsets.ISO_8859_1).trim().endsWith("END.");
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return hasEndMarker;
+    }
+
+    /**
+     * @param file
+     *            The file to check.
+     * @return true if the file is a fatal error log (standard name or fatal error log banner), false otherwise.
+     */
+    public static final boolean isFatalErrorLog(File file) {
+        if (file.getName().startsWith("hs_err")) {
+            return true;
+        }
+        boolean isFatalErrorLog = false;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            byte[] bytes = new byte[(int) Math.min(SNIFF_LENGTH, raf.length())];
+            raf.readFully(bytes);
+            isFatalErrorLog = new String(bytes, StandardCharsets.ISO_8859_1).contains(JdkRegEx.FATAL_ERROR_LOG_BANNER);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return isFatalErrorLog;
+    }
+
+    /**
+     * @return true if the watcher is running, false otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Queue a complete file for analysis. Blocks (runs the analysis on the calling thread) if the queue is full.
+     * 
+     * @param file
+     *            The complete file.
+     */
+    private void queue(final File file) {
+        if (!isFatalErrorLog(file)) {
+            return;
+        }
+        final long lastModified = file.lastModified();
+        queued.put(file.toPath(), lastModified);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                analyze(file, lastModified);
+            }
+        });
+    }
+
+    /**
+     * Watch the directory until {@link #stop()} is called.
+     */
+    @Override
+    public void run() {
+        running = true;
+        Path dir = directory.toPath();
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            scan();
+            long lastCheck = System.currentTimeMillis();
+            while (running) {
+                WatchKey key = watchService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            scan();
+                        } else {
+                            track(dir.resolve((Path) event.context()));
+                        }
+                    }
+                    key.reset();
+                }
+                if (System.currentTimeMillis() - lastCheck >= POLL_INTERVAL) {
+                    checkPending();
+                    lastCheck = System.currentTimeMillis();
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Track all files in the directory (e.g. on startup, or when watch events were lost).
+     */
+    private void scan() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                track(file.toPath());
+            }
+        }
+    }
+
+    /**
+     * Stop watching. Fatal error logs already queued are analyzed before {@link #run()} returns.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Start tracking a new or modified file.
+     * 
+     * @param path
+     *            The file.
+     */
+    private void track(Path path) {
+        File file = path.toFile();
+        if (!file.isFile() || file.isHidden() || file.getName().endsWith(Constants.REPORT_FILE_EXTENSION)
+                || file.getName().endsWith(Constants.INDEX_FILE_EXTENSION)) {
+            return;
+        }
+        Long queuedLastModified = queued.get(path);
+        if (queuedLastModified != null && queuedLastModified.longValue() == file.lastModified()) {
+            // Already queued, not modified since
+            return;
+        }
+        File reportFile = getReportFile(file);
+        if (reportFile.exists() && reportFile.lastModified() >= file.lastModified()) {
+            // Already analyzed
+            return;
+        }
+        if (!pending.containsKey(path)) {
+            pending.put(path, new long[] { -1, 0 });
+        }
+    }
+}
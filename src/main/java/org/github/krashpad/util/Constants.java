@@ -70,11 +70,46 @@ public class Constants {
      */
     public static final int FIRST_TIMESTAMP_THRESHOLD = 60;
 
+    /**
+     * Section index file extension used when the index is written next to the fatal error log.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".idx";
+
     /**
      * Line separator used for report and preparsing.
      */
     public static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
+    /**
+     * Archive (support archive with fatal error logs) command line long option.
+     */
+    public static final String OPTION_ARCHIVE_LONG = "archive";
+
+    /**
+     * Archive (support archive with fatal error logs) command line short option.
+     */
+    public static final String OPTION_ARCHIVE_SHORT = "a";
+
+    /**
+     * Debuginfo (directory) command line long option.
+     */
+    public static final String OPTION_DEBUGINFO_LONG = "debuginfo";
+
+    /**
+     * Debuginfo (directory) command line short option.
+     */
+    public static final String OPTION_DEBUGINFO_SHORT = "d";
+
+    /**
+     * Extract (fatal error logs embedded in a console log) command line long option.
+     */
+    public static final String OPTION_EXTRACT_LONG = "extract";
+
+    /**
+     * Extract (fatal error logs embedded in a console log) command line short option.
+     */
+    public static final String OPTION_EXTRACT_SHORT = "e";
+
     /**
      * Help command line long option.
      */
@@ -105,16 +140,57 @@ public class Constants {
      */
     public static final String OPTION_REPORT_CONSOLE_SHORT = "c";
 
+    /**
+     * Split (concatenated fatal error logs) command line long option.
+     */
+    public static final String OPTION_SPLIT_LONG = "split";
+
+    /**
+     * Split (concatenated fatal error logs) command line short option.
+     */
+    public static final String OPTION_SPLIT_SHORT = "s";
+
+    /**
+     * Triage command line long option.
+     */
+    public static final String OPTION_TRIAGE_LONG = "triage";
+
+    /**
+     * Triage command line short option.
+     */
+    public static final String OPTION_TRIAGE_SHORT = "t";
+
+    /**
+     * Watch (directory) command line long option.
+     */
+    public static final String OPTION_WATCH_LONG = "watch";
+
+    /**
+     * Watch (directory) command line short option.
+     */
+    public static final String OPTION_WATCH_SHORT = "w";
+
     /**
      * Default output file name.
      */
     public static final String OUTPUT_FILE_NAME = "report.txt";
 
+    /**
+     * Report file extension used when the report is written next to the fatal error log (e.g. watch mode).
+     */
+    public static final String REPORT_FILE_EXTENSION = ".pad";
+
     /**
      * Literal for reporting and unknown property.
      */
     public static final String PROPERTY_UNKNOWN = ("UNKNOWN");
 
+    /**
+     * Directory where native symbol tables parsed from debuginfo files are cached by ELF build-id.
+     */
+    public static final String SYMBOL_CACHE_DIR = System.getProperty("user.home")
+            + System.getProperty("file.separator") + ".krashpad" + System.getProperty("file.separator") + "symbols";
+
     /**
      * Test data directory.
      */
@@ -0,0 +1,720 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * <p>
+ * Function symbols of an ELF shared library or separate debuginfo file, used to resolve native stack frames that have
+ * only a library offset (e.g. <code>V  [libjvm.so+0x65a9e1]</code>) to a function name.
+ * </p>
+ * 
+ * <p>
+ * The ELF file is memory mapped and only the section headers, program headers, build-id note, and symbol table are
+ * read. The symbols are kept in primitive arrays sorted by address (names as offsets into a single string table) and
+ * resolved with a binary search, so a table is compact and a lookup does not allocate until the name is decoded.
+ * </p>
+ * 
+ * <p>
+ * Since parsing a large symbol table (e.g. libjvm.so debuginfo) is expensive, a table can be stored in and read from a
+ * binary cache file named after the ELF build-id (see {@link #load(File, File)}).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class ElfSymbolTable {
+
+    /**
+     * The ELF header, section headers, and program headers of a mapped ELF file.
+     */
+    private static class Elf {
+
+        /**
+         * The mapped ELF file, in the ELF byte order.
+         */
+        private ByteBuffer buffer;
+
+        /**
+         * true for a 64-bit ELF file, false for a 32-bit ELF file.
+         */
+        private boolean is64;
+
+        /**
+         * Section header table offset.
+         */
+        private long sectionHeaderOffset;
+
+        /**
+         * Section header entry size.
+         */
+        private int sectionHeaderSize;
+
+        /**
+         * Number of section headers.
+         */
+        private int sections;
+
+        /**
+         * @param buffer
+         *            The mapped ELF file, in the ELF byte order.
+         */
+        private Elf(ByteBuffer buffer) {
+            this.buffer = buffer;
+            is64 = buffer.get(4) == ELFCLASS64;
+            sectionHeaderOffset = is64 ? buffer.getLong(0x28) : buffer.getInt(0x20) & 0xffffffffL;
+            sectionHeaderSize = buffer.getShort(is64 ? 0x3a : 0x2e) & 0xffff;
+            sections = buffer.getShort(is64 ? 0x3c : 0x30) & 0xffff;
+        }
+
+        /**
+         * @param type
+         *            The section type.
+         * @return The index of the first section of the given type, or -1 if none.
+         */
+        private int findSection(int type) {
+            int section = -1;
+            for (int i = 0; i < sections; i++) {
+                if (getSectionType(i) == type) {
+                    section = i;
+                    break;
+                }
+            }
+            return section;
+        }
+
+        /**
+         * @return The GNU build-id as a hex string, or null if there is no build-id note.
+         */
+        private String getBuildId() {
+            String buildId = null;
+            for (int i = 0; i < sections && buildId == null; i++) {
+                if (getSectionType(i) == SHT_NOTE) {
+                    int offset = (int) getSectionOffset(i);
+                    int end = (int) (offset + getSectionSize(i));
+                    while (offset + 12 <= end && buildId == null) {
+                        int nameSize = buffer.getInt(offset);
+                        int descSize = buffer.getInt(offset + 4);
+                        int type = buffer.getInt(offset + 8);
+                        int desc = offset + 12 + ((nameSize + 3) & ~3);
+                        if (type == NT_GNU_BUILD_ID && nameSize == 4 && buffer.get(offset + 12) == 'G'
+                                && buffer.get(offset + 13) == 'N' && buffer.get(offset + 14) == 'U') {
+                            StringBuilder hex = new StringBuilder();
+                            for (int j = 0; j < descSize; j++) {
+                                hex.append(String.format("%02x", buffer.get(desc + j) & 0xff));
+                            }
+                            buildId = hex.toString();
+                        }
+                        offset = desc + ((descSize + 3) & ~3);
+                    }
+                }
+            }
+            return buildId;
+        }
+
+        /**
+         * @return The virtual address of the first loadable segment, page aligned.
+         */
+        private long getLoadAddress() {
+            long loadAddress = 0;
+            long programHeaderOffset = is64 ? buffer.getLong(0x20) : buffer.getInt(0x1c) & 0xffffffffL;
+            int programHeaderSize = buffer.getShort(is64 ? 0x36 : 0x2a) & 0xffff;
+            int programHeaders = buffer.getShort(is64 ? 0x38 : 0x2c) & 0xffff;
+            for (int i = 0; i < programHeaders; i++) {
+                int offset = (int) (programHeaderOffset + (long) i * programHeaderSize);
+                if (buffer.getInt(offset) == PT_LOAD) {
+                    loadAddress = (is64 ? buffer.getLong(offset + 16) : buffer.getInt(offset + 8) & 0xffffffffL)
+                            & ~0xfffL;
+                    break;
+                }
+            }
+            return loadAddress;
+        }
+
+        private int getSectionLink(int section) {
+            return buffer.getInt(getSectionHeader(section) + (is64 ? 40 : 24));
+        }
+
+        private int getSectionHeader(int section) {
+            return (int) (sectionHeaderOffset + (long) section * sectionHeaderSize);
+        }
+
+        private long getSectionOffset(int section) {
+            int header = getSectionHeader(section);
+            return is64 ? buffer.getLong(header + 24) : buffer.getInt(header + 16) & 0xffffffffL;
+        }
+
+        private long getSectionSize(int section) {
+            int header = getSectionHeader(section);
+            return is64 ? buffer.getLong(header + 32) : buffer.getInt(header + 20) & 0xffffffffL;
+        }
+
+        private int getSectionType(int section) {
+            return buffer.getInt(getSectionHeader(section) + 4);
+        }
+    }
+
+    /**
+     * Cache file extension.
+     */
+    public static final String CACHE_FILE_EXTENSION = ".sym";
+
+    /**
+     * Cache file magic number and format version.
+     */
+    private static final int CACHE_FILE_MAGIC = 0x4b505301;
+
+    /**
+     * ELF class for 64-bit objects.
+     */
+    private static final int ELFCLASS64 = 2;
+
+    /**
+     * ELF data encoding for big endian objects.
+     */
+    private static final int ELFDATA2MSB = 2;
+
+    /**
+     * Note type for the GNU build-id.
+     */
+    private static final int NT_GNU_BUILD_ID = 3;
+
+    /**
+     * Loadable segment program header type.
+     */
+    private static final int PT_LOAD = 1;
+
+    /**
+     * Dynamic linker symbol table section type.
+     */
+    private static final int SHT_DYNSYM = 11;
+
+    /**
+     * Note section type.
+     */
+    private static final int SHT_NOTE = 7;
+
+    /**
+     * Symbol table section type.
+     */
+    private static final int SHT_SYMTAB = 2;
+
+    /**
+     * Function symbol type.
+     */
+    private static final int STT_FUNC = 2;
+
+    /**
+     * Indirect function symbol type.
+     */
+    private static final int STT_GNU_IFUNC = 10;
+
+    /**
+     * Demangle the qualified name of an Itanium C++ ABI mangled symbol (e.g. _ZN6Symbol4nameEv to Symbol::name). Only
+     * the name is rendered (not the parameter types), which is what is needed to match frames. Names that are not
+     * mangled, or not understood, are returned as is.
+     * 
+     * @param symbol
+     *            The symbol name.
+     * @return The demangled name.
+     */
+    public static final String demangle(String symbol) {
+        String name = symbol;
+        if (symbol.startsWith("_ZN")) {
+            StringBuilder qualifiedName = new StringBuilder();
+            int i = 3;
+            // CV and ref qualifiers on member functions
+            while (i < symbol.length() && "rVKRO".indexOf(symbol.charAt(i)) >= 0) {
+                i++;
+            }
+            while (i < symbol.length() && symbol.charAt(i) != 'E') {
+                char c = symbol.charAt(i);
+                if (Character.isDigit(c)) {
+                    int start = i;
+                    while (i < symbol.length() && Character.isDigit(symbol.charAt(i))) {
+                        i++;
+                    }
+                    int length = getLength(symbol, start, i);
+                    if (length < 0 || i + length > symbol.length()) {
+                        return symbol;
+                    }
+                    if (qualifiedName.length() > 0) {
+                        qualifiedName.append("::");
+                    }
+                    qualifiedName.append(symbol, i, i + length);
+                    i += length;
+                } else if (c == 'I') {
+                    // Skip template arguments (nested names, templates, literals, and expressions end with 'E')
+                    int depth = 0;
+                    do {
+                        char t = symbol.charAt(i);
+                        if (Character.isDigit(t)) {
+                            int start = i;
+                            while (i < symbol.length() && Character.isDigit(symbol.charAt(i))) {
+                                i++;
+                            }
+                            // Skip the source name (a literal value is not followed by a name)
+                            if (symbol.charAt(start - 1) != 'S' && symbol.charAt(start - 1) != '_') {
+                                int length = getLength(symbol, start, i);
+                                if (length < 0) {
+                                    return symbol;
+                                }
+                                i += length;
+                            }
+                            continue;
+                        } else if (t == 'I' || t == 'N' || t == 'X') {
+                            depth++;
+                        } else if (t == 'L') {
+                            // Skip the literal type (e.g. a nested enum name) and value
+                            i++;
+                            if (i < symbol.length() && symbol.charAt(i) == 'N') {
+                                while (i < symbol.length() && symbol.charAt(i) != 'E') {
+                                    if (Character.isDigit(symbol.charAt(i))) {
+                                        int start = i;
+                                        while (i < symbol.length() && Character.isDigit(symbol.charAt(i))) {
+                                            i++;
+                                        }
+                                        int length = getLength(symbol, start, i);
+                                        if (length < 0) {
+                                            return symbol;
+                                        }
+                                        i += length;
+                                    } else if (symbol.charAt(i) == 'S') {
+                                        int end = symbol.indexOf('_', i);
+                                        if (end < 0) {
+                                            // Malformed substitution
+                                            return symbol;
+                                        }
+                                        i = end + 1;
+                                    } else {
+                                        i++;
+                                    }
+                                }
+                                i++;
+                            }
+                            while (i < symbol.length() && symbol.charAt(i) != 'E') {
+                                i++;
+                            }
+                        } else if (t == 'E') {
+                            depth--;
+                        }
+                        i++;
+                    } while (depth > 0 && i < symbol.length());
+                    if (depth > 0) {
+                        // Unterminated template arguments
+                        return symbol;
+                    }
+                } else if (c == 'C' || c == 'D') {
+                    // Constructor or destructor
+                    String className = qualifiedName.substring(qualifiedName.lastIndexOf(":") + 1);
+                    qualifiedName.append("::").append(c == 'D' ? "~" : "").append(className);
+                    i += 2;
+                } else if (c == 'L') {
+                    i++;
+                } else {
+                    // Substitutions, operators, etc.
+                    return symbol;
+                }
+            }
+            name = qualifiedName.length() > 0 ? qualifiedName.toString() : symbol;
+        } else if (symbol.startsWith("_Z") && symbol.length() > 2 && Character.isDigit(symbol.charAt(2))) {
+            int i = 2;
+            while (i < symbol.length() && Character.isDigit(symbol.charAt(i))) {
+                i++;
+            }
+            int length = getLength(symbol, 2, i);
+            if (length >= 0 && i + length <= symbol.length()) {
+                name = symbol.substring(i, i + length);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * @param symbol
+     *            A mangled symbol name.
+     * @param start
+     *            The start of a length (decimal digits).
+     * @param end
+     *            The end of the length (exclusive).
+     * @return The length, or -1 if there are no digits or the length is not a valid <code>int</code> (malformed).
+     */
+    private static final int getLength(String symbol, int start, int end) {
+        if (end <= start || end - start > 9) {
+            return -1;
+        }
+        return Integer.parseInt(symbol.substring(start, end));
+    }
+
+    /**
+     * Get the symbol table for an ELF file, from the cache directory if it was previously stored there, otherwise
+     * parsing the ELF file and storing it in the cache directory.
+     * 
+     * @param elfFile
+     *            The ELF file.
+     * @param cacheDir
+     *            The cache directory, or null for no cache.
+     * @return The symbol table, or null if the file cannot be read or is not an ELF file.
+     */
+    public static final ElfSymbolTable load(File elfFile, File cacheDir) {
+        ElfSymbolTable symbolTable = null;
+        try (FileChannel channel = FileChannel.open(elfFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            String buildId = isElf(buffer) ? new Elf(order(buffer)).getBuildId() : null;
+            File cacheFile = null;
+            if (cacheDir != null && buildId != null) {
+                cacheFile = new File(cacheDir, buildId + CACHE_FILE_EXTENSION);
+                if (cacheFile.isFile()) {
+                    symbolTable = read(cacheFile);
+                }
+            }
+            if (symbolTable == null && isElf(buffer)) {
+                symbolTable = parse(buffer);
+                if (cacheFile != null && (cacheDir.isDirectory() || cacheDir.mkdirs())) {
+                    symbolTable.store(cacheFile);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (RuntimeException e) {
+            // Truncated or corrupt ELF file
+            symbolTable = null;
+        }
+        return symbolTable;
+    }
+
+    /**
+     * @param buffer
+     *            The mapped file.
+     * @return true if the file is an ELF file, false otherwise.
+     */
+    private static final boolean isElf(ByteBuffer buffer) {
+        return buffer.limit() > 0x40 && buffer.get(0) == 0x7f && buffer.get(1) == 'E' && buffer.get(2) == 'L'
+                && buffer.get(3) == 'F';
+    }
+
+    /**
+     * @param buffer
+     *            The mapped ELF file.
+     * @return The buffer, in the byte order of the ELF file.
+     */
+    private static final ByteBuffer order(ByteBuffer buffer) {
+        return buffer.order(buffer.get(5) == ELFDATA2MSB ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Parse the function symbols of an ELF file.
+     * 
+     * @param buffer
+     *            The mapped ELF file.
+     * @return The symbol table.
+     */
+    public static final ElfSymbolTable parse(ByteBuffer buffer) {
+        Elf elf = new Elf(order(buffer));
+        // Prefer the full symbol table (debuginfo, unstripped libraries) over the exported symbols
+        int section = elf.findSection(SHT_SYMTAB);
+        if (section < 0 || elf.getSectionSize(section) == 0) {
+            section = elf.findSection(SHT_DYNSYM);
+        }
+        long[] addresses = new long[0];
+        long[] sizes = new long[0];
+        int[] nameOffsets = new int[0];
+        byte[] names = new byte[0];
+        if (section >= 0) {
+            int symbolSize = elf.is64 ? 24 : 16;
+            int count = (int) (elf.getSectionSize(section) / symbolSize);
+            long symbolsOffset = elf.getSectionOffset(section);
+            int link = elf.getSectionLink(section);
+            names = new byte[(int) elf.getSectionSize(link)];
+            ByteBuffer strings = buffer.duplicate();
+            strings.position((int) elf.getSectionOffset(link));
+            strings.get(names);
+            addresses = new long[count];
+            sizes = new long[count];
+            nameOffsets = new int[count];
+            int functions = 0;
+            for (int i = 0; i < count; i++) {
+                int offset = (int) (symbolsOffset + (long) i * symbolSize);
+                int info = buffer.get(offset + (elf.is64 ? 4 : 12)) & 0xff;
+                int shndx = buffer.getShort(offset + (elf.is64 ? 6 : 14)) & 0xffff;
+                long value = elf.is64 ? buffer.getLong(offset + 8) : buffer.getInt(offset + 4) & 0xffffffffL;
+                int type = info & 0xf;
+                if ((type == STT_FUNC || type == STT_GNU_IFUNC) && shndx != 0 && value != 0) {
+                    addresses[functions] = value;
+                    sizes[functions] = elf.is64 ? buffer.getLong(offset + 16) : buffer.getInt(offset + 8) & 0xffffffffL;
+                    nameOffsets[functions] = buffer.getInt(offset);
+                    functions++;
+                }
+            }
+            addresses = Arrays.copyOf(addresses, functions);
+            sizes = Arrays.copyOf(sizes, functions);
+            nameOffsets = Arrays.copyOf(nameOffsets, functions);
+        }
+        ElfSymbolTable symbolTable = new ElfSymbolTable(elf.getBuildId(), elf.getLoadAddress(), addresses, sizes,
+                nameOffsets, names);
+        symbolTable.sort();
+        return symbolTable;
+    }
+
+    /**
+     * Read a symbol table from a cache file.
+     * 
+     * @param cacheFile
+     *            The cache file.
+     * @return The symbol table, or null if the cache file is not valid.
+     */
+    public static final ElfSymbolTable read(File cacheFile) {
+        ElfSymbolTable symbolTable = null;
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() == CACHE_FILE_MAGIC) {
+                byte[] buildIdBytes = new byte[buffer.getInt()];
+                buffer.get(buildIdBytes);
+                long loadAddress = buffer.getLong();
+                int count = buffer.getInt();
+                long[] addresses = new long[count];
+                long[] sizes = new long[count];
+                int[] nameOffsets = new int[count];
+                buffer.asLongBuffer().get(addresses);
+                buffer.position(buffer.position() + count * 8);
+                buffer.asLongBuffer().get(sizes);
+                buffer.position(buffer.position() + count * 8);
+                buffer.asIntBuffer().get(nameOffsets);
+                buffer.position(buffer.position() + count * 4);
+                byte[] names = new byte[buffer.getInt()];
+                buffer.get(names);
+                symbolTable = new ElfSymbolTable(new String(buildIdBytes, StandardCharsets.US_ASCII), loadAddress,
+                        addresses, sizes, nameOffsets, names);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (RuntimeException e) {
+            // Truncated or corrupt cache file
+            symbolTable = null;
+        }
+        return symbolTable;
+    }
+
+    /**
+     * Symbol addresses, sorted.
+     */
+    private long[] addresses;
+
+    /**
+     * The ELF build-id (hex), or null if the ELF file has no build-id note.
+     */
+    private String buildId;
+
+    /**
+     * The virtual address of the first loadable segment (page aligned), which corresponds to the library base address
+     * the fatal error log offsets are relative to.
+     */
+    private long loadAddress;
+
+    /**
+     * Offset of each symbol name in {@link #names}.
+     */
+    private int[] nameOffsets;
+
+    /**
+     * Null terminated symbol names.
+     */
+    private byte[] names;
+
+    /**
+     * Symbol sizes (0 if unknown).
+     */
+    private long[] sizes;
+
+    /**
+     * @param buildId
+     *            The ELF build-id.
+     * @param loadAddress
+     *            The virtual address of the first loadable segment.
+     * @param addresses
+     *            Symbol addresses.
+     * @param sizes
+     *            Symbol sizes.
+     * @param nameOffsets
+     *            Offset of each symbol name in the names.
+     * @param names
+     *            Null terminated symbol names.
+     */
+    private ElfSymbolTable(String buildId, long loadAddress, long[] addresses, long[] sizes, int[] nameOffsets,
+            byte[] names) {
+        this.buildId = buildId;
+        this.loadAddress = loadAddress;
+        this.addresses = addresses;
+        this.sizes = sizes;
+        this.nameOffsets = nameOffsets;
+        this.names = names;
+    }
+
+    /**
+     * @param name
+     *            The (mangled) symbol name.
+     * @return The library offset of the symbol, or Long.MIN_VALUE if not found.
+     */
+    public long getOffset(String name) {
+        long offset = Long.MIN_VALUE;
+        for (int i = 0; i < addresses.length; i++) {
+            if (getName(i).equals(name)) {
+                offset = addresses[i] - loadAddress;
+                break;
+            }
+        }
+        return offset;
+    }
+
+    public String getBuildId() {
+        return buildId;
+    }
+
+    /**
+     * @param i
+     *            The symbol index.
+     * @return The (mangled) symbol name.
+     */
+    private String getName(int i) {
+        int end = nameOffsets[i];
+        while (end < names.length && names[end] != 0) {
+            end++;
+        }
+        return new String(names, nameOffsets[i], end - nameOffsets[i], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Resolve a library offset to a function.
+     * 
+     * @param offset
+     *            The offset from the library base address (e.g. 0x65a9e1 for <code>libjvm.so+0x65a9e1</code>).
+     * @return The demangled function name and the offset in the function (e.g. <code>Symbol::name+0x21</code>), or
+     *         null if the offset is not in a known function.
+     */
+    public String getSymbol(long offset) {
+        String symbol = null;
+        long address = loadAddress + offset;
+        int i = Arrays.binarySearch(addresses, address);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        if (i >= 0) {
+            // Aliases share an address (e.g. malloc, __libc_malloc); prefer a public name
+            while (i > 0 && addresses[i - 1] == addresses[i]) {
+                i--;
+            }
+            for (int j = i; j < addresses.length && addresses[j] == addresses[i]; j++) {
+                if (names[nameOffsets[j]] != '_' || getName(j).startsWith("_Z")) {
+                    i = j;
+                    break;
+                }
+            }
+            long end = sizes[i] > 0 ? addresses[i] + sizes[i]
+                    : (i + 1 < addresses.length ? addresses[i + 1] : Long.MAX_VALUE);
+            if (address < end) {
+                symbol = demangle(getName(i)) + "+0x" + Long.toHexString(address - addresses[i]);
+            }
+        }
+        return symbol;
+    }
+
+    /**
+     * @return The number of function symbols.
+     */
+    public int size() {
+        return addresses.length;
+    }
+
+    /**
+     * Sort the symbols by address.
+     */
+    private void sort() {
+        Integer[] order = new Integer[addresses.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer i1, Integer i2) {
+                return Long.compare(addresses[i1], addresses[i2]);
+            }
+        });
+        long[] sortedAddresses = new long[order.length];
+        long[] sortedSizes = new long[order.length];
+        int[] sortedNameOffsets = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedAddresses[i] = addresses[order[i]];
+            sortedSizes[i] = sizes[order[i]];
+            sortedNameOffsets[i] = nameOffsets[order[i]];
+        }
+        addresses = sortedAddresses;
+        sizes = sortedSizes;
+        nameOffsets = sortedNameOffsets;
+    }
+
+    /**
+     * Store the symbol table in a cache file. The file is written to a temporary file and renamed, so concurrent runs
+     * never read a partial cache file.
+     * 
+     * @param cacheFile
+     *            The cache file.
+     */
+    public void store(File cacheFile) {
+        File tmpFile;
+        try {
+            tmpFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheFile.getAbsoluteFile().getParentFile());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+            out.writeInt(CACHE_FILE_MAGIC);
+            byte[] buildIdBytes = buildId == null ? new byte[0] : buildId.getBytes(StandardCharsets.US_ASCII);
+            out.writeInt(buildIdBytes.length);
+            out.write(buildIdBytes);
+            out.writeLong(loadAddress);
+            out.writeInt(addresses.length);
+            for (long address : addresses) {
+                out.writeLong(address);
+            }
+            for (long size : sizes) {
+                out.writeLong(size);
+            }
+            for (int nameOffset : nameOffsets) {
+                out.writeInt(nameOffset);
+            }
+            out.writeInt(names.length);
+            out.write(names);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if (!tmpFile.renameTo(cacheFile)) {
+            tmpFile.delete();
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Known native libraries, loaded from a resource file (see <code>native_libraries.txt</code> for the format) so the
+ * catalog can be extended without code changes.
+ * </p>
+ * 
+ * <p>
+ * Library file names are kept in hash tables and category home directories (e.g. /usr/lib64/) in a path prefix trie,
+ * so a library path is classified with one walk of the path, independent of the catalog size.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class NativeLibraryCatalog {
+
+    /**
+     * Native library category.
+     */
+    public enum Category {
+        //
+        GOOGLE, JBOSS, LINUX, LINUX_JAVA, NETTY, ORACLE, TOMCAT, VMWARE, WINDOWS, WINDOWS_JAVA
+    }
+
+    /**
+     * The classification of a native library path.
+     */
+    public static class Classification {
+
+        /**
+         * The categories the library belongs to.
+         */
+        private Set<Category> categories;
+
+        /**
+         * The library file name.
+         */
+        private String file;
+
+        /**
+         * The package that provides the library, or null if not cataloged.
+         */
+        private String packageName;
+
+        /**
+         * @param file
+         *            The library file name.
+         * @param categories
+         *            The categories the library belongs to.
+         * @param packageName
+         *            The package that provides the library, or null if not cataloged.
+         */
+        public Classification(String file, Set<Category> categories, String packageName) {
+            this.file = file;
+            this.categories = Collections.unmodifiableSet(categories);
+            this.packageName = packageName;
+        }
+
+        public Set<Category> getCategories() {
+            return categories;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getPackage() {
+            return packageName;
+        }
+
+        /**
+         * @return true if the library belongs to at least one category, false otherwise.
+         */
+        public boolean isKnown() {
+            return !categories.isEmpty();
+        }
+    }
+
+    /**
+     * A node in the home directory trie.
+     */
+    private static class HomeNode {
+
+        /**
+         * Child nodes by path character.
+         */
+        private Map<Character, HomeNode> children = new HashMap<Character, HomeNode>();
+
+        /**
+         * Categories with a home directory ending at this node.
+         */
+        private Set<Category> homes = EnumSet.noneOf(Category.class);
+
+        /**
+         * The directory separator for categories with a home directory ending at this node followed by the rest of a
+         * directory name, or 0 if none.
+         */
+        private char separator;
+
+        /**
+         * Categories with a home directory ending at this node followed by the rest of a directory name.
+         */
+        private Set<Category> subdirectoryHomes = EnumSet.noneOf(Category.class);
+    }
+
+    /**
+     * The catalog resource file name.
+     */
+    public static final String RESOURCE = "native_libraries.txt";
+
+    /**
+     * Load the catalog from the {@link #RESOURCE} resource.
+     * 
+     * @return The <code>NativeLibraryCatalog</code>.
+     */
+    public static final NativeLibraryCatalog load() {
+        NativeLibraryCatalog catalog = new NativeLibraryCatalog();
+        InputStream in = NativeLibraryCatalog.class.getResourceAsStream("/org/github/krashpad/" + RESOURCE);
+        if (in != null) {
+            catalog.read(in);
+        }
+        return catalog;
+    }
+
+    /**
+     * Load the catalog from a stream.
+     * 
+     * @param in
+     *            The catalog <code>InputStream</code>.
+     * @return The <code>NativeLibraryCatalog</code>.
+     */
+    public static final NativeLibraryCatalog load(InputStream in) {
+        NativeLibraryCatalog catalog = new NativeLibraryCatalog();
+        catalog.read(in);
+        return catalog;
+    }
+
+    /**
+     * Categories by library file name.
+     */
+    private Map<String, Set<Category>> categories = new HashMap<String, Set<Category>>();
+
+    /**
+     * Categories restricted to home directories.
+     */
+    private Set<Category> homeCategories = EnumSet.noneOf(Category.class);
+
+    /**
+     * The root of the home directory trie.
+     */
+    private HomeNode homes = new HomeNode();
+
+    /**
+     * Library file names by category, in catalog order.
+     */
+    private Map<Category, List<String>> libraries = new EnumMap<Category, List<String>>(Category.class);
+
+    /**
+     * Packages by library file name.
+     */
+    private Map<String, String> packages = new HashMap<String, String>();
+
+    /**
+     * Library file name patterns by category.
+     */
+    private Map<Category, List<Pattern>> patterns = new EnumMap<Category, List<Pattern>>(Category.class);
+
+    /**
+     * Use {@link #load()} or {@link #load(InputStream)}.
+     */
+    private NativeLibraryCatalog() {
+        for (Category category : Category.values()) {
+            libraries.put(category, new ArrayList<String>());
+        }
+    }
+
+    /**
+     * @param category
+     *            The category.
+     * @param home
+     *            The home directory. A trailing "*" followed by a separator matches the rest of a directory name.
+     */
+    private void addHome(Category category, String home) {
+        boolean subdirectory = home.length() > 1 && home.charAt(home.length() - 2) == '*';
+        String prefix = subdirectory ? home.substring(0, home.length() - 2) : home;
+        HomeNode node = homes;
+        for (int i = 0; i < prefix.length(); i++) {
+            HomeNode child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                child = new HomeNode();
+                node.children.put(prefix.charAt(i), child);
+            }
+            node = child;
+        }
+        if (subdirectory) {
+            node.subdirectoryHomes.add(category);
+            node.separator = home.charAt(home.length() - 1);
+        } else {
+            node.homes.add(category);
+        }
+        homeCategories.add(category);
+    }
+
+    /**
+     * Classify a native library.
+     * 
+     * @param path
+     *            The native library file path.
+     * @return The <code>Classification</code>.
+     */
+    public Classification classify(String path) {
+        Set<Category> categorySet = EnumSet.noneOf(Category.class);
+        String file = org.github.joa.util.JdkRegEx.getFile(path);
+        if (file == null) {
+            return new Classification(null, categorySet, null);
+        }
+        Set<Category> fileCategories = categories.get(file);
+        if (fileCategories != null) {
+            categorySet.addAll(fileCategories);
+        }
+        Iterator<Map.Entry<Category, List<Pattern>>> iterator = patterns.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Category, List<Pattern>> entry = iterator.next();
+            for (Pattern pattern : entry.getValue()) {
+                if (pattern.matcher(file).matches()) {
+                    categorySet.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        if (!Collections.disjoint(categorySet, homeCategories)) {
+            Set<Category> inHome = getHomes(path);
+            Iterator<Category> categoryIterator = categorySet.iterator();
+            while (categoryIterator.hasNext()) {
+                Category category = categoryIterator.next();
+                if (homeCategories.contains(category) && !inHome.contains(category)) {
+                    categoryIterator.remove();
+                }
+            }
+        }
+        return new Classification(file, categorySet, categorySet.isEmpty() ? null : packages.get(file));
+    }
+
+    /**
+     * Walk the home directory trie.
+     * 
+     * @param path
+     *            The native library file path.
+     * @return The categories with a home directory the path is under.
+     */
+    private Set<Category> getHomes(String path) {
+        Set<Category> inHome = EnumSet.noneOf(Category.class);
+        HomeNode node = homes;
+        for (int i = 0; node != null && i < path.length(); i++) {
+            // The rest of the path must not be empty
+            if (!node.homes.isEmpty()) {
+                inHome.addAll(node.homes);
+            }
+            if (!node.subdirectoryHomes.isEmpty() && path.lastIndexOf(node.separator, path.length() - 2) > i) {
+                inHome.addAll(node.subdirectoryHomes);
+            }
+            node = node.children.get(path.charAt(i));
+        }
+        return inHome;
+    }
+
+    /**
+     * @param category
+     *            The category.
+     * @return The library file names in the category, in catalog order.
+     */
+    public List<String> getLibraries(Category category) {
+        return Collections.unmodifiableList(libraries.get(category));
+    }
+
+    /**
+     * @param in
+     *            The catalog <code>InputStream</code>.
+     */
+    private void read(InputStream in) {
+        BufferedReader bufferedReader = null;
+        try {
+            bufferedReader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            Category category = null;
+            String line = bufferedReader.readLine();
+            while (line != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    // ignore
+                } else if (line.startsWith("[") && line.endsWith("]")) {
+                    category = Category.valueOf(line.substring(1, line.length() - 1));
+                } else if (category == null) {
+                    // ignore entries before the first category
+                } else if (line.startsWith("home=")) {
+                    addHome(category, line.substring(5));
+                } else if (line.startsWith("~")) {
+                    if (!patterns.containsKey(category)) {
+                        patterns.put(category, new ArrayList<Pattern>());
+                    }
+                    patterns.get(category).add(Pattern.compile(line.substring(1)));
+                } else {
+                    String[] columns = line.split("\\s+", 2);
+                    libraries.get(category).add(columns[0]);
+                    Set<Category> fileCategories = categories.get(columns[0]);
+                    if (fileCategories == null) {
+                        fileCategories = EnumSet.noneOf(Category.class);
+                        categories.put(columns[0], fileCategories);
+                    }
+                    fileCategories.add(category);
+                    if (columns.length > 1 && !packages.containsKey(columns[0])) {
+                        packages.put(columns[0], columns[1]);
+                    }
+                }
+                line = bufferedReader.readLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (bufferedReader != null) {
+                try {
+                    bufferedReader.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
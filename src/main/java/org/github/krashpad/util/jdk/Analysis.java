@@ -1009,6 +1009,11 @@ public enum Analysis {
      */
     INFO_THREADS_MANY("info.threads.many"),
 
+    /**
+     * Property key for a fatal error log parsed in triage mode (only the sections through the current thread).
+     */
+    INFO_TRIAGE("info.triage"),
+
     /**
      * Property key for truncated fatal error log.
      */
@@ -1056,11 +1061,38 @@ public enum Analysis {
      */
     WARN_ASYNC_PROFILER("warn.async.profiler"),
 
+    /**
+     * Property key for cgroup memory usage at or near the cgroup memory limit.
+     */
+    WARN_CGROUP_MEMORY_SATURATED("warn.cgroup.memory.saturated"),
+
+    /**
+     * Property key for generated classes (proxies, lambdas, reflection accessors, Groovy/script classes) dominating
+     * class loading and not being unloaded as fast as loaded.
+     */
+    WARN_CLASS_GENERATION("warn.class.generation"),
+
     /**
      * Property key for CMS collector running in incremental mode.
      */
     WARN_CMS_INCREMENTAL_MODE("warn.cms.incremental.mode"),
 
+    /**
+     * Property key for the code cache being full (JIT compilation disabled or stopped).
+     */
+    WARN_CODE_CACHE_FULL("warn.code.cache.full"),
+
+    /**
+     * Property key for a code heap high-water mark near the code heap size.
+     */
+    WARN_CODE_CACHE_SATURATED("warn.code.cache.saturated"),
+
+    /**
+     * Property key for methods repeatedly deoptimized (deoptimization loop) or recompiled at the same tier
+     * (recompilation thrash) in the compilation and deoptimization events before the crash.
+     */
+    WARN_COMPILATION_THRASH("warn.compilation.thrash"),
+
     /**
      * Property key for no evidence the JDK debug symbols are installed.
      */
@@ -1106,6 +1138,11 @@ public enum Analysis {
      */
     WARN_ITEXT("warn.itext"),
 
+    /**
+     * Property key for multiple versions of the same jar artifact mapped.
+     */
+    WARN_JAR_VERSION_CONFLICT("warn.jar.version.conflict"),
+
     /**
      * Property key for a JDK that is not the latest JDK release.
      */
@@ -1227,6 +1264,11 @@ public enum Analysis {
      */
     WARN_UNIDENTIFIED_LOG_LINE("warn.unidentified.log.line"),
 
+    /**
+     * Property key for a long VM operation (e.g. a safepoint) ending shortly before, or in progress at, the crash.
+     */
+    WARN_VM_OPERATION_LONG_BEFORE_CRASH("warn.vm.operation.long.before.crash"),
+
     /**
      * Property key for thread dumps being generated &gt;= 1/sec, effectively continuously profiling the application.
      */
@@ -0,0 +1,546 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.github.joa.domain.Arch;
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.util.jdk.JdkUtil.SignalNumber;
+
+/**
+ * <p>
+ * Known crash signatures (top stack frames plus thread, signal, JDK version, and architecture conditions) mapped to
+ * an {@link Analysis}, loaded from the {@value #RESOURCE} resource (see the resource for the format).
+ * </p>
+ * 
+ * <p>
+ * Each stack frame is normalized into a small set of keys (e.g. <code>V  [libjvm.so+0x5b4ab3]
+ * G1ParScanThreadState::copy_to_survivor_space(InCSetState, oopDesc*, markOopDesc*)+0x2e3</code> to "V
+ * libjvm:G1ParScanThreadState::copy_to_survivor_space", "V G1ParScanThreadState::copy_to_survivor_space", "V
+ * libjvm:*", and the same with the "*" type), and signatures are indexed by the key of their first frame. Matching a
+ * fatal error log is a hash lookup per frame window, independent of the number of signatures; the remaining frames
+ * and the conditions are only checked for the candidates.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CrashSignatureIndex {
+
+    /**
+     * A known crash signature.
+     */
+    public static class Signature {
+
+        /**
+         * The analysis.
+         */
+        private Analysis analysis;
+
+        /**
+         * The architectures, or empty for any.
+         */
+        private Set<Arch> archs = EnumSet.noneOf(Arch.class);
+
+        /**
+         * The frame keys, top first.
+         */
+        private List<String> frames = new ArrayList<String>();
+
+        /**
+         * JDK version ranges as { major, update } lower and upper bounds, or empty for any.
+         */
+        private List<int[][]> jdks = new ArrayList<int[][]>();
+
+        /**
+         * Whether the frames can be anywhere in the stack (true) or must be at the top (false).
+         */
+        private boolean positionAny;
+
+        /**
+         * The signal numbers, or empty for any.
+         */
+        private Set<SignalNumber> signals = EnumSet.noneOf(SignalNumber.class);
+
+        /**
+         * Generic analysis to remove when the signature matches.
+         */
+        private List<Analysis> suppress = new ArrayList<Analysis>();
+
+        /**
+         * The current thread name regular expression, or null for any.
+         */
+        private Pattern thread;
+
+        /**
+         * @param analysis
+         *            The analysis.
+         */
+        private Signature(Analysis analysis) {
+            this.analysis = analysis;
+        }
+
+        public Analysis getAnalysis() {
+            return analysis;
+        }
+
+        public List<String> getFrames() {
+            return Collections.unmodifiableList(frames);
+        }
+
+        public List<Analysis> getSuppress() {
+            return Collections.unmodifiableList(suppress);
+        }
+
+        /**
+         * @param fatalErrorLog
+         *            The fatal error log.
+         * @return true if the fatal error log satisfies the thread, signal, JDK, and architecture conditions, false
+         *         otherwise.
+         */
+        private boolean isConditionsMatch(FatalErrorLog fatalErrorLog) {
+            boolean match = true;
+            if (thread != null) {
+                match = fatalErrorLog.getCurrentThreadName() != null
+                        && thread.matcher(fatalErrorLog.getCurrentThreadName()).matches();
+            }
+            if (match && !signals.isEmpty()) {
+                match = signals.contains(fatalErrorLog.getSignalNumber());
+            }
+            if (match && !archs.isEmpty()) {
+                match = archs.contains(fatalErrorLog.getArchOs());
+            }
+            if (match && !jdks.isEmpty()) {
+                match = false;
+                int major = fatalErrorLog.getJavaVersionMajor();
+                int update = fatalErrorLog.getJavaVersionMinor();
+                for (int[][] range : jdks) {
+                    if (compare(major, update, range[0]) >= 0 && compare(major, update, range[1]) <= 0) {
+                        match = true;
+                        break;
+                    }
+                }
+            }
+            return match;
+        }
+    }
+
+    /**
+     * Known crash signatures resource.
+     */
+    public static final String RESOURCE = "known_crashes.txt";
+
+    /**
+     * Java frame method: the qualified name before the parameters. For example:
+     * 
+     * J 2432 C2 java.util.HashMap.putVal(ILjava/lang/Object;Ljava/lang/Object;ZZ)Ljava/lang/Object; (300 bytes) @ ...
+     */
+    private static final Pattern JAVA_METHOD = Pattern.compile("([\\w$]+(\\.[\\w$]+)*)\\.([\\w$<>]+)\\(");
+
+    /**
+     * Native frame library and symbol. For example:
+     * 
+     * V [libjvm.so+0x5b4ab3] G1ParScanThreadState::copy_to_survivor_space(InCSetState, oopDesc*, markOopDesc*)+0x2e3
+     */
+    private static final Pattern NATIVE_FRAME = Pattern.compile("^\\[([^\\]\\+]+)[^\\]]*\\](\\s+(.+))?$");
+
+    /**
+     * Compare a JDK version to a bound.
+     * 
+     * @param major
+     *            The major version.
+     * @param update
+     *            The update number (Integer.MIN_VALUE if unknown).
+     * @param bound
+     *            The { major, update } bound.
+     * @return A negative number, zero, or a positive number if the JDK version is less than, equal to, or greater than
+     *         the bound.
+     */
+    private static int compare(int major, int update, int[] bound) {
+        return major != bound[0] ? Integer.compare(major, bound[0]) : Integer.compare(update, bound[1]);
+    }
+
+    /**
+     * Normalize a native library file name. For example, libocijdbc11.so to libocijdbc, libpthread.so.0 to libpthread,
+     * jvm.dll to jvm.
+     * 
+     * @param library
+     *            The library file name.
+     * @return The library name without the extension and version.
+     */
+    static final String getLibrary(String library) {
+        String name = org.github.joa.util.JdkRegEx.getFile(library);
+        int extension = name.indexOf('.');
+        if (extension > 0) {
+            name = name.substring(0, extension);
+        }
+        int end = name.length();
+        while (end > 1 && Character.isDigit(name.charAt(end - 1))) {
+            end--;
+        }
+        if (end < name.length() && Character.isLetter(name.charAt(end - 1))) {
+            name = name.substring(0, end);
+        }
+        return name;
+    }
+
+    /**
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The stack frames, top first (the problematic frame if there is no stack).
+     */
+    public static final List<String> getFrames(FatalErrorLog fatalErrorLog) {
+        List<String> frames = new ArrayList<String>();
+        Iterator<Stack> iterator = fatalErrorLog.getStacks().iterator();
+        while (iterator.hasNext()) {
+            Stack event = iterator.next();
+            if (event.isFrame()) {
+                frames.add(event.getLogEntry());
+            }
+        }
+        if (frames.isEmpty()) {
+            Iterator<Header> iteratorHeader = fatalErrorLog.getHeaders().iterator();
+            while (iteratorHeader.hasNext()) {
+                Header he = iteratorHeader.next();
+                if (he.isProblematicFrame()) {
+                    frames.add(he.getLogEntry().substring(2));
+                    break;
+                }
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * Normalize a native frame symbol. For example, "void ShenandoahConcurrentMark::mark_loop_work&lt;Closure,
+     * true&gt;(Closure*, unsigned int)+0x19d" to "ShenandoahConcurrentMark::mark_loop_work".
+     * 
+     * @param symbol
+     *            The symbol.
+     * @return The function name without return type, template arguments, parameters, and offset.
+     */
+    static final String getFunction(String symbol) {
+        StringBuilder function = new StringBuilder();
+        int depth = 0;
+        for (int i = 0; i < symbol.length(); i++) {
+            char c = symbol.charAt(i);
+            if (c == '<') {
+                depth++;
+            } else if (c == '>' && depth > 0) {
+                depth--;
+            } else if (depth == 0) {
+                if (c == '(' || c == '+') {
+                    break;
+                } else if (c == ' ') {
+                    // Return type
+                    function.setLength(0);
+                } else {
+                    function.append(c);
+                }
+            }
+        }
+        return function.toString();
+    }
+
+    /**
+     * Get the keys of a stack frame.
+     * 
+     * @param frame
+     *            The stack frame log entry (without the "# " problematic frame prefix).
+     * @return The frame keys (most specific first), or an empty list if the log entry is not a frame.
+     */
+    public static final List<String> getKeys(String frame) {
+        List<String> symbols = new ArrayList<String>();
+        String type = frame.length() > 2 ? frame.substring(0, 1) : "";
+        String rest = frame.length() > 2 ? frame.substring(1).trim() : "";
+        if (type.equals("C") || type.equals("V")) {
+            Matcher matcher = NATIVE_FRAME.matcher(rest);
+            if (matcher.find()) {
+                String library = getLibrary(matcher.group(1));
+                if (matcher.group(3) != null) {
+                    String function = getFunction(matcher.group(3).trim());
+                    if (function.length() > 0) {
+                        symbols.add(library + ":" + function);
+                        symbols.add(function);
+                    }
+                }
+                symbols.add(library + ":*");
+            }
+        } else if (type.equals("J") || type.equals("j") || type.equals("A")) {
+            Matcher matcher = JAVA_METHOD.matcher(rest);
+            if (matcher.find()) {
+                String className = matcher.group(1);
+                symbols.add(className + "." + matcher.group(3));
+                symbols.add(className + ".*");
+                if (className.indexOf('$') > 0) {
+                    symbols.add(className.substring(0, className.indexOf('$')) + ".*");
+                }
+            }
+        } else if (type.equals("v")) {
+            String stub = rest.split("\\s+")[0];
+            if (stub.length() > 0) {
+                symbols.add(stub);
+            }
+        }
+        List<String> keys = new ArrayList<String>(symbols.size() * 2);
+        for (String symbol : symbols) {
+            keys.add(type + " " + symbol);
+        }
+        for (String symbol : symbols) {
+            keys.add("* " + symbol);
+        }
+        return keys;
+    }
+
+    /**
+     * Load the known crash signatures resource.
+     * 
+     * @return The signature index.
+     */
+    public static final CrashSignatureIndex load() {
+        CrashSignatureIndex index = new CrashSignatureIndex();
+        InputStream in = CrashSignatureIndex.class.getResourceAsStream("/org/github/krashpad/" + RESOURCE);
+        if (in != null) {
+            index.read(in);
+        }
+        return index;
+    }
+
+    /**
+     * @param in
+     *            The known crash signatures.
+     * @return The signature index.
+     */
+    public static final CrashSignatureIndex load(InputStream in) {
+        CrashSignatureIndex index = new CrashSignatureIndex();
+        index.read(in);
+        return index;
+    }
+
+    /**
+     * Parse a JDK version bound.
+     * 
+     * @param bound
+     *            The bound (e.g. "11" or "11.9").
+     * @param upper
+     *            Whether the bound is an upper bound.
+     * @return The { major, update } bound.
+     */
+    private static int[] parseBound(String bound, boolean upper) {
+        String[] version = bound.trim().split("\\.");
+        int update = upper ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        if (version.length > 1) {
+            update = Integer.parseInt(version[1]);
+        }
+        return new int[] { Integer.parseInt(version[0]), update };
+    }
+
+    /**
+     * Signatures that can match anywhere in the stack, by first frame key.
+     */
+    private Map<String, List<Signature>> anyIndex = new HashMap<String, List<Signature>>();
+
+    /**
+     * The number of signatures.
+     */
+    private int size;
+
+    /**
+     * Signatures that match at the top of the stack, by first frame key.
+     */
+    private Map<String, List<Signature>> topIndex = new HashMap<String, List<Signature>>();
+
+    private CrashSignatureIndex() {
+
+    }
+
+    /**
+     * Index a signature by its first frame.
+     * 
+     * @param signature
+     *            The signature.
+     * @param lineNumber
+     *            The resource line number of the end of the signature.
+     */
+    private void add(Signature signature, int lineNumber) {
+        if (signature.frames.isEmpty()) {
+            throw new IllegalArgumentException(
+                    RESOURCE + " line " + lineNumber + ": " + signature.analysis + " has no frames.");
+        }
+        Map<String, List<Signature>> index = signature.positionAny ? anyIndex : topIndex;
+        List<Signature> signatures = index.get(signature.frames.get(0));
+        if (signatures == null) {
+            signatures = new ArrayList<Signature>();
+            index.put(signature.frames.get(0), signatures);
+        }
+        signatures.add(signature);
+        size++;
+    }
+
+    /**
+     * Find the known crash signatures that match a fatal error log.
+     * 
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @return The matching signatures, in resource order per frame window (top first), without duplicates.
+     */
+    public List<Signature> match(FatalErrorLog fatalErrorLog) {
+        Set<Signature> matches = new LinkedHashSet<Signature>();
+        List<String> frames = getFrames(fatalErrorLog);
+        List<List<String>> frameKeys = new ArrayList<List<String>>(frames.size());
+        for (String frame : frames) {
+            frameKeys.add(getKeys(frame));
+        }
+        for (int i = 0; i < frameKeys.size(); i++) {
+            for (String key : frameKeys.get(i)) {
+                if (i == 0) {
+                    match(topIndex.get(key), frameKeys, i, fatalErrorLog, matches);
+                }
+                match(anyIndex.get(key), frameKeys, i, fatalErrorLog, matches);
+            }
+        }
+        return new ArrayList<Signature>(matches);
+    }
+
+    /**
+     * Check candidate signatures against a frame window.
+     * 
+     * @param candidates
+     *            The signatures whose first frame matches the window start, or null if none.
+     * @param frameKeys
+     *            The keys of each stack frame.
+     * @param start
+     *            The window start.
+     * @param fatalErrorLog
+     *            The fatal error log.
+     * @param matches
+     *            The matching signatures.
+     */
+    private void match(List<Signature> candidates, List<List<String>> frameKeys, int start,
+            FatalErrorLog fatalErrorLog, Set<Signature> matches) {
+        if (candidates != null) {
+            for (Signature signature : candidates) {
+                boolean match = start + signature.frames.size() <= frameKeys.size();
+                for (int j = 1; match && j < signature.frames.size(); j++) {
+                    match = frameKeys.get(start + j).contains(signature.frames.get(j));
+                }
+                if (match && signature.isConditionsMatch(fatalErrorLog)) {
+                    matches.add(signature);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read known crash signatures.
+     * 
+     * @param in
+     *            The known crash signatures.
+     */
+    private void read(InputStream in) {
+        BufferedReader bufferedReader = null;
+        try {
+            bufferedReader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            Signature signature = null;
+            int lineNumber = 0;
+            String line = bufferedReader.readLine();
+            while (line != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    // ignore
+                } else if (line.startsWith("[") && line.endsWith("]")) {
+                    if (signature != null) {
+                        add(signature, lineNumber);
+                    }
+                    signature = new Signature(Analysis.valueOf(line.substring(1, line.length() - 1)));
+                } else if (signature == null || line.indexOf('=') < 0) {
+                    throw new IllegalArgumentException(RESOURCE + " line " + lineNumber + ": " + line);
+                } else {
+                    String name = line.substring(0, line.indexOf('='));
+                    String value = line.substring(line.indexOf('=') + 1).trim();
+                    if (name.equals("frames")) {
+                        for (String frame : value.split(";")) {
+                            signature.frames.add(frame.trim().replaceAll("\\s+", " "));
+                        }
+                    } else if (name.equals("position")) {
+                        signature.positionAny = value.equals("any");
+                    } else if (name.equals("thread")) {
+                        signature.thread = Pattern.compile(value);
+                    } else if (name.equals("signal")) {
+                        for (String signal : value.split(",")) {
+                            signature.signals.add(SignalNumber.valueOf(signal.trim()));
+                        }
+                    } else if (name.equals("jdk")) {
+                        for (String range : value.split(",")) {
+                            String[] bounds = range.split("-");
+                            signature.jdks.add(new int[][] { parseBound(bounds[0], false),
+                                    parseBound(bounds[bounds.length - 1], true) });
+                        }
+                    } else if (name.equals("arch")) {
+                        for (String arch : value.split(",")) {
+                            signature.archs.add(Arch.valueOf(arch.trim()));
+                        }
+                    } else if (name.equals("suppress")) {
+                        for (String analysis : value.split(",")) {
+                            signature.suppress.add(Analysis.valueOf(analysis.trim()));
+                        }
+                    } else {
+                        throw new IllegalArgumentException(RESOURCE + " line " + lineNumber + ": " + line);
+                    }
+                }
+                line = bufferedReader.readLine();
+            }
+            if (signature != null) {
+                add(signature, lineNumber);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (bufferedReader != null) {
+                try {
+                    bufferedReader.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of signatures.
+     */
+    public int size() {
+        return size;
+    }
+}
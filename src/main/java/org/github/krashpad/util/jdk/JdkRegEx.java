@@ -346,6 +346,32 @@ public class JdkRegEx {
      */
     public static final String DEVICE_IDS = "([0-9a-f]{2,3}:[0-9a-f]{2,4})";
 
+    /**
+     * The banner at the top of every fatal error log. Used to identify fatal error logs by content (e.g. files with
+     * custom names, fatal error logs embedded in other logs).
+     *
+     * For example:
+     *
+     * <pre>
+     * # A fatal error has been detected by the Java Runtime Environment:
+     * </pre>
+     */
+    public static final String FATAL_ERROR_LOG_BANNER = "A fatal error has been detected by the Java Runtime "
+            + "Environment";
+
+    /**
+     * The banner at the top of a fatal error log for a native memory allocation failure (instead of
+     * {@link #FATAL_ERROR_LOG_BANNER}).
+     *
+     * For example:
+     *
+     * <pre>
+     * # There is insufficient memory for the Java Runtime Environment to continue.
+     * </pre>
+     */
+    public static final String FATAL_ERROR_LOG_BANNER_OOM = "There is insufficient memory for the Java Runtime "
+            + "Environment to continue";
+
     /**
      * File offset
      * 
@@ -0,0 +1,81 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+
+import org.github.krashpad.domain.jdk.AddressSpace.Region;
+import org.github.krashpad.domain.jdk.AddressSpace.RegionType;
+import org.github.krashpad.service.Manager;
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestAddressSpace {
+
+    @Test
+    void testDataset45() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset45.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        Region region = fel.getAddressRegion(fel.getRegisterValues().get("RIP"));
+        assertNotNull(region, "RIP region not identified.");
+        assertEquals(RegionType.MAPPING, region.getType(), "RIP region type not correct.");
+        assertEquals("/usr/lib/jvm/java-11-openjdk-11.0.6.10-0.el8_1.x86_64/lib/server/libjvm.so", region.getName(),
+                "RIP region name not correct.");
+        region = fel.getAddressRegion(fel.getRegisterValues().get("RSP"));
+        assertNotNull(region, "RSP region not identified.");
+        assertEquals(RegionType.STACK, region.getType(), "RSP region type not correct.");
+        region = fel.getAddressRegion("0x00007fd563400000");
+        assertNotNull(region, "Code cache region not identified.");
+        assertEquals("code cache 'profiled nmethods'", region.getDescription(), "Code cache region not correct.");
+        region = fel.getAddressRegion("0x0000000700000000");
+        assertNotNull(region, "Heap region not identified.");
+        assertEquals(RegionType.HEAP, region.getType(), "Heap region type not correct.");
+        region = fel.getAddressRegion("0x00007fd57f9ab010");
+        assertNotNull(region, "Polling page region not identified.");
+        assertEquals(RegionType.POLLING_PAGE, region.getType(), "Polling page region type not correct.");
+        assertNull(fel.getAddressRegion(fel.getSigInfo().getSignalAddress()), "si_addr region incorrectly identified.");
+    }
+
+    @Test
+    void testRegionPrecedence() {
+        AddressSpace space = new AddressSpace();
+        space.addMapping("/path/to/file", 0x1000, 0x9000);
+        space.addRegion(RegionType.HEAP, null, 0x2000, 0x3000);
+        assertEquals(RegionType.HEAP, space.getRegion(0x2800).getType(), "Region precedence not correct.");
+        assertEquals(RegionType.MAPPING, space.getRegion(0x3000).getType(), "Region end not exclusive.");
+    }
+
+    @Test
+    void testUnsorted() {
+        AddressSpace space = new AddressSpace();
+        for (int i = 20; i > 0; i--) {
+            space.addMapping("lib" + i + ".so", i * 0x10000L, i * 0x10000L + 0x8000L);
+        }
+        assertEquals(20, space.size(), "Region count not correct.");
+        assertEquals("lib7.so", space.getRegion(0x70010L).getName(), "Region not correct.");
+        assertNull(space.getRegion(0x78000L), "Gap incorrectly identified as a region.");
+        assertNull(space.getRegion(0x100L), "Address below all regions incorrectly identified.");
+        assertNull(space.getRegion(-1L), "Negative address incorrectly identified.");
+    }
+}
@@ -0,0 +1,83 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestClassChurn {
+
+    @Test
+    void testGenerated() {
+        assertTrue(ClassChurn.isGenerated("com.sun.proxy.$Proxy123"), "Proxy not identified.");
+        assertTrue(ClassChurn.isGenerated("com.example.Foo$$Lambda$45/0x0000000800c0b440"), "Lambda not identified.");
+        assertTrue(ClassChurn.isGenerated("jdk.internal.reflect.GeneratedMethodAccessor12"),
+                "Reflection accessor not identified.");
+        assertTrue(ClassChurn.isGenerated("com.example.Foo$$EnhancerBySpringCGLIB$$5c3b1e2d"),
+                "CGLIB proxy not identified.");
+        assertTrue(ClassChurn.isGenerated("Script12"), "Groovy script not identified.");
+        assertFalse(ClassChurn.isGenerated("com.example.ScriptRunner"), "Generated incorrectly identified.");
+        assertFalse(ClassChurn.isGenerated("java.util.HashMap$Node"), "Generated incorrectly identified.");
+    }
+
+    @Test
+    void testPrefix() {
+        assertEquals("com.sun.proxy.$Proxy", ClassChurn.getPrefix("com.sun.proxy.$Proxy123"), "Prefix not correct.");
+        assertEquals("com.example.Foo$$Lambda", ClassChurn.getPrefix("com.example.Foo$$Lambda$45/0x0000000800c0b440"),
+                "Prefix not correct.");
+        assertEquals("java.lang.invoke.LambdaForm$DMH",
+                ClassChurn.getPrefix("java.lang.invoke.LambdaForm$DMH+0x0000000801591000"), "Prefix not correct.");
+        assertEquals("com.example.Foo$$EnhancerBySpringCGLIB",
+                ClassChurn.getPrefix("com.example.Foo$$EnhancerBySpringCGLIB$$5c3b1e2d"), "Prefix not correct.");
+        assertEquals("java.util.HashMap$Node", ClassChurn.getPrefix("java.util.HashMap$Node"), "Prefix not correct.");
+    }
+
+    @Test
+    void testRunawayGeneration() {
+        List<ClassesLoadedEvent> classesLoadedEvents = new ArrayList<ClassesLoadedEvent>();
+        classesLoadedEvents.add(new ClassesLoadedEvent("Classes loaded (26 events):"));
+        // start overwritten in the ring buffer
+        classesLoadedEvents.add(new ClassesLoadedEvent("Event: 9.999 Loading class com/example/Foo done"));
+        for (int i = 0; i < 12; i++) {
+            String logEntry = "Event: " + (10 + i) + ".000 Loading class com/sun/proxy/$Proxy" + i;
+            classesLoadedEvents.add(new ClassesLoadedEvent(logEntry));
+            classesLoadedEvents.add(new ClassesLoadedEvent(logEntry + " done"));
+        }
+        List<ClassesUnloadedEvent> classesUnloadedEvents = new ArrayList<ClassesUnloadedEvent>();
+        classesUnloadedEvents.add(new ClassesUnloadedEvent("Event: 12.000 Thread 0x00007f282c2174f0 Unloading class "
+                + "0x0000000801591000 'com/sun/proxy/$Proxy0'"));
+        List<ClassesRedefinedEvent> classesRedefinedEvents = new ArrayList<ClassesRedefinedEvent>();
+        ClassChurn classChurn = new ClassChurn(classesLoadedEvents, classesUnloadedEvents, classesRedefinedEvents,
+                new ArrayList<Event>());
+        assertEquals(13, classChurn.getLoaded(), "Loaded not correct.");
+        assertEquals(12, classChurn.getGenerated(), "Generated not correct.");
+        assertEquals(92, classChurn.getGeneratedPercent(), "Generated percent not correct.");
+        assertEquals(1, classChurn.getUnloaded(), "Unloaded not correct.");
+        assertEquals(12, classChurn.getNetGrowth(), "Net growth not correct.");
+        assertEquals(12, classChurn.getGeneratedPrefixes().get("com.sun.proxy.$Proxy"),
+                "Generated prefix count not correct.");
+        assertTrue(classChurn.isRunawayGeneration(), "Runaway generation not identified.");
+    }
+}
@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -26,6 +27,17 @@ import org.junit.jupiter.api.Test;
  */
 class TestClassesLoadedEvent {
 
+    @Test
+    void testClassName() {
+        ClassesLoadedEvent event = new ClassesLoadedEvent("Event: 0.021 Loading class jdk/internal/vm/PostVMInitHook");
+        assertEquals("jdk.internal.vm.PostVMInitHook", event.getClassName(), "Class name not correct.");
+        assertEquals(21L, event.getTimestamp(), "Timestamp not correct.");
+        assertFalse(event.isDone(), "Done incorrectly identified.");
+        event = new ClassesLoadedEvent("Event: 0.021 Loading class jdk/internal/vm/PostVMInitHook done");
+        assertEquals("jdk.internal.vm.PostVMInitHook", event.getClassName(), "Class name not correct.");
+        assertTrue(event.isDone(), "Done not identified.");
+    }
+
     @Test
     void testIdentity() {
         String logLine = "Classes loaded (13 events):";
@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -25,6 +26,15 @@ import org.junit.jupiter.api.Test;
  */
 class TestClassesRedefinedEvent {
 
+    @Test
+    void testClassName() {
+        ClassesRedefinedEvent event = new ClassesRedefinedEvent("Event: 24.114 Thread 0x0000560e86c09000 redefined "
+                + "class name=org.jboss.modules.Main, count=12");
+        assertEquals("org.jboss.modules.Main", event.getClassName(), "Class name not correct.");
+        assertEquals(12, event.getCount(), "Count not correct.");
+        assertEquals(24114L, event.getTimestamp(), "Timestamp not correct.");
+    }
+
     @Test
     void testHeader() {
         String logLine = "Classes redefined (34 events):";
@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -26,6 +27,15 @@ import org.junit.jupiter.api.Test;
  */
 class TestClassesUnloadedEvent {
 
+    @Test
+    void testClassName() {
+        ClassesUnloadedEvent event = new ClassesUnloadedEvent("Event: 7.661 Thread 0x00007f282c2174f0 Unloading "
+                + "class 0x0000000801591000 'java/lang/invoke/LambdaForm$DMH+0x0000000801591000'");
+        assertEquals("java.lang.invoke.LambdaForm$DMH+0x0000000801591000", event.getClassName(),
+                "Class name not correct.");
+        assertEquals(7661L, event.getTimestamp(), "Timestamp not correct.");
+    }
+
     @Test
     void testIdentity() {
         String logLine = "Classes unloaded (13 events):";
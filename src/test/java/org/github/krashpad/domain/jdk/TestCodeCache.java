@@ -14,6 +14,8 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -25,6 +27,26 @@ import org.junit.jupiter.api.Test;
  */
 class TestCodeCache {
 
+    @Test
+    void testBlobCounts() {
+        String logLine = " total_blobs=29416 nmethods=14571 adapters=913";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals(29416L, event.getTotalBlobs(), "Total blobs not correct.");
+        assertEquals(14571L, event.getNmethods(), "Nmethods not correct.");
+        assertEquals(913L, event.getAdapters(), "Adapters not correct.");
+        assertEquals(Long.MIN_VALUE, event.getSize(), "Size not correct.");
+    }
+
+    @Test
+    void testBlobCountsJdk21() {
+        String logLine = " total_blobs=369, nmethods=13, adapters=263, full_count=2";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals(369L, event.getTotalBlobs(), "Total blobs not correct.");
+        assertEquals(13L, event.getNmethods(), "Nmethods not correct.");
+        assertEquals(263L, event.getAdapters(), "Adapters not correct.");
+        assertEquals(2L, event.getFullCount(), "Full count not correct.");
+    }
+
     @Test
     void testBounds() {
         String logLine = " bounds [0x00007ffb8051b000, 0x00007ffb8b60b000, 0x00007ffb8f51b000]";
@@ -32,6 +54,15 @@ class TestCodeCache {
                 JdkUtil.LogEventType.CODE_CACHE.toString() + " not identified.");
     }
 
+    @Test
+    void testBoundsAddresses() {
+        String logLine = " bounds [0x00007fd56b04b000, 0x00007fd56f43b000, 0x00007fd572d83000]";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals(0x00007fd56b04b000L, event.getBoundsStartAddress(), "Bounds start not correct.");
+        assertEquals(0x00007fd572d83000L, event.getBoundsEndAddress(), "Bounds end not correct.");
+        assertNull(event.getCodeHeapName(), "Code heap name incorrectly identified.");
+    }
+
     @Test
     void testCodeHeap() {
         String logLine = "CodeHeap 'non-profiled nmethods': size=128224Kb used=11542Kb max_used=14409Kb free=116681Kb";
@@ -39,6 +70,15 @@ class TestCodeCache {
                 JdkUtil.LogEventType.CODE_CACHE.toString() + " not identified.");
     }
 
+    @Test
+    void testCodeHeapName() {
+        String logLine = "CodeHeap 'non-profiled nmethods': size=128224Kb used=61967Kb max_used=68737Kb "
+                + "free=66256Kb";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals("non-profiled nmethods", event.getCodeHeapName(), "Code heap name not correct.");
+        assertEquals(Long.MIN_VALUE, event.getBoundsStartAddress(), "Bounds start not correct.");
+    }
+
     @Test
     void testCompilationCapitalC() {
         String logLine = "Compilation: enabled, stopped_count=0, restarted_count=0";
@@ -46,6 +86,14 @@ class TestCodeCache {
                 JdkUtil.LogEventType.CODE_CACHE.toString() + " not identified.");
     }
 
+    @Test
+    void testCompilationDisabled() {
+        String logLine = " compilation: disabled (not enough contiguous free space left)";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals("disabled (not enough contiguous free space left)", event.getCompilation(),
+                "Compilation not correct.");
+    }
+
     @Test
     void testCompilationSmallC() {
         String logLine = " compilation: enabled";
@@ -53,6 +101,15 @@ class TestCodeCache {
                 JdkUtil.LogEventType.CODE_CACHE.toString() + " not identified.");
     }
 
+    @Test
+    void testCompilationStoppedCount() {
+        String logLine = "Compilation: enabled, stopped_count=1, restarted_count=1";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals("enabled", event.getCompilation(), "Compilation not correct.");
+        assertEquals(1L, event.getStoppedCount(), "Stopped count not correct.");
+        assertEquals(1L, event.getRestartedCount(), "Restarted count not correct.");
+    }
+
     @Test
     void testFullCount() {
         String logLine = " full_count=0";
@@ -74,6 +131,28 @@ class TestCodeCache {
                 JdkUtil.LogEventType.CODE_CACHE.toString() + " not parsed.");
     }
 
+    @Test
+    void testSizes() {
+        String logLine = "CodeHeap 'profiled nmethods': size=128220Kb used=38331Kb max_used=45088Kb free=89888Kb";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals(128220L * 1024, event.getSize(), "Size not correct.");
+        assertEquals(38331L * 1024, event.getUsed(), "Used not correct.");
+        assertEquals(45088L * 1024, event.getMaxUsed(), "Max used not correct.");
+        assertEquals(89888L * 1024, event.getFree(), "Free not correct.");
+        assertNull(event.getCompilation(), "Compilation incorrectly identified.");
+    }
+
+    @Test
+    void testSizesJdk21() {
+        String logLine = "CodeCache: size=245760Kb, used=1229Kb, max_used=1229Kb, free=244528Kb";
+        CodeCache event = new CodeCache(logLine);
+        assertEquals(245760L * 1024, event.getSize(), "Size not correct.");
+        assertEquals(1229L * 1024, event.getUsed(), "Used not correct.");
+        assertEquals(1229L * 1024, event.getMaxUsed(), "Max used not correct.");
+        assertEquals(244528L * 1024, event.getFree(), "Free not correct.");
+        assertNull(event.getCodeHeapName(), "Code heap name incorrectly identified.");
+    }
+
     @Test
     void testStoppedCount() {
         String logLine = "              stopped_count=0, restarted_count=0";
@@ -0,0 +1,126 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.CodeCacheSummary.CodeHeap;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCodeCacheSummary {
+
+    @Test
+    void testCompilationDisabled() {
+        List<CodeCache> codeCaches = new ArrayList<CodeCache>();
+        codeCaches.add(new CodeCache("CodeCache: size=49152Kb used=48000Kb max_used=49100Kb free=1152Kb"));
+        codeCaches.add(new CodeCache(" compilation: disabled (not enough contiguous free space left)"));
+        CodeCacheSummary summary = new CodeCacheSummary(codeCaches, new ArrayList<GlobalFlag>());
+        assertTrue(summary.getHeaps().isEmpty(), "Heaps not correct.");
+        assertEquals(49152L * 1024, summary.getTotal().getSize(), "Size not correct.");
+        assertEquals(100, summary.getTotal().getHighWaterPercent(), "High-water percent not correct.");
+        assertTrue(summary.isCompilationDisabled(), "Compilation disabled not identified.");
+        assertTrue(summary.isFull(), "Full not identified.");
+        assertEquals(1, summary.getSaturated().size(), "Saturated not correct.");
+    }
+
+    @Test
+    void testEmpty() {
+        CodeCacheSummary summary = new CodeCacheSummary(new ArrayList<CodeCache>(), new ArrayList<GlobalFlag>());
+        assertNull(summary.getTotal(), "Total incorrectly identified.");
+        assertTrue(summary.getHeaps().isEmpty(), "Heaps not correct.");
+        assertFalse(summary.isFull(), "Full incorrectly identified.");
+        assertTrue(summary.getSaturated().isEmpty(), "Saturated not correct.");
+    }
+
+    @Test
+    void testFlagMismatch() {
+        List<CodeCache> codeCaches = new ArrayList<CodeCache>();
+        codeCaches.add(new CodeCache("CodeHeap 'non-profiled nmethods': size=120064Kb used=28756Kb "
+                + "max_used=28756Kb free=91308Kb"));
+        codeCaches.add(new CodeCache("CodeHeap 'profiled nmethods': size=120000Kb used=86612Kb max_used=87504Kb "
+                + "free=33387Kb"));
+        codeCaches.add(new CodeCache("CodeHeap 'non-nmethods': size=5696Kb used=1638Kb max_used=1702Kb "
+                + "free=4058Kb"));
+        List<GlobalFlag> globalFlags = new ArrayList<GlobalFlag>();
+        globalFlags.add(new GlobalFlag("    uintx NonProfiledCodeHeapSize                  = 122913754"
+                + "                              {pd product} {ergonomic}"));
+        globalFlags.add(new GlobalFlag("    uintx ProfiledCodeHeapSize                     = 67108864"
+                + "                               {pd product} {command line}"));
+        globalFlags.add(new GlobalFlag("    uintx ReservedCodeCacheSize                    = 251658240"
+                + "                              {pd product} {ergonomic}"));
+        CodeCacheSummary summary = new CodeCacheSummary(codeCaches, globalFlags);
+        assertEquals(251658240L, summary.getReservedCodeCacheSize(), "ReservedCodeCacheSize not correct.");
+        assertEquals(1, summary.getFlagMismatches().size(), "Flag mismatch count not correct.");
+        assertEquals("'profiled nmethods' size=120000K ProfiledCodeHeapSize=65536K",
+                summary.getFlagMismatches().get(0), "Flag mismatch not correct.");
+    }
+
+    @Test
+    void testInterpreterMode() {
+        List<CodeCache> codeCaches = new ArrayList<CodeCache>();
+        codeCaches.add(new CodeCache(" compilation: disabled (interpreter mode)"));
+        CodeCacheSummary summary = new CodeCacheSummary(codeCaches, new ArrayList<GlobalFlag>());
+        assertEquals("disabled (interpreter mode)", summary.getCompilation(), "Compilation not correct.");
+        assertFalse(summary.isCompilationDisabled(), "Compilation disabled incorrectly identified.");
+        assertFalse(summary.isFull(), "Full incorrectly identified.");
+    }
+
+    @Test
+    void testSegmented() {
+        List<CodeCache> codeCaches = new ArrayList<CodeCache>();
+        codeCaches.add(new CodeCache("CodeHeap 'non-profiled nmethods': size=128224Kb used=11542Kb "
+                + "max_used=14409Kb free=116681Kb"));
+        codeCaches.add(new CodeCache(" bounds [0x00007fffdfc09000, 0x00007fffe0a29000, 0x00007fffe7941000]"));
+        codeCaches.add(new CodeCache("CodeHeap 'profiled nmethods': size=128220Kb used=38331Kb max_used=45088Kb "
+                + "free=89888Kb"));
+        codeCaches.add(new CodeCache(" bounds [0x00007fffd7ed2000, 0x00007fffdab82000, 0x00007fffdfc09000]"));
+        codeCaches.add(new CodeCache("CodeHeap 'non-nmethods': size=5700Kb used=1496Kb max_used=1524Kb "
+                + "free=4203Kb"));
+        codeCaches.add(new CodeCache(" bounds [0x00007fffd7941000, 0x00007fffd7bb1000, 0x00007fffd7ed2000]"));
+        codeCaches.add(new CodeCache(" total_blobs=29416 nmethods=14571 adapters=913"));
+        codeCaches.add(new CodeCache(" compilation: enabled"));
+        codeCaches.add(new CodeCache("              stopped_count=0, restarted_count=0"));
+        codeCaches.add(new CodeCache(" full_count=0"));
+        List<GlobalFlag> globalFlags = new ArrayList<GlobalFlag>();
+        globalFlags.add(new GlobalFlag("    uintx ReservedCodeCacheSize                    = 268435456"
+                + "                              {pd product} {command line}"));
+        CodeCacheSummary summary = new CodeCacheSummary(codeCaches, globalFlags);
+        assertEquals(3, summary.getHeaps().size(), "Heap count not correct.");
+        CodeHeap profiled = summary.getHeap("profiled nmethods");
+        assertEquals(128220L * 1024, profiled.getSize(), "Size not correct.");
+        assertEquals(30, profiled.getUtilizationPercent(), "Utilization percent not correct.");
+        assertEquals(35, profiled.getHighWaterPercent(), "High-water percent not correct.");
+        assertEquals(262144L * 1024, summary.getTotal().getSize(), "Total size not correct.");
+        assertEquals(29416L, summary.getTotalBlobs(), "Total blobs not correct.");
+        assertEquals(14571L, summary.getNmethods(), "Nmethods not correct.");
+        assertEquals(913L, summary.getAdapters(), "Adapters not correct.");
+        assertEquals("enabled", summary.getCompilation(), "Compilation not correct.");
+        assertEquals(0L, summary.getFullCount(), "Full count not correct.");
+        assertEquals(0L, summary.getStoppedCount(), "Stopped count not correct.");
+        assertTrue(summary.getFlagMismatches().isEmpty(), "Flag mismatches not correct.");
+        assertFalse(summary.isFull(), "Full incorrectly identified.");
+        assertTrue(summary.getSaturated().isEmpty(), "Saturated not correct.");
+    }
+}
@@ -14,6 +14,8 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -39,6 +41,16 @@ class TestCompilationEvent {
                 JdkUtil.LogEventType.COMPILATION_EVENT.toString() + " not identified.");
     }
 
+    @Test
+    void testNmethodFields() {
+        CompilationEvent event = new CompilationEvent("Event: 6606.129 Thread 0x00007ff0ec201800 nmethod 21002 "
+                + "0x00007ff0e04fd110 code [0x00007ff0e04fd360, 0x00007ff0e04fe1d0]");
+        assertTrue(event.isNmethod(), "Nmethod not identified.");
+        assertFalse(event.isTask(), "Task incorrectly identified.");
+        assertEquals(21002, event.getCompileId(), "Compile id not correct.");
+        assertEquals(6606129L, event.getTimestamp(), "Timestamp not correct.");
+    }
+
     @Test
     void testNoEvents() {
         String priorLogLine = "Compilation events (250 events):";
@@ -68,6 +80,37 @@ class TestCompilationEvent {
                 JdkUtil.LogEventType.COMPILATION_EVENT.toString() + " not parsed.");
     }
 
+    @Test
+    void testTaskFields() {
+        CompilationEvent event = new CompilationEvent("Event: 6606.129 Thread 0x00007ff0ec201800 20997   !   4       "
+                + "org.eclipse.emf.ecore.xmi.impl.StringSegment::add (297 bytes)");
+        assertTrue(event.isTask(), "Task not identified.");
+        assertEquals(20997, event.getCompileId(), "Compile id not correct.");
+        assertEquals(4, event.getTier(), "Tier not correct.");
+        assertFalse(event.isOsr(), "OSR incorrectly identified.");
+        assertEquals("org.eclipse.emf.ecore.xmi.impl.StringSegment::add", event.getMethod(), "Method not correct.");
+        assertEquals(297, event.getSize(), "Size not correct.");
+    }
+
+    @Test
+    void testTaskNotTieredFields() {
+        CompilationEvent event = new CompilationEvent("Event: 0.117 Thread 0x00007fffa4128800    1             "
+                + "java.lang.String::hashCode (55 bytes)");
+        assertEquals(1, event.getCompileId(), "Compile id not correct.");
+        assertEquals(-1, event.getTier(), "Tier not correct.");
+        assertEquals("java.lang.String::hashCode", event.getMethod(), "Method not correct.");
+    }
+
+    @Test
+    void testTaskOsrFields() {
+        CompilationEvent event = new CompilationEvent("Event: 28.210 Thread 0x00007f7a302ba800 4452 %     3       "
+                + "oracle.sql.LnxLibThin::lnxnuc @ 45 (1930 bytes)");
+        assertTrue(event.isOsr(), "OSR not identified.");
+        assertEquals(3, event.getTier(), "Tier not correct.");
+        assertEquals("oracle.sql.LnxLibThin::lnxnuc", event.getMethod(), "Method not correct.");
+        assertEquals(1930, event.getSize(), "Size not correct.");
+    }
+
     @Test
     void testTruncatedLine() {
         String priorLogLine = "Compilation events (250 events):";
@@ -0,0 +1,80 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCompilationStatistics {
+
+    @Test
+    void testDeoptimizationLoop() {
+        List<DeoptimizationEvent> deoptimizationEvents = new ArrayList<DeoptimizationEvent>();
+        deoptimizationEvents.add(new DeoptimizationEvent("Deoptimization events (5 events):"));
+        for (int i = 0; i < 4; i++) {
+            deoptimizationEvents.add(new DeoptimizationEvent("Event: 10.00" + i + " Thread 0x00007ff0ec053800 "
+                    + "Uncommon trap: reason=class_check action=maybe_recompile pc=0x00007ff0dd93860c "
+                    + "method=com.example.Foo.bar(I)V @ 5 c2"));
+        }
+        deoptimizationEvents.add(new DeoptimizationEvent("Event: 12.000 Thread 0x00007ff0ec053800 Uncommon "
+                + "trap: reason=unstable_if action=reinterpret pc=0x00007ff0dd93860c "
+                + "method=com.example.Foo.baz()V @ 1"));
+        CompilationStatistics statistics = new CompilationStatistics(new ArrayList<CompilationEvent>(),
+                deoptimizationEvents);
+        assertEquals(5, statistics.getDeoptimizations(), "Deoptimization count not correct.");
+        assertEquals(5, statistics.getUncommonTraps(), "Uncommon trap count not correct.");
+        assertEquals(4, statistics.getMaxDeoptimizationRate(), "Max deoptimization rate not correct.");
+        assertEquals(4, statistics.getReasons().get("class_check"), "class_check count not correct.");
+        assertEquals(1, statistics.getThrashMethods().size(), "Thrash method count not correct.");
+        assertEquals("com.example.Foo::bar (compiled 0x, deoptimized 4x)", statistics.getThrashMethods().get(0),
+                "Thrash method not correct.");
+    }
+
+    @Test
+    void testRecompilationThrash() {
+        List<CompilationEvent> compilationEvents = new ArrayList<CompilationEvent>();
+        for (int i = 0; i < 4; i++) {
+            compilationEvents.add(new CompilationEvent("Event: " + (i * 2) + ".000 Thread 0x00007ff0ec201800 "
+                    + (100 + i) + "       4       com.example.Foo::bar (20 bytes)"));
+            compilationEvents.add(new CompilationEvent("Event: " + (i * 2) + ".001 Thread 0x00007ff0ec201800 "
+                    + "nmethod " + (100 + i) + " 0x00007ff0e04fd110 code [0x00007ff0e04fd360, 0x00007ff0e04fe1d0]"));
+        }
+        compilationEvents.add(new CompilationEvent("Event: 9.000 Thread 0x00007ff0ec201800 200 %     3       "
+                + "com.example.Foo::baz @ 4 (50 bytes)"));
+        CompilationStatistics statistics = new CompilationStatistics(compilationEvents,
+                new ArrayList<DeoptimizationEvent>());
+        assertEquals(5, statistics.getCompilations(), "Compilation count not correct.");
+        assertEquals(1, statistics.getOsrCompilations(), "OSR compilation count not correct.");
+        assertEquals(4, statistics.getTierCompilations(4), "Tier 4 compilation count not correct.");
+        assertEquals(1, statistics.getTierCompilations(3), "Tier 3 compilation count not correct.");
+        assertEquals(1, statistics.getMaxCompilationRate(), "Max compilation rate not correct.");
+        assertEquals("com.example.Foo::bar", statistics.getTopMethods(1).keySet().iterator().next(),
+                "Top method not correct.");
+        assertEquals(1, statistics.getTopMethods(1).size(), "Top method count not correct.");
+        assertEquals("com.example.Foo::bar (compiled 4x, deoptimized 0x)", statistics.getThrashMethods().get(0),
+                "Thrash method not correct.");
+        assertTrue(new CompilationStatistics(compilationEvents.subList(0, 6), new ArrayList<DeoptimizationEvent>())
+                .getThrashMethods().isEmpty(), "Thrash method incorrectly identified.");
+    }
+}
@@ -14,6 +14,9 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -37,6 +40,16 @@ class TestDeoptimizationEvent {
     /**
      * TODO: Does this error apply to multiple events and should be moved to a dedicated ErrorEvent?
      */
+    @Test
+    void testDeoptPackingFields() {
+        DeoptimizationEvent event = new DeoptimizationEvent("Event: 624.202 Thread 0x00007ffff0017800 DEOPT PACKING "
+                + "pc=0x00007fffe0a0cbc8 sp=0x00007ffff7fbd1e0");
+        assertFalse(event.isUncommonTrap(), "Uncommon trap incorrectly identified.");
+        assertEquals(624202L, event.getTimestamp(), "Timestamp not correct.");
+        assertEquals(0x00007fffe0a0cbc8L, event.getPc(), "Pc not correct.");
+        assertNull(event.getMethod(), "Method not correct.");
+    }
+
     @Test
     void testError() {
         DeoptimizationEvent priorLogEvent = new DeoptimizationEvent("Deoptimization events (250 events):");
@@ -101,4 +114,28 @@ class TestDeoptimizationEvent {
                 JdkUtil.LogEventType.DEOPTIMIZATION_EVENT.toString() + " not parsed.");
     }
 
+    @Test
+    void testUncommonTrapFields() {
+        DeoptimizationEvent event = new DeoptimizationEvent("Event: 883057.857 Thread 0x00007f2ff01d3800 Uncommon "
+                + "trap: reason=null_check action=make_not_entrant pc=0x00007f300362b938 "
+                + "method=java.lang.Class.reflectionData()Ljava/lang/Class$ReflectionData; @ 24");
+        assertTrue(event.isUncommonTrap(), "Uncommon trap not identified.");
+        assertEquals(883057857L, event.getTimestamp(), "Timestamp not correct.");
+        assertEquals("null_check", event.getReason(), "Reason not correct.");
+        assertEquals("make_not_entrant", event.getAction(), "Action not correct.");
+        assertEquals(0x00007f300362b938L, event.getPc(), "Pc not correct.");
+        assertEquals("java.lang.Class::reflectionData", event.getMethod(), "Method not correct.");
+        assertEquals(24, event.getBci(), "Bci not correct.");
+    }
+
+    @Test
+    void testUncommonTrapTruncatedFields() {
+        DeoptimizationEvent event = new DeoptimizationEvent("Event: 11472.558 Thread 0x000001c15e652000 Uncommon "
+                + "trap: reason=unstable_if action=reinterpret pc=0x000001c149964be8 method=org.springframework.core."
+                + "annotation.AnnotationsScanner.isWithoutHierarchy(Ljava/lang/reflect/AnnotatedElement;Lorg/spr");
+        assertTrue(event.isUncommonTrap(), "Uncommon trap not identified.");
+        assertEquals("org.springframework.core.annotation.AnnotationsScanner::isWithoutHierarchy", event.getMethod(),
+                "Method not correct.");
+        assertEquals(-1, event.getBci(), "Bci not correct.");
+    }
 }
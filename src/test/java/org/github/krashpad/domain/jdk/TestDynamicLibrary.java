@@ -32,6 +32,17 @@ import org.junit.jupiter.api.Test;
  */
 class TestDynamicLibrary {
 
+    @Test
+    void testAddresses() {
+        String logLine = "7fd57d654000-7fd57e824000 r-xp 00000000 fd:02 571545                     "
+                + "/usr/lib/jvm/java-11-openjdk-11.0.6.10-0.el8_1.x86_64/lib/server/libjvm.so";
+        DynamicLibrary event = new DynamicLibrary(logLine);
+        assertEquals(0x7fd57d654000L, event.getStartAddress(), "Start address not correct.");
+        assertEquals(0x7fd57e824000L, event.getEndAddress(), "End address not correct.");
+        event = new DynamicLibrary("Dynamic libraries:");
+        assertEquals(Long.MIN_VALUE, event.getStartAddress(), "Start address not correct.");
+    }
+
     @Test
     void testAnonHugepageDeleted() {
         DynamicLibrary priorLogEvent = new DynamicLibrary(null);
@@ -21,11 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.github.joa.domain.Arch;
 import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.Os;
 import org.github.krashpad.domain.LogEvent;
+import org.github.krashpad.domain.jdk.InternalExceptionStatistics.HeavyHitter;
 import org.github.krashpad.service.Manager;
 import org.github.krashpad.util.Constants;
 import org.github.krashpad.util.Constants.Device;
@@ -38,6 +45,7 @@ import org.github.krashpad.util.jdk.JdkUtil.Application;
 import org.github.krashpad.util.jdk.JdkUtil.CompressedOopMode;
 import org.github.krashpad.util.jdk.JdkUtil.JavaSpecification;
 import org.github.krashpad.util.jdk.JdkUtil.JavaVendor;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -153,6 +161,51 @@ class TestFatalErrorLog {
         assertEquals(JavaVendor.RED_HAT, fel.getJavaVendor(), "JDK vendor not correct.");
     }
 
+    @Test
+    void testCgroupMemorySaturated() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset47.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        MemoryLedger memoryLedger = fel.getMemoryLedger();
+        assertEquals(4294967296L, memoryLedger.getCgroupMemoryLimit(), "Cgroup memory limit not correct.");
+        assertEquals(4282966016L, memoryLedger.getCgroupMemoryUsage(), "Cgroup memory usage not correct.");
+        assertTrue(memoryLedger.isCgroupMemorySaturated(), "Cgroup memory saturated not identified.");
+        assertTrue(fel.hasAnalysis(Analysis.WARN_CGROUP_MEMORY_SATURATED.getKey()),
+                Analysis.WARN_CGROUP_MEMORY_SATURATED + " analysis not identified.");
+        assertTrue(memoryLedger == fel.getMemoryLedger(), "Memory ledger not cached.");
+    }
+
+    @Test
+    void testClassChurn() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset95.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        ClassChurn classChurn = fel.getClassChurn();
+        assertEquals(11, classChurn.getLoaded(), "Loaded not correct.");
+        assertEquals(0, classChurn.getUnloaded(), "Unloaded not correct.");
+        assertEquals(11, classChurn.getNetGrowth(), "Net growth not correct.");
+        assertEquals(3, classChurn.getPrefixes().get("java.util.stream.SliceOps"), "Prefix count not correct.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_CLASS_GENERATION.getKey()),
+                Analysis.WARN_CLASS_GENERATION + " analysis incorrectly identified.");
+        assertTrue(classChurn == fel.getClassChurn(), "Class churn not cached.");
+    }
+
+    @Test
+    void testCodeCacheSaturated() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset78.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        CodeCacheSummary summary = fel.getCodeCacheSummary();
+        assertTrue(summary.getHeaps().isEmpty(), "Heaps not correct.");
+        assertEquals(98, summary.getTotal().getHighWaterPercent(), "High-water percent not correct.");
+        assertEquals(95, summary.getTotal().getUtilizationPercent(), "Utilization percent not correct.");
+        assertEquals("enabled", summary.getCompilation(), "Compilation not correct.");
+        assertTrue(fel.hasAnalysis(Analysis.WARN_CODE_CACHE_SATURATED.getKey()),
+                Analysis.WARN_CODE_CACHE_SATURATED + " analysis not identified.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_CODE_CACHE_FULL.getKey()),
+                Analysis.WARN_CODE_CACHE_FULL + " analysis incorrectly identified.");
+    }
+
     @Test
     void testCodeCacheSizeSegmented() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -165,6 +218,23 @@ class TestFatalErrorLog {
         assertEquals(codeCacheSize, fel.getJvmMemoryCodeCacheReserved(), "Code cache reserved not correct.");
     }
 
+    @Test
+    void testCodeCacheSummary() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        CodeCacheSummary summary = fel.getCodeCacheSummary();
+        assertEquals(3, summary.getHeaps().size(), "Heap count not correct.");
+        assertEquals(35, summary.getHeap("profiled nmethods").getHighWaterPercent(),
+                "High-water percent not correct.");
+        assertEquals(268435456L, summary.getReservedCodeCacheSize(), "ReservedCodeCacheSize not correct.");
+        assertEquals(268435456L, summary.getTotal().getSize(), "Total size not correct.");
+        assertTrue(summary.getFlagMismatches().isEmpty(), "Flag mismatches not correct.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_CODE_CACHE_SATURATED.getKey()),
+                Analysis.WARN_CODE_CACHE_SATURATED + " analysis incorrectly identified.");
+        assertTrue(summary == fel.getCodeCacheSummary(), "Code cache summary not cached.");
+    }
+
     @Test
     void testCollectorNoData() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -187,6 +257,23 @@ class TestFatalErrorLog {
         assertTrue(fel.getGarbageCollectors().contains(GarbageCollector.UNKNOWN), "Garbage collector not correct.");
     }
 
+    @Test
+    void testCompilationStatistics() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset80.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        CompilationStatistics statistics = fel.getCompilationStatistics();
+        assertEquals(5, statistics.getCompilations(), "Compilation count not correct.");
+        assertEquals(10, statistics.getDeoptimizations(), "Deoptimization count not correct.");
+        assertEquals(10, statistics.getUncommonTraps(), "Uncommon trap count not correct.");
+        assertEquals(4, statistics.getReasons().get("class_check"), "class_check count not correct.");
+        assertEquals("com.sun.crypto.provider.CipherCore::update (compiled 0x, deoptimized 4x)",
+                statistics.getThrashMethods().get(0), "Thrash method not correct.");
+        assertTrue(fel.hasAnalysis(Analysis.WARN_COMPILATION_THRASH.getKey()),
+                Analysis.WARN_COMPILATION_THRASH + " analysis not identified.");
+        assertTrue(statistics == fel.getCompilationStatistics(), "Compilation statistics not cached.");
+    }
+
     @Test
     void testCompiledFrameWithPercent() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -656,6 +743,94 @@ class TestFatalErrorLog {
                 Analysis.ERROR_OOME_RLIMIT + " analysis not identified.");
     }
 
+    @Test
+    void testFingerprint() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset60.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        assertEquals("SIGSEGV: V libjvm:G1ParScanThreadState::copy_to_survivor_space < V libjvm:"
+                + "G1ParScanThreadState::trim_queue < V libjvm:G1ParEvacuateFollowersClosure::do_void",
+                fel.getFingerprint(), "Fingerprint not correct.");
+        assertEquals("UNKNOWN", new FatalErrorLog().getFingerprint(), "Empty fingerprint not correct.");
+    }
+
+    @Test
+    void testFreeze() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset84.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile, false, true);
+        assertTrue(fel.isFrozen(), "Fatal error log not frozen.");
+        assertTrue(fel.getJarInventory() == fel.getJarInventory(), "Jar inventory not cached.");
+        assertTrue(fel.getMemoryLedger() == fel.getMemoryLedger(), "Memory ledger not cached.");
+        assertTrue(fel.getTimeline() == fel.getTimeline(), "Timeline not cached.");
+        int analysisSize = fel.getAnalysis().size();
+        boolean addAnalysisRejected = false;
+        try {
+            fel.addAnalysis(Analysis.ERROR_LIBJVM_SO);
+        } catch (UnsupportedOperationException e) {
+            addAnalysisRejected = true;
+        }
+        assertTrue(addAnalysisRejected, "Analysis added to frozen fatal error log.");
+        assertEquals(analysisSize, fel.getAnalysis().size(), "Analysis size not correct.");
+        boolean removeEventRejected = false;
+        try {
+            fel.getHeaders().clear();
+        } catch (UnsupportedOperationException e) {
+            removeEventRejected = true;
+        }
+        assertTrue(removeEventRejected, "Events removed from frozen fatal error log.");
+        boolean setterRejected = false;
+        try {
+            fel.setTriage(true);
+        } catch (UnsupportedOperationException e) {
+            setterRejected = true;
+        }
+        assertTrue(setterRejected, "Frozen fatal error log modified.");
+        boolean summaryRejected = false;
+        try {
+            fel.getHeapRegionsSummary().add("|   0|0x0000000700000000, 0x0000000700100000, 0x0000000700100000|100%"
+                    + "| O|  |TAMS 0x0000000700100000| PB 0x0000000700000000| Untracked ");
+        } catch (UnsupportedOperationException e) {
+            summaryRejected = true;
+        }
+        assertTrue(summaryRejected, "Frozen heap regions summary modified.");
+        summaryRejected = false;
+        try {
+            fel.getZgcPageTableSummary()
+                    .add("Small   0x0000000000000000 0x0000000000200000 0x0000000000200000  Allocating");
+        } catch (UnsupportedOperationException e) {
+            summaryRejected = true;
+        }
+        assertTrue(summaryRejected, "Frozen ZGC page table summary modified.");
+        assertFalse(new Manager().parse(testFile).isFrozen(), "Fatal error log incorrectly frozen.");
+    }
+
+    @Test
+    void testFreezeThreads() throws Exception {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset84.txt");
+        Manager manager = new Manager();
+        final FatalErrorLog fel = manager.parse(testFile, false, true);
+        final int analysisSize = fel.getAnalysis().size();
+        final int jars = fel.getJarInventory().size();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() {
+                        return fel.getAnalysis().size() == analysisSize && fel.getJarInventory().size() == jars
+                                && fel.getTimeline().size() > 0;
+                    }
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(), "Frozen fatal error log not consistent between threads.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testG1() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
@@ -757,6 +932,22 @@ class TestFatalErrorLog {
                 Analysis.INFO_JDK_ANCIENT + " not correct.");
     }
 
+    @Test
+    void testGlobalFlagIndex() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset32.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        GlobalFlagIndex index = fel.getGlobalFlagIndex();
+        assertEquals(22, index.size(), "Flag count not correct.");
+        assertEquals(12884901888L, index.getLongValue("MaxHeapSize"), "MaxHeapSize not correct.");
+        assertEquals(GlobalFlag.Origin.COMMAND_LINE, index.getFlag("ThreadStackSize").getOrigin(),
+                "ThreadStackSize origin not correct.");
+        assertTrue(index.getFlag("ReservedCodeCacheSize") == fel.getGlobalFlag("ReservedCodeCacheSize"),
+                "ReservedCodeCacheSize not indexed.");
+        assertTrue(index.isEnabled("UseG1GC"), "UseG1GC not identified.");
+        assertTrue(index == fel.getGlobalFlagIndex(), "Global flag index not cached.");
+    }
+
     @Test
     void testGraal() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -864,6 +1055,20 @@ class TestFatalErrorLog {
         assertEquals(0, fel.getNativeLibrariesUnknown().size(), "Native library unknown count not correct.");
     }
 
+    @Test
+    void testHeapRegionsSummary() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset90.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        HeapRegionsSummary summary = fel.getHeapRegionsSummary();
+        assertEquals(126, summary.getRegions(), "Region count not correct.");
+        assertEquals(124, summary.getCount(HeapRegionsSummary.RegionType.FREE), "Free region count not correct.");
+        assertEquals(1510072, summary.getUsed(HeapRegionsSummary.RegionType.EDEN), "Eden used not correct.");
+        assertEquals(124, summary.getLongestFreeRunRegions(), "Longest free run regions not correct.");
+        assertEquals(520093696, summary.getLongestFreeRunBytes(), "Longest free run bytes not correct.");
+        assertEquals(0, summary.getUnidentifiedRows(), "Unidentified rows not correct.");
+    }
+
     @Test
     void testHugepagesize() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -939,6 +1144,41 @@ class TestFatalErrorLog {
         assertTrue(fel.haveJdkDebugSymbols(), "Debugging symbols incorrectly identified.");
     }
 
+    @Test
+    void testInternalExceptionStatistics() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset29.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        InternalExceptionStatistics statistics = fel.getInternalExceptionStatistics();
+        assertEquals(10, statistics.getTotal(), "Total not correct.");
+        assertEquals(8, statistics.getExceptions().get("java.lang.ClassNotFoundException"),
+                "ClassNotFoundException count not correct.");
+        HeavyHitter heavyHitter = statistics.getHeavyHitters(1).get(0);
+        assertEquals("java.lang.ClassNotFoundException", heavyHitter.getException(), "Exception not correct.");
+        assertEquals("systemDictionary.cpp:210", heavyHitter.getLocation(), "Location not correct.");
+        assertEquals(8, heavyHitter.getCount(), "Count not correct.");
+        assertEquals(978077147L, heavyHitter.getFirst(), "First not correct.");
+        assertEquals(978077149L, heavyHitter.getLast(), "Last not correct.");
+        assertEquals(4000.0, heavyHitter.getRate(), "Rate not correct.");
+        assertEquals(3, statistics.getHeavyHitters(5).size(), "Heavy hitter count not correct.");
+        assertTrue(statistics == fel.getInternalExceptionStatistics(), "Internal exception statistics not cached.");
+    }
+
+    @Test
+    void testJarInventory() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset84.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        JarInventory jarInventory = fel.getJarInventory();
+        assertEquals(61, jarInventory.size(), "Jar count not correct.");
+        assertEquals(jarInventory.size(), fel.getJars().size(), "Jar list size not correct.");
+        assertEquals("3.11.13", jarInventory.getJars("apache-cassandra").get(0).getVersion(),
+                "apache-cassandra version not correct.");
+        assertTrue(jarInventory.getConflicts().isEmpty(), "Conflicts incorrectly identified.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_JAR_VERSION_CONFLICT.getKey()),
+                Analysis.WARN_JAR_VERSION_CONFLICT + " analysis incorrectly identified.");
+    }
+
     @Test
     void testJavaThreadCount() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset26.txt");
@@ -1292,6 +1532,21 @@ class TestFatalErrorLog {
         assertEquals(committedAs, fel.getOsCommitLimitUsed(), "Committed_AS not correct.");
     }
 
+    @Test
+    void testMemoryLedger() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset31.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        MemoryLedger memoryLedger = fel.getMemoryLedger();
+        assertTrue(memoryLedger.isCgroupLimited(), "Cgroup limit not identified.");
+        assertEquals(8589934592L, memoryLedger.getCgroupMemoryLimit(), "Cgroup memory limit not correct.");
+        assertEquals(84, memoryLedger.getCgroupMemoryUsagePercent(), "Cgroup memory usage percent not correct.");
+        assertEquals(fel.getJvmMemoryHeapUsed(), memoryLedger.getHeapUsed(), "Heap used not correct.");
+        assertEquals(fel.getOsMemoryTotal(), memoryLedger.getMemTotal(), "MemTotal not correct.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_CGROUP_MEMORY_SATURATED.getKey()),
+                Analysis.WARN_CGROUP_MEMORY_SATURATED + " analysis incorrectly identified.");
+    }
+
     @Test
     void testMemoryWindows() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset80.txt");
@@ -1374,6 +1629,65 @@ class TestFatalErrorLog {
                 Analysis.ERROR_OOME_WLIMIT_PAGE_FILE_STARTUP + " analysis not identified.");
     }
 
+    @Test
+    void testNativeMemoryTrackingDiff() {
+        FatalErrorLog baseline = new FatalErrorLog();
+        baseline.getNativeMemoryTrackings().add(new NativeMemoryTracking("Native Memory Tracking:"));
+        baseline.getNativeMemoryTrackings()
+                .add(new NativeMemoryTracking("Total: reserved=1100KB, committed=600KB"));
+        baseline.getNativeMemoryTrackings()
+                .add(new NativeMemoryTracking("-                     Class (reserved=1000KB, committed=500KB)"));
+        baseline.getNativeMemoryTrackings()
+                .add(new NativeMemoryTracking("                            (malloc=100KB #10)"));
+        baseline.getNativeMemoryTrackings()
+                .add(new NativeMemoryTracking("-                        GC (reserved=100KB, committed=100KB)"));
+        FatalErrorLog fel = new FatalErrorLog();
+        fel.getNativeMemoryTrackings().add(new NativeMemoryTracking("Native Memory Tracking:"));
+        fel.getNativeMemoryTrackings().add(new NativeMemoryTracking("Total: reserved=1400KB, committed=950KB"));
+        fel.getNativeMemoryTrackings()
+                .add(new NativeMemoryTracking("-                     Class (reserved=1300KB, committed=900KB)"));
+        fel.getNativeMemoryTrackings().add(new NativeMemoryTracking("                            (malloc=400KB #40)"));
+        fel.getNativeMemoryTrackings()
+                .add(new NativeMemoryTracking("-                  Internal (reserved=50KB, committed=50KB)"));
+        List<NativeMemoryTrackingSummary> diff = fel.getNativeMemoryTrackingDiff(baseline);
+        assertEquals(3, diff.size(), "NMT diff category count not correct.");
+        assertEquals("Class", diff.get(0).getCategory(), "NMT diff largest growth not correct.");
+        assertEquals(300, diff.get(0).getReserved(), "NMT diff reserved not correct.");
+        assertEquals(400, diff.get(0).getCommitted(), "NMT diff committed not correct.");
+        assertEquals(300, diff.get(0).getMallocSize(), "NMT diff malloc not correct.");
+        assertEquals(30, diff.get(0).getMallocCount(), "NMT diff malloc count not correct.");
+        assertEquals("Internal", diff.get(1).getCategory(), "NMT diff new category not correct.");
+        assertEquals(50, diff.get(1).getCommitted(), "NMT diff new category committed not correct.");
+        assertEquals("GC", diff.get(2).getCategory(), "NMT diff removed category not correct.");
+        assertEquals(-100, diff.get(2).getCommitted(), "NMT diff removed category committed not correct.");
+    }
+
+    @Test
+    void testNativeMemoryTrackingSummaries() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset26.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        assertEquals(2659951, fel.getNativeMemoryTrackingTotalReserved(), "NMT total reserved not correct.");
+        assertEquals(1438171, fel.getNativeMemoryTrackingTotalCommitted(), "NMT total committed not correct.");
+        List<NativeMemoryTrackingSummary> summaries = fel.getNativeMemoryTrackingSummaries();
+        assertEquals(10, summaries.size(), "NMT category count not correct.");
+        assertEquals("Java Heap", summaries.get(0).getCategory(), "NMT largest category not correct.");
+        NativeMemoryTrackingSummary classSummary = summaries.get(1);
+        assertEquals("Class", classSummary.getCategory(), "NMT category not correct.");
+        assertEquals(1192802, classSummary.getReserved(), "NMT reserved not correct.");
+        assertEquals(165050, classSummary.getCommitted(), "NMT committed not correct.");
+        assertEquals(9058, classSummary.getMallocSize(), "NMT malloc not correct.");
+        assertEquals(47580, classSummary.getMallocCount(), "NMT malloc count not correct.");
+        assertEquals(1183744, classSummary.getMmapReserved(), "NMT mmap reserved not correct.");
+        assertEquals(155992, classSummary.getMmapCommitted(), "NMT mmap committed not correct.");
+        NativeMemoryTrackingSummary threadSummary = summaries.get(4);
+        assertEquals("Thread", threadSummary.getCategory(), "NMT category not correct.");
+        assertEquals(42336, threadSummary.getMmapCommitted(), "NMT thread stack committed not correct.");
+        assertEquals(82, threadSummary.getArenaSize(), "NMT arena not correct.");
+        assertEquals(83, threadSummary.getArenaCount(), "NMT arena count not correct.");
+        assertTrue(summaries == fel.getNativeMemoryTrackingSummaries(), "NMT summaries not cached.");
+    }
+
     @Test
     void testNoCompressedOops() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -2093,6 +2407,22 @@ class TestFatalErrorLog {
                 Analysis.INFO_VM_OPERATION_THREAD_DUMP + " analysis not identified.");
     }
 
+    @Test
+    void testThreadInventory() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset45.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        ThreadInventory threadInventory = fel.getThreadInventory();
+        assertEquals(33, threadInventory.getThreadCount(), "Thread count not correct.");
+        assertEquals(14, threadInventory.getKinds().get("JavaThread"), "JavaThread count not correct.");
+        assertEquals("JavaThread", threadInventory.getKinds().keySet().iterator().next(), "Top kind not correct.");
+        assertEquals(8, threadInventory.getThreads("GCTaskThread").size(), "GCTaskThread count not correct.");
+        assertEquals(12, threadInventory.getStates().get("_thread_blocked"), "Blocked count not correct.");
+        assertEquals(8, threadInventory.getNamePrefixes().get("GC Thread"), "Name prefix count not correct.");
+        assertEquals(34660352, threadInventory.getStackReserved(), "Stack reserved not correct.");
+        assertTrue(threadInventory == fel.getThreadInventory(), "Thread inventory not cached.");
+    }
+
     @Test
     void testThreadStackSize() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -2115,6 +2445,68 @@ class TestFatalErrorLog {
         assertEquals(0, fel.getThreadStackSize(), "Thread stack size not correct.");
     }
 
+    @Test
+    void testTimeline() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset45.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        Timeline timeline = fel.getTimeline();
+        for (int i = 1; i < timeline.size(); i++) {
+            assertTrue(timeline.getTimestamp(i - 1) <= timeline.getTimestamp(i), "Timeline not in time order.");
+        }
+        assertEquals(1409563637L, timeline.getTimestamp(timeline.size() - 1), "Last timestamp not correct.");
+        assertEquals(LogEventType.EVENT, timeline.getEvent(timeline.size() - 1).getEventType(),
+                "Last event type not correct.");
+        assertEquals(fel.getCrashDate().getTime() - fel.getUptime() + 1409563637L,
+                timeline.getWallClock(timeline.size() - 1), "Wall clock not correct.");
+        List<LogEvent> window = fel.getTimelineBeforeCrash(10);
+        assertEquals(6, window.size(), "Window event count not correct.");
+        assertEquals(LogEventType.DEOPTIMIZATION_EVENT, window.get(0).getEventType(),
+                "Window first event type not correct.");
+        assertEquals(22, fel.getTimelineBeforeCrash(11).size(), "Window event count not correct.");
+        assertTrue(timeline == fel.getTimeline(), "Timeline not cached.");
+    }
+
+    @Test
+    void testTriage() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset45.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile, true);
+        assertTrue(fel.isTriage(), "Triage mode not identified.");
+        assertEquals("11.0.6+10-LTS", fel.getJdkReleaseString(), "JDK release not correct.");
+        assertEquals("V  [libjvm.so+0xbf6d0d]  os::PlatformEvent::unpark()+0xd", fel.getStackFrameTop(),
+                "Top stack frame not correct.");
+        assertNotNull(fel.getSigInfo(), "SigInfo not parsed.");
+        assertNull(fel.getVmInfo(), "VmInfo incorrectly parsed.");
+        assertTrue(fel.getDynamicLibraries().isEmpty(), "Dynamic libraries incorrectly parsed.");
+        assertTrue(fel.hasAnalysis(Analysis.INFO_TRIAGE.getKey()),
+                Analysis.INFO_TRIAGE + " analysis not identified.");
+        assertFalse(fel.hasAnalysis(Analysis.INFO_TRUNCATED.getKey()),
+                Analysis.INFO_TRUNCATED + " analysis incorrectly identified.");
+        // jvm_args, vm_info, and the OS are not read, so they must not be reported as unknown or not RH
+        fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset83.txt"), true);
+        assertFalse(fel.hasAnalysis(Analysis.INFO_OPTS_UNKNOWN.getKey()),
+                Analysis.INFO_OPTS_UNKNOWN + " analysis incorrectly identified.");
+        assertFalse(fel.hasAnalysis(Analysis.INFO_RH_BUILD_NOT.getKey()),
+                Analysis.INFO_RH_BUILD_NOT + " analysis incorrectly identified.");
+        // Memory, limits, and the end of the log are not read, so the OOME must not be blamed on a resource limit or
+        // on truncation
+        fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset41.txt"), true);
+        assertTrue(fel.hasAnalysis(Analysis.ERROR_OOME.getKey()), Analysis.ERROR_OOME + " analysis not identified.");
+        assertFalse(fel.hasAnalysis(Analysis.ERROR_OOME_RLIMIT_STARTUP.getKey()),
+                Analysis.ERROR_OOME_RLIMIT_STARTUP + " analysis incorrectly identified.");
+        fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset57.txt"), true);
+        assertFalse(fel.hasAnalysis(Analysis.ERROR_OOME_OOPS.getKey()),
+                Analysis.ERROR_OOME_OOPS + " analysis incorrectly identified.");
+        // The thread stack size and GC log rotation options are not read
+        fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset35.txt"), true);
+        assertFalse(fel.hasAnalysis(Analysis.INFO_STACK_FREESPACE_GT_STACK_SIZE.getKey()),
+                Analysis.INFO_STACK_FREESPACE_GT_STACK_SIZE + " analysis incorrectly identified.");
+        fel = new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset78.txt"), true);
+        assertFalse(fel.hasAnalysis(Analysis.ERROR_JDK8_LIBC_CFREE.getKey()),
+                Analysis.ERROR_JDK8_LIBC_CFREE + " analysis incorrectly identified.");
+    }
+
     @Test
     void testTruncated() {
         FatalErrorLog fel = new FatalErrorLog();
@@ -2263,6 +2655,23 @@ class TestFatalErrorLog {
         assertEquals(JavaVendor.ORACLE, fel.getJavaVendor(), "JDK vendor not correct.");
     }
 
+    @Test
+    void testVmOperationStatistics() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset97.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        VmOperationStatistics statistics = fel.getVmOperationStatistics();
+        assertEquals(10, statistics.getPairedCount(), "Paired count not correct.");
+        assertEquals(1, statistics.getPercentile(50), "p50 not correct.");
+        assertEquals(26, statistics.getMax(), "Max not correct.");
+        assertEquals(8, statistics.getCounts().get("GetAllStackTraces"), "GetAllStackTraces count not correct.");
+        assertEquals(33, statistics.getTotalDuration(), "Total duration not correct.");
+        assertTrue(statistics.getLongBeforeCrash().isEmpty(), "Long before crash not correct.");
+        assertFalse(fel.hasAnalysis(Analysis.WARN_VM_OPERATION_LONG_BEFORE_CRASH.getKey()),
+                Analysis.WARN_VM_OPERATION_LONG_BEFORE_CRASH + " analysis incorrectly identified.");
+        assertTrue(statistics == fel.getVmOperationStatistics(), "VM operation statistics not cached.");
+    }
+
     @Test
     void testVmOperationsThreadDumps() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset97.txt");
@@ -15,6 +15,8 @@
 package org.github.krashpad.domain.jdk;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -43,6 +45,18 @@ class TestGlobalFlag {
                 JdkUtil.LogEventType.GLOBAL_FLAG.toString() + " not identified.");
     }
 
+    @Test
+    void testBooleanValue() {
+        String logLine = "     bool UseNUMA                                  = false"
+                + "                                     {product} {command line}";
+        GlobalFlag event = new GlobalFlag(logLine);
+        assertEquals("UseNUMA", event.getFlag(), "Flag not correct.");
+        assertEquals(GlobalFlag.Type.BOOL, event.getType(), "Type not correct.");
+        assertFalse(event.getBooleanValue(), "Boolean value not correct.");
+        assertEquals(Long.MIN_VALUE, event.getLongValue(), "Long value not correct.");
+        assertEquals(GlobalFlag.Origin.COMMAND_LINE, event.getOrigin(), "Origin not correct.");
+    }
+
     @Test
     void testC2Product() {
         GlobalFlag priorEvent = new GlobalFlag(null);
@@ -87,6 +101,16 @@ class TestGlobalFlag {
                 JdkUtil.LogEventType.GLOBAL_FLAG.toString() + " not identified.");
     }
 
+    @Test
+    void testDefaultOrigin() {
+        String logLine = "ccstrlist CompileCommand                           = exclude,com/example/MyClass.myMethod";
+        GlobalFlag event = new GlobalFlag(logLine);
+        assertEquals(GlobalFlag.Type.CCSTRLIST, event.getType(), "Type not correct.");
+        assertEquals("exclude,com/example/MyClass.myMethod", event.getValue(), "Value not correct.");
+        assertNull(event.getKind(), "Kind incorrectly identified.");
+        assertEquals(GlobalFlag.Origin.DEFAULT, event.getOrigin(), "Origin not correct.");
+    }
+
     @Test
     void testDiagnostic() {
         GlobalFlag priorEvent = new GlobalFlag(null);
@@ -96,6 +120,15 @@ class TestGlobalFlag {
                 JdkUtil.LogEventType.GLOBAL_FLAG.toString() + " not identified.");
     }
 
+    @Test
+    void testDoubleValue() {
+        String logLine = "   double MaxRAMPercentage                         = 75.000000"
+                + "                                 {product} {command line}";
+        GlobalFlag event = new GlobalFlag(logLine);
+        assertEquals(GlobalFlag.Type.DOUBLE, event.getType(), "Type not correct.");
+        assertEquals(75.0, event.getDoubleValue(), "Double value not correct.");
+    }
+
     @Test
     void testFlightRecorder() {
         GlobalFlag priorEvent = new GlobalFlag(null);
@@ -112,6 +145,14 @@ class TestGlobalFlag {
                 JdkUtil.LogEventType.GLOBAL_FLAG.toString() + " not identified.");
     }
 
+    @Test
+    void testHeaderFields() {
+        GlobalFlag event = new GlobalFlag("[Global flags]");
+        assertNull(event.getFlag(), "Flag incorrectly identified.");
+        assertNull(event.getValue(), "Value incorrectly identified.");
+        assertNull(event.getOrigin(), "Origin incorrectly identified.");
+    }
+
     @Test
     void testIdentity() {
         GlobalFlag priorEvent = new GlobalFlag(null);
@@ -130,6 +171,17 @@ class TestGlobalFlag {
                 JdkUtil.LogEventType.GLOBAL_FLAG.toString() + " not identified.");
     }
 
+    @Test
+    void testLongValue() {
+        String logLine = "    uintx NonProfiledCodeHeapSize                  = 1600000000                             "
+                + "{pd product} {command line, ergonomic}";
+        GlobalFlag event = new GlobalFlag(logLine);
+        assertEquals(GlobalFlag.Type.UINTX, event.getType(), "Type not correct.");
+        assertEquals(1600000000L, event.getLongValue(), "Long value not correct.");
+        assertEquals("pd product", event.getKind(), "Kind not correct.");
+        assertEquals(GlobalFlag.Origin.COMMAND_LINE_ERGONOMIC, event.getOrigin(), "Origin not correct.");
+    }
+
     @Test
     void testOptionValueWithSpaces() {
         GlobalFlag priorEvent = new GlobalFlag(null);
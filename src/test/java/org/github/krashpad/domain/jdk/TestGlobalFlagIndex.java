@@ -0,0 +1,88 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.GlobalFlagIndex.Difference;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGlobalFlagIndex {
+
+    private static List<GlobalFlag> getGlobalFlags() {
+        List<GlobalFlag> globalFlags = new ArrayList<GlobalFlag>();
+        globalFlags.add(new GlobalFlag("[Global flags]"));
+        globalFlags.add(new GlobalFlag("      int ActiveProcessorCount                     = 2"
+                + "                                         {product} {command line}"));
+        globalFlags.add(new GlobalFlag("   size_t MaxHeapSize                              = 2147483648"
+                + "                                {product} {command line}"));
+        globalFlags.add(new GlobalFlag("   double MaxRAMPercentage                         = 75.000000"
+                + "                                 {product} {command line}"));
+        globalFlags.add(new GlobalFlag("     intx ThreadStackSize                          = 1024"
+                + "                                   {pd product} {ergonomic}"));
+        globalFlags.add(new GlobalFlag("     bool UseCompressedOops                        = false"
+                + "                                 {lp64_product} {ergonomic}"));
+        globalFlags.add(new GlobalFlag("     bool UseG1GC                                  = true"
+                + "                                      {product} {ergonomic}"));
+        return globalFlags;
+    }
+
+    @Test
+    void testDifferences() {
+        GlobalFlagIndex index = new GlobalFlagIndex(getGlobalFlags());
+        List<String> options = Arrays.asList("-Xmx1g", "-Xmx2g", "-Xss256k", "-XX:ActiveProcessorCount=2",
+                "-XX:MaxRAMPercentage=75.0", "-XX:+UseCompressedOops", "-XX:+UseG1GC", "-XX:+UseNUMA");
+        List<Difference> differences = index.getDifferences(options);
+        assertEquals(2, differences.size(), "Difference count not correct.");
+        assertEquals("-Xss256k", differences.get(0).getOption(), "Option not correct.");
+        assertEquals("ThreadStackSize", differences.get(0).getGlobalFlag().getFlag(), "Flag not correct.");
+        assertEquals("-XX:+UseCompressedOops -> UseCompressedOops=false {ergonomic}", differences.get(1).toString(),
+                "Difference not correct.");
+    }
+
+    @Test
+    void testLookup() {
+        GlobalFlagIndex index = new GlobalFlagIndex(getGlobalFlags());
+        assertEquals(6, index.size(), "Flag count not correct.");
+        assertEquals(2L, index.getLongValue("ActiveProcessorCount"), "ActiveProcessorCount not correct.");
+        assertEquals(Long.MIN_VALUE, index.getLongValue("UseG1GC"), "UseG1GC long value not correct.");
+        assertTrue(index.isEnabled("UseG1GC"), "UseG1GC not identified.");
+        assertFalse(index.isEnabled("UseCompressedOops"), "UseCompressedOops incorrectly identified.");
+        assertFalse(index.isEnabled("UseNUMA"), "UseNUMA incorrectly identified.");
+        assertNull(index.getFlag("UseNUMA"), "UseNUMA incorrectly identified.");
+    }
+
+    @Test
+    void testOrigin() {
+        GlobalFlagIndex index = new GlobalFlagIndex(getGlobalFlags());
+        List<GlobalFlag> ergonomic = index.getFlags(GlobalFlag.Origin.ERGONOMIC);
+        assertEquals(3, ergonomic.size(), "Ergonomic flag count not correct.");
+        assertEquals("ThreadStackSize", ergonomic.get(0).getFlag(), "Ergonomic flag not correct.");
+        assertEquals(3, index.getFlags(GlobalFlag.Origin.COMMAND_LINE).size(),
+                "Command line flag count not correct.");
+        assertTrue(index.getFlags(GlobalFlag.Origin.DEFAULT).isEmpty(), "Default flags not correct.");
+    }
+}
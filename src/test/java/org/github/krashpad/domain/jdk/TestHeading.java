@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -53,6 +54,14 @@ class TestHeading {
                 JdkUtil.LogEventType.HEADING.toString() + " not identified.");
     }
 
+    @Test
+    void testIsProcess() {
+        Heading heading = new Heading("---------------  P R O C E S S  ---------------");
+        assertTrue(heading.isProcess(), "Process heading not identified.");
+        heading = new Heading("---------------  T H R E A D  ---------------");
+        assertFalse(heading.isProcess(), "Process heading incorrectly identified.");
+    }
+
     @Test
     void testParseLogLine() {
         String logLine = "---------------  T H R E A D  ---------------";
@@ -0,0 +1,84 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.github.krashpad.domain.jdk.HeapRegionsSummary.RegionType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestHeapRegionsSummary {
+
+    @Test
+    void testFreeRun() {
+        HeapRegionsSummary summary = new HeapRegionsSummary();
+        summary.add("|   0|0x000000060d400000, 0x000000060d400000, 0x000000060d800000|  0%| F|  |TAMS "
+                + "0x000000060d400000, 0x000000060d400000| Untracked ");
+        summary.add("|   1|0x000000060d800000, 0x000000060d900000, 0x000000060dc00000| 25%| O|  |TAMS "
+                + "0x000000060d800000, 0x000000060d800000| Untracked ");
+        summary.add("|   2|0x000000060dc00000, 0x000000060dc00000, 0x000000060e000000|  0%| F|  |TAMS "
+                + "0x000000060dc00000, 0x000000060dc00000| Untracked ");
+        summary.add("|   3|0x000000060e000000, 0x000000060e000000, 0x000000060e400000|  0%| F|  |TAMS "
+                + "0x000000060e000000, 0x000000060e000000| Untracked ");
+        assertEquals(4, summary.getRegions(), "Region count not correct.");
+        assertEquals(3, summary.getCount(RegionType.FREE), "Free region count not correct.");
+        assertEquals(2, summary.getLongestFreeRunRegions(), "Longest free run regions not correct.");
+        assertEquals(8388608, summary.getLongestFreeRunBytes(), "Longest free run bytes not correct.");
+        assertEquals(1048576, summary.getUsed(RegionType.OLD), "Old used not correct.");
+    }
+
+    @Test
+    void testG1() {
+        HeapRegionsSummary summary = new HeapRegionsSummary();
+        summary.add("|1993|0x00000007ff800000, 0x00000007ff876000, 0x00000007ffc00000| 11%|OA|  |TAMS "
+                + "0x00000007ff800000, 0x00000007ff800000| Untracked ");
+        assertEquals(1, summary.getCount(RegionType.ARCHIVE_OPEN), "Open archive count not correct.");
+        assertEquals(4194304, summary.getCapacity(RegionType.ARCHIVE_OPEN), "Open archive capacity not correct.");
+        assertEquals(483328, summary.getUsed(RegionType.ARCHIVE_OPEN), "Open archive used not correct.");
+        assertFalse(summary.isLiveReported(), "Live data incorrectly reported.");
+        assertEquals(0, summary.getUnidentifiedRows(), "Unidentified rows not correct.");
+    }
+
+    @Test
+    void testHeader() {
+        HeapRegionsSummary summary = new HeapRegionsSummary();
+        summary.add("Heap Regions: E=young(eden), S=young(survivor), O=old, HS=humongous(starts), "
+                + "HC=humongous(continues), CS=collection set, F=free, TAMS=top-at-mark-start (previous, next)");
+        assertEquals(0, summary.getRegions(), "Region count not correct.");
+        assertEquals(0, summary.getUnidentifiedRows(), "Unidentified rows not correct.");
+    }
+
+    @Test
+    void testShenandoah() {
+        HeapRegionsSummary summary = new HeapRegionsSummary();
+        summary.add("|    0|CS |BTE    67a200000,    67a400000,    67a400000|TAMS    67a400000|UWM    67a400000|U  "
+                + "2048K|T  2047K|G     0B|S    56B|L 31152B|CP   0");
+        summary.add("|    1|H  |BTE 7f7874000000, 7f7876000000, 7f7876000000|TAMS 7f7876000000|UWM 7f7874000000|U "
+                + "32768K|T 32511K|G     0B|S   256K|L  2049K|CP   0");
+        assertEquals(1, summary.getCount(RegionType.COLLECTION_SET), "Collection set count not correct.");
+        assertEquals(2097152, summary.getUsed(RegionType.COLLECTION_SET), "Collection set used not correct.");
+        assertEquals(31152, summary.getLive(RegionType.COLLECTION_SET), "Collection set live not correct.");
+        assertEquals(1, summary.getCount(RegionType.HUMONGOUS_START_SHENANDOAH), "Humongous count not correct.");
+        assertEquals(2049 * 1024, summary.getLive(RegionType.HUMONGOUS_START_SHENANDOAH),
+                "Humongous live not correct.");
+        assertTrue(summary.isLiveReported(), "Live data not reported.");
+    }
+}
@@ -14,6 +14,9 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -25,6 +28,19 @@ import org.junit.jupiter.api.Test;
  */
 class TestInternalExceptionEvent {
 
+    @Test
+    void testExceptionFields() {
+        InternalExceptionEvent event = new InternalExceptionEvent("Event: 978077.147 Thread 0x00007f2ff01c0000 "
+                + "Exception <a 'java/lang/ClassNotFoundException': org/jboss/wsf/stack/cxf/JBossWSInvoker> "
+                + "(0x0000000719ccc910) thrown at [/path/workspace/8-2-build-linux-amd64/jdk8u131/8869/hotspot/src/"
+                + "share/vm/classfile/systemDictionary.cpp, line 210]");
+        assertEquals("java.lang.ClassNotFoundException", event.getException(), "Exception not correct.");
+        assertEquals("systemDictionary.cpp:210", event.getLocation(), "Location not correct.");
+        assertEquals(0x00007f2ff01c0000L, event.getThread(), "Thread not correct.");
+        assertEquals(978077147L, event.getTimestamp(), "Timestamp not correct.");
+        assertFalse(event.isThrownLocation(), "Thrown location incorrectly identified.");
+    }
+
     @Test
     void testHeader() {
         String logLine = "Internal exceptions (250 events):";
@@ -52,6 +68,14 @@ class TestInternalExceptionEvent {
                 JdkUtil.LogEventType.INTERNAL_EXCEPTION_EVENT.toString() + " not identified.");
     }
 
+    @Test
+    void testImplicitFields() {
+        InternalExceptionEvent event = new InternalExceptionEvent("Event: 29766.051 Thread 0x00007f3fae21b800 "
+                + "Implicit null exception at 0x00007f3f9cad8134 to 0x00007f3f9cad81e8");
+        assertEquals("Implicit null exception", event.getException(), "Exception not correct.");
+        assertNull(event.getLocation(), "Location not correct.");
+    }
+
     @Test
     void testMeta() {
         InternalExceptionEvent priorLogEvent = new InternalExceptionEvent("Internal exceptions (250 events):");
@@ -122,6 +146,15 @@ class TestInternalExceptionEvent {
                 JdkUtil.LogEventType.INTERNAL_EXCEPTION_EVENT.toString() + " not identified.");
     }
 
+    @Test
+    void testThrownLocationFields() {
+        InternalExceptionEvent event = new InternalExceptionEvent(
+                "thrown [src/hotspot/share/interpreter/linkResolver.cpp, line 759]");
+        assertTrue(event.isThrownLocation(), "Thrown location not identified.");
+        assertNull(event.getException(), "Exception not correct.");
+        assertEquals("linkResolver.cpp:759", event.getLocation(), "Location not correct.");
+    }
+
     @Test
     void testThrownNoDetails() {
         InternalExceptionEvent priorLogEvent = new InternalExceptionEvent("Internal exceptions (250 events):");
@@ -0,0 +1,68 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.InternalExceptionStatistics.HeavyHitter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestInternalExceptionStatistics {
+
+    @Test
+    void testEmpty() {
+        InternalExceptionStatistics statistics = new InternalExceptionStatistics(
+                new ArrayList<InternalExceptionEvent>());
+        assertEquals(0, statistics.getTotal(), "Total not correct.");
+        assertEquals(0, statistics.getRate(), "Rate not correct.");
+        assertTrue(statistics.getHeavyHitters(5).isEmpty(), "Heavy hitters not correct.");
+    }
+
+    @Test
+    void testHeavyHitters() {
+        List<InternalExceptionEvent> events = new ArrayList<InternalExceptionEvent>();
+        events.add(new InternalExceptionEvent("Internal exceptions (5 events):"));
+        events.add(new InternalExceptionEvent("Event: 1.000 Thread 0x00007f746c025d40 Exception "
+                + "<a 'java/lang/NoSuchMethodError'{0x000000062c8203d0}: 'void Foo.bar()'> (0x000000062c8203d0) "));
+        events.add(new InternalExceptionEvent("thrown [src/hotspot/share/interpreter/linkResolver.cpp, line 759]"));
+        events.add(new InternalExceptionEvent("Event: 1.500 Thread 0x00007f746c025d41 Exception "
+                + "<a 'java/lang/NoSuchMethodError'{0x000000062c8203d8}: 'void Foo.baz()'> (0x000000062c8203d8) "));
+        events.add(new InternalExceptionEvent("thrown [src/hotspot/share/interpreter/linkResolver.cpp, line 759]"));
+        events.add(new InternalExceptionEvent("Event: 2.000 Thread 0x00007f746c025d40 Exception "
+                + "<a 'java/lang/NoSuchMethodError'{0x000000062c8203e0}: 'void Foo.qux()'> (0x000000062c8203e0) "));
+        events.add(new InternalExceptionEvent("thrown [src/hotspot/share/interpreter/linkResolver.cpp, line 773]"));
+        InternalExceptionStatistics statistics = new InternalExceptionStatistics(events);
+        assertEquals(3, statistics.getTotal(), "Total not correct.");
+        assertEquals(1000L, statistics.getFirst(), "First not correct.");
+        assertEquals(2000L, statistics.getLast(), "Last not correct.");
+        assertEquals(3.0, statistics.getRate(), "Rate not correct.");
+        List<HeavyHitter> heavyHitters = statistics.getHeavyHitters(5);
+        assertEquals(2, heavyHitters.size(), "Heavy hitter count not correct.");
+        assertEquals("linkResolver.cpp:759", heavyHitters.get(0).getLocation(), "Location not correct.");
+        assertEquals(2, heavyHitters.get(0).getCount(), "Count not correct.");
+        assertEquals(2, heavyHitters.get(0).getThreadCount(), "Thread count not correct.");
+        assertEquals(4.0, heavyHitters.get(0).getRate(), "Rate not correct.");
+        assertEquals("linkResolver.cpp:773", heavyHitters.get(1).getLocation(), "Location not correct.");
+        assertEquals(0, heavyHitters.get(1).getRate(), "Rate not correct.");
+    }
+}
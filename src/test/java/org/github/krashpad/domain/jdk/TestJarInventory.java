@@ -0,0 +1,123 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestJarInventory {
+
+    private static List<DynamicLibrary> getDynamicLibraries(String... paths) {
+        List<DynamicLibrary> dynamicLibraries = new ArrayList<DynamicLibrary>();
+        dynamicLibraries.add(new DynamicLibrary("7f8829e74000-7f8829e75000 r-xp 00000000 fd:00 135000"
+                + "                     /usr/lib64/libc-2.17.so"));
+        for (int i = 0; i < paths.length; i++) {
+            dynamicLibraries.add(new DynamicLibrary(
+                    "7f8829e72000-7f8829e73000 r--s 00008000 fd:00 134998                     " + paths[i]));
+        }
+        return dynamicLibraries;
+    }
+
+    @Test
+    void testConflicts() {
+        JarInventory jarInventory = new JarInventory(getDynamicLibraries("/opt/app/lib/guava-20.0.jar",
+                "/opt/server/modules/guava-27.1-jre.jar", "/opt/app/lib/commons-cli-1.1.jar"));
+        Map<String, List<String>> conflicts = jarInventory.getConflicts();
+        assertEquals(1, conflicts.size(), "Conflict count not correct.");
+        assertEquals("[20.0, 27.1-jre]", conflicts.get("guava").toString(), "guava versions not correct.");
+        assertTrue(jarInventory.getDuplicates().isEmpty(), "Duplicates incorrectly identified.");
+    }
+
+    @Test
+    void testConflictsArtifactVersion() {
+        JarInventory jarInventory = new JarInventory(getDynamicLibraries("/opt/app/lib/log4j-1.2-api-2.17.1.jar",
+                "/opt/app/lib/log4j-1.2.17.jar"));
+        assertTrue(jarInventory.getConflicts().isEmpty(), "Conflicts incorrectly identified.");
+        assertEquals("2.17.1", jarInventory.getJars("log4j-1.2-api").get(0).getVersion(),
+                "log4j-1.2-api version not correct.");
+        assertEquals("1.2.17", jarInventory.getJars("log4j").get(0).getVersion(), "log4j version not correct.");
+    }
+
+    @Test
+    void testDuplicates() {
+        JarInventory jarInventory = new JarInventory(getDynamicLibraries("/opt/app/lib/commons-cli-1.1.jar",
+                "/opt/server/lib/commons-cli-1.1.jar", "/opt/app/lib/commons-cli-1.1.jar"));
+        assertEquals(2, jarInventory.size(), "Jar count not correct.");
+        assertTrue(jarInventory.getConflicts().isEmpty(), "Conflicts incorrectly identified.");
+        Map<String, List<JarInventory.Jar>> duplicates = jarInventory.getDuplicates();
+        assertEquals(1, duplicates.size(), "Duplicate count not correct.");
+        assertEquals("[/opt/app/lib/commons-cli-1.1.jar, /opt/server/lib/commons-cli-1.1.jar]",
+                duplicates.get("commons-cli").toString(), "commons-cli duplicates not correct.");
+    }
+
+    @Test
+    void testLookup() {
+        JarInventory jarInventory = new JarInventory(getDynamicLibraries("/opt/app/lib/postgresql-42.2.5.jar",
+                "/opt/app/lib/jt400.jar"));
+        assertEquals(2, jarInventory.size(), "Jar count not correct.");
+        assertEquals("[/opt/app/lib/postgresql-42.2.5.jar, /opt/app/lib/jt400.jar]",
+                jarInventory.getPaths().toString(), "Paths not correct.");
+        assertTrue(jarInventory.hasArtifact("postgresql"), "postgresql not identified.");
+        assertFalse(jarInventory.hasArtifact("itext"), "itext incorrectly identified.");
+        assertTrue(jarInventory.hasPath("^.*jt400\\.jar$"), "jt400 not identified.");
+        assertEquals("42.2.5", jarInventory.getJars("postgresql").get(0).getVersion(),
+                "postgresql version not correct.");
+        assertEquals(0, jarInventory.getJars("itext").size(), "itext jar count not correct.");
+        assertNull(jarInventory.getJar("/opt/app/lib/itext.jar"), "itext incorrectly identified.");
+    }
+
+    @Test
+    void testVersionMaven() {
+        JarInventory.Jar jar = new JarInventory.Jar("/usr/share/cassandra/lib/cassandra-driver-core-3.0.1-shaded.jar");
+        assertEquals("cassandra-driver-core", jar.getArtifact(), "Artifact not correct.");
+        assertEquals("3.0.1-shaded", jar.getVersion(), "Version not correct.");
+        assertEquals("cassandra-driver-core-3.0.1-shaded.jar", jar.getFile(), "File not correct.");
+    }
+
+    @Test
+    void testVersionMavenClassifier() {
+        JarInventory.Jar jar = new JarInventory.Jar(
+                "/opt/app/lib/netty-tcnative-boringssl-static-2.0.46.Final-linux-x86_64.jar");
+        assertEquals("netty-tcnative-boringssl-static", jar.getArtifact(), "Artifact not correct.");
+        assertEquals("2.0.46.Final-linux-x86_64", jar.getVersion(), "Version not correct.");
+    }
+
+    @Test
+    void testVersionNone() {
+        JarInventory.Jar jar = new JarInventory.Jar("/usr/lib/jvm/jre/lib/ext/localedata.jar");
+        assertEquals("localedata", jar.getArtifact(), "Artifact not correct.");
+        assertNull(jar.getVersion(), "Version not correct.");
+    }
+
+    @Test
+    void testVersionOsgi() {
+        JarInventory.Jar jar = new JarInventory.Jar(
+                "/home/user/.p2/pool/plugins/org.eclipse.core.runtime_3.18.0.v20200506-2143.jar");
+        assertEquals("org.eclipse.core.runtime", jar.getArtifact(), "Artifact not correct.");
+        assertEquals("3.18.0.v20200506-2143", jar.getVersion(), "Version not correct.");
+    }
+}
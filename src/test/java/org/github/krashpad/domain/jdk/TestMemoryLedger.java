@@ -0,0 +1,197 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestMemoryLedger {
+
+    @Test
+    void testCgroup() {
+        List<ContainerInfo> containerInfos = new ArrayList<ContainerInfo>();
+        containerInfos.add(new ContainerInfo("container (cgroup) information:"));
+        containerInfos.add(new ContainerInfo("memory_limit_in_bytes: 4294967296"));
+        containerInfos.add(new ContainerInfo("memory_and_swap_limit_in_bytes: 4294967296"));
+        containerInfos.add(new ContainerInfo("memory_soft_limit_in_bytes: -1"));
+        containerInfos.add(new ContainerInfo("memory_usage_in_bytes: 4282966016"));
+        containerInfos.add(new ContainerInfo("memory_max_usage_in_bytes: 4294774784"));
+        List<Meminfo> meminfos = new ArrayList<Meminfo>();
+        meminfos.add(new Meminfo("MemTotal:       16266236 kB"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), meminfos, new ArrayList<GcPreciousLog>(),
+                new ArrayList<ProcessMemory>(), containerInfos, new ArrayList<Memory>());
+        assertTrue(memoryLedger.isCgroupLimited(), "Cgroup limit not identified.");
+        assertEquals(4294967296L, memoryLedger.getCgroupMemoryLimit(), "Cgroup memory limit not correct.");
+        assertEquals(4294967296L, memoryLedger.getCgroupMemoryAndSwapLimit(),
+                "Cgroup memory and swap limit not correct.");
+        assertEquals(4282966016L, memoryLedger.getCgroupMemoryUsage(), "Cgroup memory usage not correct.");
+        assertEquals(4294774784L, memoryLedger.getCgroupMemoryMaxUsage(), "Cgroup memory max usage not correct.");
+        assertEquals(100, memoryLedger.getCgroupMemoryUsagePercent(), "Cgroup memory usage percent not correct.");
+        assertTrue(memoryLedger.isCgroupMemorySaturated(), "Cgroup memory saturated not identified.");
+        assertEquals(4294967296L, memoryLedger.getEffectiveMemoryLimit(), "Effective memory limit not correct.");
+        assertEquals(4294967296L - 4282966016L, memoryLedger.getHeadroom(), "Headroom not correct.");
+    }
+
+    @Test
+    void testCgroupKilobytes() {
+        List<ContainerInfo> containerInfos = new ArrayList<ContainerInfo>();
+        containerInfos.add(new ContainerInfo("memory_limit_in_bytes: 1217800 k"));
+        containerInfos.add(new ContainerInfo("memory_usage_in_bytes: 280168 k"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), new ArrayList<Meminfo>(),
+                new ArrayList<GcPreciousLog>(), new ArrayList<ProcessMemory>(), containerInfos,
+                new ArrayList<Memory>());
+        assertEquals(1217800L * 1024, memoryLedger.getCgroupMemoryLimit(), "Cgroup memory limit not correct.");
+        assertEquals(280168L * 1024, memoryLedger.getCgroupMemoryUsage(), "Cgroup memory usage not correct.");
+        assertEquals(23, memoryLedger.getCgroupMemoryUsagePercent(), "Cgroup memory usage percent not correct.");
+        assertFalse(memoryLedger.isCgroupMemorySaturated(), "Cgroup memory saturated incorrectly identified.");
+        assertEquals(1217800L * 1024, memoryLedger.getEffectiveMemoryLimit(), "Effective memory limit not correct.");
+    }
+
+    @Test
+    void testCgroupUnlimited() {
+        List<ContainerInfo> containerInfos = new ArrayList<ContainerInfo>();
+        containerInfos.add(new ContainerInfo("memory_limit_in_bytes: unlimited"));
+        containerInfos.add(new ContainerInfo("memory_usage_in_bytes: 1232519168"));
+        List<Meminfo> meminfos = new ArrayList<Meminfo>();
+        meminfos.add(new Meminfo("MemTotal:       65803904 kB"));
+        meminfos.add(new Meminfo("MemAvailable:   25213784 kB"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), meminfos, new ArrayList<GcPreciousLog>(),
+                new ArrayList<ProcessMemory>(), containerInfos, new ArrayList<Memory>());
+        assertFalse(memoryLedger.isCgroupLimited(), "Cgroup limit incorrectly identified.");
+        assertEquals(Long.MIN_VALUE, memoryLedger.getCgroupMemoryLimit(), "Cgroup memory limit not correct.");
+        assertEquals(Integer.MIN_VALUE, memoryLedger.getCgroupMemoryUsagePercent(),
+                "Cgroup memory usage percent not correct.");
+        assertEquals(65803904L * 1024, memoryLedger.getEffectiveMemoryLimit(), "Effective memory limit not correct.");
+        assertEquals(25213784L * 1024, memoryLedger.getHeadroom(), "Headroom not correct.");
+    }
+
+    @Test
+    void testEmpty() {
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), new ArrayList<Meminfo>(),
+                new ArrayList<GcPreciousLog>(), new ArrayList<ProcessMemory>(), new ArrayList<ContainerInfo>(),
+                new ArrayList<Memory>());
+        assertEquals(Long.MIN_VALUE, memoryLedger.getHeapCommitted(), "Heap committed not correct.");
+        assertEquals(Long.MIN_VALUE, memoryLedger.getHeapUsed(), "Heap used not correct.");
+        assertEquals(Long.MIN_VALUE, memoryLedger.getMemTotal(), "MemTotal not correct.");
+        assertEquals(Long.MIN_VALUE, memoryLedger.getEffectiveMemoryLimit(), "Effective memory limit not correct.");
+        assertEquals(Long.MIN_VALUE, memoryLedger.getHeadroom(), "Headroom not correct.");
+        assertFalse(memoryLedger.isCgroupLimited(), "Cgroup limit incorrectly identified.");
+    }
+
+    @Test
+    void testGcPreciousLogMemory() {
+        List<GcPreciousLog> gcPreciousLogs = new ArrayList<GcPreciousLog>();
+        gcPreciousLogs.add(new GcPreciousLog(" Memory: 31907M"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), new ArrayList<Meminfo>(), gcPreciousLogs,
+                new ArrayList<ProcessMemory>(), new ArrayList<ContainerInfo>(), new ArrayList<Memory>());
+        assertEquals(31907L * 1024 * 1024, memoryLedger.getMemTotal(), "MemTotal not correct.");
+        assertEquals(31907L * 1024 * 1024, memoryLedger.getHostMemoryTotal(), "Host memory total not correct.");
+    }
+
+    @Test
+    void testHeapG1() {
+        List<Heap> heaps = new ArrayList<Heap>();
+        heaps.add(new Heap("Heap:"));
+        heaps.add(new Heap(" garbage-first heap   total 33120256K, used 20387191K [0x00007f5cb7800000, "
+                + "0x00007f5cb8007e58, 0x00007f64b7800000)"));
+        heaps.add(new Heap("  region size 8192K, 1110 young (9093120K), 88 survivors (720896K)"));
+        heaps.add(new Heap(" Metaspace       used 901044K, capacity 1070727K, committed 1070848K, reserved 1071104K"));
+        MemoryLedger memoryLedger = new MemoryLedger(heaps, new ArrayList<Meminfo>(), new ArrayList<GcPreciousLog>(),
+                new ArrayList<ProcessMemory>(), new ArrayList<ContainerInfo>(), new ArrayList<Memory>());
+        assertEquals(33120256L * 1024, memoryLedger.getHeapCommitted(), "Heap committed not correct.");
+        assertEquals(20387191L * 1024, memoryLedger.getHeapUsed(), "Heap used not correct.");
+        assertEquals(901044L * 1024, memoryLedger.getMetaspaceUsed(), "Metaspace used not correct.");
+        assertEquals(1070848L * 1024, memoryLedger.getMetaspaceCommitted(), "Metaspace committed not correct.");
+        assertEquals(1071104L * 1024, memoryLedger.getMetaspaceReserved(), "Metaspace reserved not correct.");
+    }
+
+    @Test
+    void testHeapParallel() {
+        List<Heap> heaps = new ArrayList<Heap>();
+        heaps.add(new Heap(" PSYoungGen      total 611840K, used 524800K [0x00000000d5580000, 0x0000000100000000, "
+                + "0x0000000100000000)"));
+        heaps.add(new Heap(" ParOldGen       total 1398272K, used 16K [0x0000000080000000, 0x00000000d5580000, "
+                + "0x00000000d5580000)"));
+        MemoryLedger memoryLedger = new MemoryLedger(heaps, new ArrayList<Meminfo>(), new ArrayList<GcPreciousLog>(),
+                new ArrayList<ProcessMemory>(), new ArrayList<ContainerInfo>(), new ArrayList<Memory>());
+        assertEquals((611840L + 1398272L) * 1024, memoryLedger.getHeapCommitted(), "Heap committed not correct.");
+        assertEquals((524800L + 16L) * 1024, memoryLedger.getHeapUsed(), "Heap used not correct.");
+        assertEquals(Long.MIN_VALUE, memoryLedger.getMetaspaceUsed(), "Metaspace used not correct.");
+    }
+
+    @Test
+    void testMeminfo() {
+        List<Meminfo> meminfos = new ArrayList<Meminfo>();
+        meminfos.add(new Meminfo("MemTotal:       65803904 kB"));
+        meminfos.add(new Meminfo("MemFree:        18818296 kB"));
+        meminfos.add(new Meminfo("MemAvailable:   25213784 kB"));
+        meminfos.add(new Meminfo("SwapTotal:       6291452 kB"));
+        meminfos.add(new Meminfo("SwapFree:        6291400 kB"));
+        meminfos.add(new Meminfo("CommitLimit:    39193404 kB"));
+        meminfos.add(new Meminfo("Committed_AS:   41758828 kB"));
+        List<GcPreciousLog> gcPreciousLogs = new ArrayList<GcPreciousLog>();
+        gcPreciousLogs.add(new GcPreciousLog(" Memory: 31907M"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), meminfos, gcPreciousLogs,
+                new ArrayList<ProcessMemory>(), new ArrayList<ContainerInfo>(), new ArrayList<Memory>());
+        assertEquals(65803904L * 1024, memoryLedger.getMemTotal(), "MemTotal not correct.");
+        assertEquals(18818296L * 1024, memoryLedger.getMemFree(), "MemFree not correct.");
+        assertEquals(25213784L * 1024, memoryLedger.getMemAvailable(), "MemAvailable not correct.");
+        assertEquals(6291452L * 1024, memoryLedger.getSwapTotal(), "SwapTotal not correct.");
+        assertEquals(6291400L * 1024, memoryLedger.getSwapFree(), "SwapFree not correct.");
+        assertEquals(39193404L * 1024, memoryLedger.getCommitLimit(), "CommitLimit not correct.");
+        assertEquals(41758828L * 1024, memoryLedger.getCommittedAs(), "Committed_AS not correct.");
+    }
+
+    @Test
+    void testMemoryHeader() {
+        List<Memory> memories = new ArrayList<Memory>();
+        memories.add(new Memory(
+                "Memory: 4k page, physical 65803904k(18818296k free), swap 6291452k(6291452k free)"));
+        List<Meminfo> meminfos = new ArrayList<Meminfo>();
+        meminfos.add(new Meminfo("MemTotal:       16266236 kB"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), meminfos, new ArrayList<GcPreciousLog>(),
+                new ArrayList<ProcessMemory>(), new ArrayList<ContainerInfo>(), memories);
+        assertEquals(65803904L * 1024, memoryLedger.getPhysicalTotal(), "Physical total not correct.");
+        assertEquals(18818296L * 1024, memoryLedger.getPhysicalFree(), "Physical free not correct.");
+        assertEquals(16266236L * 1024, memoryLedger.getHostMemoryTotal(), "Host memory total not correct.");
+        assertEquals(18818296L * 1024, memoryLedger.getHeadroom(), "Headroom not correct.");
+    }
+
+    @Test
+    void testProcessMemory() {
+        List<ProcessMemory> processMemories = new ArrayList<ProcessMemory>();
+        processMemories.add(new ProcessMemory("Process Memory:"));
+        processMemories.add(new ProcessMemory("Virtual Size: 3049561448K (peak: 3049836740K)"));
+        processMemories.add(new ProcessMemory("Resident Set Size: 202855256K (peak: 202855256K) (anon: 12850796K, "
+                + "file: 26708K, shmem: 189977752K)"));
+        processMemories.add(new ProcessMemory("Swapped out: 1024K"));
+        MemoryLedger memoryLedger = new MemoryLedger(new ArrayList<Heap>(), new ArrayList<Meminfo>(),
+                new ArrayList<GcPreciousLog>(), processMemories, new ArrayList<ContainerInfo>(),
+                new ArrayList<Memory>());
+        assertEquals(3049561448L * 1024, memoryLedger.getVirtual(), "Virtual size not correct.");
+        assertEquals(202855256L * 1024, memoryLedger.getRss(), "Resident set size not correct.");
+        assertEquals(1024L * 1024, memoryLedger.getSwappedOut(), "Swapped out not correct.");
+    }
+}
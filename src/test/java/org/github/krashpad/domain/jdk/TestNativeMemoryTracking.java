@@ -47,6 +47,13 @@ class TestNativeMemoryTracking {
                 JdkUtil.LogEventType.NATIVE_MEMORY_TRACKING.toString() + " category not identified.");
     }
 
+    @Test
+    void testArenaSize() {
+        NativeMemoryTracking logEvent = new NativeMemoryTracking("                            (arena=7124KB #12155)");
+        assertEquals(7124, logEvent.getArenaSize(), "Arena size not correct.");
+        assertEquals(12155, logEvent.getArenaCount(), "Arena count not correct.");
+    }
+
     @Test
     void testArguments() {
         NativeMemoryTracking priorLogEvent = new NativeMemoryTracking("Native Memory Tracking:");
@@ -228,6 +235,16 @@ class TestNativeMemoryTracking {
                 JdkUtil.LogEventType.NATIVE_MEMORY_TRACKING.toString() + " not identified.");
     }
 
+    @Test
+    void testMallocSize() {
+        NativeMemoryTracking logEvent = new NativeMemoryTracking("                            (malloc=6038KB #64830)");
+        assertEquals(6038, logEvent.getMallocSize(), "Malloc size not correct.");
+        assertEquals(64830, logEvent.getMallocCount(), "Malloc count not correct.");
+        logEvent = new NativeMemoryTracking("                            (malloc=1399KB)");
+        assertEquals(1399, logEvent.getMallocSize(), "Malloc size not correct.");
+        assertEquals(Integer.MIN_VALUE, logEvent.getMallocCount(), "Malloc count not correct.");
+    }
+
     @Test
     void testMetadata() {
         NativeMemoryTracking priorLogEvent = new NativeMemoryTracking("Native Memory Tracking:");
@@ -263,6 +280,15 @@ class TestNativeMemoryTracking {
                 JdkUtil.LogEventType.NATIVE_MEMORY_TRACKING.toString() + " not identified.");
     }
 
+    @Test
+    void testMmapSize() {
+        NativeMemoryTracking logEvent = new NativeMemoryTracking(
+                "                            (mmap: reserved=8388608KB, committed=4194304KB)");
+        assertEquals(8388608, logEvent.getMmapReserved(), "Mmap reserved not correct.");
+        assertEquals(4194304, logEvent.getMmapCommitted(), "Mmap committed not correct.");
+        assertEquals(Integer.MIN_VALUE, logEvent.getMallocSize(), "Malloc size not correct.");
+    }
+
     @Test
     void testModule() {
         NativeMemoryTracking priorLogEvent = new NativeMemoryTracking("Native Memory Tracking:");
@@ -352,6 +378,18 @@ class TestNativeMemoryTracking {
                 JdkUtil.LogEventType.NATIVE_MEMORY_TRACKING.toString() + " not parsed.");
     }
 
+    @Test
+    void testReservedCommitted() {
+        NativeMemoryTracking logEvent = new NativeMemoryTracking(
+                "-                     Class (reserved=1192802KB, committed=165050KB)");
+        assertEquals("Class", logEvent.getCategory(), "Category not correct.");
+        assertEquals(1192802, logEvent.getReserved(), "Reserved not correct.");
+        assertEquals(165050, logEvent.getCommitted(), "Committed not correct.");
+        logEvent = new NativeMemoryTracking("Total: reserved=2659951KB, committed=1438171KB");
+        assertEquals(2659951, logEvent.getTotalReserved(), "Total reserved not correct.");
+        assertEquals(1438171, logEvent.getTotalCommitted(), "Total committed not correct.");
+    }
+
     @Test
     void testSafepoint() {
         NativeMemoryTracking priorLogEvent = new NativeMemoryTracking("Native Memory Tracking:");
@@ -404,6 +442,14 @@ class TestNativeMemoryTracking {
                 JdkUtil.LogEventType.NATIVE_MEMORY_TRACKING.toString() + " not identified.");
     }
 
+    @Test
+    void testStackSize() {
+        NativeMemoryTracking logEvent = new NativeMemoryTracking(
+                "                            (stack: reserved=6250236KB, committed=6250236KB)");
+        assertEquals(6250236, logEvent.getMmapReserved(), "Stack reserved not correct.");
+        assertEquals(6250236, logEvent.getMmapCommitted(), "Stack committed not correct.");
+    }
+
     @Test
     void testStringDeduplication() {
         NativeMemoryTracking priorLogEvent = new NativeMemoryTracking("Native Memory Tracking:");
@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -25,6 +26,13 @@ import org.junit.jupiter.api.Test;
  */
 class TestPollingPage {
 
+    @Test
+    void testAddress() {
+        String logLine = "Polling page: 0x00007fcbd1b68000";
+        PollingPage event = new PollingPage(logLine);
+        assertEquals(0x00007fcbd1b68000L, event.getAddress(), "Address not correct.");
+    }
+
     @Test
     void testIdentity() {
         String logLine = "Polling page: 0x00007fcbd1b68000";
@@ -14,6 +14,7 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -188,6 +189,18 @@ class TestRegister {
                 JdkUtil.LogEventType.REGISTER.toString() + " not identified.");
     }
 
+    @Test
+    void testValues() {
+        String logLine = "RIP=0x00007fd57e24ad0d, EFLAGS=0x0000000000010282, CSGSFS=0x002b000000000033, "
+                + "ERR=0x0000000000000006";
+        Register event = new Register(logLine);
+        assertEquals(4, event.getValues().size(), "Register count not correct.");
+        assertEquals("0x00007fd57e24ad0d", event.getValues().get("RIP"), "RIP not correct.");
+        logLine = "R8 =0x0000000000000000, R9 =0x0000000000000001, R10=0x0000000000000000, R11=0x0000000000000206";
+        event = new Register(logLine);
+        assertEquals("0x0000000000000001", event.getValues().get("R9"), "R9 not correct.");
+    }
+
     @Test
     void testXmm() {
         Register priorEvent = new Register("Registers:");
@@ -71,6 +71,16 @@ class TestStack {
         assertEquals(1018, event.getStackFreeSpace(), "Stack free space not correct.");
     }
 
+    @Test
+    void testHeaderAddresses() {
+        String logLine = "Stack: [0x00007fd52f5ea000,0x00007fd52f6eb000],  sp=0x00007fd52f6e9888,  free space=1022k";
+        Stack event = new Stack(logLine);
+        assertEquals(0x00007fd52f5ea000L, event.getStartAddress(), "Start address not correct.");
+        assertEquals(0x00007fd52f6eb000L, event.getEndAddress(), "End address not correct.");
+        event = new Stack("V  [libjvm.so+0xbf6d0d]  os::PlatformEvent::unpark()+0xd");
+        assertEquals(Long.MIN_VALUE, event.getStartAddress(), "Start address not correct.");
+    }
+
     @Test
     void testHeaderNoFreeSpace() {
         String logLine = "Stack: [0x000000005a740000,0x000000005a840000]";
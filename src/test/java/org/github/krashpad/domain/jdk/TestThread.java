@@ -14,6 +14,9 @@
  *********************************************************************************************************************/
 package org.github.krashpad.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.github.krashpad.util.jdk.JdkUtil;
@@ -67,6 +70,58 @@ class TestThread {
         assertTrue(logEvent.isErrorOccurredDuringErrorReporting(), "Error not identified.");
     }
 
+    @Test
+    void testFieldsExited() {
+        Thread thread = new Thread("=>0x000055ae21e0f000 (exited) GCTaskThread [stack: 0x00007ffb7fc57000,"
+                + "0x00007ffb7fd57000] [id=4693]");
+        assertTrue(thread.isCurrent(), "Current thread not identified.");
+        assertTrue(thread.isExited(), "Exited thread not identified.");
+        assertEquals("GCTaskThread", thread.getKind(), "Kind not correct.");
+        assertNull(thread.getName(), "Name not correct.");
+        assertEquals(4693, thread.getOsThreadId(), "OS thread id not correct.");
+        assertEquals(0x100000, thread.getStackSize(), "Stack size not correct.");
+    }
+
+    @Test
+    void testFieldsJavaThread() {
+        Thread thread = new Thread("  0x00007f19aa5128e0 JavaThread \"Thread-8\" daemon [_thread_blocked, id=18881, "
+                + "stack(0x00007f199cf04000,0x00007f199d005000)]");
+        assertTrue(thread.isThread(), "Thread not identified.");
+        assertEquals(0x00007f19aa5128e0L, thread.getAddress(), "Address not correct.");
+        assertEquals("JavaThread", thread.getKind(), "Kind not correct.");
+        assertEquals("Thread-8", thread.getName(), "Name not correct.");
+        assertTrue(thread.isDaemon(), "Daemon not identified.");
+        assertEquals("_thread_blocked", thread.getState(), "State not correct.");
+        assertEquals(18881, thread.getOsThreadId(), "OS thread id not correct.");
+        assertEquals(0x00007f199cf04000L, thread.getStackStartAddress(), "Stack start not correct.");
+        assertEquals(0x00007f199d005000L, thread.getStackEndAddress(), "Stack end not correct.");
+        assertFalse(thread.isCurrent(), "Current thread incorrectly identified.");
+    }
+
+    @Test
+    void testFieldsNameWithBrackets() {
+        Thread thread = new Thread("  0x00007fd0bc59b5f0 JavaThread \"DispatchThread: [com.ibm.mq.jmqi.remote.impl."
+                + "RemoteSession[:/28d3931a][connectionId=414D5143]]\" [_thread_in_native, id=66341, "
+                + "stack(0x00007fd057404000,0x00007fd057505000)]");
+        assertEquals("DispatchThread: [com.ibm.mq.jmqi.remote.impl.RemoteSession[:/28d3931a][connectionId=414D5143]]",
+                thread.getName(), "Name not correct.");
+        assertFalse(thread.isDaemon(), "Daemon incorrectly identified.");
+        assertEquals("_thread_in_native", thread.getState(), "State not correct.");
+        assertEquals(66341, thread.getOsThreadId(), "OS thread id not correct.");
+    }
+
+    @Test
+    void testFieldsVmThread() {
+        Thread thread = new Thread("  0x000055ed3cb0a000 VMThread \"VM Thread\" [stack: 0x00007fd54bb15000,"
+                + "0x00007fd54bc15000] [id=1984]");
+        assertEquals("VMThread", thread.getKind(), "Kind not correct.");
+        assertEquals("VM Thread", thread.getName(), "Name not correct.");
+        assertNull(thread.getState(), "State not correct.");
+        assertEquals(1984, thread.getOsThreadId(), "OS thread id not correct.");
+        assertEquals(0x100000, thread.getStackSize(), "Stack size not correct.");
+        assertFalse(new Thread("Other Threads:").isThread(), "Header incorrectly identified as a thread.");
+    }
+
     @Test
     void testGcTaskThread() {
         String logLine = "=>0x00007fcbc8056000 (exited) GCTaskThread [stack: 0x00007fcbcc578000,0x00007fcbcc678000] "
@@ -0,0 +1,67 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestThreadInventory {
+
+    @Test
+    void testHistograms() {
+        List<Thread> events = new ArrayList<Thread>();
+        events.add(new Thread("Java Threads: ( => current thread )"));
+        events.add(new Thread("  0x00007fd17c625370 JavaThread \"tomcat-http--31\" daemon [_thread_blocked, "
+                + "id=118490, stack(0x00007fd070277000,0x00007fd070378000)]"));
+        events.add(new Thread("  0x00007fd17c623a00 JavaThread \"tomcat-http--30\" daemon [_thread_blocked, "
+                + "id=118489, stack(0x00007fd070378000,0x00007fd070479000)]"));
+        events.add(new Thread("=>0x00007fd17c622090 JavaThread \"main\" [_thread_in_vm, id=118488, "
+                + "stack(0x00007fd070479000,0x00007fd07057a000)]"));
+        events.add(new Thread("Other Threads:"));
+        events.add(new Thread("  0x00007fa29c4ef800 WatcherThread [stack: 0x00007fa27ebcb000,0x00007fa27eccb000] "
+                + "[id=25802]"));
+        ThreadInventory threadInventory = new ThreadInventory(events);
+        assertEquals(4, threadInventory.getThreadCount(), "Thread count not correct.");
+        assertEquals(3, threadInventory.getKinds().get("JavaThread"), "JavaThread count not correct.");
+        assertEquals(1, threadInventory.getKinds().get("WatcherThread"), "WatcherThread count not correct.");
+        assertEquals(2, threadInventory.getStates().get("_thread_blocked"), "Blocked count not correct.");
+        assertEquals(1, threadInventory.getStates().get("_thread_in_vm"), "In VM count not correct.");
+        assertEquals(2, threadInventory.getNamePrefixes().get("tomcat-http"), "Name prefix count not correct.");
+        assertEquals("tomcat-http", threadInventory.getNamePrefixes().keySet().iterator().next(),
+                "Top name prefix not correct.");
+        assertEquals(1, threadInventory.getNamePrefixes().get(ThreadInventory.UNNAMED), "Unnamed count not correct.");
+        assertEquals(4 * 0x101000L - 0x1000L, threadInventory.getStackReserved(), "Stack reserved not correct.");
+    }
+
+    @Test
+    void testNamePrefix() {
+        assertEquals("tomcat-http", ThreadInventory.getNamePrefix("tomcat-http--31"), "Name prefix not correct.");
+        assertEquals("GC Thread", ThreadInventory.getNamePrefix("GC Thread#3"), "Name prefix not correct.");
+        assertEquals("C2 CompilerThread", ThreadInventory.getNamePrefix("C2 CompilerThread0"),
+                "Name prefix not correct.");
+        assertEquals("pool-1-thread", ThreadInventory.getNamePrefix("pool-1-thread-5"), "Name prefix not correct.");
+        assertEquals("Finalizer", ThreadInventory.getNamePrefix("Finalizer"), "Name prefix not correct.");
+        assertEquals("1234", ThreadInventory.getNamePrefix("1234"), "Name prefix not correct.");
+        assertEquals(ThreadInventory.UNNAMED, ThreadInventory.getNamePrefix(null), "Name prefix not correct.");
+    }
+}
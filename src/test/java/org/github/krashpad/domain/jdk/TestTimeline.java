@@ -0,0 +1,80 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.github.krashpad.domain.LogEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestTimeline {
+
+    @Test
+    void testMerge() {
+        List<Event> events = new ArrayList<Event>();
+        events.add(new Event("Events (3 events):"));
+        events.add(new Event("Event: 1.000 Executing VM operation: RevokeBias"));
+        events.add(new Event("Event: 3.500 Executing VM operation: RevokeBias done"));
+        List<DeoptimizationEvent> deoptimizationEvents = new ArrayList<DeoptimizationEvent>();
+        deoptimizationEvents.add(new DeoptimizationEvent("Event: 2.000 Thread 0x00007ff0ec053800 DEOPT PACKING "
+                + "pc=0x00007fd56e57b320 sp=0x00007fd52f6e94d0"));
+        deoptimizationEvents.add(new DeoptimizationEvent("Event: 3.500 Thread 0x00007ff0ec053800 DEOPT UNPACKING "
+                + "pc=0x00007fd562dbc0ba sp=0x00007fd52f6e8a28 mode 1"));
+        List<List<? extends LogEvent>> rings = new ArrayList<List<? extends LogEvent>>();
+        rings.add(events);
+        rings.add(deoptimizationEvents);
+        Timeline timeline = new Timeline(rings, 1000000L);
+        assertEquals(4, timeline.size(), "Timeline size not correct.");
+        assertEquals(1000, timeline.getTimestamp(0), "Timestamp not correct.");
+        assertEquals(2000, timeline.getTimestamp(1), "Timestamp not correct.");
+        assertTrue(timeline.getEvent(1) instanceof DeoptimizationEvent, "Merge order not correct.");
+        assertTrue(timeline.getEvent(2) instanceof Event, "Tie not ordered by ring.");
+        assertTrue(timeline.getEvent(3) instanceof DeoptimizationEvent, "Tie not ordered by ring.");
+        assertEquals(1003500L, timeline.getWallClock(3), "Wall clock not correct.");
+    }
+
+    @Test
+    void testParseTimestamp() {
+        assertEquals(6606129L, Timeline.parseTimestamp("Event: 6606.129 Thread 0x00007ff0ec201800 nmethod 21002"),
+                "Timestamp not correct.");
+        assertEquals(1500L, Timeline.parseTimestamp("Event: 1.5 GC heap before"), "Timestamp not correct.");
+        assertEquals(Long.MIN_VALUE, Timeline.parseTimestamp("Events (250 events):"), "Header not skipped.");
+        assertEquals(Long.MIN_VALUE, Timeline.parseTimestamp("{Heap before GC invocations=1 (full 0):"),
+                "Continuation line not skipped.");
+    }
+
+    @Test
+    void testWindow() {
+        List<Event> events = new ArrayList<Event>();
+        for (int i = 0; i < 10; i++) {
+            events.add(new Event("Event: " + i + ".000 Thread 0x00007fefe944f000 Thread added"));
+        }
+        List<List<? extends LogEvent>> rings = new ArrayList<List<? extends LogEvent>>();
+        rings.add(events);
+        Timeline timeline = new Timeline(rings, Long.MIN_VALUE);
+        assertEquals(3, timeline.getEvents(2000, 4000).size(), "Window size not correct.");
+        assertEquals(2, timeline.getEventsBefore(9000, 1000).size(), "Window size not correct.");
+        assertEquals(0, timeline.getEvents(9001, 20000).size(), "Window size not correct.");
+        assertEquals(Long.MIN_VALUE, timeline.getWallClock(0), "Wall clock not correct.");
+    }
+}
@@ -0,0 +1,97 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestVmOperationStatistics {
+
+    @Test
+    void testInProgress() {
+        List<VmOperationEvent> events = new ArrayList<VmOperationEvent>();
+        events.add(new VmOperationEvent("Event: 10.000 Executing VM operation: ZMarkStart"));
+        events.add(new VmOperationEvent("Event: 10.010 Executing VM operation: ZMarkStart done"));
+        events.add(new VmOperationEvent("Event: 11.000 Executing VM operation: G1CollectFull"));
+        VmOperationStatistics statistics = new VmOperationStatistics(events, 12500);
+        assertEquals("G1CollectFull", statistics.getInProgress(), "In progress operation not correct.");
+        assertEquals(1, statistics.getLongBeforeCrash().size(), "Long before crash count not correct.");
+        assertEquals("G1CollectFull (in progress 1500 ms)", statistics.getLongBeforeCrash().get(0),
+                "Long before crash not correct.");
+        assertEquals(2500, statistics.getWindow(), "Window not correct.");
+    }
+
+    @Test
+    void testLongBeforeCrash() {
+        List<VmOperationEvent> events = new ArrayList<VmOperationEvent>();
+        events.add(new VmOperationEvent("Event: 1.000 Executing VM operation: G1CollectFull"));
+        events.add(new VmOperationEvent("Event: 2.000 Executing VM operation: G1CollectFull done"));
+        events.add(new VmOperationEvent("Event: 20.000 Executing safepoint VM operation: ParallelGCSystemGC"));
+        events.add(new VmOperationEvent("Event: 20.750 Executing safepoint VM operation: ParallelGCSystemGC done"));
+        VmOperationStatistics statistics = new VmOperationStatistics(events, 21000);
+        assertNull(statistics.getInProgress(), "In progress operation not correct.");
+        assertEquals(1, statistics.getLongBeforeCrash().size(), "Long before crash count not correct.");
+        assertEquals("ParallelGCSystemGC (750 ms)", statistics.getLongBeforeCrash().get(0),
+                "Long before crash not correct.");
+        assertEquals(1750, statistics.getTotalDuration(), "Total duration not correct.");
+        assertEquals(20000, statistics.getWindow(), "Window not correct.");
+        assertEquals(9, statistics.getWindowPercent(), "Window percent not correct.");
+    }
+
+    @Test
+    void testOperation() {
+        VmOperationEvent event = new VmOperationEvent(
+                "Event: 7165.900 Executing VM operation: G1CollectForAllocation (G1 Evacuation Pause) done");
+        assertEquals("G1CollectForAllocation (G1 Evacuation Pause)", event.getOperation(), "Operation not correct.");
+        assertEquals(7165900L, event.getTimestamp(), "Timestamp not correct.");
+        assertNull(new VmOperationEvent("VM Operations (20 events):").getOperation(), "Operation not correct.");
+    }
+
+    @Test
+    void testPairing() {
+        List<VmOperationEvent> events = new ArrayList<VmOperationEvent>();
+        events.add(new VmOperationEvent("VM Operations (7 events):"));
+        // ending without a beginning (overwritten in the ring buffer)
+        events.add(new VmOperationEvent("Event: 0.900 Executing VM operation: HandshakeAllThreads done"));
+        events.add(new VmOperationEvent("Event: 1.000 Executing VM operation: GetAllStackTraces"));
+        events.add(new VmOperationEvent("Event: 1.002 Executing VM operation: GetAllStackTraces done"));
+        events.add(new VmOperationEvent("Event: 2.000 Executing VM operation: GetAllStackTraces"));
+        events.add(new VmOperationEvent("Event: 2.004 Executing VM operation: GetAllStackTraces done"));
+        events.add(new VmOperationEvent("Event: 3.000 Executing VM operation: G1CollectForAllocation"));
+        events.add(new VmOperationEvent("Event: 3.026 Executing VM operation: G1CollectForAllocation done"));
+        VmOperationStatistics statistics = new VmOperationStatistics(events, Long.MIN_VALUE);
+        assertEquals(3, statistics.getPairedCount(), "Paired count not correct.");
+        assertEquals(4, statistics.getPercentile(50), "p50 not correct.");
+        assertEquals(26, statistics.getPercentile(99), "p99 not correct.");
+        assertEquals(26, statistics.getMax(), "Max not correct.");
+        assertEquals(2, statistics.getCounts().get("GetAllStackTraces"), "GetAllStackTraces count not correct.");
+        assertEquals("GetAllStackTraces", statistics.getCounts().keySet().iterator().next(),
+                "Top operation not correct.");
+        assertEquals(6, statistics.getDuration("GetAllStackTraces"), "GetAllStackTraces duration not correct.");
+        assertEquals(2126, statistics.getWindow(), "Window not correct.");
+        assertNull(statistics.getInProgress(), "In progress operation not correct.");
+        assertTrue(statistics.getLongBeforeCrash().isEmpty(), "Long before crash not correct.");
+    }
+}
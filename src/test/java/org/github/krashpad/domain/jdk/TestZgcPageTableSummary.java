@@ -0,0 +1,70 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.domain.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.github.krashpad.domain.jdk.ZgcPageTableSummary.PageType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestZgcPageTableSummary {
+
+    @Test
+    void testAddressRange() {
+        ZgcPageTableSummary summary = new ZgcPageTableSummary();
+        summary.add(" Small   0x000000001de00000 0x000000001e000000 0x000000001e000000  Allocating");
+        summary.add(" Small   0x0000000007200000 0x00000000073fffa8 0x0000000007400000  Relocatable");
+        summary.add(" Medium  0x0000000f3dc00000 0x0000000f3fbea000 0x0000000f3fc00000  Relocatable");
+        assertEquals(0x7200000L, summary.getLowAddress(), "Low address not correct.");
+        assertEquals(0xf3fc00000L, summary.getHighAddress(), "High address not correct.");
+        assertEquals(3, summary.getPages(), "Page count not correct.");
+    }
+
+    @Test
+    void testGenerational() {
+        ZgcPageTableSummary summary = new ZgcPageTableSummary();
+        summary.add(" Small   0x0000000000200000 0x00000000003ffff8 0x0000000000400000 O/4     Relocatable");
+        summary.add(" Small   0x0000000ff6c00000 0x0000000ff6c80000 0x0000000ff6e00000 Y/138   Allocating ");
+        summary.add(" Small   0x000000009e600000 0x000000009e800000 0x000000009e800000 Y/137   Relocatable");
+        assertEquals(1, summary.getOld(), "Old page count not correct.");
+        assertEquals(2, summary.getYoung(), "Young page count not correct.");
+        assertEquals(1, summary.getAllocating(PageType.SMALL), "Allocating count not correct.");
+        assertEquals(2, summary.getRelocatable(PageType.SMALL), "Relocatable count not correct.");
+        assertEquals(3 * 2097152, summary.getSize(PageType.SMALL), "Small page size not correct.");
+    }
+
+    @Test
+    void testHeader() {
+        ZgcPageTableSummary summary = new ZgcPageTableSummary();
+        summary.add("ZGC Page Table:");
+        assertEquals(0, summary.getPages(), "Page count not correct.");
+        assertEquals(0, summary.getUnidentifiedRows(), "Unidentified rows not correct.");
+    }
+
+    @Test
+    void testLarge() {
+        ZgcPageTableSummary summary = new ZgcPageTableSummary();
+        summary.add(" Large   0x00000001e9200000 0x0000000200000000 0x0000000200000000  Relocatable");
+        assertEquals(1, summary.getCount(PageType.LARGE), "Large page count not correct.");
+        assertEquals(0x200000000L - 0x1e9200000L, summary.getSize(PageType.LARGE), "Large page size not correct.");
+        assertEquals(summary.getSize(PageType.LARGE), summary.getUsed(PageType.LARGE),
+                "Large page used not correct.");
+        assertEquals(0, summary.getCount(PageType.SMALL), "Small page count not correct.");
+    }
+}
@@ -0,0 +1,211 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.github.krashpad.service.ArchiveScanner.Entry;
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestArchiveScanner {
+
+    /**
+     * @param dataset
+     *            The dataset.
+     * @return The dataset bytes.
+     */
+    static byte[] getDataset(String dataset) throws IOException {
+        return Files.readAllBytes(new File(Constants.TEST_DATA_DIR + dataset).toPath());
+    }
+
+    /**
+     * @param names
+     *            The entry names.
+     * @param contents
+     *            The entry contents.
+     * @return A tar archive (ustar, with GNU long names).
+     */
+    static byte[] tar(String[] names, byte[][] contents) throws IOException {
+        ByteArrayOutputStream tar = new ByteArrayOutputStream();
+        for (int i = 0; i < names.length; i++) {
+            byte[] name = names[i].getBytes(StandardCharsets.UTF_8);
+            if (name.length > 100) {
+                writeTarEntry(tar, "././@LongLink", 'L', name);
+            }
+            writeTarEntry(tar, names[i], '0', contents[i]);
+        }
+        tar.write(new byte[1024]);
+        return tar.toByteArray();
+    }
+
+    /**
+     * @param tar
+     *            The tar archive.
+     * @param name
+     *            The entry name (truncated to 100 bytes).
+     * @param type
+     *            The entry type.
+     * @param content
+     *            The entry content.
+     */
+    private static void writeTarEntry(OutputStream tar, String name, char type, byte[] content) throws IOException {
+        byte[] header = new byte[512];
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(nameBytes, 0, header, 0, Math.min(100, nameBytes.length));
+        byte[] size = String.format("%011o", content.length).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(size, 0, header, 124, size.length);
+        header[156] = (byte) type;
+        System.arraycopy("ustar\u000000".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 8);
+        tar.write(header);
+        tar.write(content);
+        tar.write(new byte[(512 - content.length % 512) % 512]);
+    }
+
+    /**
+     * @param names
+     *            The entry names.
+     * @param contents
+     *            The entry contents.
+     * @return A zip archive.
+     */
+    static byte[] zip(String[] names, byte[][] contents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < names.length; i++) {
+                zip.putNextEntry(new ZipEntry(names[i]));
+                zip.write(contents[i]);
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void testGzip(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "hs_err_pid1.log.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.write(getDataset("dataset32.txt"));
+        }
+        List<Entry> entries = ArchiveScanner.scan(file.toPath());
+        assertEquals(1, entries.size(), "Entry count not correct.");
+        assertEquals("hs_err_pid1.log.gz", entries.get(0).getName(), "Entry name not correct.");
+        assertTrue(Arrays.equals(getDataset("dataset32.txt"), entries.get(0).getContent()),
+                "Entry content not correct.");
+    }
+
+    @Test
+    void testNestedTarGz(@TempDir File temporaryFolder) throws Exception {
+        StringBuilder longPath = new StringBuilder("must-gather/namespaces/");
+        while (longPath.length() < 120) {
+            longPath.append("openshift-app/");
+        }
+        byte[] zip = zip(new String[] { "java_crash.txt" }, new byte[][] { getDataset("dataset41.txt") });
+        byte[] tar = tar(new String[] { longPath + "hs_err_pid1.log", "support/support.zip", "support/app.jar" },
+                new byte[][] { getDataset("dataset32.txt"), zip, zip });
+        File file = new File(temporaryFolder, "must-gather.tar.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.write(tar);
+        }
+        List<Entry> entries = ArchiveScanner.scan(file.toPath());
+        // The jar is not scanned
+        assertEquals(2, entries.size(), "Entry count not correct.");
+        assertEquals(longPath + "hs_err_pid1.log", entries.get(0).getName(), "Entry 1 name not correct.");
+        assertEquals("support/support.zip!/java_crash.txt", entries.get(1).getName(), "Entry 2 name not correct.");
+        assertTrue(Arrays.equals(getDataset("dataset41.txt"), entries.get(1).getContent()),
+                "Entry 2 content not correct.");
+    }
+
+    @Test
+    void testSkipped(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "support.zip");
+        byte[] xz = new byte[] { (byte) 0xfd, '7', 'z', 'X', 'Z', 0, 0, 4 };
+        Files.write(file.toPath(),
+                zip(new String[] { "var/log/hs_err_pid1.log", "app/crash.log", "logs.tar.xz" },
+                        new byte[][] { getDataset("dataset32.txt"), getDataset("dataset41.txt"), xz }));
+        int maxEntrySize = getDataset("dataset41.txt").length;
+        final List<Entry> entries = new ArrayList<Entry>();
+        final Map<String, String> skipped = new LinkedHashMap<String, String>();
+        ArchiveScanner.scan(file.toPath(), maxEntrySize, new ArchiveScanner.Handler() {
+            @Override
+            public void candidate(Entry entry) {
+                entries.add(entry);
+            }
+
+            @Override
+            public void skipped(String name, String reason) {
+                skipped.put(name, reason);
+            }
+        });
+        assertEquals(1, entries.size(), "Entry count not correct.");
+        assertEquals("app/crash.log", entries.get(0).getName(), "Entry name not correct.");
+        assertEquals(2, skipped.size(), "Skipped entry count not correct.");
+        assertEquals("larger than " + maxEntrySize + " bytes", skipped.get("var/log/hs_err_pid1.log"),
+                "Skipped entry reason not correct.");
+        assertEquals("xz compression is not supported", skipped.get("logs.tar.xz"),
+                "Skipped entry reason not correct.");
+    }
+
+    @Test
+    void testXz(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "sosreport.tar.xz");
+        Files.write(file.toPath(), new byte[] { (byte) 0xfd, '7', 'z', 'X', 'Z', 0, 0, 4 });
+        String message = null;
+        try {
+            ArchiveScanner.scan(file.toPath());
+        } catch (IOException e) {
+            message = e.getMessage();
+        }
+        assertEquals("xz compression is not supported: sosreport.tar.xz. Decompress it first.", message,
+                "xz failure not identified.");
+    }
+
+    @Test
+    void testZip(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "support.zip");
+        Files.write(file.toPath(),
+                zip(new String[] { "var/log/hs_err_pid1.log", "app/crash.log", "app/readme.txt",
+                        "app/copy/hs_err_pid1.log" },
+                        new byte[][] { getDataset("dataset32.txt"), getDataset("dataset41.txt"),
+                                "readme".getBytes(StandardCharsets.UTF_8), getDataset("dataset32.txt") }));
+        List<Entry> entries = ArchiveScanner.scan(file.toPath());
+        // The readme is not a candidate, and the copy is a duplicate
+        assertEquals(2, entries.size(), "Entry count not correct.");
+        assertEquals("var/log/hs_err_pid1.log", entries.get(0).getName(), "Entry 1 name not correct.");
+        assertEquals("app/crash.log", entries.get(1).getName(), "Entry 2 name not correct.");
+        assertEquals(64, entries.get(0).getDigest().length(), "Entry 1 digest not correct.");
+    }
+}
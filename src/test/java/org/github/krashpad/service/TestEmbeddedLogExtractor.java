@@ -0,0 +1,224 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.github.krashpad.service.EmbeddedLogExtractor.Block;
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestEmbeddedLogExtractor {
+
+    /**
+     * Create a console log with fatal error logs embedded in application output, in a log collector format.
+     * 
+     * @param file
+     *            The console log to create.
+     * @param format
+     *            The log collector format: "cri", "docker", or "syslog".
+     * @param datasets
+     *            The datasets to embed.
+     * @return The console log line number of the first line of each dataset.
+     */
+    static long[] embed(File file, String format, String... datasets) throws Exception {
+        StringBuilder log = new StringBuilder();
+        long[] lines = new long[datasets.length];
+        long line = 1;
+        for (int i = 0; i < datasets.length; i++) {
+            for (int j = 0; j < 3; j++) {
+                log.append(getLine(format, j, "INFO [main] Application started \"" + j + "\"."));
+                line++;
+            }
+            // Interleaved output from another process
+            if (format.equals("syslog")) {
+                log.append("May 31 23:59:59 host2 sshd[17]: Accepted publickey for root\n");
+                line++;
+            }
+            lines[i] = line;
+            List<String> datasetLines = Files.readAllLines(new File(Constants.TEST_DATA_DIR + datasets[i]).toPath(),
+                    StandardCharsets.UTF_8);
+            for (int j = 0; j < datasetLines.size(); j++) {
+                String datasetLine = datasetLines.get(j);
+                if (format.equals("cri") && datasetLine.length() > 80) {
+                    // Split long lines in partial lines
+                    log.append(getLine("cri-partial", j, datasetLine.substring(0, 80)));
+                    datasetLine = datasetLine.substring(80);
+                    line++;
+                }
+                log.append(getLine(format, j, datasetLine));
+                line++;
+            }
+            log.append(getLine(format, 1, "INFO [main] Application restarted."));
+            line++;
+        }
+        Files.write(file.toPath(), log.toString().getBytes(StandardCharsets.UTF_8));
+        return lines;
+    }
+
+    /**
+     * @param dataset
+     *            The dataset.
+     * @return The dataset text, with "\n" line terminators.
+     */
+    static String getDataset(String dataset) throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (String line : Files.readAllLines(new File(Constants.TEST_DATA_DIR + dataset).toPath(),
+                StandardCharsets.UTF_8)) {
+            text.append(line);
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * @param format
+     *            The log collector format.
+     * @param second
+     *            The timestamp second.
+     * @param text
+     *            The log text.
+     * @return The console log line.
+     */
+    private static String getLine(String format, int second, String text) {
+        String line;
+        if (format.equals("cri")) {
+            line = "2024-06-01T10:00:" + (second % 60) + "." + (second * 1000) + "Z stdout F " + text;
+        } else if (format.equals("cri-partial")) {
+            line = "2024-06-01T10:00:" + (second % 60) + "." + (second * 1000) + "Z stdout P " + text;
+        } else if (format.equals("docker")) {
+            StringBuilder json = new StringBuilder("{\"log\":\"");
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\');
+                    json.append(c);
+                } else if (c == '\t') {
+                    json.append("\\t");
+                } else if (c < ' ' || c > '~') {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+            json.append("\\n\",\"stream\":\"stdout\",\"time\":\"2024-06-01T10:00:00." + second + "Z\"}");
+            line = json.toString();
+        } else {
+            line = "Jun  " + (1 + second % 30) + " 10:00:" + (second % 60) + " host1 java[4242]: " + text;
+        }
+        return line + "\n";
+    }
+
+    @Test
+    void testCri(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "console.log");
+        long[] lines = embed(file, "cri", "dataset32.txt", "dataset41.txt");
+        List<Block> blocks = EmbeddedLogExtractor.extract(file.toPath());
+        assertEquals(2, blocks.size(), "Block count not correct.");
+        assertEquals(lines[0], blocks.get(0).getLine(), "Block 1 line not correct.");
+        assertEquals(lines[1], blocks.get(1).getLine(), "Block 2 line not correct.");
+        assertEquals(getDataset("dataset32.txt"), blocks.get(0).getText(), "Block 1 text not correct.");
+        assertEquals(getDataset("dataset41.txt"), blocks.get(1).getText(), "Block 2 text not correct.");
+    }
+
+    @Test
+    void testDockerJson(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "container.log");
+        long[] lines = embed(file, "docker", "dataset32.txt");
+        List<Block> blocks = EmbeddedLogExtractor.extract(file.toPath());
+        assertEquals(1, blocks.size(), "Block count not correct.");
+        assertEquals(lines[0], blocks.get(0).getLine(), "Block line not correct.");
+        assertEquals(getDataset("dataset32.txt"), blocks.get(0).getText(), "Block text not correct.");
+    }
+
+    @Test
+    void testNotEmbedded(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "console.log");
+        Files.write(file.toPath(), "INFO [main] Application started.\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, EmbeddedLogExtractor.extract(file.toPath()).size(), "Block count not correct.");
+    }
+
+    @Test
+    void testPrefix() {
+        assertEquals("\\QJun\\E\\s+\\d+\\Q \\E", EmbeddedLogExtractor
+                .getPrefix("Jun  1 # A fatal error has been detected by the Java Runtime Environment:").pattern(),
+                "Prefix not correct.");
+        assertEquals("", EmbeddedLogExtractor
+                .getPrefix("# A fatal error has been detected by the Java Runtime Environment:").pattern(),
+                "Prefix not correct.");
+    }
+
+    @Test
+    void testSummaryOnly(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "console.log");
+        String summary = "#\n" + "# A fatal error has been detected by the Java Runtime Environment:\n" + "#\n"
+                + "#  SIGSEGV (0xb) at pc=0x00007ffff79b5e90, pid=24731, tid=24738\n" + "#\n"
+                + "# An error report file with more information is saved as:\n" + "# /tmp/hs_err_pid24731.log\n"
+                + "#\n";
+        StringBuilder log = new StringBuilder("INFO [main] Application started.\n");
+        log.append(summary);
+        for (int i = 0; i < 100; i++) {
+            log.append("INFO [main] Application restarted \"" + i + "\".\n");
+        }
+        log.append(getDataset("dataset32.txt"));
+        Files.write(file.toPath(), log.toString().getBytes(StandardCharsets.UTF_8));
+        List<Block> blocks = EmbeddedLogExtractor.extract(file.toPath());
+        assertEquals(2, blocks.size(), "Block count not correct.");
+        assertEquals(2, blocks.get(0).getLine(), "Block 1 line not correct.");
+        assertEquals(summary, blocks.get(0).getText(), "Block 1 text not correct.");
+        assertEquals(110, blocks.get(1).getLine(), "Block 2 line not correct.");
+        assertEquals(getDataset("dataset32.txt"), blocks.get(1).getText(), "Block 2 text not correct.");
+    }
+
+    @Test
+    void testSyslog(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "messages");
+        long[] lines = embed(file, "syslog", "dataset32.txt", "dataset41.txt");
+        List<Block> blocks = EmbeddedLogExtractor.extract(file.toPath());
+        assertEquals(2, blocks.size(), "Block count not correct.");
+        assertEquals(lines[0], blocks.get(0).getLine(), "Block 1 line not correct.");
+        assertEquals(lines[1], blocks.get(1).getLine(), "Block 2 line not correct.");
+        assertEquals(getDataset("dataset32.txt"), blocks.get(0).getText(), "Block 1 text not correct.");
+        assertEquals(getDataset("dataset41.txt"), blocks.get(1).getText(), "Block 2 text not correct.");
+    }
+
+    @Test
+    void testWindows(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "console.log");
+        embed(file, "cri", "dataset32.txt", "dataset41.txt", "dataset32.txt");
+        List<Block> expected = EmbeddedLogExtractor.extract(file.toPath());
+        assertEquals(3, expected.size(), "Block count not correct.");
+        for (int windowSize : new int[] { 1, 200, 4096 }) {
+            List<Block> blocks = EmbeddedLogExtractor.extract(file.toPath(), windowSize);
+            assertEquals(expected.size(), blocks.size(), "Block count not correct (window " + windowSize + ").");
+            for (int i = 0; i < blocks.size(); i++) {
+                assertEquals(expected.get(i).getOffset(), blocks.get(i).getOffset(),
+                        "Block offset not correct (window " + windowSize + ").");
+                assertEquals(expected.get(i).getText(), blocks.get(i).getText(),
+                        "Block text not correct (window " + windowSize + ").");
+            }
+        }
+    }
+}
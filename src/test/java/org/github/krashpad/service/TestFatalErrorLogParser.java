@@ -0,0 +1,217 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.Analysis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestFatalErrorLogParser {
+
+    private static List<String> getAnalysisKeys(FatalErrorLog fatalErrorLog) {
+        List<String> keys = new ArrayList<String>();
+        for (String[] analysis : fatalErrorLog.getAnalysis()) {
+            keys.add(analysis[0]);
+        }
+        return keys;
+    }
+
+    @Test
+    void testConcurrentParses() throws Exception {
+        final FatalErrorLogParser parser = new FatalErrorLogParser();
+        final String[] datasets = { "dataset45.txt", "dataset60.txt", "dataset84.txt" };
+        final List<List<String>> expected = new ArrayList<List<String>>();
+        for (String dataset : datasets) {
+            expected.add(getAnalysisKeys(new Manager().parse(new File(Constants.TEST_DATA_DIR + dataset))));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 12; i++) {
+                final int dataset = i % datasets.length;
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() throws Exception {
+                        Path path = new File(Constants.TEST_DATA_DIR + datasets[dataset]).toPath();
+                        return getAnalysisKeys(parser.parse(path)).equals(expected.get(dataset));
+                    }
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(), "Concurrent parse not correct.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testEmpty() {
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        FatalErrorLogException.Reason reason = null;
+        try {
+            parser.parse("\n\n");
+        } catch (FatalErrorLogException e) {
+            reason = e.getReason();
+        }
+        assertEquals(FatalErrorLogException.Reason.EMPTY, reason, "Empty input not identified.");
+    }
+
+    @Test
+    void testInputs() throws Exception {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset60.txt");
+        byte[] bytes = Files.readAllBytes(testFile.toPath());
+        FatalErrorLogParser parser = new FatalErrorLogParser(null, false, true, StandardCharsets.UTF_8, 64);
+        List<String> expected = getAnalysisKeys(new Manager().parse(testFile));
+        assertTrue(expected.contains(Analysis.ERROR_G1_PAR_SCAN_THREAD_STATE_COPY_TO_SURVIVOR_SPACE.getKey()),
+                Analysis.ERROR_G1_PAR_SCAN_THREAD_STATE_COPY_TO_SURVIVOR_SPACE + " analysis not identified.");
+        FatalErrorLog fel = parser.parse(testFile.toPath());
+        assertTrue(fel.isFrozen(), "Fatal error log not frozen.");
+        assertEquals(0, fel.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(expected, getAnalysisKeys(fel), "Path analysis not correct.");
+        assertEquals(expected, getAnalysisKeys(parser.parse(new ByteArrayInputStream(bytes))),
+                "InputStream analysis not correct.");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        assertEquals(expected, getAnalysisKeys(parser.parse(buffer)), "ByteBuffer analysis not correct.");
+        assertEquals(0, buffer.position(), "ByteBuffer position changed.");
+        assertEquals(expected, getAnalysisKeys(parser.parse(new String(bytes, StandardCharsets.UTF_8))),
+                "CharSequence analysis not correct.");
+    }
+
+    @Test
+    void testNotFatalErrorLog() {
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        FatalErrorLogException.Reason reason = null;
+        try {
+            parser.parse("This is not a fatal error log.\n");
+        } catch (FatalErrorLogException e) {
+            reason = e.getReason();
+        }
+        assertEquals(FatalErrorLogException.Reason.NOT_FATAL_ERROR_LOG, reason,
+                "Not a fatal error log not identified.");
+    }
+
+    @Test
+    void testParseAll(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "hs_err.log");
+        TestLogSplitter.concatenate(file, "dataset60.txt", "dataset84.txt", "dataset60.txt");
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        List<FatalErrorLog> fels = parser.parseAll(file.toPath());
+        assertEquals(3, fels.size(), "Fatal error log count not correct.");
+        List<String> expected = getAnalysisKeys(
+                new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset84.txt")));
+        assertEquals(expected, getAnalysisKeys(fels.get(1)), "Fatal error log 2 analysis not correct.");
+        for (FatalErrorLog fel : fels) {
+            assertFalse(fel.hasAnalysis(Analysis.ERROR_LOGGING_MULTIPLE.getKey()),
+                    Analysis.ERROR_LOGGING_MULTIPLE + " analysis incorrectly identified.");
+        }
+        assertEquals(fels.get(0).getFingerprint(), fels.get(2).getFingerprint(), "Fingerprints not the same.");
+        assertFalse(fels.get(0).getFingerprint().equals(fels.get(1).getFingerprint()), "Fingerprints the same.");
+    }
+
+    @Test
+    void testParseArchive(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "support.zip");
+        Files.write(file.toPath(),
+                TestArchiveScanner.zip(new String[] { "hs_err_notes.txt", "logs/hs_err_pid1.log" },
+                        new byte[][] { "Crash notes.".getBytes(StandardCharsets.UTF_8),
+                                TestArchiveScanner.getDataset("dataset32.txt") }));
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        Map<String, FatalErrorLog> fels = parser.parseArchive(file.toPath());
+        // The notes are not a fatal error log
+        assertEquals(1, fels.size(), "Fatal error log count not correct.");
+        List<String> expected = getAnalysisKeys(
+                new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset32.txt")));
+        assertEquals(expected, getAnalysisKeys(fels.get("logs/hs_err_pid1.log")),
+                "Fatal error log analysis not correct.");
+    }
+
+    @Test
+    void testParseArchiveDuplicateEntryName(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "support.tar");
+        Files.write(file.toPath(),
+                TestArchiveScanner.tar(new String[] { "hs_err_pid1.log", "hs_err_pid1.log" },
+                        new byte[][] { TestArchiveScanner.getDataset("dataset32.txt"),
+                                TestArchiveScanner.getDataset("dataset41.txt") }));
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        Map<String, FatalErrorLog> fels = parser.parseArchive(file.toPath());
+        assertEquals(2, fels.size(), "Fatal error log count not correct.");
+        List<String> expected = getAnalysisKeys(
+                new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset32.txt")));
+        assertEquals(expected, getAnalysisKeys(fels.get("hs_err_pid1.log")),
+                "Fatal error log 1 analysis not correct.");
+        expected = getAnalysisKeys(new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset41.txt")));
+        assertEquals(expected, getAnalysisKeys(fels.get("hs_err_pid1.log (2)")),
+                "Fatal error log 2 analysis not correct.");
+    }
+
+    @Test
+    void testParseEmbedded(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "container.log");
+        TestEmbeddedLogExtractor.embed(file, "docker", "dataset32.txt", "dataset41.txt");
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        List<FatalErrorLog> fels = parser.parseEmbedded(file.toPath());
+        assertEquals(2, fels.size(), "Fatal error log count not correct.");
+        List<String> expected = getAnalysisKeys(
+                new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset32.txt")));
+        assertEquals(expected, getAnalysisKeys(fels.get(0)), "Fatal error log 1 analysis not correct.");
+        expected = getAnalysisKeys(new Manager().parse(new File(Constants.TEST_DATA_DIR + "dataset41.txt")));
+        assertEquals(expected, getAnalysisKeys(fels.get(1)), "Fatal error log 2 analysis not correct.");
+    }
+
+    @Test
+    void testRead() {
+        FatalErrorLogParser parser = new FatalErrorLogParser();
+        FatalErrorLogException.Reason reason = null;
+        try {
+            parser.parse(new File(Constants.TEST_DATA_DIR + "missing.txt").toPath());
+        } catch (FatalErrorLogException e) {
+            reason = e.getReason();
+        }
+        assertEquals(FatalErrorLogException.Reason.READ, reason, "Read failure not identified.");
+    }
+
+    @Test
+    void testTriage() throws Exception {
+        FatalErrorLogParser parser = new FatalErrorLogParser(null, true, false);
+        FatalErrorLog fel = parser.parse(new File(Constants.TEST_DATA_DIR + "dataset84.txt").toPath());
+        assertTrue(fel.isTriage(), "Triage not identified.");
+        assertFalse(fel.isFrozen(), "Fatal error log incorrectly frozen.");
+        assertEquals(0, fel.getDynamicLibraries().size(), "Dynamic library count not correct.");
+    }
+}
@@ -0,0 +1,72 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLineReader {
+
+    private static final String LINES = "line1\nline2\r\nline3\r\rline5\n\nline7";
+
+    private void assertLines(LineReader lineReader) throws IOException {
+        assertEquals("line1", lineReader.readLine(), "Line 1 not correct.");
+        assertEquals("line2", lineReader.readLine(), "Line 2 not correct.");
+        assertEquals("line3", lineReader.readLine(), "Line 3 not correct.");
+        assertEquals("", lineReader.readLine(), "Line 4 not correct.");
+        assertEquals("line5", lineReader.readLine(), "Line 5 not correct.");
+        assertEquals("", lineReader.readLine(), "Line 6 not correct.");
+        assertEquals("line7", lineReader.readLine(), "Line 7 not correct.");
+        assertNull(lineReader.readLine(), "End of input not identified.");
+    }
+
+    @Test
+    void testReader() throws IOException {
+        assertLines(new LineReader(new StringReader(LINES)));
+    }
+
+    @Test
+    void testReaderLinesSpanBuffer() throws IOException {
+        // Lines and "\r\n" terminators split across buffer fills
+        for (int size = 1; size <= LINES.length(); size++) {
+            assertLines(new LineReader(new StringReader(LINES), new char[size], new StringBuilder("stale")));
+        }
+    }
+
+    @Test
+    void testText() throws IOException {
+        assertLines(new LineReader(LINES));
+    }
+
+    @Test
+    void testTrailingLineTerminator() throws IOException {
+        LineReader lineReader = new LineReader(new StringReader("line1\r\n"), new char[6], new StringBuilder());
+        assertEquals("line1", lineReader.readLine(), "Line 1 not correct.");
+        assertNull(lineReader.readLine(), "End of input not identified.");
+        lineReader = new LineReader("line1\r\n");
+        assertEquals("line1", lineReader.readLine(), "Line 1 not correct.");
+        assertNull(lineReader.readLine(), "End of input not identified.");
+        assertNull(new LineReader("").readLine(), "Empty input not identified.");
+    }
+}
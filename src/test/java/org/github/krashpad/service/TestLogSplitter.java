@@ -0,0 +1,101 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.github.krashpad.service.LogSplitter.Segment;
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLogSplitter {
+
+    /**
+     * @param file
+     *            The file to create.
+     * @param datasets
+     *            The datasets to concatenate.
+     * @return The dataset line counts.
+     */
+    static int[] concatenate(File file, String... datasets) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] lines = new int[datasets.length];
+        for (int i = 0; i < datasets.length; i++) {
+            File dataset = new File(Constants.TEST_DATA_DIR + datasets[i]);
+            bytes.write(Files.readAllBytes(dataset.toPath()));
+            lines[i] = Files.readAllLines(dataset.toPath()).size();
+        }
+        Files.write(file.toPath(), bytes.toByteArray());
+        return lines;
+    }
+
+    @Test
+    void testEmpty(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "empty.log");
+        Files.write(file.toPath(), new byte[0]);
+        assertEquals(0, LogSplitter.split(file.toPath()).size(), "Segment count not correct.");
+    }
+
+    @Test
+    void testLoggingMultiple() throws Exception {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset91.txt");
+        List<Segment> segments = LogSplitter.split(testFile.toPath());
+        assertEquals(2, segments.size(), "Segment count not correct.");
+        assertEquals(1, segments.get(0).getLine(), "Segment 1 line not correct.");
+        assertEquals(17, segments.get(1).getLine(), "Segment 2 line not correct.");
+        assertEquals(testFile.length(), segments.get(1).getOffset() + segments.get(1).getLength(),
+                "Segment 2 length not correct.");
+    }
+
+    @Test
+    void testSingle() throws Exception {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset84.txt");
+        List<Segment> segments = LogSplitter.split(testFile.toPath());
+        assertEquals(1, segments.size(), "Segment count not correct.");
+        assertEquals(0, segments.get(0).getOffset(), "Segment offset not correct.");
+        assertEquals(testFile.length(), segments.get(0).getLength(), "Segment length not correct.");
+    }
+
+    @Test
+    void testWindows(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "hs_err.log");
+        int[] lines = concatenate(file, "dataset60.txt", "dataset84.txt", "dataset1.txt");
+        List<Segment> expected = LogSplitter.split(file.toPath());
+        assertEquals(3, expected.size(), "Segment count not correct.");
+        assertEquals(1 + lines[0], expected.get(1).getLine(), "Segment 2 line not correct.");
+        assertEquals(1 + lines[0] + lines[1], expected.get(2).getLine(), "Segment 3 line not correct.");
+        // Small windows split lines (and the boundary lines) across windows
+        for (int windowSize : new int[] { 1, 7, 100, 4096 }) {
+            List<Segment> segments = LogSplitter.split(file.toPath(), windowSize);
+            assertEquals(expected.size(), segments.size(), "Segment count not correct (window " + windowSize + ").");
+            for (int i = 0; i < segments.size(); i++) {
+                assertEquals(expected.get(i).getOffset(), segments.get(i).getOffset(),
+                        "Segment offset not correct (window " + windowSize + ").");
+                assertEquals(expected.get(i).getLine(), segments.get(i).getLine(),
+                        "Segment line not correct (window " + windowSize + ").");
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.service.SectionIndex.Section;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestSectionIndex {
+
+    @Test
+    void testBuild() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset45.txt");
+        SectionIndex index = SectionIndex.build(testFile);
+        List<Section> sections = index.getSections();
+        assertEquals(LogEventType.HEADER, sections.get(0).getEventType(), "First section not correct.");
+        assertEquals(0, sections.get(0).getOffset(), "First section offset not correct.");
+        assertEquals(SectionIndex.NO_HEADING, sections.get(0).getHeading(), "First section heading not correct.");
+        long offset = 0;
+        int lines = 0;
+        for (Section section : sections) {
+            assertEquals(offset, section.getOffset(), "Sections not contiguous.");
+            offset += section.getLength();
+            lines += section.getLines();
+        }
+        assertEquals(testFile.length(), offset, "Section lengths not correct.");
+        assertEquals(607, lines, "Section line count not correct.");
+        assertEquals(1, index.getSections(LogEventType.VM_INFO).size(), "VM_INFO section count not correct.");
+        assertEquals("SYSTEM", index.getSections(LogEventType.VM_INFO).get(0).getHeading(),
+                "VM_INFO section heading not correct.");
+        assertEquals(1, index.getSections(LogEventType.SIGINFO).size(), "SIGINFO section count not correct.");
+        assertEquals("THREAD", index.getSections(LogEventType.SIGINFO).get(0).getHeading(),
+                "SIGINFO section heading not correct.");
+    }
+
+    @Test
+    void testLoadDoesNotStoreIndexFile(@TempDir File temporaryFolder) throws Exception {
+        File logFile = new File(temporaryFolder, "hs_err_pid12345.log");
+        Files.copy(new File(Constants.TEST_DATA_DIR + "dataset45.txt").toPath(), logFile.toPath());
+        SectionIndex index = SectionIndex.load(logFile);
+        assertTrue(index.getSections().size() > 1, "Index not built.");
+        assertFalse(SectionIndex.getIndexFile(logFile).exists(), "Index file incorrectly stored.");
+        new Manager().parse(logFile, EnumSet.of(LogEventType.VM_INFO));
+        assertFalse(SectionIndex.getIndexFile(logFile).exists(), "Index file incorrectly stored by parse.");
+    }
+
+    @Test
+    void testLoadStoresIndexFile(@TempDir File temporaryFolder) throws Exception {
+        File logFile = new File(temporaryFolder, "hs_err_pid12345.log");
+        Files.copy(new File(Constants.TEST_DATA_DIR + "dataset45.txt").toPath(), logFile.toPath());
+        SectionIndex index = SectionIndex.load(logFile, true);
+        File indexFile = SectionIndex.getIndexFile(logFile);
+        assertTrue(indexFile.exists(), "Index file not stored.");
+        SectionIndex stored = SectionIndex.read(indexFile);
+        assertNotNull(stored, "Index file not read.");
+        assertEquals(index.getSections().size(), stored.getSections().size(), "Stored section count not correct.");
+        assertEquals(logFile.length(), stored.getLogFileLength(), "Stored log file length not correct.");
+        for (int i = 0; i < index.getSections().size(); i++) {
+            Section section = index.getSections().get(i);
+            Section storedSection = stored.getSections().get(i);
+            assertEquals(section.getEventType(), storedSection.getEventType(), "Stored event type not correct.");
+            assertEquals(section.getHeading(), storedSection.getHeading(), "Stored heading not correct.");
+            assertEquals(section.getOffset(), storedSection.getOffset(), "Stored offset not correct.");
+            assertEquals(section.getLength(), storedSection.getLength(), "Stored length not correct.");
+            assertEquals(section.getLines(), storedSection.getLines(), "Stored line count not correct.");
+        }
+    }
+
+    @Test
+    void testParseSections(@TempDir File temporaryFolder) throws Exception {
+        File logFile = new File(temporaryFolder, "hs_err_pid12345.log");
+        Files.copy(new File(Constants.TEST_DATA_DIR + "dataset45.txt").toPath(), logFile.toPath());
+        FatalErrorLog full = new Manager().parse(logFile);
+        FatalErrorLog fel = new Manager().parse(logFile,
+                EnumSet.of(LogEventType.THREAD, LogEventType.VM_INFO, LogEventType.SIGINFO));
+        assertEquals(full.getThreads().size(), fel.getThreads().size(), "Thread count not correct.");
+        assertEquals(full.getJdkReleaseString(), fel.getJdkReleaseString(), "JDK release not correct.");
+        assertEquals(full.getSigInfo().getLogEntry(), fel.getSigInfo().getLogEntry(), "SigInfo not correct.");
+        assertTrue(fel.getHeaders().isEmpty(), "Headers incorrectly parsed.");
+        assertTrue(fel.getStacks().isEmpty(), "Stack incorrectly parsed.");
+        assertNull(fel.getEnd(), "End incorrectly parsed.");
+    }
+
+    @Test
+    void testStaleIndexFile(@TempDir File temporaryFolder) throws Exception {
+        File logFile = new File(temporaryFolder, "hs_err_pid12345.log");
+        Files.write(logFile.toPath(), "#\n".getBytes());
+        SectionIndex.load(logFile, true);
+        Files.copy(new File(Constants.TEST_DATA_DIR + "dataset45.txt").toPath(), logFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        SectionIndex index = SectionIndex.load(logFile);
+        assertEquals(logFile.length(), index.getLogFileLength(), "Stale index not rebuilt.");
+        assertTrue(index.getSections().size() > 1, "Stale index not rebuilt.");
+    }
+}
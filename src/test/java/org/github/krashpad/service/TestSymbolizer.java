@@ -0,0 +1,75 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.domain.jdk.Header;
+import org.github.krashpad.domain.jdk.Stack;
+import org.github.krashpad.util.ElfSymbolTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestSymbolizer {
+
+    @Test
+    void testDebuginfoFile(@TempDir File temporaryFolder) throws Exception {
+        File byPath = new File(temporaryFolder, "usr/lib/jvm/jre-17-openjdk/lib/server/libjvm.so.debug");
+        byPath.getParentFile().mkdirs();
+        byPath.createNewFile();
+        File byName = new File(temporaryFolder, "other/libawt.so-17.0.9.0.9-1.el8.x86_64.debug");
+        byName.getParentFile().mkdirs();
+        byName.createNewFile();
+        Symbolizer symbolizer = new Symbolizer(temporaryFolder, null);
+        assertEquals(byPath,
+                symbolizer.getDebuginfoFile("/usr/lib/jvm/jre-17-openjdk/lib/server/libjvm.so", "libjvm.so"),
+                "Debuginfo file by path not correct.");
+        assertEquals(byPath, symbolizer.getDebuginfoFile(null, "libjvm.so"), "Debuginfo file by name not correct.");
+        assertEquals(byName, symbolizer.getDebuginfoFile("/usr/lib/jvm/jre-17-openjdk/lib/libawt.so", "libawt.so"),
+                "Versioned debuginfo file not correct.");
+        assertNull(symbolizer.getDebuginfoFile(null, "libfoo.so"), "libfoo.so debuginfo incorrectly identified.");
+    }
+
+    @Test
+    void testSymbolize() {
+        File libjvm = new File(System.getProperty("java.home"), "lib/server/libjvm.so");
+        assumeTrue(libjvm.isFile(), "libjvm.so not found.");
+        long offset = ElfSymbolTable.load(libjvm, null).getOffset("JNI_CreateJavaVM");
+        FatalErrorLog fel = new FatalErrorLog();
+        fel.getHeaders().add(new Header("# V  [libjvm.so+0x" + Long.toHexString(offset + 8) + "]"));
+        fel.getStacks().add(
+                new Stack("Native frames: (J=compiled Java code, j=interpreted, Vv=VM code, C=native code)"));
+        fel.getStacks().add(new Stack("C  [libfoo.so+0x1234]"));
+        fel.getStacks().add(new Stack("V  [libjvm.so+0x" + Long.toHexString(offset + 8) + "]"));
+        Symbolizer symbolizer = new Symbolizer(libjvm.getParentFile(), null);
+        assertEquals(2, symbolizer.symbolize(fel), "Resolved frame count not correct.");
+        assertEquals("C  [libfoo.so+0x1234]", fel.getStackFrameTop(), "Unresolved frame not correct.");
+        assertEquals("V  [libjvm.so+0x" + Long.toHexString(offset + 8) + "]  JNI_CreateJavaVM+0x8",
+                fel.getStackFrame(2), "Resolved frame not correct.");
+        assertEquals("# V  [libjvm.so+0x" + Long.toHexString(offset + 8) + "]  JNI_CreateJavaVM+0x8",
+                fel.getHeaders().get(0).getLogEntry(), "Problematic frame not correct.");
+        assertTrue(fel.isInStack("JNI_CreateJavaVM"), "JNI_CreateJavaVM not identified.");
+    }
+}
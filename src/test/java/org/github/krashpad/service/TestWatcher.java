@@ -0,0 +1,152 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestWatcher {
+
+    /**
+     * @param directory
+     *            The directory to watch.
+     * @param threads
+     *            The number of worker threads.
+     * @param queueCapacity
+     *            The maximum number of fatal error logs waiting for a worker.
+     * @param symbolizer
+     *            Resolves native frames without symbols, or null to not symbolize.
+     * @param analyzed
+     *            The fatal error logs, added as each analysis finishes.
+     * @return A watcher that reports each finished analysis.
+     */
+    private static Watcher newWatcher(File directory, int threads, int queueCapacity, Symbolizer symbolizer,
+            final BlockingQueue<File> analyzed) {
+        return new Watcher(directory, threads, queueCapacity, symbolizer) {
+            @Override
+            void analyzed(File file) {
+                analyzed.add(file);
+            }
+        };
+    }
+
+    /**
+     * Wait for the analysis of a fatal error log to finish.
+     * 
+     * @param analyzed
+     *            The fatal error logs, added as each analysis finishes.
+     * @param file
+     *            The fatal error log.
+     * @return true if the analysis finished, false if it did not finish within 30 seconds.
+     */
+    private static boolean waitFor(BlockingQueue<File> analyzed, File file) throws InterruptedException {
+        File next = analyzed.poll(30, TimeUnit.SECONDS);
+        while (next != null && !next.equals(file)) {
+            next = analyzed.poll(30, TimeUnit.SECONDS);
+        }
+        return next != null;
+    }
+
+    @Test
+    void testFatalErrorLogBanner() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset23.txt");
+        assertTrue(Watcher.isFatalErrorLog(testFile), "Fatal error log not identified.");
+    }
+
+    @Test
+    void testNotFatalErrorLog(@TempDir File temporaryFolder) throws Exception {
+        File file = new File(temporaryFolder, "notes.txt");
+        Files.write(file.toPath(), "Nothing to see here.".getBytes());
+        assertFalse(Watcher.isFatalErrorLog(file), "Fatal error log incorrectly identified.");
+    }
+
+    @Test
+    void testWatch(@TempDir File temporaryFolder) throws Exception {
+        // Existing file analyzed on startup
+        File existing = new File(temporaryFolder, "hs_err_pid12345.log");
+        Files.copy(new File(Constants.TEST_DATA_DIR + "dataset45.txt").toPath(), existing.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        BlockingQueue<File> analyzed = new LinkedBlockingQueue<File>();
+        Watcher watcher = newWatcher(temporaryFolder, 2, Watcher.QUEUE_CAPACITY, null, analyzed);
+        Thread thread = new Thread(watcher);
+        thread.start();
+        try {
+            assertTrue(waitFor(analyzed, existing), "Existing fatal error log not analyzed.");
+            assertTrue(Watcher.getReportFile(existing).exists(), "Existing fatal error log report not written.");
+            // New file analyzed when complete
+            File created = new File(temporaryFolder, "crash.txt");
+            Files.copy(new File(Constants.TEST_DATA_DIR + "dataset23.txt").toPath(), created.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            assertTrue(waitFor(analyzed, created), "New fatal error log not analyzed.");
+            assertTrue(Watcher.getReportFile(created).exists(), "New fatal error log report not written.");
+        } finally {
+            watcher.stop();
+            thread.join();
+        }
+        assertFalse(watcher.isRunning(), "Watcher not stopped.");
+    }
+
+    @Test
+    void testWatchAnalysisError(@TempDir File temporaryFolder) throws Exception {
+        File failed = new File(temporaryFolder, "hs_err_pid1.log");
+        Files.copy(new File(Constants.TEST_DATA_DIR + "dataset45.txt").toPath(), failed.toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        final AtomicBoolean first = new AtomicBoolean(true);
+        Symbolizer symbolizer = new Symbolizer(temporaryFolder, null) {
+            @Override
+            public int symbolize(FatalErrorLog fatalErrorLog) {
+                if (first.getAndSet(false)) {
+                    throw new IllegalStateException("Analysis error.");
+                }
+                return 0;
+            }
+        };
+        BlockingQueue<File> analyzed = new LinkedBlockingQueue<File>();
+        Watcher watcher = newWatcher(temporaryFolder, 1, 1, symbolizer, analyzed);
+        Thread thread = new Thread(watcher);
+        thread.start();
+        try {
+            assertTrue(waitFor(analyzed, failed), "Failed fatal error log not analyzed.");
+            // The analysis error does not stop the watcher
+            File created = new File(temporaryFolder, "hs_err_pid2.log");
+            Files.copy(new File(Constants.TEST_DATA_DIR + "dataset23.txt").toPath(), created.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            assertTrue(waitFor(analyzed, created), "New fatal error log not analyzed.");
+            assertTrue(Watcher.getReportFile(created).exists(), "New fatal error log report not written.");
+            assertFalse(Watcher.getReportFile(failed).exists(), "Failed fatal error log incorrectly analyzed.");
+            assertTrue(watcher.isRunning(), "Watcher stopped.");
+        } finally {
+            watcher.stop();
+            thread.join();
+        }
+    }
+}
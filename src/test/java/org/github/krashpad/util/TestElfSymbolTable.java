@@ -0,0 +1,113 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestElfSymbolTable {
+
+    /**
+     * @return The libjvm.so of the JVM running the tests.
+     */
+    static File getLibjvm() {
+        File libjvm = new File(System.getProperty("java.home"), "lib/server/libjvm.so");
+        assumeTrue(libjvm.isFile(), "libjvm.so not found.");
+        return libjvm;
+    }
+
+    @Test
+    void testCache(@TempDir File temporaryFolder) {
+        ElfSymbolTable symbolTable = ElfSymbolTable.load(getLibjvm(), null);
+        assertNotNull(symbolTable, "Symbol table not loaded.");
+        File cacheFile = new File(temporaryFolder, "libjvm" + ElfSymbolTable.CACHE_FILE_EXTENSION);
+        symbolTable.store(cacheFile);
+        ElfSymbolTable cached = ElfSymbolTable.read(cacheFile);
+        assertNotNull(cached, "Cached symbol table not read.");
+        assertEquals(symbolTable.size(), cached.size(), "Symbol count not correct.");
+        long offset = symbolTable.getOffset("JNI_CreateJavaVM");
+        assertEquals("JNI_CreateJavaVM+0x10", cached.getSymbol(offset + 16), "Symbol not correct.");
+        assertEquals(1, temporaryFolder.list().length, "Temporary cache file not removed.");
+    }
+
+    @Test
+    void testDemangle() {
+        assertEquals("JavaThread::pd_get_top_frame_for_profiling",
+                ElfSymbolTable.demangle("_ZN10JavaThread30pd_get_top_frame_for_profilingEP5framePvb"),
+                "Nested name not correct.");
+        assertEquals("subD_regNode::emit",
+                ElfSymbolTable.demangle("_ZNK12subD_regNode4emitER10CodeBufferP13PhaseRegAlloc"),
+                "Const member function not correct.");
+        assertEquals("ArrayKlass::ArrayKlass", ElfSymbolTable.demangle("_ZN10ArrayKlassC2EP6Symbol7KlassID"),
+                "Constructor not correct.");
+        assertEquals("GrowableArrayWithAllocator::grow",
+                ElfSymbolTable.demangle(
+                        "_ZN26GrowableArrayWithAllocatorIN12Dependencies11DepArgumentE13GrowableArrayIS1_EE4growEi"),
+                "Template not correct.");
+        assertEquals("AccessInternal::PostRuntimeDispatch::oop_access_barrier",
+                ElfSymbolTable.demangle("_ZN14AccessInternal19PostRuntimeDispatchIN11ZBarrierSet13AccessBarrierI"
+                        + "Lm548932ES1_EELNS_11BarrierTypeE0ELm548932EE18oop_access_barrierEPvP7oopDesc"),
+                "Template literal not correct.");
+        assertEquals("os_signal_handler", ElfSymbolTable.demangle("_Z17os_signal_handleriP9siginfo_tPv"),
+                "Unqualified name not correct.");
+        assertEquals("pthread_getcpuclockid", ElfSymbolTable.demangle("pthread_getcpuclockid"),
+                "C name not correct.");
+    }
+
+    @Test
+    void testDemangleMalformed() {
+        assertEquals("_ZN3foo12", ElfSymbolTable.demangle("_ZN3foo12"), "Trailing length not correct.");
+        assertEquals("_ZN3fooILNSxEE", ElfSymbolTable.demangle("_ZN3fooILNSxEE"),
+                "Unterminated substitution not correct.");
+        assertEquals("_ZN3fooI3bar", ElfSymbolTable.demangle("_ZN3fooI3bar"),
+                "Unterminated template arguments not correct.");
+        assertEquals("_ZN3fooI12", ElfSymbolTable.demangle("_ZN3fooI12"), "Trailing template length not correct.");
+        assertEquals("_ZN99999999999fooE", ElfSymbolTable.demangle("_ZN99999999999fooE"),
+                "Overflow length not correct.");
+        assertEquals("_Z99999999999foo", ElfSymbolTable.demangle("_Z99999999999foo"),
+                "Unqualified overflow length not correct.");
+    }
+
+    @Test
+    void testNotElf() {
+        assertNull(ElfSymbolTable.load(new File(Constants.TEST_DATA_DIR + "dataset1.txt"), null),
+                "Text file incorrectly identified as ELF.");
+    }
+
+    @Test
+    void testSymbol() {
+        ElfSymbolTable symbolTable = ElfSymbolTable.load(getLibjvm(), null);
+        assertNotNull(symbolTable, "Symbol table not loaded.");
+        assertTrue(symbolTable.size() > 0, "Symbols not identified.");
+        long offset = symbolTable.getOffset("JNI_CreateJavaVM");
+        assertNotEquals(Long.MIN_VALUE, offset, "JNI_CreateJavaVM not found.");
+        assertEquals("JNI_CreateJavaVM+0x0", symbolTable.getSymbol(offset), "Symbol not correct.");
+        assertEquals("JNI_CreateJavaVM+0x4", symbolTable.getSymbol(offset + 4), "Symbol not correct.");
+        assertNull(symbolTable.getSymbol(-offset), "Offset before first symbol incorrectly resolved.");
+    }
+}
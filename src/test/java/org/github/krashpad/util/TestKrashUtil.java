@@ -19,6 +19,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +51,18 @@ class TestKrashUtil {
         assertEquals(8, calendar.get(Calendar.SECOND), "Start second not parsed correctly.");
     }
 
+    @Test
+    void testSortByCount() {
+        Map<String, Integer> histogram = new LinkedHashMap<String, Integer>();
+        histogram.put("c", 1);
+        histogram.put("a", 2);
+        histogram.put("b", 1);
+        histogram.put("d", 3);
+        assertEquals("{d=3, a=2, c=1, b=1}", KrashUtil.sortByCount(histogram).toString(), "Histogram not correct.");
+        assertEquals("{d=3, a=2, b=1, c=1}", KrashUtil.sortByCount(new TreeMap<String, Integer>(histogram)).toString(),
+                "Histogram not correct.");
+    }
+
     @Test
     void testWindowsNativeLibraryJava() {
         String library = "rmi.dll";
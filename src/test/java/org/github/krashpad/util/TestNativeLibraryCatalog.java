@@ -0,0 +1,102 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.github.krashpad.util.NativeLibraryCatalog.Category;
+import org.github.krashpad.util.NativeLibraryCatalog.Classification;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestNativeLibraryCatalog {
+
+    @Test
+    void testLinuxHome() {
+        Classification classification = KrashUtil.NATIVE_LIBRARY_CATALOG.classify("/usr/lib64/ld-2.17.so");
+        assertTrue(classification.isKnown(), "Library not identified.");
+        assertTrue(classification.getCategories().contains(Category.LINUX), "Category not correct.");
+        assertEquals("ld-2.17.so", classification.getFile(), "File not correct.");
+        assertEquals("glibc", classification.getPackage(), "Package not correct.");
+    }
+
+    @Test
+    void testLinuxNotHome() {
+        Classification classification = KrashUtil.NATIVE_LIBRARY_CATALOG.classify("/opt/app/lib/libc-2.17.so");
+        assertFalse(classification.isKnown(), "Library incorrectly identified.");
+        assertNull(classification.getPackage(), "Package not correct.");
+    }
+
+    @Test
+    void testListsLoaded() {
+        assertTrue(KrashUtil.NATIVE_LIBRARIES_LINUX.contains("libc.so.6"), "libc.so.6 not found.");
+        assertTrue(KrashUtil.NATIVE_LIBRARIES_LINUX_JAVA.contains("libjvm.so"), "libjvm.so not found.");
+        assertTrue(KrashUtil.NATIVE_LIBRARIES_TOMCAT.contains("libapr-1.so.0"), "libapr-1.so.0 not found.");
+        assertTrue(KrashUtil.NATIVE_LIBRARIES_JBOSS.contains("libartemis-native-64.so"),
+                "libartemis-native-64.so not found.");
+    }
+
+    @Test
+    void testLoad() {
+        String catalog = "# test\n[ORACLE]\nlibt2k.so\n[WINDOWS]\nhome=C:\\Windows\\WinSxS\\controls_*\\\n"
+                + "comctl32.dll\n[NETTY]\n~libnetty_\\d+\\.so\n";
+        NativeLibraryCatalog nativeLibraryCatalog = NativeLibraryCatalog
+                .load(new ByteArrayInputStream(catalog.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, nativeLibraryCatalog.getLibraries(Category.ORACLE).size(), "Oracle libraries not correct.");
+        assertTrue(nativeLibraryCatalog.classify("/opt/jdk/lib/libt2k.so").isKnown(), "libt2k.so not identified.");
+        assertTrue(nativeLibraryCatalog.classify("/tmp/libnetty_123.so").getCategories().contains(Category.NETTY),
+                "Netty not identified.");
+        assertTrue(nativeLibraryCatalog.classify("C:\\Windows\\WinSxS\\controls_6595b64\\comctl32.dll").isKnown(),
+                "comctl32.dll not identified.");
+        assertFalse(nativeLibraryCatalog.classify("C:\\Windows\\WinSxS\\controls_\\comctl32.dll").isKnown(),
+                "comctl32.dll incorrectly identified.");
+        assertFalse(nativeLibraryCatalog.classify("C:\\Windows\\WinSxS\\comctl32.dll").isKnown(),
+                "comctl32.dll incorrectly identified.");
+    }
+
+    @Test
+    void testNetty() {
+        Classification classification = KrashUtil.NATIVE_LIBRARY_CATALOG
+                .classify("/tmp/libnetty_transport_native_epoll_x86_123456789012345678901.so");
+        assertTrue(classification.getCategories().contains(Category.NETTY), "Netty not identified.");
+    }
+
+    @Test
+    void testTomcatAndLinux() {
+        Classification classification = KrashUtil.NATIVE_LIBRARY_CATALOG.classify("/usr/lib64/libapr-1.so.0");
+        assertTrue(classification.getCategories().contains(Category.LINUX), "Linux not identified.");
+        assertTrue(classification.getCategories().contains(Category.TOMCAT), "Tomcat not identified.");
+        classification = KrashUtil.NATIVE_LIBRARY_CATALOG.classify("/opt/tomcat/lib/libapr-1.so.0");
+        assertFalse(classification.getCategories().contains(Category.LINUX), "Linux incorrectly identified.");
+        assertTrue(classification.getCategories().contains(Category.TOMCAT), "Tomcat not identified.");
+    }
+
+    @Test
+    void testWindowsSystemHome() {
+        assertTrue(KrashUtil.NATIVE_LIBRARY_CATALOG.classify("C:\\Windows\\SYSTEM32\\MSWSOCK.dll").isKnown(),
+                "MSWSOCK.dll not identified.");
+        assertFalse(KrashUtil.NATIVE_LIBRARY_CATALOG.classify("C:\\app\\MSWSOCK.dll").isKnown(),
+                "MSWSOCK.dll incorrectly identified.");
+    }
+}
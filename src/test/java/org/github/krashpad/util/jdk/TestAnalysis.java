@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.github.joa.domain.GarbageCollector;
 import org.github.joa.domain.Os;
@@ -59,6 +61,7 @@ import org.github.krashpad.domain.jdk.VirtualizationInfo;
 import org.github.krashpad.domain.jdk.VmArguments;
 import org.github.krashpad.domain.jdk.VmInfo;
 import org.github.krashpad.domain.jdk.VmOperation;
+import org.github.krashpad.service.FatalErrorLogParser;
 import org.github.krashpad.service.Manager;
 import org.github.krashpad.util.Constants;
 import org.github.krashpad.util.Constants.OsVersion;
@@ -571,6 +574,24 @@ class TestAnalysis {
                 Analysis.ERROR_COMPILER_THREAD_C2_IFNODE_FOLDCOMPARES + " analysis incorrectly identified.");
     }
 
+    @Test
+    void testCompilerThreadC2MininodeIdealFoldCompares() throws Exception {
+        // MinINode::Ideal crash on a JDK11 update in the IfNode::fold_compares range with SubINode::Ideal in the
+        // header
+        String text = new String(Files.readAllBytes(new File(Constants.TEST_DATA_DIR + "dataset87.txt").toPath()),
+                StandardCharsets.UTF_8);
+        text = text.replace("11.0.9+11", "11.0.5+10").replace("# Problematic frame:\n",
+                "# Problematic frame:\n# V  [libjvm.so+0x6d1a2b]  SubINode::Ideal(PhaseGVN*, bool)+0x5b\n");
+        FatalErrorLog fel = new FatalErrorLogParser().parse(text);
+        assertTrue(fel.hasAnalysis(Analysis.ERROR_COMPILER_THREAD_C2_MININODE_IDEAL.getKey()),
+                Analysis.ERROR_COMPILER_THREAD_C2_MININODE_IDEAL + " analysis not identified.");
+        // Only one specific compiler thread crash is reported
+        assertFalse(fel.hasAnalysis(Analysis.ERROR_COMPILER_THREAD_C2_IFNODE_FOLDCOMPARES.getKey()),
+                Analysis.ERROR_COMPILER_THREAD_C2_IFNODE_FOLDCOMPARES + " analysis incorrectly identified.");
+        assertFalse(fel.hasAnalysis(Analysis.ERROR_COMPILER_THREAD.getKey()),
+                Analysis.ERROR_COMPILER_THREAD + " analysis incorrectly identified.");
+    }
+
     @Test
     void testCompilerThreadC2MininodeIdealJdk11() {
         File testFile = new File(Constants.TEST_DATA_DIR + "dataset87.txt");
@@ -3354,6 +3375,33 @@ class TestAnalysis {
                 Analysis.WARN_ORACLE_JDBC_OCI_CONNECION + " analysis incorrectly identified.");
     }
 
+    @Test
+    void testOracleJdbcOciDriverTopFrame() {
+        FatalErrorLog fel = new FatalErrorLog();
+        Stack event1 = new Stack(
+                "Stack: [0x00007f069a811000,0x00007f069a912000],  sp=0x00007f069a90d248,  free space=1008k");
+        Stack event2 = new Stack(
+                "Native frames: (J=compiled Java code, A=aot compiled Java code, j=interpreted, Vv=VM code, "
+                        + "C=native code)");
+        Stack event3 = new Stack(
+                "C  [libocijdbc11.so+0x458c]  Java_oracle_jdbc_driver_T2CConnection_t2cSetSessionTimeZone+0x5a");
+        Stack event4 = new Stack("j  oracle.jdbc.driver.T2CConnection.t2cSetSessionTimeZone([BI[BI)I+0");
+        fel.getStacks().add(event1);
+        fel.getStacks().add(event2);
+        fel.getStacks().add(event3);
+        fel.getStacks().add(event4);
+        String dynamicLibrary = "7fd01e1b3000-7fd01e1d3000 r-xp 00000000 fd:03 2100954                    "
+                + "/ora01/app/oracle/product/19.3.0/client_1/lib/libocijdbc11.so";
+        DynamicLibrary dynamicLibraryEvent = new DynamicLibrary(dynamicLibrary);
+        fel.getDynamicLibraries().add(dynamicLibraryEvent);
+        fel.doAnalysis();
+        assertTrue(fel.hasAnalysis(Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER.getKey()),
+                Analysis.ERROR_ORACLE_JDBC_OCI_DRIVER + " analysis not identified.");
+        // Don't double report
+        assertFalse(fel.hasAnalysis(Analysis.INFO_ORACLE_JDBC_OCI.getKey()),
+                Analysis.INFO_ORACLE_JDBC_OCI + " analysis incorrectly identified.");
+    }
+
     @Test
     void testOracleJdbcOciDriverWarning() {
         FatalErrorLog fel = new FatalErrorLog();
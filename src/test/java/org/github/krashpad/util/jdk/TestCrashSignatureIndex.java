@@ -0,0 +1,128 @@
+/**********************************************************************************************************************
+ * krashpad                                                                                                           *
+ *                                                                                                                    *
+ * Copyright (c) 2020-2025 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * This program and the accompanying materials are made available under the terms of the Eclipse Public License       * 
+ * v. 2.0 which is available at https://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0 which is    *
+ * available at https://www.apache.org/licenses/LICENSE-2.0.                                                          *
+ *                                                                                                                    *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0                                                                     *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.github.krashpad.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.github.krashpad.domain.jdk.FatalErrorLog;
+import org.github.krashpad.service.Manager;
+import org.github.krashpad.util.Constants;
+import org.github.krashpad.util.KrashUtil;
+import org.github.krashpad.util.jdk.CrashSignatureIndex.Signature;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCrashSignatureIndex {
+
+    private static CrashSignatureIndex getIndex(String signatures) {
+        return CrashSignatureIndex.load(new ByteArrayInputStream(signatures.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testConditions() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset87.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        CrashSignatureIndex index = getIndex("[ERROR_LIBJVM_SO]\nframes=V MinINode::Ideal\njdk=11.10-11.20\n"
+                + "[ERROR_COMPILER_THREAD]\nframes=V MinINode::Ideal\nthread=^.+C1 CompilerThread\\d{1,}.+$\n"
+                + "[ERROR_JVM_DLL]\nframes=V MinINode::Ideal\nsignal=SIGBUS\n"
+                + "[ERROR_FPE]\nframes=V MinINode::Ideal\nsignal=SIGSEGV\njdk=8,11-11.9\n"
+                + "thread=^.+C2 CompilerThread\\d{1,}.+$\n");
+        List<Signature> signatures = index.match(fel);
+        assertEquals(1, signatures.size(), "Match count not correct.");
+        assertEquals(Analysis.ERROR_FPE, signatures.get(0).getAnalysis(), "Analysis not correct.");
+    }
+
+    @Test
+    void testFunction() {
+        assertEquals("MinINode::Ideal", CrashSignatureIndex.getFunction("MinINode::Ideal(PhaseGVN*, bool)+0x15e"),
+                "Function not correct.");
+        assertEquals("ShenandoahConcurrentMark::mark_loop_work",
+                CrashSignatureIndex.getFunction("void ShenandoahConcurrentMark::mark_loop_work"
+                        + "<ShenandoahMarkRefsClosure, true>(ShenandoahMarkRefsClosure*, unsigned short*)+0x19d"),
+                "Template function not correct.");
+        assertEquals("pthread_getcpuclockid", CrashSignatureIndex.getFunction("pthread_getcpuclockid+0x4"),
+                "C function not correct.");
+    }
+
+    @Test
+    void testKeysJava() {
+        List<String> keys = CrashSignatureIndex.getKeys("J 2432 C2 java.util.HashMap$TreeNode.putTreeVal(Ljava/util/"
+                + "HashMap;[Ljava/util/HashMap$Node;ILjava/lang/Object;Ljava/lang/Object;)Ljava/util/HashMap$TreeNode;"
+                + " (314 bytes) @ 0x00007f0a5d7e3b8c [0x00007f0a5d7e3a40+0x14c]");
+        assertEquals("[J java.util.HashMap$TreeNode.putTreeVal, J java.util.HashMap$TreeNode.*, J java.util.HashMap.*, "
+                + "* java.util.HashMap$TreeNode.putTreeVal, * java.util.HashMap$TreeNode.*, * java.util.HashMap.*]",
+                keys.toString(), "Keys not correct.");
+    }
+
+    @Test
+    void testKeysNative() {
+        assertEquals("[C libocijdbc:*, * libocijdbc:*]",
+                CrashSignatureIndex.getKeys("C  [libocijdbc11.so+0x1234]").toString(), "Keys not correct.");
+        assertEquals("[C libpthread:pthread_getcpuclockid, C pthread_getcpuclockid, C libpthread:*, "
+                + "* libpthread:pthread_getcpuclockid, * pthread_getcpuclockid, * libpthread:*]",
+                CrashSignatureIndex.getKeys("C  [libpthread.so.0+0xfeb4]  pthread_getcpuclockid+0x4").toString(),
+                "Keys not correct.");
+        assertEquals("[v ~BufferBlob::flush_icache_stub, * ~BufferBlob::flush_icache_stub]",
+                CrashSignatureIndex.getKeys("v  ~BufferBlob::flush_icache_stub").toString(), "Keys not correct.");
+        assertTrue(CrashSignatureIndex.getKeys("Java frames: (J=compiled Java code, j=interpreted, Vv=VM code)")
+                .isEmpty(), "Keys incorrectly identified.");
+    }
+
+    @Test
+    void testLibrary() {
+        assertEquals("libjvm", CrashSignatureIndex.getLibrary("libjvm.so"), "libjvm.so not correct.");
+        assertEquals("jvm", CrashSignatureIndex.getLibrary("jvm.dll"), "jvm.dll not correct.");
+        assertEquals("libocijdbc", CrashSignatureIndex.getLibrary("libocijdbc11.so"), "libocijdbc11.so not correct.");
+        assertEquals("ld-linux-x86-64", CrashSignatureIndex.getLibrary("ld-linux-x86-64.so.2"),
+                "ld-linux-x86-64.so.2 not correct.");
+    }
+
+    @Test
+    void testPosition() {
+        File testFile = new File(Constants.TEST_DATA_DIR + "dataset87.txt");
+        Manager manager = new Manager();
+        FatalErrorLog fel = manager.parse(testFile);
+        CrashSignatureIndex index = getIndex("[ERROR_LIBJVM_SO]\nframes=V PhaseIterGVN::transform_old\n"
+                + "[ERROR_JVM_DLL]\nframes=V PhaseIterGVN::transform_old; V libjvm:PhaseIterGVN::optimize\n"
+                + "position=any\n"
+                + "[ERROR_FPE]\nframes=V PhaseIterGVN::transform_old; V Compile::Optimize\nposition=any\n");
+        assertEquals(3, index.size(), "Signature count not correct.");
+        List<Signature> signatures = index.match(fel);
+        assertEquals(1, signatures.size(), "Match count not correct.");
+        assertEquals(Analysis.ERROR_JVM_DLL, signatures.get(0).getAnalysis(), "Analysis not correct.");
+    }
+
+    @Test
+    void testResource() {
+        assertTrue(KrashUtil.CRASH_SIGNATURE_INDEX.size() > 0, "Known crash signatures not loaded.");
+        boolean invalid = false;
+        try {
+            getIndex("[ERROR_LIBJVM_SO]\nframe=V foo\n");
+        } catch (IllegalArgumentException e) {
+            invalid = true;
+        }
+        assertTrue(invalid, "Invalid line not identified.");
+    }
+}